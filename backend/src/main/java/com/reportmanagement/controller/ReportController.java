@@ -1,21 +1,50 @@
 package com.reportmanagement.controller;
 
 import com.reportmanagement.dto.ApiResponse;
+import com.reportmanagement.dto.BulkStatusUpdateRequest;
+import com.reportmanagement.dto.BulkStatusUpdateResponse;
+import com.reportmanagement.dto.CursorPage;
+import com.reportmanagement.dto.ProcessingMetricsResponse;
+import com.reportmanagement.dto.ReportBatchRequest;
+import com.reportmanagement.dto.ReportChangeResponse;
 import com.reportmanagement.dto.ReportRequest;
 import com.reportmanagement.dto.ReportResponse;
+import com.reportmanagement.dto.ReportSearchCriteria;
+import com.reportmanagement.dto.ReportStatsResponse;
+import com.reportmanagement.dto.ResourceVersion;
 import com.reportmanagement.dto.StatusUpdateRequest;
+import com.reportmanagement.event.ReportEventBroker;
+import com.reportmanagement.exception.InvalidRequestException;
+import com.reportmanagement.model.ReportExportFormat;
 import com.reportmanagement.model.User;
 import com.reportmanagement.security.CustomUserDetails;
+import com.reportmanagement.service.ReportExportService;
+import com.reportmanagement.service.ReportFileService;
+import com.reportmanagement.service.ReportPreviewService;
+import com.reportmanagement.service.ReportProcessingEngine;
 import com.reportmanagement.service.ReportService;
+import com.reportmanagement.service.ReportStatsService;
+import com.reportmanagement.service.ReportUploadService;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
+import org.springframework.core.io.FileSystemResource;
+import org.springframework.core.io.Resource;
+import org.springframework.http.CacheControl;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.core.Authentication;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
 import org.springframework.web.multipart.MultipartFile;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
 
 import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
 import java.util.List;
 
 /**
@@ -30,19 +59,49 @@ import java.util.List;
 @CrossOrigin(origins = {"http://localhost:3000", "http://localhost:5173"})
 public class ReportController {
 
+    /**
+     * Clients may keep responses but must revalidate them with the ETag before reuse
+     */
+    private static final CacheControl REVALIDATE = CacheControl.noCache().cachePrivate();
+
+    /**
+     * Previews are derived from immutable content, so clients may keep them for a year
+     */
+    private static final CacheControl IMMUTABLE = CacheControl.maxAge(Duration.ofDays(365)).cachePrivate().immutable();
+
     private final ReportService reportService;
+    private final ReportExportService reportExportService;
+    private final ReportFileService reportFileService;
+    private final ReportPreviewService reportPreviewService;
+    private final ReportProcessingEngine reportProcessingEngine;
+    private final ReportStatsService reportStatsService;
+    private final ReportEventBroker reportEventBroker;
+    private final ReportUploadService reportUploadService;
 
     /**
      * Get all reports for the authenticated user
      *
      * GET /api/reports
+     * GET /api/reports?limit=20&after={cursor}
      *
+     * Without paging parameters the full list is returned. When {@code limit} or
+     * {@code after} is given, one keyset page is returned and the cursor for the
+     * next page is set in {@code nextCursor}.
+     *
+     * @param limit optional page size
+     * @param after optional cursor returned with the previous page
+     * @param includeSummary whether to include report summaries (default false)
      * @param authentication the authentication object
-     * @return ResponseEntity containing list of report responses
+     * @param webRequest the current request, used for conditional GET
+     * @return ResponseEntity containing list of report responses, or null when not modified
      */
     @GetMapping
     public ResponseEntity<ApiResponse<List<ReportResponse>>> getAllReports(
-            Authentication authentication
+            @RequestParam(value = "limit", required = false) Integer limit,
+            @RequestParam(value = "after", required = false) String after,
+            @RequestParam(value = "includeSummary", defaultValue = "false") boolean includeSummary,
+            Authentication authentication,
+            WebRequest webRequest
     ) {
         // Get user from authentication
         CustomUserDetails userDetails = (CustomUserDetails) authentication.getPrincipal();
@@ -55,8 +114,219 @@ public class ReportController {
                 authentication.getAuthorities()
         );
 
-        List<ReportResponse> reports = reportService.getAllReports(newAuth);
-        return ResponseEntity.ok(ApiResponse.success(reports));
+        // Answer 304 Not Modified before any report is loaded
+        ResourceVersion version = reportService.getReportListVersion(newAuth);
+        if (webRequest.checkNotModified(version.getEtag())) {
+            return null;
+        }
+
+        if (limit != null || after != null) {
+            CursorPage<ReportResponse> page = reportService.getReportPage(limit, after, includeSummary, newAuth);
+            return ResponseEntity.ok()
+                    .cacheControl(REVALIDATE)
+                    .body(ApiResponse.success(page));
+        }
+
+        List<ReportResponse> reports = reportService.getAllReports(includeSummary, newAuth);
+        return ResponseEntity.ok()
+                .cacheControl(REVALIDATE)
+                .body(ApiResponse.success(reports));
+    }
+
+    /**
+     * Subscribe to report lifecycle events
+     *
+     * GET /api/reports/events
+     *
+     * Opens a Server-Sent Events stream that receives a {@code report} event each
+     * time one of the caller's reports (all reports for admins) is created, changes
+     * status or is deleted. Comment heartbeats keep the connection alive. A client
+     * that falls too far behind is disconnected and should reconnect and catch up
+     * through GET /api/reports/changes.
+     *
+     * @param authentication the authentication object
+     * @return the event stream
+     */
+    @GetMapping(value = "/events", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    public SseEmitter subscribeToEvents(Authentication authentication) {
+        CustomUserDetails userDetails = (CustomUserDetails) authentication.getPrincipal();
+        User user = userDetails.getUser();
+
+        boolean admin = user.getRole() != null && "ADMIN".equalsIgnoreCase(user.getRole());
+        return reportEventBroker.subscribe(user.getId(), admin);
+    }
+
+    /**
+     * Get report counts by status
+     *
+     * GET /api/reports/stats
+     *
+     * Admins get the counts over all users, other users their own.
+     *
+     * @param authentication the authentication object
+     * @return ResponseEntity containing the report counts
+     */
+    @GetMapping("/stats")
+    public ResponseEntity<ApiResponse<ReportStatsResponse>> getReportStats(
+            Authentication authentication
+    ) {
+        CustomUserDetails userDetails = (CustomUserDetails) authentication.getPrincipal();
+        User user = userDetails.getUser();
+
+        var newAuth = new org.springframework.security.authentication.UsernamePasswordAuthenticationToken(
+                user,
+                authentication.getCredentials(),
+                authentication.getAuthorities()
+        );
+
+        ReportStatsResponse stats = reportStatsService.getStats(newAuth);
+        return ResponseEntity.ok(ApiResponse.success(stats));
+    }
+
+    /**
+     * Get the processing engine's queue depth and stage timings
+     *
+     * GET /api/reports/processing/metrics
+     *
+     * Admin only. Stage timings cover the instance answering the request.
+     *
+     * @param authentication the authentication object
+     * @return ResponseEntity containing the processing metrics
+     */
+    @GetMapping("/processing/metrics")
+    public ResponseEntity<ApiResponse<ProcessingMetricsResponse>> getProcessingMetrics(
+            Authentication authentication
+    ) {
+        CustomUserDetails userDetails = (CustomUserDetails) authentication.getPrincipal();
+        User user = userDetails.getUser();
+
+        var newAuth = new org.springframework.security.authentication.UsernamePasswordAuthenticationToken(
+                user,
+                authentication.getCredentials(),
+                authentication.getAuthorities()
+        );
+
+        ProcessingMetricsResponse metrics = reportProcessingEngine.getMetrics(newAuth);
+        return ResponseEntity.ok(ApiResponse.success(metrics));
+    }
+
+    /**
+     * Get reports created, updated or deleted since a change cursor
+     *
+     * GET /api/reports/changes?since={cursor}
+     *
+     * Omit {@code since} for the initial sync. Pass the returned {@code nextCursor}
+     * on the next call; a full page means more changes are waiting. Answers
+     * 410 Gone when the cursor is older than the tombstone retention.
+     *
+     * @param since optional cursor returned by the previous call
+     * @param limit optional page size
+     * @param authentication the authentication object
+     * @return ResponseEntity containing the changes in order
+     */
+    @GetMapping("/changes")
+    public ResponseEntity<ApiResponse<List<ReportChangeResponse>>> getChanges(
+            @RequestParam(value = "since", required = false) String since,
+            @RequestParam(value = "limit", required = false) Integer limit,
+            Authentication authentication
+    ) {
+        CustomUserDetails userDetails = (CustomUserDetails) authentication.getPrincipal();
+        User user = userDetails.getUser();
+
+        var newAuth = new org.springframework.security.authentication.UsernamePasswordAuthenticationToken(
+                user,
+                authentication.getCredentials(),
+                authentication.getAuthorities()
+        );
+
+        CursorPage<ReportChangeResponse> changes = reportService.getChanges(since, limit, newAuth);
+        return ResponseEntity.ok(ApiResponse.success(changes));
+    }
+
+    /**
+     * Search reports by status, type, report date range and creation time range,
+     * or by full text over name and summary
+     *
+     * GET /api/reports/search?status=&type=&reportDateFrom=&reportDateTo=&createdFrom=&createdTo=
+     * GET /api/reports/search?q=
+     *
+     * Filtered results are keyset-paginated like GET /api/reports. Full-text results
+     * are ranked by relevance and cannot be combined with the filters. In both modes
+     * the cursor for the next page is set in {@code nextCursor}.
+     *
+     * @param q optional full-text search terms
+     * @param criteria the search filters, all optional
+     * @param limit optional page size
+     * @param after optional cursor returned with the previous page
+     * @param includeSummary whether to include report summaries (default false)
+     * @param authentication the authentication object
+     * @return ResponseEntity containing the matching report responses
+     */
+    @GetMapping("/search")
+    public ResponseEntity<ApiResponse<List<ReportResponse>>> searchReports(
+            @RequestParam(value = "q", required = false) String q,
+            @ModelAttribute ReportSearchCriteria criteria,
+            @RequestParam(value = "limit", required = false) Integer limit,
+            @RequestParam(value = "after", required = false) String after,
+            @RequestParam(value = "includeSummary", defaultValue = "false") boolean includeSummary,
+            Authentication authentication
+    ) {
+        CustomUserDetails userDetails = (CustomUserDetails) authentication.getPrincipal();
+        User user = userDetails.getUser();
+
+        var newAuth = new org.springframework.security.authentication.UsernamePasswordAuthenticationToken(
+                user,
+                authentication.getCredentials(),
+                authentication.getAuthorities()
+        );
+
+        CursorPage<ReportResponse> page;
+        if (q != null && !q.isBlank()) {
+            if (criteria.hasFilters()) {
+                throw new InvalidRequestException("Full-text search cannot be combined with filters");
+            }
+            page = reportService.searchReportsFullText(q, limit, after, includeSummary, newAuth);
+        } else {
+            page = reportService.searchReports(criteria, limit, after, includeSummary, newAuth);
+        }
+        return ResponseEntity.ok(ApiResponse.success(page));
+    }
+
+    /**
+     * Export the metadata of all visible reports
+     *
+     * GET /api/reports/export?format=ndjson|csv
+     *
+     * Rows are streamed to the response as they are read, without the ApiResponse
+     * envelope.
+     *
+     * @param format the export format (ndjson or csv)
+     * @param authentication the authentication object
+     * @param response the servlet response to stream into
+     * @throws IOException if writing the response fails
+     */
+    @GetMapping("/export")
+    public void exportReports(
+            @RequestParam(value = "format", defaultValue = "ndjson") String format,
+            Authentication authentication,
+            HttpServletResponse response
+    ) throws IOException {
+        CustomUserDetails userDetails = (CustomUserDetails) authentication.getPrincipal();
+        User user = userDetails.getUser();
+
+        var newAuth = new org.springframework.security.authentication.UsernamePasswordAuthenticationToken(
+                user,
+                authentication.getCredentials(),
+                authentication.getAuthorities()
+        );
+
+        ReportExportFormat exportFormat = ReportExportFormat.fromParameter(format);
+        response.setContentType(exportFormat.getContentType());
+        response.setCharacterEncoding(StandardCharsets.UTF_8.name());
+        response.setHeader(HttpHeaders.CONTENT_DISPOSITION,
+                "attachment; filename=\"reports." + exportFormat.getExtension() + "\"");
+
+        reportExportService.exportReports(exportFormat, response.getOutputStream(), newAuth);
     }
 
     /**
@@ -66,12 +336,14 @@ public class ReportController {
      *
      * @param id the report ID
      * @param authentication the authentication object
-     * @return ResponseEntity containing the report response
+     * @param webRequest the current request, used for conditional GET
+     * @return ResponseEntity containing the report response, or null when not modified
      */
     @GetMapping("/{id}")
     public ResponseEntity<ApiResponse<ReportResponse>> getReportById(
             @PathVariable Long id,
-            Authentication authentication
+            Authentication authentication,
+            WebRequest webRequest
     ) {
         CustomUserDetails userDetails = (CustomUserDetails) authentication.getPrincipal();
         User user = userDetails.getUser();
@@ -82,8 +354,97 @@ public class ReportController {
                 authentication.getAuthorities()
         );
 
+        // Answer 304 Not Modified before the report is loaded
+        ResourceVersion version = reportService.getReportVersion(id, newAuth);
+        if (webRequest.checkNotModified(version.getEtag(), version.getLastModified())) {
+            return null;
+        }
+
         ReportResponse report = reportService.getReportById(id, newAuth);
-        return ResponseEntity.ok(ApiResponse.success(report));
+        return ResponseEntity.ok()
+                .cacheControl(REVALIDATE)
+                .body(ApiResponse.success(report));
+    }
+
+    /**
+     * Download the stored file of a report
+     *
+     * GET /api/reports/{id}/file
+     *
+     * Supports single and multiple byte ranges and If-Modified-Since. The body is
+     * the raw file, without the ApiResponse envelope.
+     *
+     * @param id the report ID
+     * @param authentication the authentication object
+     * @param webRequest the current request, used for conditional GET
+     * @param request the servlet request, read for the Range header
+     * @param response the servlet response to write the file into
+     * @throws IOException if reading the file or writing the response fails
+     */
+    @GetMapping("/{id}/file")
+    public void getReportFile(
+            @PathVariable Long id,
+            Authentication authentication,
+            WebRequest webRequest,
+            HttpServletRequest request,
+            HttpServletResponse response
+    ) throws IOException {
+        CustomUserDetails userDetails = (CustomUserDetails) authentication.getPrincipal();
+        User user = userDetails.getUser();
+
+        var newAuth = new org.springframework.security.authentication.UsernamePasswordAuthenticationToken(
+                user,
+                authentication.getCredentials(),
+                authentication.getAuthorities()
+        );
+
+        ReportFileService.StoredFile file = reportFileService.getReportFile(id, newAuth);
+        if (webRequest.checkNotModified(file.lastModified())) {
+            return;
+        }
+
+        response.setHeader(HttpHeaders.CACHE_CONTROL, REVALIDATE.getHeaderValue());
+        reportFileService.writeFile(file, request, response);
+    }
+
+    /**
+     * Get the preview image of an image report
+     *
+     * GET /api/reports/{id}/preview
+     *
+     * Previews are generated in the background after upload; until one exists the
+     * endpoint answers 404 and queues its generation.
+     *
+     * @param id the report ID
+     * @param authentication the authentication object
+     * @param webRequest the current request, used for conditional GET
+     * @return ResponseEntity containing the preview image
+     * @throws IOException if the preview cannot be read
+     */
+    @GetMapping("/{id}/preview")
+    public ResponseEntity<Resource> getReportPreview(
+            @PathVariable Long id,
+            Authentication authentication,
+            WebRequest webRequest
+    ) throws IOException {
+        CustomUserDetails userDetails = (CustomUserDetails) authentication.getPrincipal();
+        User user = userDetails.getUser();
+
+        var newAuth = new org.springframework.security.authentication.UsernamePasswordAuthenticationToken(
+                user,
+                authentication.getCredentials(),
+                authentication.getAuthorities()
+        );
+
+        ReportPreviewService.Preview preview = reportPreviewService.getPreview(id, newAuth);
+        if (webRequest.checkNotModified(preview.etag())) {
+            return null;
+        }
+
+        return ResponseEntity.ok()
+                .cacheControl(IMMUTABLE)
+                .contentType(MediaType.parseMediaType(preview.contentType()))
+                .body(new FileSystemResource(preview.path()));
     }
 
     /**
@@ -121,12 +482,119 @@ public class ReportController {
                 .reportDate(java.time.LocalDate.parse(reportDate))
                 .build();
 
-        ReportResponse report = reportService.createReport(file, request, newAuth);
+        ReportResponse report = reportUploadService.createReport(file, request, newAuth);
+        return ResponseEntity
+                .status(HttpStatus.CREATED)
+                .body(ApiResponse.success("Report uploaded successfully", report));
+    }
+
+    /**
+     * Create a new report by streaming the raw file as the request body
+     *
+     * POST /api/reports/stream
+     *
+     * The file is written straight to storage without a multipart temp file, so
+     * metadata travels as query parameters.
+     *
+     * @param name the report name
+     * @param type the report type
+     * @param reportDate the report date (ISO format)
+     * @param httpRequest the servlet request carrying the file body
+     * @param authentication the authentication object
+     * @return ResponseEntity containing the created report response
+     */
+    @PostMapping(value = "/stream", consumes = MediaType.APPLICATION_OCTET_STREAM_VALUE)
+    public ResponseEntity<ApiResponse<ReportResponse>> createReportFromStream(
+            @RequestParam("name") String name,
+            @RequestParam("type") String type,
+            @RequestParam("reportDate") String reportDate,
+            HttpServletRequest httpRequest,
+            Authentication authentication
+    ) throws IOException {
+        CustomUserDetails userDetails = (CustomUserDetails) authentication.getPrincipal();
+        User user = userDetails.getUser();
+
+        var newAuth = new org.springframework.security.authentication.UsernamePasswordAuthenticationToken(
+                user,
+                authentication.getCredentials(),
+                authentication.getAuthorities()
+        );
+
+        ReportRequest request = ReportRequest.builder()
+                .name(name)
+                .type(type)
+                .reportDate(java.time.LocalDate.parse(reportDate))
+                .build();
+
+        ReportResponse report = reportUploadService.createReport(
+                httpRequest.getInputStream(), httpRequest.getContentLengthLong(), request, newAuth);
         return ResponseEntity
                 .status(HttpStatus.CREATED)
                 .body(ApiResponse.success("Report uploaded successfully", report));
     }
 
+    /**
+     * Create several reports from one multipart request
+     *
+     * POST /api/reports/batch
+     *
+     * The "metadata" part is a JSON object whose reports array describes the
+     * "files" parts in order.
+     *
+     * @param files the uploaded files
+     * @param metadata the report metadata, one entry per file
+     * @param authentication the authentication object
+     * @return ResponseEntity containing the created report responses
+     */
+    @PostMapping(value = "/batch", consumes = "multipart/form-data")
+    public ResponseEntity<ApiResponse<List<ReportResponse>>> createReports(
+            @RequestPart("files") List<MultipartFile> files,
+            @Valid @RequestPart("metadata") ReportBatchRequest metadata,
+            Authentication authentication
+    ) throws IOException {
+        CustomUserDetails userDetails = (CustomUserDetails) authentication.getPrincipal();
+        User user = userDetails.getUser();
+
+        var newAuth = new org.springframework.security.authentication.UsernamePasswordAuthenticationToken(
+                user,
+                authentication.getCredentials(),
+                authentication.getAuthorities()
+        );
+
+        List<ReportResponse> reports = reportUploadService.createReports(files, metadata.getReports(), newAuth);
+        return ResponseEntity
+                .status(HttpStatus.CREATED)
+                .body(ApiResponse.success("Reports uploaded successfully", reports));
+    }
+
+    /**
+     * Move several reports to the same status
+     *
+     * PATCH /api/reports/status
+     *
+     * @param request the report IDs, the new status and an optional summary
+     * @param authentication the authentication object
+     * @return ResponseEntity containing the outcome for each report
+     */
+    @PatchMapping("/status")
+    public ResponseEntity<ApiResponse<BulkStatusUpdateResponse>> updateReportStatuses(
+            @Valid @RequestBody BulkStatusUpdateRequest request,
+            Authentication authentication
+    ) {
+        CustomUserDetails userDetails = (CustomUserDetails) authentication.getPrincipal();
+        User user = userDetails.getUser();
+
+        var newAuth = new org.springframework.security.authentication.UsernamePasswordAuthenticationToken(
+                user,
+                authentication.getCredentials(),
+                authentication.getAuthorities()
+        );
+
+        BulkStatusUpdateResponse response = reportService.updateReportStatuses(request, newAuth);
+        return ResponseEntity.ok(ApiResponse.success(
+                response.getUpdated() + " of " + response.getResults().size() + " reports updated", response));
+    }
+
     /**
      * Update report status
      *
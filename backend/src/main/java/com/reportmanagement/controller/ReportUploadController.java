@@ -0,0 +1,146 @@
+package com.reportmanagement.controller;
+
+import com.reportmanagement.dto.ApiResponse;
+import com.reportmanagement.dto.ReportResponse;
+import com.reportmanagement.dto.UploadSessionRequest;
+import com.reportmanagement.dto.UploadSessionResponse;
+import com.reportmanagement.model.User;
+import com.reportmanagement.security.CustomUserDetails;
+import com.reportmanagement.service.ReportUploadSessionService;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.validation.Valid;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.core.Authentication;
+import org.springframework.web.bind.annotation.*;
+
+import java.io.IOException;
+
+/**
+ * REST Controller for resumable chunked report uploads
+ *
+ * @author Report Management Team
+ * @version 1.0.0
+ */
+@RestController
+@RequestMapping("/reports/uploads")
+@RequiredArgsConstructor
+@CrossOrigin(origins = {"http://localhost:3000", "http://localhost:5173"})
+public class ReportUploadController {
+
+    private final ReportUploadSessionService uploadSessionService;
+
+    /**
+     * Start a resumable upload
+     *
+     * POST /api/reports/uploads
+     *
+     * @param request the report metadata and declared file size
+     * @param authentication the authentication object
+     * @return ResponseEntity containing the new session and its chunk size
+     */
+    @PostMapping
+    public ResponseEntity<ApiResponse<UploadSessionResponse>> createSession(
+            @Valid @RequestBody UploadSessionRequest request,
+            Authentication authentication
+    ) throws IOException {
+        UploadSessionResponse session = uploadSessionService.createSession(request, toUserAuth(authentication));
+        return ResponseEntity
+                .status(HttpStatus.CREATED)
+                .body(ApiResponse.success("Upload session created successfully", session));
+    }
+
+    /**
+     * Upload one chunk as the raw request body
+     *
+     * PUT /api/reports/uploads/{uploadId}/chunks/{index}
+     *
+     * Chunk {@code index} is written at offset {@code index * chunkSize}; re-sending
+     * a chunk overwrites it with the same bytes.
+     *
+     * @param uploadId the upload session ID
+     * @param index the zero-based chunk index
+     * @param httpRequest the servlet request carrying the chunk
+     * @param authentication the authentication object
+     * @return ResponseEntity containing the session with its received ranges
+     */
+    @PutMapping(value = "/{uploadId}/chunks/{index}", consumes = MediaType.APPLICATION_OCTET_STREAM_VALUE)
+    public ResponseEntity<ApiResponse<UploadSessionResponse>> uploadChunk(
+            @PathVariable String uploadId,
+            @PathVariable int index,
+            HttpServletRequest httpRequest,
+            Authentication authentication
+    ) throws IOException {
+        UploadSessionResponse session = uploadSessionService.writeChunk(
+                uploadId, index, httpRequest.getInputStream(), toUserAuth(authentication));
+        return ResponseEntity.ok(ApiResponse.success("Chunk uploaded successfully", session));
+    }
+
+    /**
+     * Get an upload session with the byte ranges received so far
+     *
+     * GET /api/reports/uploads/{uploadId}
+     *
+     * @param uploadId the upload session ID
+     * @param authentication the authentication object
+     * @return ResponseEntity containing the session
+     */
+    @GetMapping("/{uploadId}")
+    public ResponseEntity<ApiResponse<UploadSessionResponse>> getSession(
+            @PathVariable String uploadId,
+            Authentication authentication
+    ) {
+        UploadSessionResponse session = uploadSessionService.getSession(uploadId, toUserAuth(authentication));
+        return ResponseEntity.ok(ApiResponse.success("Upload session retrieved successfully", session));
+    }
+
+    /**
+     * Complete an upload into a report
+     *
+     * POST /api/reports/uploads/{uploadId}/complete
+     *
+     * @param uploadId the upload session ID
+     * @param authentication the authentication object
+     * @return ResponseEntity containing the created report
+     */
+    @PostMapping("/{uploadId}/complete")
+    public ResponseEntity<ApiResponse<ReportResponse>> completeSession(
+            @PathVariable String uploadId,
+            Authentication authentication
+    ) throws IOException {
+        ReportResponse report = uploadSessionService.completeSession(uploadId, toUserAuth(authentication));
+        return ResponseEntity
+                .status(HttpStatus.CREATED)
+                .body(ApiResponse.success("Report uploaded successfully", report));
+    }
+
+    /**
+     * Abort an upload
+     *
+     * DELETE /api/reports/uploads/{uploadId}
+     *
+     * @param uploadId the upload session ID
+     * @param authentication the authentication object
+     * @return ResponseEntity with success message
+     */
+    @DeleteMapping("/{uploadId}")
+    public ResponseEntity<ApiResponse<Void>> abortSession(
+            @PathVariable String uploadId,
+            Authentication authentication
+    ) {
+        uploadSessionService.abortSession(uploadId, toUserAuth(authentication));
+        return ResponseEntity.ok(ApiResponse.success("Upload aborted successfully", null));
+    }
+
+    private Authentication toUserAuth(Authentication authentication) {
+        CustomUserDetails userDetails = (CustomUserDetails) authentication.getPrincipal();
+        User user = userDetails.getUser();
+        return new org.springframework.security.authentication.UsernamePasswordAuthenticationToken(
+                user,
+                authentication.getCredentials(),
+                authentication.getAuthorities()
+        );
+    }
+}
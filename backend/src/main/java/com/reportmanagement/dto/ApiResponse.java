@@ -1,11 +1,13 @@
 package com.reportmanagement.dto;
 
+import com.fasterxml.jackson.annotation.JsonInclude;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Data;
 import lombok.NoArgsConstructor;
 
 import java.time.LocalDateTime;
+import java.util.List;
 
 /**
  * Generic API response wrapper for consistent response format
@@ -34,6 +36,12 @@ public class ApiResponse<T> {
      */
     private T data;
 
+    /**
+     * Cursor for the next page of a paginated response, omitted otherwise
+     */
+    @JsonInclude(JsonInclude.Include.NON_NULL)
+    private String nextCursor;
+
     /**
      * Timestamp of the response
      */
@@ -62,6 +70,18 @@ public class ApiResponse<T> {
                 .build();
     }
 
+    /**
+     * Creates a success response for one page of a cursor-paginated result
+     */
+    public static <T> ApiResponse<List<T>> success(CursorPage<T> page) {
+        return ApiResponse.<List<T>>builder()
+                .success(true)
+                .data(page.getItems())
+                .nextCursor(page.getNextCursor())
+                .timestamp(LocalDateTime.now())
+                .build();
+    }
+
     /**
      * Creates an error response
      */
@@ -0,0 +1,35 @@
+package com.reportmanagement.dto;
+
+import com.reportmanagement.model.ReportStatus;
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.NotNull;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+/**
+ * DTO for moving several reports to the same status
+ *
+ * @author Report Management Team
+ * @version 1.0.0
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class BulkStatusUpdateRequest {
+
+    @NotEmpty(message = "At least one report ID is required")
+    private List<@NotNull(message = "Report IDs must not be null") Long> ids;
+
+    @NotNull(message = "Status is required")
+    private ReportStatus status;
+
+    /**
+     * Optional summary to be added to every updated report
+     */
+    private String summary;
+}
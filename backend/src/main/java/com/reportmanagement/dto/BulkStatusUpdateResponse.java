@@ -0,0 +1,60 @@
+package com.reportmanagement.dto;
+
+import com.reportmanagement.model.ReportStatus;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+/**
+ * DTO for the per-report outcome of a bulk status update
+ *
+ * @author Report Management Team
+ * @version 1.0.0
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class BulkStatusUpdateResponse {
+
+    /**
+     * Number of reports moved to the requested status
+     */
+    private int updated;
+
+    /**
+     * One result per distinct requested ID, in request order
+     */
+    private List<Result> results;
+
+    /**
+     * Outcome of the update of one report
+     */
+    public enum Outcome {
+        UPDATED,
+        INVALID_TRANSITION,
+        NOT_FOUND,
+        FORBIDDEN
+    }
+
+    /**
+     * Result for one report
+     */
+    @Data
+    @Builder
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class Result {
+
+        private Long id;
+        private Outcome outcome;
+
+        /**
+         * Status after the update; null for reports not found or not accessible
+         */
+        private ReportStatus status;
+    }
+}
@@ -0,0 +1,19 @@
+package com.reportmanagement.dto;
+
+/**
+ * Inclusive range of byte offsets within a file
+ *
+ * @author Report Management Team
+ * @version 1.0.0
+ */
+public record ByteRange(long start, long end) {
+
+    /**
+     * Number of bytes covered by the range
+     *
+     * @return the range length
+     */
+    public long length() {
+        return end - start + 1;
+    }
+}
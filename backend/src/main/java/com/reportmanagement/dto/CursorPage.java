@@ -0,0 +1,31 @@
+package com.reportmanagement.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+/**
+ * One page of a cursor-paginated result
+ *
+ * @author Report Management Team
+ * @version 1.0.0
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class CursorPage<T> {
+
+    /**
+     * Items of the current page
+     */
+    private List<T> items;
+
+    /**
+     * Cursor to pass as {@code after} for the next page, null on the last page
+     */
+    private String nextCursor;
+}
@@ -0,0 +1,61 @@
+package com.reportmanagement.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.Map;
+
+/**
+ * DTO for the processing engine's queue depth and per-stage timings
+ *
+ * Timings cover this application instance since it started.
+ *
+ * @author Report Management Team
+ * @version 1.0.0
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class ProcessingMetricsResponse {
+
+    /**
+     * Reports waiting to be claimed, over all instances
+     */
+    private long queueDepth;
+
+    /**
+     * Reports claimed and not yet completed, over all instances
+     */
+    private long inProgress;
+
+    /**
+     * Reports that used all their processing attempts, over all instances
+     */
+    private long failed;
+
+    private int workers;
+
+    /**
+     * Timings by stage: claim, process and complete
+     */
+    private Map<String, StageMetrics> stages;
+
+    /**
+     * Timings of one stage
+     */
+    @Data
+    @Builder
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class StageMetrics {
+
+        private long count;
+        private long failures;
+        private double meanMillis;
+        private double maxMillis;
+        private double totalMillis;
+    }
+}
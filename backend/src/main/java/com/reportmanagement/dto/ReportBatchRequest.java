@@ -0,0 +1,29 @@
+package com.reportmanagement.dto;
+
+import jakarta.validation.Valid;
+import jakarta.validation.constraints.NotEmpty;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+/**
+ * DTO for the metadata of a batch upload
+ *
+ * Entries describe the uploaded files in the order the files are sent.
+ *
+ * @author Report Management Team
+ * @version 1.0.0
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class ReportBatchRequest {
+
+    @NotEmpty(message = "At least one report is required")
+    @Valid
+    private List<ReportRequest> reports;
+}
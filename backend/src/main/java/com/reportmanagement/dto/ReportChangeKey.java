@@ -0,0 +1,10 @@
+package com.reportmanagement.dto;
+
+/**
+ * Projection of a report's position in the change feed
+ *
+ * @author Report Management Team
+ * @version 1.0.0
+ */
+public record ReportChangeKey(Long id, Long changeXid, Long createdXid) {
+}
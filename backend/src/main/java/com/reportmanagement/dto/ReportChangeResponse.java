@@ -0,0 +1,31 @@
+package com.reportmanagement.dto;
+
+import com.reportmanagement.model.ReportChangeType;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+/**
+ * DTO for one entry of the report change feed
+ *
+ * @author Report Management Team
+ * @version 1.0.0
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class ReportChangeResponse {
+
+    private ReportChangeType changeType;
+    private Long reportId;
+    private LocalDateTime changedAt;
+
+    /**
+     * Current state of the report, null for deletions
+     */
+    private ReportResponse report;
+}
@@ -0,0 +1,29 @@
+package com.reportmanagement.dto;
+
+import com.reportmanagement.model.ReportChangeType;
+import com.reportmanagement.model.ReportStatus;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+/**
+ * DTO for a report event pushed over Server-Sent Events
+ *
+ * @author Report Management Team
+ * @version 1.0.0
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class ReportEventResponse {
+
+    private ReportChangeType type;
+    private Long reportId;
+    private ReportStatus previousStatus;
+    private ReportStatus status;
+    private LocalDateTime occurredAt;
+}
@@ -0,0 +1,31 @@
+package com.reportmanagement.dto;
+
+import com.reportmanagement.model.FileCodec;
+
+import java.time.LocalDateTime;
+
+/**
+ * Where a report's file is stored, with the columns needed to serve it
+ *
+ * Exactly one of storageKey and filePath is used: the key once the file is in
+ * the storage layout, the legacy path before that. The codec and content length
+ * are only loaded for serving; contentLength is the size of the original upload,
+ * which differs from the stored file's size when a codec is set.
+ *
+ * @author Report Management Team
+ * @version 1.0.0
+ */
+public record ReportFileLocation(
+        Long id,
+        Long userId,
+        String storageKey,
+        String filePath,
+        LocalDateTime createdAt,
+        FileCodec codec,
+        Long contentLength
+) {
+
+    public ReportFileLocation(Long id, Long userId, String storageKey, String filePath, LocalDateTime createdAt) {
+        this(id, userId, storageKey, filePath, createdAt, null, null);
+    }
+}
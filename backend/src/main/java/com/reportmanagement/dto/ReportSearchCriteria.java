@@ -0,0 +1,51 @@
+package com.reportmanagement.dto;
+
+import com.reportmanagement.model.ReportStatus;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import org.springframework.format.annotation.DateTimeFormat;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+
+/**
+ * DTO for report search filters
+ *
+ * Every filter is optional; date and timestamp ranges are inclusive.
+ *
+ * @author Report Management Team
+ * @version 1.0.0
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class ReportSearchCriteria {
+
+    private ReportStatus status;
+
+    private String type;
+
+    @DateTimeFormat(iso = DateTimeFormat.ISO.DATE)
+    private LocalDate reportDateFrom;
+
+    @DateTimeFormat(iso = DateTimeFormat.ISO.DATE)
+    private LocalDate reportDateTo;
+
+    @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME)
+    private LocalDateTime createdFrom;
+
+    @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME)
+    private LocalDateTime createdTo;
+
+    /**
+     * Whether any filter is set
+     */
+    public boolean hasFilters() {
+        return status != null || (type != null && !type.isBlank())
+                || reportDateFrom != null || reportDateTo != null
+                || createdFrom != null || createdTo != null;
+    }
+}
@@ -0,0 +1,14 @@
+package com.reportmanagement.dto;
+
+/**
+ * Projection of a full-text search match: the report ID and its relevance rank
+ *
+ * @author Report Management Team
+ * @version 1.0.0
+ */
+public interface ReportSearchHit {
+
+    Long getId();
+
+    Float getRank();
+}
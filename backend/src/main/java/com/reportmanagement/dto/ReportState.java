@@ -0,0 +1,12 @@
+package com.reportmanagement.dto;
+
+import com.reportmanagement.model.ReportStatus;
+
+/**
+ * Projection of a report's ID and current status
+ *
+ * @author Report Management Team
+ * @version 1.0.0
+ */
+public record ReportState(Long id, ReportStatus status) {
+}
@@ -0,0 +1,25 @@
+package com.reportmanagement.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * DTO for report counts by status
+ *
+ * @author Report Management Team
+ * @version 1.0.0
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class ReportStatsResponse {
+
+    private long uploaded;
+    private long processing;
+    private long completed;
+    private long failed;
+    private long total;
+}
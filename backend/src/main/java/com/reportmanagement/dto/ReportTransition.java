@@ -0,0 +1,13 @@
+package com.reportmanagement.dto;
+
+import com.reportmanagement.model.ReportStatus;
+
+/**
+ * A report considered by a bulk status update: its owner, its status before
+ * the update, and whether the update moved it
+ *
+ * @author Report Management Team
+ * @version 1.0.0
+ */
+public record ReportTransition(Long id, Long userId, ReportStatus previousStatus, boolean updated) {
+}
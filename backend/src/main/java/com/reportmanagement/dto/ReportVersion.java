@@ -0,0 +1,15 @@
+package com.reportmanagement.dto;
+
+import com.reportmanagement.model.ReportStatus;
+
+import java.time.LocalDateTime;
+
+/**
+ * Projection of the columns needed to validate a cached report or a status
+ * change of a report
+ *
+ * @author Report Management Team
+ * @version 1.0.0
+ */
+public record ReportVersion(Long id, Long userId, ReportStatus status, LocalDateTime updatedAt) {
+}
@@ -0,0 +1,47 @@
+package com.reportmanagement.dto;
+
+import com.reportmanagement.model.ReportStatus;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+
+/**
+ * Read model for report queries
+ *
+ * Populated by JPQL constructor expressions in ReportRepository, so reads that only
+ * render reports never hydrate managed Report entities. List queries use the
+ * constructor without summary and leave the TEXT column unread.
+ *
+ * @author Report Management Team
+ * @version 1.0.0
+ */
+public record ReportView(
+        Long id,
+        Long userId,
+        String name,
+        String type,
+        String filePath,
+        ReportStatus status,
+        String summary,
+        LocalDate reportDate,
+        LocalDateTime createdAt,
+        LocalDateTime updatedAt
+) {
+
+    /**
+     * Constructor used by list queries, which do not select the summary
+     */
+    public ReportView(
+            Long id,
+            Long userId,
+            String name,
+            String type,
+            String filePath,
+            ReportStatus status,
+            LocalDate reportDate,
+            LocalDateTime createdAt,
+            LocalDateTime updatedAt
+    ) {
+        this(id, userId, name, type, filePath, status, null, reportDate, createdAt, updatedAt);
+    }
+}
@@ -0,0 +1,27 @@
+package com.reportmanagement.dto;
+
+import com.reportmanagement.model.FileCodec;
+
+import java.time.LocalDateTime;
+
+/**
+ * A report claimed by the processing engine, with the columns needed to read its file
+ *
+ * statusChangedAt identifies the claim: a report re-driven by the reaper and
+ * claimed again gets a new one, so a stale claim can no longer change it.
+ *
+ * @author Report Management Team
+ * @version 1.0.0
+ */
+public record ReportWorkItem(
+        Long id,
+        Long userId,
+        String name,
+        String type,
+        String storageKey,
+        String filePath,
+        FileCodec codec,
+        int attempts,
+        LocalDateTime statusChangedAt
+) {
+}
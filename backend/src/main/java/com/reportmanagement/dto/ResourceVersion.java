@@ -0,0 +1,29 @@
+package com.reportmanagement.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * Validators for conditional GET requests on a resource
+ *
+ * @author Report Management Team
+ * @version 1.0.0
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class ResourceVersion {
+
+    /**
+     * Strong entity tag, including the surrounding quotes
+     */
+    private String etag;
+
+    /**
+     * Last modification time in epoch milliseconds, or -1 if unknown
+     */
+    private long lastModified;
+}
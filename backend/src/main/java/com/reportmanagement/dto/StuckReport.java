@@ -0,0 +1,12 @@
+package com.reportmanagement.dto;
+
+import java.time.LocalDateTime;
+
+/**
+ * Projection of a PROCESSING report found by the stuck-report reaper
+ *
+ * @author Report Management Team
+ * @version 1.0.0
+ */
+public record StuckReport(Long id, LocalDateTime statusChangedAt) {
+}
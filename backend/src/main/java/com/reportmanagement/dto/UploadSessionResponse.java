@@ -0,0 +1,33 @@
+package com.reportmanagement.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * DTO describing a resumable upload and the byte ranges already received
+ *
+ * Chunk {@code i} covers offsets {@code i * chunkSize} up to the next chunk or the
+ * end of the file.
+ *
+ * @author Report Management Team
+ * @version 1.0.0
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class UploadSessionResponse {
+
+    private String uploadId;
+    private String name;
+    private long totalSize;
+    private int chunkSize;
+    private int chunkCount;
+    private List<ByteRange> receivedRanges;
+    private LocalDateTime expiresAt;
+}
@@ -0,0 +1,29 @@
+package com.reportmanagement.event;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+
+/**
+ * Sink that republishes outbox events to in-process listeners
+ *
+ * Listeners declared with {@code @EventListener} for {@link ReportOutboxMessage}
+ * run synchronously on the dispatcher thread; an exception fails the batch and
+ * it is delivered again.
+ *
+ * @author Report Management Team
+ * @version 1.0.0
+ */
+@Component
+@RequiredArgsConstructor
+public class ApplicationReportEventSink implements ReportEventSink {
+
+    private final ApplicationEventPublisher eventPublisher;
+
+    @Override
+    public void deliver(List<ReportOutboxMessage> messages) {
+        messages.forEach(eventPublisher::publishEvent);
+    }
+}
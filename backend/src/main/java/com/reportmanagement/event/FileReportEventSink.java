@@ -0,0 +1,65 @@
+package com.reportmanagement.event;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardOpenOption;
+import java.util.List;
+
+/**
+ * Sink that appends outbox events to a local file as newline-delimited JSON
+ *
+ * Each batch is written with one write and forced to disk before the outbox
+ * rows are removed, so an acknowledged event is never lost. A batch retried
+ * after a crash may appear twice.
+ *
+ * @author Report Management Team
+ * @version 1.0.0
+ */
+@Component
+@ConditionalOnProperty(name = "reports.outbox.file-sink.enabled", havingValue = "true")
+public class FileReportEventSink implements ReportEventSink, DisposableBean {
+
+    private final ObjectMapper objectMapper;
+    private final FileChannel channel;
+
+    public FileReportEventSink(
+            ObjectMapper objectMapper,
+            @Value("${reports.outbox.file-sink.path:./events/report-events.ndjson}") String path
+    ) throws IOException {
+        this.objectMapper = objectMapper;
+        Path file = Paths.get(path).toAbsolutePath();
+        Files.createDirectories(file.getParent());
+        this.channel = FileChannel.open(file,
+                StandardOpenOption.CREATE, StandardOpenOption.WRITE, StandardOpenOption.APPEND);
+    }
+
+    @Override
+    public synchronized void deliver(List<ReportOutboxMessage> messages) throws IOException {
+        ByteArrayOutputStream lines = new ByteArrayOutputStream(messages.size() * 160);
+        for (ReportOutboxMessage message : messages) {
+            objectMapper.writeValue(lines, message);
+            lines.write('\n');
+        }
+        ByteBuffer buffer = ByteBuffer.wrap(lines.toByteArray());
+        while (buffer.hasRemaining()) {
+            channel.write(buffer);
+        }
+        channel.force(false);
+    }
+
+    @Override
+    public synchronized void destroy() throws IOException {
+        channel.close();
+    }
+}
@@ -0,0 +1,326 @@
+package com.reportmanagement.event;
+
+import com.reportmanagement.dto.ReportEventResponse;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.MediaType;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.io.IOException;
+import java.util.Queue;
+import java.util.Set;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.Supplier;
+
+/**
+ * Fans committed report lifecycle events out to Server-Sent Events subscribers
+ *
+ * Subscribers hold an async servlet request, not a thread. Each one has a bounded
+ * buffer that is drained by a small shared sender pool, so a slow client never
+ * blocks the committing transaction or other subscribers. A subscriber whose
+ * buffer overflows is disconnected and is expected to reconnect and catch up
+ * through the change feed.
+ *
+ * Only sender threads touch an emitter. Publishers merely mark an overflowing
+ * subscriber evicted; the sender draining it completes the emitter once its
+ * current send returns. A send that blocks longer than the send timeout gets
+ * its subscriber evicted, and the sender pool gains a thread for as long as the
+ * send stays stuck, so a few dead sockets cannot stall delivery to everyone
+ * else. The stuck write itself ends with the servlet container's write timeout.
+ *
+ * Heartbeats and the send watchdog run on the broker's own scheduler thread
+ * rather than the shared Spring scheduler, so long-running scheduled jobs cannot
+ * delay them.
+ *
+ * @author Report Management Team
+ * @version 1.0.0
+ */
+@Slf4j
+@Component
+public class ReportEventBroker implements DisposableBean {
+
+    private static final String EVENT_NAME = "report";
+
+    private final Set<Subscriber> adminSubscribers = ConcurrentHashMap.newKeySet();
+    private final ConcurrentHashMap<Long, Set<Subscriber>> userSubscribers = new ConcurrentHashMap<>();
+    private final Set<Subscriber> sending = ConcurrentHashMap.newKeySet();
+    private final ThreadPoolExecutor sender;
+    private final ScheduledExecutorService heartbeats;
+    private final int senderThreads;
+    private final long sendTimeoutNanos;
+    private int stuckSenders;
+
+    @Value("${reports.events.buffer-size:64}")
+    private int bufferSize;
+
+    @Value("${reports.events.timeout-ms:1800000}")
+    private long timeoutMs;
+
+    public ReportEventBroker(
+            @Value("${reports.events.sender-threads:4}") int senderThreads,
+            @Value("${reports.events.heartbeat-ms:15000}") long heartbeatMs,
+            @Value("${reports.events.send-timeout-ms:10000}") long sendTimeoutMs
+    ) {
+        this.senderThreads = senderThreads;
+        this.sendTimeoutNanos = TimeUnit.MILLISECONDS.toNanos(sendTimeoutMs);
+        this.sender = new ThreadPoolExecutor(senderThreads, senderThreads, 60, TimeUnit.SECONDS,
+                new LinkedBlockingQueue<>(), runnable -> {
+                    Thread thread = new Thread(runnable, "report-events-sender");
+                    thread.setDaemon(true);
+                    return thread;
+                });
+        this.heartbeats = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "report-events-heartbeat");
+            thread.setDaemon(true);
+            return thread;
+        });
+        // A task that throws is never run again, so one failed heartbeat must not end them all
+        heartbeats.scheduleAtFixedRate(() -> {
+            try {
+                heartbeat();
+            } catch (RuntimeException e) {
+                log.warn("Event heartbeat failed", e);
+            }
+        }, heartbeatMs, heartbeatMs, TimeUnit.MILLISECONDS);
+        long watchdogMs = Math.max(1, Math.min(1000, sendTimeoutMs / 2));
+        heartbeats.scheduleWithFixedDelay(() -> {
+            try {
+                evictStuckSenders();
+            } catch (RuntimeException e) {
+                log.warn("Event send watchdog failed", e);
+            }
+        }, watchdogMs, watchdogMs, TimeUnit.MILLISECONDS);
+    }
+
+    /**
+     * Register a subscriber for the events of one user, or of all users
+     *
+     * @param userId the subscribing user
+     * @param admin whether the subscriber receives the events of every user
+     * @return the emitter to return from the controller
+     */
+    public SseEmitter subscribe(Long userId, boolean admin) {
+        return subscribe(userId, admin, new SseEmitter(timeoutMs));
+    }
+
+    SseEmitter subscribe(Long userId, boolean admin, SseEmitter emitter) {
+        Subscriber subscriber = new Subscriber(userId, admin, emitter, bufferSize);
+
+        if (admin) {
+            adminSubscribers.add(subscriber);
+        } else {
+            userSubscribers.compute(userId, (id, subscribers) -> {
+                Set<Subscriber> result = subscribers != null ? subscribers : ConcurrentHashMap.newKeySet();
+                result.add(subscriber);
+                return result;
+            });
+        }
+        emitter.onCompletion(() -> remove(subscriber));
+        emitter.onTimeout(() -> remove(subscriber));
+        emitter.onError(e -> remove(subscriber));
+
+        // Flush the response headers so the client sees the stream open immediately
+        enqueue(subscriber, () -> SseEmitter.event().comment("connected"));
+        return emitter;
+    }
+
+    /**
+     * Deliver an event after the transaction that produced it has committed
+     *
+     * @param event the report lifecycle event
+     */
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+    public void onReportEvent(ReportLifecycleEvent event) {
+        Set<Subscriber> owners = userSubscribers.get(event.userId());
+        if (owners == null && adminSubscribers.isEmpty()) {
+            return;
+        }
+
+        ReportEventResponse payload = ReportEventResponse.builder()
+                .type(event.type())
+                .reportId(event.reportId())
+                .previousStatus(event.previousStatus())
+                .status(event.status())
+                .occurredAt(event.occurredAt())
+                .build();
+        Supplier<SseEmitter.SseEventBuilder> message = () -> SseEmitter.event()
+                .name(EVENT_NAME)
+                .id(String.valueOf(event.reportId()))
+                .data(payload, MediaType.APPLICATION_JSON);
+        if (owners != null) {
+            owners.forEach(subscriber -> enqueue(subscriber, message));
+        }
+        adminSubscribers.forEach(subscriber -> enqueue(subscriber, message));
+    }
+
+    /**
+     * Send a comment to every subscriber so proxies keep idle connections open and
+     * dead connections are detected
+     */
+    private void heartbeat() {
+        Supplier<SseEmitter.SseEventBuilder> ping = () -> SseEmitter.event().comment("ping");
+        adminSubscribers.forEach(subscriber -> enqueue(subscriber, ping));
+        userSubscribers.values().forEach(subscribers ->
+                subscribers.forEach(subscriber -> enqueue(subscriber, ping)));
+    }
+
+    /**
+     * Number of connected subscribers
+     */
+    public int subscriberCount() {
+        return adminSubscribers.size()
+                + userSubscribers.values().stream().mapToInt(Set::size).sum();
+    }
+
+    @Override
+    public void destroy() {
+        heartbeats.shutdownNow();
+        sender.shutdownNow();
+    }
+
+    /**
+     * Queue a message for a subscriber and make sure a sender drains its buffer
+     *
+     * Messages are queued as suppliers because an SseEventBuilder can only be
+     * built once, and the same event goes to many subscribers. This runs on
+     * publishing threads, so it never touches the emitter.
+     */
+    private void enqueue(Subscriber subscriber, Supplier<SseEmitter.SseEventBuilder> message) {
+        if (subscriber.evicted.get()) {
+            return;
+        }
+        if (!subscriber.buffer.offer(message)) {
+            log.debug("Evicting slow event subscriber of user {}", subscriber.userId);
+            evict(subscriber);
+        }
+        if (subscriber.draining.compareAndSet(false, true)) {
+            sender.execute(() -> drain(subscriber));
+        }
+    }
+
+    private void drain(Subscriber subscriber) {
+        while (true) {
+            Supplier<SseEmitter.SseEventBuilder> message;
+            while (!subscriber.evicted.get() && (message = subscriber.buffer.poll()) != null) {
+                send(subscriber, message);
+            }
+            if (subscriber.evicted.get()) {
+                subscriber.buffer.clear();
+                close(subscriber);
+                return;
+            }
+            subscriber.draining.set(false);
+            // Re-check in case a message arrived, or the subscriber was evicted, after the last poll
+            if ((subscriber.buffer.isEmpty() && !subscriber.evicted.get())
+                    || !subscriber.draining.compareAndSet(false, true)) {
+                return;
+            }
+        }
+    }
+
+    private void send(Subscriber subscriber, Supplier<SseEmitter.SseEventBuilder> message) {
+        subscriber.sendingSince = System.nanoTime();
+        sending.add(subscriber);
+        try {
+            subscriber.emitter.send(message.get());
+        } catch (IOException | IllegalStateException e) {
+            evict(subscriber);
+        } finally {
+            sending.remove(subscriber);
+            if (subscriber.stuck.compareAndSet(true, false)) {
+                resizeSender(-1);
+            }
+        }
+    }
+
+    /**
+     * Evict subscribers whose current send has blocked past the send timeout,
+     * lending the sender pool a thread in place of each one
+     */
+    private void evictStuckSenders() {
+        long now = System.nanoTime();
+        for (Subscriber subscriber : sending) {
+            if (now - subscriber.sendingSince > sendTimeoutNanos && subscriber.stuck.compareAndSet(false, true)) {
+                log.debug("Evicting event subscriber of user {} stuck in a send", subscriber.userId);
+                evict(subscriber);
+                resizeSender(1);
+            }
+        }
+    }
+
+    private synchronized void resizeSender(int delta) {
+        stuckSenders += delta;
+        int size = senderThreads + stuckSenders;
+        // Grow the maximum before the core size and shrink it after, as the pool requires
+        if (delta > 0) {
+            sender.setMaximumPoolSize(size);
+            sender.setCorePoolSize(size);
+        } else {
+            sender.setCorePoolSize(size);
+            sender.setMaximumPoolSize(size);
+        }
+    }
+
+    /**
+     * Stop delivering to a subscriber; the sender draining it completes the emitter
+     */
+    private void evict(Subscriber subscriber) {
+        subscriber.evicted.set(true);
+        remove(subscriber);
+    }
+
+    /**
+     * Complete an evicted subscriber's emitter, on a sender thread
+     */
+    private static void close(Subscriber subscriber) {
+        try {
+            subscriber.emitter.complete();
+        } catch (RuntimeException e) {
+            log.debug("Completing event subscriber of user {} failed: {}", subscriber.userId, e.getMessage());
+        }
+    }
+
+    private void remove(Subscriber subscriber) {
+        if (subscriber.admin) {
+            adminSubscribers.remove(subscriber);
+            return;
+        }
+        userSubscribers.computeIfPresent(subscriber.userId, (id, subscribers) -> {
+            subscribers.remove(subscriber);
+            return subscribers.isEmpty() ? null : subscribers;
+        });
+    }
+
+    /**
+     * One connected client with its pending messages
+     */
+    private static final class Subscriber {
+
+        private final Long userId;
+        private final boolean admin;
+        private final SseEmitter emitter;
+        private final Queue<Supplier<SseEmitter.SseEventBuilder>> buffer;
+        private final AtomicBoolean draining = new AtomicBoolean();
+        private final AtomicBoolean evicted = new AtomicBoolean();
+        private final AtomicBoolean stuck = new AtomicBoolean();
+        private volatile long sendingSince;
+
+        private Subscriber(Long userId, boolean admin, SseEmitter emitter, int bufferSize) {
+            this.userId = userId;
+            this.admin = admin;
+            this.emitter = emitter;
+            this.buffer = new ArrayBlockingQueue<>(bufferSize);
+        }
+    }
+}
@@ -0,0 +1,26 @@
+package com.reportmanagement.event;
+
+import java.io.IOException;
+import java.util.List;
+
+/**
+ * Downstream destination of the report events in the outbox
+ *
+ * Every sink bean receives every batch inside the transaction that removes the
+ * batch from the outbox. A sink that throws fails the whole batch, which is then
+ * delivered again to every sink, so sinks must tolerate duplicates. Events are
+ * not delivered in the order of the changes, see {@link ReportOutboxMessage}.
+ *
+ * @author Report Management Team
+ * @version 1.0.0
+ */
+public interface ReportEventSink {
+
+    /**
+     * Deliver a batch of events
+     *
+     * @param messages the events, ordered by event ID
+     * @throws IOException if the events could not be delivered
+     */
+    void deliver(List<ReportOutboxMessage> messages) throws IOException;
+}
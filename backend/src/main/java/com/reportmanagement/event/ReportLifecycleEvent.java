@@ -0,0 +1,33 @@
+package com.reportmanagement.event;
+
+import com.reportmanagement.model.ReportChangeType;
+import com.reportmanagement.model.ReportStatus;
+
+import java.time.LocalDateTime;
+
+/**
+ * Application event published by ReportService when a report is created,
+ * changes status or is deleted
+ *
+ * Listeners that must only see committed changes should use
+ * {@code @TransactionalEventListener}.
+ *
+ * @param type the kind of change
+ * @param reportId the ID of the report
+ * @param userId the owner of the report
+ * @param previousStatus the status before the change, null for a new report
+ * @param status the status after the change, null for a deleted report
+ * @param occurredAt when the change was made
+ *
+ * @author Report Management Team
+ * @version 1.0.0
+ */
+public record ReportLifecycleEvent(
+        ReportChangeType type,
+        Long reportId,
+        Long userId,
+        ReportStatus previousStatus,
+        ReportStatus status,
+        LocalDateTime occurredAt
+) {
+}
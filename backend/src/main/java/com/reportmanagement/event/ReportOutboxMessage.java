@@ -0,0 +1,35 @@
+package com.reportmanagement.event;
+
+import com.reportmanagement.model.ReportChangeType;
+import com.reportmanagement.model.ReportStatus;
+
+import java.time.LocalDateTime;
+
+/**
+ * A report lifecycle event read from the outbox, as delivered to sinks
+ *
+ * Delivery is at least once, so consumers should ignore IDs they have seen.
+ * Event IDs do not follow commit order, even for one report, so a consumer that
+ * needs the current state of a report should read it rather than replay events.
+ *
+ * @param id the outbox event ID
+ * @param type the kind of change
+ * @param reportId the ID of the report
+ * @param userId the owner of the report
+ * @param previousStatus the status before the change, null for a new report
+ * @param status the status after the change, null for a deleted report
+ * @param occurredAt when the change was made
+ *
+ * @author Report Management Team
+ * @version 1.0.0
+ */
+public record ReportOutboxMessage(
+        Long id,
+        ReportChangeType type,
+        Long reportId,
+        Long userId,
+        ReportStatus previousStatus,
+        ReportStatus status,
+        LocalDateTime occurredAt
+) {
+}
@@ -0,0 +1,17 @@
+package com.reportmanagement.exception;
+
+/**
+ * Exception thrown when a change feed cursor is older than the tombstone retention
+ *
+ * The client can no longer be told about every deletion since the cursor and
+ * must resynchronise from a full listing.
+ *
+ * @author Report Management Team
+ * @version 1.0.0
+ */
+public class CursorExpiredException extends RuntimeException {
+
+    public CursorExpiredException(String message) {
+        super(message);
+    }
+}
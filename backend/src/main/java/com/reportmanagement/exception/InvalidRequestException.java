@@ -0,0 +1,14 @@
+package com.reportmanagement.exception;
+
+/**
+ * Exception thrown when request parameters are malformed or out of range
+ *
+ * @author Report Management Team
+ * @version 1.0.0
+ */
+public class InvalidRequestException extends RuntimeException {
+
+    public InvalidRequestException(String message) {
+        super(message);
+    }
+}
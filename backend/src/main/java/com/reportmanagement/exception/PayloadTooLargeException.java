@@ -0,0 +1,14 @@
+package com.reportmanagement.exception;
+
+/**
+ * Exception thrown when an uploaded file exceeds the configured size limit
+ *
+ * @author Report Management Team
+ * @version 1.0.0
+ */
+public class PayloadTooLargeException extends RuntimeException {
+
+    public PayloadTooLargeException(String message) {
+        super(message);
+    }
+}
@@ -0,0 +1,59 @@
+package com.reportmanagement.model;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.util.zip.Deflater;
+import java.util.zip.GZIPInputStream;
+import java.util.zip.GZIPOutputStream;
+
+/**
+ * Enum representing the encodings a stored report file can be written in
+ *
+ * A null codec means the file is stored exactly as uploaded.
+ *
+ * @author Report Management Team
+ * @version 1.0.0
+ */
+public enum FileCodec {
+
+    /**
+     * Gzip-compressed with the JDK's Deflater
+     */
+    GZIP {
+        @Override
+        public OutputStream encode(OutputStream out, int level, int bufferSize) throws IOException {
+            return new GZIPOutputStream(out, bufferSize) {
+                {
+                    def.setLevel(level);
+                }
+            };
+        }
+
+        @Override
+        public InputStream decode(InputStream in, int bufferSize) throws IOException {
+            return new GZIPInputStream(in, bufferSize);
+        }
+    };
+
+    /**
+     * Wrap a stream so that content written to it is encoded
+     *
+     * @param out the stream receiving encoded bytes, closed with the returned stream
+     * @param level the compression level, {@link Deflater#BEST_SPEED} to {@link Deflater#BEST_COMPRESSION}
+     * @param bufferSize the encoder buffer size in bytes
+     * @return the encoding stream
+     * @throws IOException if the encoding header cannot be written
+     */
+    public abstract OutputStream encode(OutputStream out, int level, int bufferSize) throws IOException;
+
+    /**
+     * Wrap a stream of encoded content so that reading it yields the original bytes
+     *
+     * @param in the encoded stream, closed with the returned stream
+     * @param bufferSize the decoder buffer size in bytes
+     * @return the decoding stream
+     * @throws IOException if the encoding header cannot be read
+     */
+    public abstract InputStream decode(InputStream in, int bufferSize) throws IOException;
+}
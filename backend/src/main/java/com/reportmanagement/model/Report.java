@@ -5,6 +5,7 @@ import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Data;
 import lombok.NoArgsConstructor;
+import org.hibernate.annotations.DynamicUpdate;
 import org.springframework.data.annotation.CreatedDate;
 import org.springframework.data.annotation.LastModifiedDate;
 import org.springframework.data.jpa.domain.support.AuditingEntityListener;
@@ -23,9 +24,21 @@ import java.time.LocalDateTime;
        indexes = {
            @Index(name = "idx_reports_user_id", columnList = "user_id"),
            @Index(name = "idx_reports_status", columnList = "status"),
-           @Index(name = "idx_reports_created_at", columnList = "created_at")
+           @Index(name = "idx_reports_created_at", columnList = "created_at"),
+           @Index(name = "idx_reports_user_created_at", columnList = "user_id, created_at DESC, id DESC"),
+           @Index(name = "idx_reports_user_status_created_at",
+                  columnList = "user_id, status, created_at DESC, id DESC"),
+           @Index(name = "idx_reports_user_type_created_at",
+                  columnList = "user_id, type, created_at DESC, id DESC"),
+           @Index(name = "idx_reports_user_report_date", columnList = "user_id, report_date"),
+           @Index(name = "idx_reports_status_created_at", columnList = "status, created_at DESC, id DESC"),
+           @Index(name = "idx_reports_report_date", columnList = "report_date"),
+           @Index(name = "idx_reports_change_xid", columnList = "change_xid, id"),
+           @Index(name = "idx_reports_user_change_xid", columnList = "user_id, change_xid, id"),
+           @Index(name = "idx_reports_blob_sha256", columnList = "blob_sha256")
        })
 @EntityListeners(AuditingEntityListener.class)
+@DynamicUpdate
 @Data
 @Builder
 @NoArgsConstructor
@@ -34,9 +47,13 @@ public class Report {
 
     /**
      * Primary key of the report
+     *
+     * Drawn from reports_id_seq in blocks of 50 by Hibernate's pooled optimizer,
+     * which, unlike an identity column, lets inserts be batched.
      */
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "reports_id_seq")
+    @SequenceGenerator(name = "reports_id_seq", sequenceName = "reports_id_seq", allocationSize = 50)
     private Long id;
 
     /**
@@ -59,11 +76,37 @@ public class Report {
     private String type;
 
     /**
-     * File system path where the report file is stored
+     * Legacy file system path of the report file, null once the file is in the
+     * storage layout
      */
-    @Column(name = "file_path", nullable = false)
+    @Column(name = "file_path")
     private String filePath;
 
+    /**
+     * Volume-relative key of the report file in ReportStorage
+     */
+    @Column(name = "storage_key", length = 500)
+    private String storageKey;
+
+    /**
+     * When the file reconciler first found the report's file missing, null if present
+     */
+    @Column(name = "file_missing_since")
+    private LocalDateTime fileMissingSince;
+
+    /**
+     * Content hash of the stored file, or null for files stored before deduplication
+     */
+    @Column(name = "blob_sha256", length = 64)
+    private String blobSha256;
+
+    /**
+     * Encoding of the stored file, copied from its blob; null if stored as uploaded
+     */
+    @Enumerated(EnumType.STRING)
+    @Column(name = "codec", length = 20)
+    private FileCodec codec;
+
     /**
      * Current status of the report in the processing workflow
      */
@@ -72,6 +115,26 @@ public class Report {
     @Builder.Default
     private ReportStatus status = ReportStatus.UPLOADED;
 
+    /**
+     * Timestamp when the status last changed
+     */
+    @Column(name = "status_changed_at", nullable = false)
+    private LocalDateTime statusChangedAt;
+
+    /**
+     * Number of times the report was moved to PROCESSING
+     */
+    @Column(name = "attempts", nullable = false)
+    @Builder.Default
+    private int attempts = 0;
+
+    /**
+     * Earliest time the processing engine may claim the report again, null if
+     * it is not held back
+     */
+    @Column(name = "next_attempt_at")
+    private LocalDateTime nextAttemptAt;
+
     /**
      * Generated summary of the report
      */
@@ -97,4 +160,30 @@ public class Report {
     @LastModifiedDate
     @Column(name = "updated_at")
     private LocalDateTime updatedAt;
+
+    /**
+     * Optimistic lock version, also incremented by the repository's bulk updates
+     */
+    @Version
+    @Column(name = "version", nullable = false)
+    private Long version;
+
+    /**
+     * ID of the transaction that last wrote the report, set by the database
+     */
+    @Column(name = "change_xid", insertable = false, updatable = false)
+    private Long changeXid;
+
+    /**
+     * ID of the transaction that created the report, set by the database
+     */
+    @Column(name = "created_xid", insertable = false, updatable = false)
+    private Long createdXid;
+
+    @PrePersist
+    void initStatusChangedAt() {
+        if (statusChangedAt == null) {
+            statusChangedAt = LocalDateTime.now();
+        }
+    }
 }
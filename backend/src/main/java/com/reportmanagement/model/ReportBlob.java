@@ -0,0 +1,63 @@
+package com.reportmanagement.model;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.EnumType;
+import jakarta.persistence.Enumerated;
+import jakarta.persistence.Id;
+import jakarta.persistence.Table;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+/**
+ * Content-addressed report file shared by every report with identical content
+ *
+ * Rows are only written through ReportBlobRepository's native queries.
+ *
+ * @author Report Management Team
+ * @version 1.0.0
+ */
+@Entity
+@Table(name = "report_blobs")
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class ReportBlob {
+
+    /**
+     * Hex SHA-256 of the file content
+     */
+    @Id
+    @Column(name = "sha256", length = 64)
+    private String sha256;
+
+    /**
+     * Volume-relative storage key, or null for a blob still in the legacy flat directory
+     */
+    @Column(name = "storage_key", length = 500)
+    private String storageKey;
+
+    /**
+     * Encoding of the stored file, or null if it is stored as uploaded
+     */
+    @Enumerated(EnumType.STRING)
+    @Column(name = "codec", length = 20)
+    private FileCodec codec;
+
+    @Column(name = "size_bytes", nullable = false)
+    private long sizeBytes;
+
+    /**
+     * Number of reports referencing this blob
+     */
+    @Column(name = "ref_count", nullable = false)
+    private int refCount;
+
+    @Column(name = "created_at", nullable = false, updatable = false)
+    private LocalDateTime createdAt;
+}
@@ -0,0 +1,25 @@
+package com.reportmanagement.model;
+
+/**
+ * Enum representing the kind of change reported by the report change feed
+ *
+ * @author Report Management Team
+ * @version 1.0.0
+ */
+public enum ReportChangeType {
+
+    /**
+     * Report was created after the cursor
+     */
+    CREATED,
+
+    /**
+     * Report existed at the cursor and was modified since
+     */
+    UPDATED,
+
+    /**
+     * Report was deleted after the cursor
+     */
+    DELETED
+}
@@ -0,0 +1,48 @@
+package com.reportmanagement.model;
+
+import com.reportmanagement.exception.InvalidRequestException;
+import lombok.Getter;
+
+/**
+ * Enum representing the formats supported by the report metadata export
+ *
+ * @author Report Management Team
+ * @version 1.0.0
+ */
+@Getter
+public enum ReportExportFormat {
+
+    /**
+     * Newline-delimited JSON, one report object per line
+     */
+    NDJSON("application/x-ndjson", "ndjson"),
+
+    /**
+     * Comma-separated values with a header row
+     */
+    CSV("text/csv", "csv");
+
+    private final String contentType;
+    private final String extension;
+
+    ReportExportFormat(String contentType, String extension) {
+        this.contentType = contentType;
+        this.extension = extension;
+    }
+
+    /**
+     * Resolve a format from its request parameter value
+     *
+     * @param value the parameter value (case-insensitive)
+     * @return the matching format
+     * @throws InvalidRequestException if the format is not supported
+     */
+    public static ReportExportFormat fromParameter(String value) {
+        for (ReportExportFormat format : values()) {
+            if (format.extension.equalsIgnoreCase(value)) {
+                return format;
+            }
+        }
+        throw new InvalidRequestException("Unsupported export format: " + value);
+    }
+}
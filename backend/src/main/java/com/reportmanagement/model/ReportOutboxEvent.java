@@ -0,0 +1,68 @@
+package com.reportmanagement.model;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.EnumType;
+import jakarta.persistence.Enumerated;
+import jakarta.persistence.GeneratedValue;
+import jakarta.persistence.GenerationType;
+import jakarta.persistence.Id;
+import jakarta.persistence.SequenceGenerator;
+import jakarta.persistence.Table;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+/**
+ * Report lifecycle event waiting in the outbox for delivery to downstream sinks
+ *
+ * @author Report Management Team
+ * @version 1.0.0
+ */
+@Entity
+@Table(name = "report_outbox")
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class ReportOutboxEvent {
+
+    /**
+     * Event ID, drawn in blocks of 50 so the inserts of a transaction are batched;
+     * unique, but not in commit order
+     */
+    @Id
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "report_outbox_id_seq")
+    @SequenceGenerator(name = "report_outbox_id_seq", sequenceName = "report_outbox_id_seq", allocationSize = 50)
+    private Long id;
+
+    @Enumerated(EnumType.STRING)
+    @Column(name = "event_type", nullable = false, length = 20)
+    private ReportChangeType type;
+
+    @Column(name = "report_id", nullable = false)
+    private Long reportId;
+
+    @Column(name = "user_id", nullable = false)
+    private Long userId;
+
+    @Enumerated(EnumType.STRING)
+    @Column(name = "previous_status", length = 50)
+    private ReportStatus previousStatus;
+
+    @Enumerated(EnumType.STRING)
+    @Column(name = "status", length = 50)
+    private ReportStatus status;
+
+    @Column(name = "occurred_at", nullable = false)
+    private LocalDateTime occurredAt;
+
+    /**
+     * When the event was delivered, null while pending
+     */
+    @Column(name = "dispatched_at")
+    private LocalDateTime dispatchedAt;
+}
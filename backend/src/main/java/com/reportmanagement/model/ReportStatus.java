@@ -2,11 +2,18 @@ package com.reportmanagement.model;
 
 import lombok.Getter;
 
+import java.util.Arrays;
+import java.util.List;
+
 /**
  * Enum representing the status of a report in the processing workflow
  *
  * Status Transition Rules:
  * UPLOADED → PROCESSING → COMPLETED
+ * PROCESSING → FAILED → UPLOADED (retry)
+ *
+ * Reports stuck in PROCESSING, or whose processing fails, are returned to
+ * UPLOADED with a backoff until they run out of attempts and end in FAILED.
  *
  * @author Report Management Team
  * @version 1.0.0
@@ -27,7 +34,12 @@ public enum ReportStatus {
     /**
      * Report processing is completed
      */
-    COMPLETED("COMPLETED");
+    COMPLETED("COMPLETED"),
+
+    /**
+     * Report processing failed on every attempt
+     */
+    FAILED("FAILED");
 
     private final String value;
 
@@ -49,11 +61,24 @@ public enum ReportStatus {
 
         return switch (currentStatus) {
             case UPLOADED -> newStatus == PROCESSING;
-            case PROCESSING -> newStatus == COMPLETED;
+            case PROCESSING -> newStatus == COMPLETED || newStatus == FAILED;
             case COMPLETED -> false; // Already completed, no further transitions
+            case FAILED -> newStatus == UPLOADED; // Queued again with fresh attempts
         };
     }
 
+    /**
+     * Statuses from which a report may move to the given status
+     *
+     * @param newStatus the status to transition to
+     * @return the valid previous statuses, in declaration order
+     */
+    public static List<ReportStatus> sourcesOf(ReportStatus newStatus) {
+        return Arrays.stream(values())
+                .filter(status -> isValidTransition(status, newStatus))
+                .toList();
+    }
+
     @Override
     public String toString() {
         return value;
@@ -0,0 +1,66 @@
+package com.reportmanagement.model;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.Table;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * Report counts by status for one user, or for all users
+ *
+ * Rows are only written through ReportStatusCountRepository's native upserts.
+ *
+ * @author Report Management Team
+ * @version 1.0.0
+ */
+@Entity
+@Table(name = "report_status_counts")
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class ReportStatusCount {
+
+    /**
+     * Scope ID of the global counts row
+     */
+    public static final long GLOBAL_SCOPE_ID = 0L;
+
+    /**
+     * User ID, or {@link #GLOBAL_SCOPE_ID} for the global counts
+     */
+    @Id
+    @Column(name = "scope_id")
+    private Long scopeId;
+
+    @Column(name = "uploaded_count", nullable = false)
+    private long uploadedCount;
+
+    @Column(name = "processing_count", nullable = false)
+    private long processingCount;
+
+    @Column(name = "completed_count", nullable = false)
+    private long completedCount;
+
+    @Column(name = "failed_count", nullable = false)
+    private long failedCount;
+
+    /**
+     * Incremented by every change to the reports of the scope
+     */
+    @Column(name = "version", nullable = false)
+    private long version;
+
+    /**
+     * Total number of reports in the scope
+     *
+     * @return the sum of the counts of all statuses
+     */
+    public long getTotal() {
+        return uploadedCount + processingCount + completedCount + failedCount;
+    }
+}
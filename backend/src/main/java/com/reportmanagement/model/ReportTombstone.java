@@ -0,0 +1,61 @@
+package com.reportmanagement.model;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.Index;
+import jakarta.persistence.Table;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+/**
+ * Tombstone recording the deletion of a report, used by the change feed
+ *
+ * @author Report Management Team
+ * @version 1.0.0
+ */
+@Entity
+@Table(name = "report_tombstones",
+       indexes = {
+           @Index(name = "idx_report_tombstones_deleted_at", columnList = "deleted_at, report_id"),
+           @Index(name = "idx_report_tombstones_user_deleted_at",
+                  columnList = "user_id, deleted_at, report_id"),
+           @Index(name = "idx_report_tombstones_change_xid", columnList = "change_xid, report_id"),
+           @Index(name = "idx_report_tombstones_user_change_xid",
+                  columnList = "user_id, change_xid, report_id")
+       })
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class ReportTombstone {
+
+    /**
+     * ID of the deleted report
+     */
+    @Id
+    @Column(name = "report_id")
+    private Long reportId;
+
+    /**
+     * Owner of the deleted report
+     */
+    @Column(name = "user_id", nullable = false)
+    private Long userId;
+
+    /**
+     * Timestamp when the report was deleted
+     */
+    @Column(name = "deleted_at", nullable = false)
+    private LocalDateTime deletedAt;
+
+    /**
+     * ID of the transaction that deleted the report, set by the database
+     */
+    @Column(name = "change_xid", insertable = false, updatable = false)
+    private Long changeXid;
+}
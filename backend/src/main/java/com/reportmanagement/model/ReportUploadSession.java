@@ -0,0 +1,87 @@
+package com.reportmanagement.model;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.Index;
+import jakarta.persistence.Table;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+
+/**
+ * Resumable upload in progress, completed into a report once every chunk arrived
+ *
+ * Received chunks are tracked in report_upload_chunks through
+ * ReportUploadSessionRepository's native queries.
+ *
+ * @author Report Management Team
+ * @version 1.0.0
+ */
+@Entity
+@Table(name = "report_upload_sessions",
+       indexes = {
+           @Index(name = "idx_report_upload_sessions_expires_at", columnList = "expires_at")
+       })
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class ReportUploadSession {
+
+    /**
+     * Random upload ID handed to the client
+     */
+    @Id
+    @Column(name = "id", length = 36)
+    private String id;
+
+    /**
+     * User who started the upload
+     */
+    @Column(name = "user_id", nullable = false)
+    private Long userId;
+
+    @Column(name = "name", nullable = false)
+    private String name;
+
+    @Column(name = "type", nullable = false)
+    private String type;
+
+    @Column(name = "report_date", nullable = false)
+    private LocalDate reportDate;
+
+    /**
+     * Declared file size in bytes
+     */
+    @Column(name = "total_size", nullable = false)
+    private long totalSize;
+
+    /**
+     * Size of every chunk except possibly the last
+     */
+    @Column(name = "chunk_size", nullable = false)
+    private int chunkSize;
+
+    /**
+     * Set while the session is being completed or aborted; chunks are rejected then
+     */
+    @Column(name = "finalizing", nullable = false)
+    private boolean finalizing;
+
+    /**
+     * Number of chunk writes in progress; completion waits until it is zero
+     */
+    @Column(name = "active_writes", nullable = false)
+    private int activeWrites;
+
+    @Column(name = "created_at", nullable = false, updatable = false)
+    private LocalDateTime createdAt;
+
+    @Column(name = "expires_at", nullable = false)
+    private LocalDateTime expiresAt;
+}
@@ -0,0 +1,61 @@
+package com.reportmanagement.processing;
+
+import com.reportmanagement.util.ContentSniffer;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.io.InputStream;
+
+/**
+ * Report processor summarising a report by its detected format and size
+ *
+ * Reads the file once in a fixed-size buffer, counting lines of text content.
+ * Selected with reports.processing.processor=basic.
+ *
+ * @author Report Management Team
+ * @version 1.0.0
+ */
+@Component
+@ConditionalOnProperty(name = "reports.processing.processor", havingValue = "basic")
+public class BasicReportProcessor implements ReportProcessor {
+
+    private static final int BUFFER_SIZE = 64 * 1024;
+
+    @Override
+    public String process(ReportDocument document) throws IOException {
+        try (InputStream in = document.open()) {
+            byte[] buffer = new byte[BUFFER_SIZE];
+            int headLength = in.readNBytes(buffer, 0, ContentSniffer.SNIFF_LENGTH);
+            String contentType = ContentSniffer.sniff(buffer, headLength);
+            boolean text = contentType.startsWith("text/");
+
+            long size = headLength;
+            long lines = text ? countLines(buffer, headLength) : 0;
+            int read;
+            while ((read = in.read(buffer)) >= 0) {
+                size += read;
+                if (text) {
+                    lines += countLines(buffer, read);
+                }
+            }
+
+            if (text) {
+                return String.format("%s report \"%s\": text, %,d lines, %,d bytes",
+                        document.getType(), document.getName(), lines, size);
+            }
+            return String.format("%s report \"%s\": %s, %,d bytes",
+                    document.getType(), document.getName(), contentType, size);
+        }
+    }
+
+    private static long countLines(byte[] buffer, int length) {
+        long lines = 0;
+        for (int i = 0; i < length; i++) {
+            if (buffer[i] == '\n') {
+                lines++;
+            }
+        }
+        return lines;
+    }
+}
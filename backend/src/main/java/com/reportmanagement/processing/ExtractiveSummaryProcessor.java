@@ -0,0 +1,163 @@
+package com.reportmanagement.processing;
+
+import com.reportmanagement.util.ContentSniffer;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import java.io.BufferedInputStream;
+import java.io.FilterInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.OutputStream;
+import java.nio.charset.CodingErrorAction;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+
+/**
+ * Default report processor, summarising text and PDF reports by their key sentences
+ *
+ * Text files and simple text PDFs are read once in fixed-size buffers and fed to
+ * a {@link SentenceRanker}, which keeps the best sentences without holding the
+ * whole text, so memory stays bounded for any file size. Delimited text such as
+ * CSV is split into one sentence per row. Other formats, and files with no
+ * usable sentences, are summarised by format and size as by
+ * {@link BasicReportProcessor}.
+ *
+ * @author Report Management Team
+ * @version 1.0.0
+ */
+@Component
+@ConditionalOnProperty(name = "reports.processing.processor", havingValue = "extractive", matchIfMissing = true)
+public class ExtractiveSummaryProcessor implements ReportProcessor {
+
+    private static final int BUFFER_SIZE = 64 * 1024;
+    private static final char[] DELIMITERS = {',', '\t', ';', '|'};
+    private static final int DELIMITED_SAMPLE_LINES = 5;
+
+    @Value("${reports.processing.summary.sentences:3}")
+    private int maxSentences;
+
+    @Value("${reports.processing.summary.max-chars:1000}")
+    private int maxChars;
+
+    @Override
+    public String process(ReportDocument document) throws IOException {
+        try (CountingInputStream counted = new CountingInputStream(document.open());
+             InputStream in = new BufferedInputStream(counted, BUFFER_SIZE)) {
+            in.mark(ContentSniffer.SNIFF_LENGTH);
+            byte[] head = in.readNBytes(ContentSniffer.SNIFF_LENGTH);
+            in.reset();
+            String contentType = ContentSniffer.sniff(head, head.length);
+
+            SentenceRanker ranker;
+            if (contentType.startsWith("text/")) {
+                ranker = new SentenceRanker(isDelimited(head));
+                new InputStreamReader(in, StandardCharsets.UTF_8.newDecoder()
+                        .onMalformedInput(CodingErrorAction.REPLACE)
+                        .onUnmappableCharacter(CodingErrorAction.REPLACE)).transferTo(ranker);
+            } else if (contentType.equals("application/pdf")) {
+                ranker = new SentenceRanker();
+                PdfTextExtractor.extract(in, ranker);
+            } else {
+                in.transferTo(OutputStream.nullOutputStream());
+                return describe(document, contentType, counted.count);
+            }
+            ranker.close();
+
+            String summary = ranker.summarize(maxSentences, maxChars);
+            if (summary.isEmpty()) {
+                in.transferTo(OutputStream.nullOutputStream());
+                return describe(document, contentType, counted.count);
+            }
+            return summary;
+        }
+    }
+
+    private static String describe(ReportDocument document, String contentType, long size) {
+        return String.format("%s report \"%s\": %s, %,d bytes",
+                document.getType(), document.getName(), contentType, size);
+    }
+
+    /**
+     * Treat text as delimited when its first complete lines all hold the same
+     * nonzero number of one delimiter
+     */
+    static boolean isDelimited(byte[] head) {
+        int lines = 0;
+        int[] expected = new int[DELIMITERS.length];
+        int[] counts = new int[DELIMITERS.length];
+        boolean[] consistent = new boolean[DELIMITERS.length];
+        Arrays.fill(consistent, true);
+
+        for (byte b : head) {
+            if (b == '\n') {
+                for (int d = 0; d < DELIMITERS.length; d++) {
+                    if (lines == 0) {
+                        expected[d] = counts[d];
+                    } else if (counts[d] != expected[d]) {
+                        consistent[d] = false;
+                    }
+                    counts[d] = 0;
+                }
+                if (++lines == DELIMITED_SAMPLE_LINES) {
+                    break;
+                }
+                continue;
+            }
+            for (int d = 0; d < DELIMITERS.length; d++) {
+                if (b == DELIMITERS[d]) {
+                    counts[d]++;
+                }
+            }
+        }
+
+        if (lines < 2) {
+            return false;
+        }
+        for (int d = 0; d < DELIMITERS.length; d++) {
+            if (consistent[d] && expected[d] > 0) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Counts the bytes read through it, giving the file size without a second pass
+     */
+    private static final class CountingInputStream extends FilterInputStream {
+
+        private long count;
+
+        CountingInputStream(InputStream in) {
+            super(in);
+        }
+
+        @Override
+        public int read() throws IOException {
+            int b = super.read();
+            if (b >= 0) {
+                count++;
+            }
+            return b;
+        }
+
+        @Override
+        public int read(byte[] buffer, int offset, int length) throws IOException {
+            int read = super.read(buffer, offset, length);
+            if (read > 0) {
+                count += read;
+            }
+            return read;
+        }
+
+        @Override
+        public long skip(long n) throws IOException {
+            long skipped = super.skip(n);
+            count += skipped;
+            return skipped;
+        }
+    }
+}
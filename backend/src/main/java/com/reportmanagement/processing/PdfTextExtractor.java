@@ -0,0 +1,457 @@
+package com.reportmanagement.processing;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.util.zip.DataFormatException;
+import java.util.zip.Inflater;
+
+/**
+ * Streaming text extraction from simple PDFs
+ *
+ * Scans the file once for content streams, inflating FlateDecode streams on the
+ * fly, and writes the strings shown by the text operators (Tj, TJ, ' and ")
+ * between BT and ET. Fonts, images, metadata and streams with other filters are
+ * skipped. Strings are read as single-byte text, which covers PDFs written with
+ * the standard fonts; text in composite (CID) fonts, in form XObjects or in
+ * compressed object streams is not recovered.
+ *
+ * Memory is bounded by two fixed buffers and a small dictionary window, however
+ * large the file or its inflated streams.
+ *
+ * @author Report Management Team
+ * @version 1.0.0
+ */
+final class PdfTextExtractor {
+
+    private static final int BUFFER_SIZE = 64 * 1024;
+    private static final int DICTIONARY_WINDOW = 2048;
+    private static final byte[] STREAM = ascii("stream");
+    private static final byte[] ENDSTREAM = ascii("endstream");
+    private static final String[] SKIPPED_KEYS = {
+            "/Subtype", "/Length1", "/Length2", "/Length3", "/XRef", "/ObjStm"
+    };
+    private static final String[] OTHER_FILTERS = {
+            "/DCTDecode", "/LZWDecode", "/ASCII85Decode", "/ASCIIHexDecode", "/RunLengthDecode",
+            "/CCITTFaxDecode", "/JBIG2Decode", "/JPXDecode", "/Crypt"
+    };
+
+    private final InputStream in;
+    private final ContentParser content;
+    private final byte[] buffer = new byte[BUFFER_SIZE];
+    private final byte[] inflated = new byte[BUFFER_SIZE];
+    private final byte[] window = new byte[DICTIONARY_WINDOW];
+    private int position;
+    private int limit;
+    private int windowLength;
+
+    private PdfTextExtractor(InputStream in, Writer out) {
+        this.in = in;
+        this.content = new ContentParser(out);
+    }
+
+    /**
+     * Write the text of a PDF
+     *
+     * @param in the PDF content, positioned at its start
+     * @param out receives the text
+     * @throws IOException if reading or writing fails
+     */
+    static void extract(InputStream in, Writer out) throws IOException {
+        new PdfTextExtractor(in, out).run();
+    }
+
+    private void run() throws IOException {
+        int b;
+        while ((b = read()) >= 0) {
+            remember(b);
+            if (b == 'm' && endsWith(STREAM) && !endsWith(ENDSTREAM) && startOfStream()) {
+                String dictionary = lastDictionary();
+                windowLength = 0;
+                if (isSkipped(dictionary)) {
+                    skipTo(ENDSTREAM, false);
+                } else if (dictionary.contains("/FlateDecode")) {
+                    inflate();
+                } else if (dictionary.contains("/Filter")) {
+                    skipTo(ENDSTREAM, false);
+                } else {
+                    skipTo(ENDSTREAM, true);
+                }
+                content.endStream();
+            }
+        }
+    }
+
+    /**
+     * Consume the end of line that follows the stream keyword; anything else
+     * means the keyword was part of other data
+     */
+    private boolean startOfStream() throws IOException {
+        int b = read();
+        if (b == '\r') {
+            b = read();
+            if (b != '\n' && b >= 0) {
+                position--;
+            }
+            return true;
+        }
+        if (b == '\n') {
+            return true;
+        }
+        if (b >= 0) {
+            position--;
+        }
+        return false;
+    }
+
+    private void inflate() throws IOException {
+        Inflater inflater = new Inflater();
+        try {
+            while (!inflater.finished()) {
+                if (inflater.needsInput()) {
+                    if (position == limit && !fill()) {
+                        return;
+                    }
+                    inflater.setInput(buffer, position, limit - position);
+                    position = limit;
+                }
+                int length = inflater.inflate(inflated);
+                if (length > 0) {
+                    content.accept(inflated, length);
+                } else if (!inflater.needsInput()) {
+                    // Needs a preset dictionary, which content streams never use
+                    break;
+                }
+            }
+            // Resume scanning right after the compressed data
+            position = limit - inflater.getRemaining();
+        } catch (DataFormatException e) {
+            // The inflater holds the rest of the buffer; scan it for the end of the stream
+            position = limit - inflater.getRemaining();
+            skipTo(ENDSTREAM, false);
+        } finally {
+            inflater.end();
+        }
+    }
+
+    /**
+     * Read up to and including the marker, passing the bytes before it to the
+     * content parser if requested
+     */
+    private void skipTo(byte[] marker, boolean parse) throws IOException {
+        int matched = 0;
+        int b;
+        while ((b = read()) >= 0) {
+            if (b == marker[matched]) {
+                matched++;
+                if (matched == marker.length) {
+                    return;
+                }
+                continue;
+            }
+            if (parse) {
+                for (int i = 0; i < matched; i++) {
+                    content.accept(marker[i]);
+                }
+            }
+            matched = b == marker[0] ? 1 : 0;
+            if (parse && matched == 0) {
+                content.accept(b);
+            }
+        }
+    }
+
+    private int read() throws IOException {
+        if (position == limit && !fill()) {
+            return -1;
+        }
+        return buffer[position++] & 0xFF;
+    }
+
+    private boolean fill() throws IOException {
+        int read = in.read(buffer, 0, buffer.length);
+        if (read <= 0) {
+            return false;
+        }
+        position = 0;
+        limit = read;
+        return true;
+    }
+
+    private void remember(int b) {
+        if (windowLength == window.length) {
+            int keep = window.length / 2;
+            System.arraycopy(window, window.length - keep, window, 0, keep);
+            windowLength = keep;
+        }
+        window[windowLength++] = (byte) b;
+    }
+
+    private boolean endsWith(byte[] suffix) {
+        if (windowLength < suffix.length) {
+            return false;
+        }
+        int start = windowLength - suffix.length;
+        for (int i = 0; i < suffix.length; i++) {
+            if (window[start + i] != suffix[i]) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * The window text since the last object header, holding the stream's dictionary
+     */
+    private String lastDictionary() {
+        String text = new String(window, 0, windowLength, StandardCharsets.ISO_8859_1);
+        int header = text.lastIndexOf(" obj");
+        return header >= 0 ? text.substring(header) : text;
+    }
+
+    private static boolean isSkipped(String dictionary) {
+        for (String key : SKIPPED_KEYS) {
+            if (dictionary.contains(key)) {
+                return true;
+            }
+        }
+        for (String filter : OTHER_FILTERS) {
+            if (dictionary.contains(filter)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private static byte[] ascii(String text) {
+        return text.getBytes(StandardCharsets.US_ASCII);
+    }
+
+    /**
+     * Tokenizer for content stream operators, writing the shown strings
+     */
+    private static final class ContentParser {
+
+        private static final int MAX_TOKEN_LENGTH = 32;
+
+        /**
+         * TJ adjustment, in thousandths of the font size, wide enough to be a word gap
+         */
+        private static final double WORD_GAP = -200;
+
+        private final Writer out;
+        private final StringBuilder token = new StringBuilder(MAX_TOKEN_LENGTH);
+        private boolean inText;
+        private boolean inArray;
+        private boolean comment;
+        private boolean angle;
+        private boolean hexString;
+        private int hexHigh = -1;
+        private int stringDepth;
+        private boolean escape;
+        private int octal;
+        private int octalDigits;
+
+        ContentParser(Writer out) {
+            this.out = out;
+        }
+
+        void accept(byte[] data, int length) throws IOException {
+            for (int i = 0; i < length; i++) {
+                accept(data[i] & 0xFF);
+            }
+        }
+
+        void endStream() throws IOException {
+            endToken();
+            inText = false;
+            inArray = false;
+            comment = false;
+            angle = false;
+            hexString = false;
+            hexHigh = -1;
+            stringDepth = 0;
+            escape = false;
+            octalDigits = 0;
+        }
+
+        void accept(int b) throws IOException {
+            if (stringDepth > 0) {
+                literal(b);
+                return;
+            }
+            if (hexString) {
+                hex(b);
+                return;
+            }
+            if (comment) {
+                comment = b != '\n' && b != '\r';
+                return;
+            }
+            if (angle) {
+                angle = false;
+                if (b != '<') {
+                    // A single < opens a hex string; << opens a dictionary, which holds no text
+                    hexString = true;
+                    hex(b);
+                }
+                return;
+            }
+
+            switch (b) {
+                case '(' -> {
+                    endToken();
+                    stringDepth = 1;
+                }
+                case '<' -> {
+                    endToken();
+                    angle = true;
+                }
+                case '[' -> {
+                    endToken();
+                    inArray = true;
+                }
+                case ']' -> {
+                    endToken();
+                    inArray = false;
+                }
+                case '%' -> {
+                    endToken();
+                    comment = true;
+                }
+                case '>', '{', '}' -> endToken();
+                case '/' -> {
+                    endToken();
+                    token.append('/');
+                }
+                case ' ', '\t', '\n', '\r', '\f', 0 -> endToken();
+                default -> {
+                    if (token.length() < MAX_TOKEN_LENGTH) {
+                        token.append((char) b);
+                    }
+                }
+            }
+        }
+
+        private void endToken() throws IOException {
+            if (token.isEmpty()) {
+                return;
+            }
+            String operator = token.toString();
+            token.setLength(0);
+
+            if (inArray) {
+                if (inText && isNumber(operator) && parseNumber(operator) < WORD_GAP) {
+                    out.write(' ');
+                }
+                return;
+            }
+            switch (operator) {
+                case "BT" -> inText = true;
+                case "ET" -> {
+                    inText = false;
+                    out.write(' ');
+                }
+                case "Td", "TD", "T*", "Tm", "'", "\"" -> {
+                    if (inText) {
+                        out.write(' ');
+                    }
+                }
+                default -> {
+                }
+            }
+        }
+
+        private void literal(int b) throws IOException {
+            if (escape) {
+                if (b >= '0' && b <= '7') {
+                    octal = octal * 8 + (b - '0');
+                    if (++octalDigits == 3) {
+                        escape = false;
+                        octalDigits = 0;
+                        emit(octal & 0xFF);
+                    }
+                    return;
+                }
+                escape = false;
+                if (octalDigits > 0) {
+                    octalDigits = 0;
+                    emit(octal & 0xFF);
+                    literal(b);
+                    return;
+                }
+                switch (b) {
+                    case 'n', 'r', 't', 'f' -> emit(' ');
+                    case '\r', '\n' -> {
+                        // Line continuation
+                    }
+                    default -> emit(b);
+                }
+                return;
+            }
+            switch (b) {
+                case '\\' -> {
+                    escape = true;
+                    octal = 0;
+                    octalDigits = 0;
+                }
+                case '(' -> {
+                    stringDepth++;
+                    emit(b);
+                }
+                case ')' -> {
+                    if (--stringDepth > 0) {
+                        emit(b);
+                    }
+                }
+                default -> emit(b);
+            }
+        }
+
+        private void hex(int b) throws IOException {
+            if (b == '>') {
+                if (hexHigh >= 0) {
+                    emit(hexHigh << 4);
+                }
+                hexString = false;
+                hexHigh = -1;
+                return;
+            }
+            int digit = Character.digit(b, 16);
+            if (digit < 0) {
+                return;
+            }
+            if (hexHigh < 0) {
+                hexHigh = digit;
+            } else {
+                emit((hexHigh << 4) | digit);
+                hexHigh = -1;
+            }
+        }
+
+        private void emit(int c) throws IOException {
+            if (!inText) {
+                return;
+            }
+            if (c == '\n' || c == '\r' || c == '\t') {
+                out.write(' ');
+            } else if (c >= 0x20 && c != 0x7F) {
+                out.write(c);
+            }
+        }
+
+        private static boolean isNumber(String token) {
+            char first = token.charAt(0);
+            return first == '-' || first == '+' || first == '.' || (first >= '0' && first <= '9');
+        }
+
+        private static double parseNumber(String token) {
+            try {
+                return Double.parseDouble(token);
+            } catch (NumberFormatException e) {
+                return 0;
+            }
+        }
+    }
+}
@@ -0,0 +1,52 @@
+package com.reportmanagement.processing;
+
+import lombok.Getter;
+
+import java.io.IOException;
+import java.io.InputStream;
+
+/**
+ * A report handed to a ReportProcessor
+ *
+ * The file is opened on demand and always yields the original upload, decoded if
+ * it is stored compressed.
+ *
+ * @author Report Management Team
+ * @version 1.0.0
+ */
+@Getter
+public class ReportDocument {
+
+    private final Long reportId;
+    private final String name;
+    private final String type;
+
+    @Getter(lombok.AccessLevel.NONE)
+    private final ContentSource content;
+
+    public ReportDocument(Long reportId, String name, String type, ContentSource content) {
+        this.reportId = reportId;
+        this.name = name;
+        this.type = type;
+        this.content = content;
+    }
+
+    /**
+     * Open the report file
+     *
+     * @return a stream of the original content, to be closed by the caller
+     * @throws IOException if the file cannot be opened
+     */
+    public InputStream open() throws IOException {
+        return content.open();
+    }
+
+    /**
+     * Opens a report's content
+     */
+    @FunctionalInterface
+    public interface ContentSource {
+
+        InputStream open() throws IOException;
+    }
+}
@@ -0,0 +1,25 @@
+package com.reportmanagement.processing;
+
+import java.io.IOException;
+
+/**
+ * Produces the summary of a report for the processing engine
+ *
+ * Implementations are called from the engine's worker threads with no
+ * transaction or database connection held, and must be thread-safe. A thrown
+ * exception leaves the report unprocessed.
+ *
+ * @author Report Management Team
+ * @version 1.0.0
+ */
+public interface ReportProcessor {
+
+    /**
+     * Process a report
+     *
+     * @param document the report and its file
+     * @return the summary to store on the report
+     * @throws IOException if the report file cannot be read
+     */
+    String process(ReportDocument document) throws IOException;
+}
@@ -0,0 +1,354 @@
+package com.reportmanagement.processing;
+
+import java.io.Writer;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.PriorityQueue;
+import java.util.Set;
+
+/**
+ * Streaming extractive summariser
+ *
+ * Text written to the ranker is split into sentences and words in a single pass,
+ * without ever holding the whole text. Word frequencies are kept in a table
+ * bounded by lossy counting: when it outgrows its limit, the less frequent half
+ * is dropped. Each finished sentence is scored by the mean relative frequency
+ * of its words at that point, and only the best-scoring sentences are kept in a
+ * bounded pool, together with the first sentence. {@link #summarize} scores the
+ * pool again with the final frequencies and returns the best sentences in
+ * document order.
+ *
+ * Memory is bounded by the frequency table, the pool and the maximum sentence
+ * length, whatever the length of the text. Not thread-safe.
+ *
+ * @author Report Management Team
+ * @version 1.0.0
+ */
+public class SentenceRanker extends Writer {
+
+    private static final int MAX_SENTENCE_CHARS = 400;
+    private static final int MAX_WORD_CHARS = 40;
+    private static final int MAX_SENTENCE_TERMS = 64;
+    private static final int MIN_SENTENCE_TERMS = 3;
+    private static final int MIN_TERM_LENGTH = 3;
+    private static final int DEFAULT_MAX_TERMS = 20_000;
+    private static final int DEFAULT_POOL_SIZE = 200;
+
+    private static final Set<String> STOP_WORDS = Set.of(
+            "the", "and", "for", "are", "but", "not", "you", "all", "any", "can", "had", "her", "was",
+            "one", "our", "out", "has", "have", "him", "his", "how", "its", "may", "now", "see", "who",
+            "did", "get", "let", "put", "say", "she", "too", "use", "that", "with", "this", "from",
+            "they", "will", "would", "there", "their", "what", "about", "which", "when", "were", "been",
+            "into", "than", "then", "them", "these", "those", "some", "such", "only", "also", "other",
+            "more", "most", "very", "over", "after", "before", "each", "upon", "your", "shall", "should",
+            "could", "where", "while", "being", "because", "between", "both", "does", "here", "just",
+            "like", "made", "make", "many", "much", "must", "same", "well", "within", "without"
+    );
+
+    private final boolean lineMode;
+    private final int maxTerms;
+    private final int poolSize;
+    private final Map<String, Count> counts = new HashMap<>();
+    private final PriorityQueue<Candidate> pool =
+            new PriorityQueue<>(Comparator.comparingDouble(Candidate::provisionalScore));
+    private final StringBuilder sentence = new StringBuilder(MAX_SENTENCE_CHARS);
+    private final StringBuilder word = new StringBuilder(MAX_WORD_CHARS);
+    private final Set<String> sentenceTerms = new HashSet<>();
+    private Candidate lead;
+    private long totalTerms;
+    private long sentenceIndex;
+    private boolean truncated;
+    private boolean wordHasLetter;
+    private boolean pendingEnd;
+    private boolean lastWasNewline;
+
+    /**
+     * Create a ranker for prose, where sentences end at terminal punctuation or
+     * a blank line
+     */
+    public SentenceRanker() {
+        this(false);
+    }
+
+    /**
+     * Create a ranker
+     *
+     * @param lineMode true if every line is a sentence, as for delimited data
+     */
+    public SentenceRanker(boolean lineMode) {
+        this(lineMode, DEFAULT_MAX_TERMS, DEFAULT_POOL_SIZE);
+    }
+
+    SentenceRanker(boolean lineMode, int maxTerms, int poolSize) {
+        this.lineMode = lineMode;
+        this.maxTerms = maxTerms;
+        this.poolSize = poolSize;
+    }
+
+    @Override
+    public void write(char[] buffer, int offset, int length) {
+        for (int i = offset; i < offset + length; i++) {
+            accept(buffer[i]);
+        }
+    }
+
+    @Override
+    public void write(int c) {
+        accept((char) c);
+    }
+
+    @Override
+    public void flush() {
+    }
+
+    /**
+     * Finish the last sentence
+     */
+    @Override
+    public void close() {
+        endSentence();
+    }
+
+    /**
+     * Pick the best sentences of the text written so far
+     *
+     * The first sentence is always included, as it usually names the report.
+     *
+     * @param maxSentences the maximum number of sentences
+     * @param maxChars the maximum length of the summary
+     * @return the sentences in document order separated by spaces, empty if none qualified
+     */
+    public String summarize(int maxSentences, int maxChars) {
+        endSentence();
+
+        List<Candidate> ranked = new ArrayList<>(pool);
+        ranked.sort(Comparator.comparingDouble((Candidate candidate) -> score(candidate)).reversed());
+        List<Candidate> chosen = new ArrayList<>(maxSentences);
+        if (lead != null && maxSentences > 0) {
+            chosen.add(lead);
+        }
+        for (Candidate candidate : ranked) {
+            if (chosen.size() >= maxSentences) {
+                break;
+            }
+            chosen.add(candidate);
+        }
+        chosen.sort(Comparator.comparingLong(Candidate::index));
+
+        StringBuilder summary = new StringBuilder();
+        for (Candidate candidate : chosen) {
+            int separator = summary.isEmpty() ? 0 : 1;
+            if (summary.length() + separator + candidate.text().length() > maxChars) {
+                if (summary.isEmpty()) {
+                    summary.append(candidate.text(), 0, Math.max(0, maxChars - 1)).append('\u2026');
+                }
+                break;
+            }
+            if (separator > 0) {
+                summary.append(' ');
+            }
+            summary.append(candidate.text());
+        }
+        return summary.toString();
+    }
+
+    /**
+     * Number of terms in the frequency table
+     */
+    int trackedTerms() {
+        return counts.size();
+    }
+
+    private void accept(char c) {
+        if (Character.isLetterOrDigit(c)) {
+            pendingEnd = false;
+            lastWasNewline = false;
+            if (word.length() < MAX_WORD_CHARS) {
+                word.append(Character.toLowerCase(c));
+            }
+            wordHasLetter |= Character.isLetter(c);
+            appendText(c);
+            return;
+        }
+
+        endWord();
+        if (c == '\r') {
+            return;
+        }
+        if (c == '\n') {
+            if (lineMode || lastWasNewline || pendingEnd) {
+                endSentence();
+            } else {
+                appendSpace();
+            }
+            lastWasNewline = true;
+            return;
+        }
+        if (Character.isWhitespace(c) || Character.isSpaceChar(c)) {
+            if (pendingEnd) {
+                endSentence();
+            } else {
+                appendSpace();
+            }
+            return;
+        }
+
+        lastWasNewline = false;
+        if (Character.isISOControl(c)) {
+            return;
+        }
+        if (c == '.' || c == '!' || c == '?') {
+            // Only a sentence end if followed by whitespace, so "3.5" and "e.g." stay whole
+            pendingEnd = true;
+        } else if (c != '"' && c != '\'' && c != ')' && c != '\u201D' && c != '\u2019') {
+            pendingEnd = false;
+        }
+        appendText(c);
+    }
+
+    private void appendText(char c) {
+        if (sentence.length() < MAX_SENTENCE_CHARS) {
+            sentence.append(c);
+        } else {
+            truncated = true;
+        }
+    }
+
+    private void appendSpace() {
+        if (!sentence.isEmpty() && sentence.charAt(sentence.length() - 1) != ' ') {
+            appendText(' ');
+        }
+    }
+
+    private void endWord() {
+        if (word.isEmpty()) {
+            return;
+        }
+        boolean hasLetter = wordHasLetter;
+        wordHasLetter = false;
+        if (!hasLetter || word.length() < MIN_TERM_LENGTH) {
+            word.setLength(0);
+            return;
+        }
+        String term = word.toString();
+        word.setLength(0);
+        if (STOP_WORDS.contains(term)) {
+            return;
+        }
+
+        counts.computeIfAbsent(term, key -> new Count()).value++;
+        totalTerms++;
+        if (counts.size() > maxTerms) {
+            prune();
+        }
+        if (sentenceTerms.size() < MAX_SENTENCE_TERMS) {
+            sentenceTerms.add(term);
+        }
+    }
+
+    private void endSentence() {
+        endWord();
+        pendingEnd = false;
+        if (sentenceTerms.size() >= MIN_SENTENCE_TERMS) {
+            double score = score(sentenceTerms);
+            // Only sentences that enter the pool are copied out of the buffers
+            if (lead == null || pool.size() < poolSize || score > pool.peek().provisionalScore()) {
+                String text = sentence.toString().strip();
+                Candidate candidate = new Candidate(sentenceIndex, truncated ? text + "\u2026" : text,
+                        sentenceTerms.toArray(String[]::new), score);
+                if (lead == null) {
+                    lead = candidate;
+                } else {
+                    if (pool.size() >= poolSize) {
+                        pool.poll();
+                    }
+                    pool.add(candidate);
+                }
+            }
+        }
+        if (!sentence.isEmpty()) {
+            sentenceIndex++;
+        }
+        sentence.setLength(0);
+        sentenceTerms.clear();
+        truncated = false;
+    }
+
+    private double score(Candidate candidate) {
+        return score(Arrays.asList(candidate.terms()));
+    }
+
+    /**
+     * Mean relative frequency of the sentence's words
+     */
+    private double score(Collection<String> terms) {
+        if (totalTerms == 0 || terms.isEmpty()) {
+            return 0;
+        }
+        long sum = 0;
+        for (String term : terms) {
+            Count count = counts.get(term);
+            if (count != null) {
+                sum += count.value;
+            }
+        }
+        return (double) sum / terms.size() / totalTerms;
+    }
+
+    /**
+     * Drop the less frequent half of the frequency table
+     *
+     * Terms tied at the cut are kept until half the limit is reached, so a table
+     * of equal counts, as early in a long text, is halved rather than emptied.
+     */
+    private void prune() {
+        long[] values = new long[counts.size()];
+        int i = 0;
+        for (Count count : counts.values()) {
+            values[i++] = count.value;
+        }
+        Arrays.sort(values);
+        int keep = maxTerms / 2;
+        long threshold = values[values.length - keep];
+        int above = values.length - upperBound(values, threshold);
+        int tiesKept = keep - above;
+        Iterator<Count> iterator = counts.values().iterator();
+        while (iterator.hasNext()) {
+            long value = iterator.next().value;
+            if (value < threshold || (value == threshold && tiesKept-- <= 0)) {
+                iterator.remove();
+            }
+        }
+    }
+
+    /**
+     * Index of the first value greater than the key in a sorted array
+     */
+    private static int upperBound(long[] values, long key) {
+        int low = 0;
+        int high = values.length;
+        while (low < high) {
+            int mid = (low + high) >>> 1;
+            if (values[mid] <= key) {
+                low = mid + 1;
+            } else {
+                high = mid;
+            }
+        }
+        return low;
+    }
+
+    private static final class Count {
+        private long value;
+    }
+
+    private record Candidate(long index, String text, String[] terms, double provisionalScore) {
+    }
+}
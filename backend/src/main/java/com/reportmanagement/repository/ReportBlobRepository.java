@@ -0,0 +1,181 @@
+package com.reportmanagement.repository;
+
+import com.reportmanagement.model.FileCodec;
+import com.reportmanagement.model.ReportBlob;
+import jakarta.persistence.LockModeType;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * Repository interface for ReportBlob entity
+ *
+ * Every statement locks the blob row until the transaction ends, which serialises
+ * the writers and the unlink of a blob's file.
+ *
+ * @author Report Management Team
+ * @version 1.0.0
+ */
+@Repository
+public interface ReportBlobRepository extends JpaRepository<ReportBlob, String> {
+
+    /**
+     * Add a reference to a blob, creating its row if needed
+     *
+     * @param sha256 hex SHA-256 of the content
+     * @param sizeBytes content size in bytes
+     */
+    @Modifying
+    @Query(value = "INSERT INTO report_blobs (sha256, size_bytes, ref_count) " +
+                   "VALUES (:sha256, :sizeBytes, 1) " +
+                   "ON CONFLICT (sha256) DO UPDATE SET ref_count = report_blobs.ref_count + 1",
+           nativeQuery = true)
+    void addReference(@Param("sha256") String sha256, @Param("sizeBytes") long sizeBytes);
+
+    /**
+     * Lock a blob's row, creating it without references if it does not exist
+     *
+     * Unlike a locking select, the insert also waits for a concurrent transaction
+     * that is still inserting the same blob.
+     *
+     * @param sha256 hex SHA-256 of the content
+     * @param sizeBytes content size in bytes
+     */
+    @Modifying
+    @Query(value = "INSERT INTO report_blobs (sha256, size_bytes, ref_count) " +
+                   "VALUES (:sha256, :sizeBytes, 0) " +
+                   "ON CONFLICT (sha256) DO UPDATE SET ref_count = report_blobs.ref_count",
+           nativeQuery = true)
+    void lockOrCreate(@Param("sha256") String sha256, @Param("sizeBytes") long sizeBytes);
+
+    /**
+     * Drop a reference to a blob
+     *
+     * @param sha256 hex SHA-256 of the content
+     * @return number of rows updated
+     */
+    @Modifying
+    @Query(value = "UPDATE report_blobs SET ref_count = ref_count - 1 WHERE sha256 = :sha256",
+           nativeQuery = true)
+    int removeReference(@Param("sha256") String sha256);
+
+    /**
+     * Delete a blob row once no report references it
+     *
+     * @param sha256 hex SHA-256 of the content
+     * @return 1 if the row was deleted, 0 if it is still referenced
+     */
+    @Modifying
+    @Query(value = "DELETE FROM report_blobs WHERE sha256 = :sha256 AND ref_count = 0",
+           nativeQuery = true)
+    int deleteIfUnreferenced(@Param("sha256") String sha256);
+
+    /**
+     * Find the storage key of a blob
+     *
+     * @param sha256 hex SHA-256 of the content
+     * @return the storage key, or null if the blob is missing or still in the legacy directory
+     */
+    @Query(value = "SELECT storage_key FROM report_blobs WHERE sha256 = :sha256", nativeQuery = true)
+    String findStorageKey(@Param("sha256") String sha256);
+
+    /**
+     * Find the codec of a blob's file
+     *
+     * @param sha256 hex SHA-256 of the content
+     * @return the codec, or null if the file is stored as uploaded
+     */
+    @Query("SELECT b.codec FROM ReportBlob b WHERE b.sha256 = :sha256")
+    FileCodec findCodec(@Param("sha256") String sha256);
+
+    /**
+     * Set the storage key and codec of a blob
+     *
+     * @param sha256 hex SHA-256 of the content
+     * @param storageKey the storage key
+     * @param codec the codec of the stored file, or null if stored as uploaded
+     */
+    @Modifying
+    @Query("UPDATE ReportBlob b SET b.storageKey = :storageKey, b.codec = :codec WHERE b.sha256 = :sha256")
+    void updateStorageKey(
+            @Param("sha256") String sha256,
+            @Param("storageKey") String storageKey,
+            @Param("codec") FileCodec codec
+    );
+
+    /**
+     * Find a blob and lock its row until the transaction ends
+     *
+     * @param sha256 hex SHA-256 of the content
+     * @return Optional containing the blob if found
+     */
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("SELECT b FROM ReportBlob b WHERE b.sha256 = :sha256")
+    Optional<ReportBlob> findForUpdate(@Param("sha256") String sha256);
+
+    /**
+     * Find blobs still stored in the legacy flat directory
+     *
+     * @param afterSha256 hash to continue after, empty to start from the beginning
+     * @param limit maximum number of hashes to return
+     * @return hashes in ascending order
+     */
+    @Query(value = "SELECT sha256 FROM report_blobs " +
+                   "WHERE storage_key IS NULL AND sha256 > :afterSha256 " +
+                   "ORDER BY sha256 LIMIT :limit",
+           nativeQuery = true)
+    List<String> findLegacyBlobs(@Param("afterSha256") String afterSha256, @Param("limit") int limit);
+
+    /**
+     * Find storage keys in a key range, ordered bytewise for merging with a directory walk
+     *
+     * @param after key to continue after (exclusive)
+     * @param before upper bound of the range (exclusive)
+     * @param limit maximum number of keys to return
+     * @return keys in ascending bytewise order
+     */
+    @Query(value = "SELECT storage_key FROM report_blobs " +
+                   "WHERE storage_key COLLATE \"C\" > :after AND storage_key COLLATE \"C\" < :before " +
+                   "ORDER BY storage_key COLLATE \"C\" LIMIT :limit",
+           nativeQuery = true)
+    List<String> findStorageKeysBetween(
+            @Param("after") String after,
+            @Param("before") String before,
+            @Param("limit") int limit
+    );
+
+    /**
+     * Check whether a blob is stored under a key
+     *
+     * @param storageKey the storage key
+     * @return true if a blob row references the key
+     */
+    boolean existsByStorageKey(String storageKey);
+
+    /**
+     * Find the hashes of blobs still in the legacy flat directory, in bytewise order
+     *
+     * @param after hash to continue after
+     * @param limit maximum number of hashes to return
+     * @return hashes in ascending bytewise order
+     */
+    @Query(value = "SELECT sha256 FROM report_blobs " +
+                   "WHERE storage_key IS NULL AND sha256 COLLATE \"C\" > :after " +
+                   "ORDER BY sha256 COLLATE \"C\" LIMIT :limit",
+           nativeQuery = true)
+    List<String> findLegacyHashesAfter(@Param("after") String after, @Param("limit") int limit);
+
+    /**
+     * Check whether a blob is still in the legacy flat directory
+     *
+     * @param sha256 hex SHA-256 of the content
+     * @return true if the blob exists and has no storage key
+     */
+    boolean existsBySha256AndStorageKeyIsNull(String sha256);
+}
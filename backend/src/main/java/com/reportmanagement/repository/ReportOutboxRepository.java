@@ -0,0 +1,81 @@
+package com.reportmanagement.repository;
+
+import com.reportmanagement.event.ReportOutboxMessage;
+import com.reportmanagement.model.ReportOutboxEvent;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * Repository interface for the report event outbox
+ *
+ * @author Report Management Team
+ * @version 1.0.0
+ */
+@Repository
+public interface ReportOutboxRepository extends JpaRepository<ReportOutboxEvent, Long> {
+
+    /**
+     * Lock the oldest pending events, skipping rows already locked by another
+     * dispatcher so concurrent dispatchers never wait on each other
+     *
+     * @param limit the maximum number of events to lock
+     * @return the locked event IDs in ascending order
+     */
+    @Query(value = "SELECT id FROM report_outbox WHERE dispatched_at IS NULL " +
+                   "ORDER BY id LIMIT :limit FOR UPDATE SKIP LOCKED",
+           nativeQuery = true)
+    List<Long> lockPendingIds(@Param("limit") int limit);
+
+    /**
+     * Load events for delivery
+     *
+     * @param ids the event IDs
+     * @return messages ordered by event ID
+     */
+    @Query("SELECT new com.reportmanagement.event.ReportOutboxMessage(" +
+           "e.id, e.type, e.reportId, e.userId, e.previousStatus, e.status, e.occurredAt) " +
+           "FROM ReportOutboxEvent e WHERE e.id IN :ids ORDER BY e.id")
+    List<ReportOutboxMessage> findMessages(@Param("ids") List<Long> ids);
+
+    /**
+     * Delete delivered events
+     *
+     * @param ids the event IDs
+     * @return number of events deleted
+     */
+    @Modifying
+    @Query("DELETE FROM ReportOutboxEvent e WHERE e.id IN :ids")
+    int deleteByIds(@Param("ids") List<Long> ids);
+
+    /**
+     * Mark delivered events, keeping them until compaction
+     *
+     * @param ids the event IDs
+     * @param now the delivery timestamp
+     * @return number of events marked
+     */
+    @Modifying
+    @Query("UPDATE ReportOutboxEvent e SET e.dispatchedAt = :now WHERE e.id IN :ids")
+    int markDispatched(@Param("ids") List<Long> ids, @Param("now") LocalDateTime now);
+
+    /**
+     * Delete a batch of events delivered before a cutoff
+     *
+     * @param cutoff events delivered before this are deleted
+     * @param limit the maximum number of events to delete
+     * @return number of events deleted
+     */
+    @Transactional
+    @Modifying
+    @Query(value = "DELETE FROM report_outbox WHERE id IN (" +
+                   "SELECT id FROM report_outbox WHERE dispatched_at < :cutoff ORDER BY id LIMIT :limit)",
+           nativeQuery = true)
+    int deleteDispatchedBefore(@Param("cutoff") LocalDateTime cutoff, @Param("limit") int limit);
+}
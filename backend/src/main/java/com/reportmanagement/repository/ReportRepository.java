@@ -1,15 +1,35 @@
 package com.reportmanagement.repository;
 
+import com.reportmanagement.dto.ReportChangeKey;
+import com.reportmanagement.dto.ReportFileLocation;
+import com.reportmanagement.dto.ReportSearchHit;
+import com.reportmanagement.dto.ReportState;
+import com.reportmanagement.dto.ReportVersion;
+import com.reportmanagement.dto.ReportView;
+import com.reportmanagement.dto.ReportWorkItem;
+import com.reportmanagement.dto.StuckReport;
+import com.reportmanagement.model.FileCodec;
 import com.reportmanagement.model.Report;
 import com.reportmanagement.model.ReportStatus;
+import jakarta.persistence.LockModeType;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
 
+import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
+import java.util.Optional;
+import java.util.stream.Stream;
 
 /**
  * Repository interface for Report entity
@@ -20,7 +40,27 @@ import java.util.List;
  * @version 1.0.0
  */
 @Repository
-public interface ReportRepository extends JpaRepository<Report, Long> {
+public interface ReportRepository extends JpaRepository<Report, Long>, ReportSearchRepository,
+        ReportTransitionRepository {
+
+    /**
+     * Projection of the columns shown in report lists (summary excluded)
+     */
+    String LIST_VIEW_SELECT = "SELECT new com.reportmanagement.dto.ReportView(" +
+            "r.id, r.user.id, r.name, r.type, COALESCE(r.storageKey, r.filePath), r.status, " +
+            "r.reportDate, r.createdAt, r.updatedAt) FROM Report r ";
+
+    /**
+     * Projection of all columns shown in the report detail view
+     */
+    String DETAIL_VIEW_SELECT = "SELECT new com.reportmanagement.dto.ReportView(" +
+            "r.id, r.user.id, r.name, r.type, COALESCE(r.storageKey, r.filePath), r.status, r.summary, " +
+            "r.reportDate, r.createdAt, r.updatedAt) FROM Report r ";
+
+    /**
+     * Rows fetched per round trip when streaming reports
+     */
+    String EXPORT_FETCH_SIZE = "500";
 
     /**
      * Find all reports for a specific user, ordered by creation date descending
@@ -30,6 +70,285 @@ public interface ReportRepository extends JpaRepository<Report, Long> {
      */
     List<Report> findByUserIdOrderByCreatedAtDesc(Long userId);
 
+    /**
+     * Find all reports as list views, ordered by creation date descending
+     *
+     * @return list of report views ordered by createdAt DESC, id DESC
+     */
+    @Query(LIST_VIEW_SELECT + "ORDER BY r.createdAt DESC, r.id DESC")
+    List<ReportView> findAllViews();
+
+    /**
+     * Find a user's reports as list views, ordered by creation date descending
+     *
+     * @param userId the ID of the user
+     * @return list of report views ordered by createdAt DESC, id DESC
+     */
+    @Query(LIST_VIEW_SELECT + "WHERE r.user.id = :userId ORDER BY r.createdAt DESC, r.id DESC")
+    List<ReportView> findViewsByUserId(@Param("userId") Long userId);
+
+    /**
+     * Find all reports as detail views, including the summary
+     *
+     * @return list of report views ordered by createdAt DESC, id DESC
+     */
+    @Query(DETAIL_VIEW_SELECT + "ORDER BY r.createdAt DESC, r.id DESC")
+    List<ReportView> findAllDetailViews();
+
+    /**
+     * Find a user's reports as detail views, including the summary
+     *
+     * @param userId the ID of the user
+     * @return list of report views ordered by createdAt DESC, id DESC
+     */
+    @Query(DETAIL_VIEW_SELECT + "WHERE r.user.id = :userId ORDER BY r.createdAt DESC, r.id DESC")
+    List<ReportView> findDetailViewsByUserId(@Param("userId") Long userId);
+
+    /**
+     * Find the first keyset page of all reports
+     *
+     * @param pageable page size (the page number is always 0)
+     * @return report views ordered by createdAt DESC, id DESC
+     */
+    @Query(LIST_VIEW_SELECT + "ORDER BY r.createdAt DESC, r.id DESC")
+    List<ReportView> findKeysetFirstPage(Pageable pageable);
+
+    /**
+     * Find the keyset page of all reports that follows the given sort key
+     *
+     * The redundant {@code createdAt <= :createdAt} bound lets PostgreSQL range-scan
+     * idx_reports_created_at instead of evaluating the OR for every row.
+     *
+     * @param createdAt creation timestamp of the last row of the previous page
+     * @param id ID of the last row of the previous page
+     * @param pageable page size (the page number is always 0)
+     * @return report views ordered by createdAt DESC, id DESC
+     */
+    @Query(LIST_VIEW_SELECT +
+           "WHERE r.createdAt <= :createdAt AND (r.createdAt < :createdAt OR r.id < :id) " +
+           "ORDER BY r.createdAt DESC, r.id DESC")
+    List<ReportView> findKeysetPageAfter(
+            @Param("createdAt") LocalDateTime createdAt,
+            @Param("id") Long id,
+            Pageable pageable
+    );
+
+    /**
+     * Find the first keyset page of a user's reports
+     *
+     * @param userId the ID of the user
+     * @param pageable page size (the page number is always 0)
+     * @return report views ordered by createdAt DESC, id DESC
+     */
+    @Query(LIST_VIEW_SELECT + "WHERE r.user.id = :userId ORDER BY r.createdAt DESC, r.id DESC")
+    List<ReportView> findKeysetFirstPageByUserId(@Param("userId") Long userId, Pageable pageable);
+
+    /**
+     * Find the keyset page of a user's reports that follows the given sort key
+     *
+     * @param userId the ID of the user
+     * @param createdAt creation timestamp of the last row of the previous page
+     * @param id ID of the last row of the previous page
+     * @param pageable page size (the page number is always 0)
+     * @return report views ordered by createdAt DESC, id DESC
+     */
+    @Query(LIST_VIEW_SELECT +
+           "WHERE r.user.id = :userId " +
+           "AND r.createdAt <= :createdAt AND (r.createdAt < :createdAt OR r.id < :id) " +
+           "ORDER BY r.createdAt DESC, r.id DESC")
+    List<ReportView> findKeysetPageAfterByUserId(
+            @Param("userId") Long userId,
+            @Param("createdAt") LocalDateTime createdAt,
+            @Param("id") Long id,
+            Pageable pageable
+    );
+
+    /**
+     * Find the change horizon: the ID of the oldest transaction still in flight
+     *
+     * Every transaction with a lower ID has committed or rolled back, so the set of
+     * rows whose change_xid lies below the horizon can no longer grow.
+     *
+     * @return the lowest transaction ID not yet finished
+     */
+    @Query(value = "SELECT CAST(CAST(pg_snapshot_xmin(pg_current_snapshot()) AS text) AS bigint)", nativeQuery = true)
+    long findChangeHorizon();
+
+    /**
+     * Find reports changed after the given key and before the change horizon
+     *
+     * @param changeXid transaction ID of the cursor
+     * @param id report ID of the cursor
+     * @param horizon exclusive upper bound on changeXid
+     * @param pageable page size (the page number is always 0)
+     * @return change keys ordered by changeXid, id
+     */
+    @Query("SELECT new com.reportmanagement.dto.ReportChangeKey(r.id, r.changeXid, r.createdXid) FROM Report r " +
+           "WHERE r.changeXid >= :changeXid AND (r.changeXid > :changeXid OR r.id > :id) " +
+           "AND r.changeXid < :horizon " +
+           "ORDER BY r.changeXid, r.id")
+    List<ReportChangeKey> findChangesAfter(
+            @Param("changeXid") Long changeXid,
+            @Param("id") Long id,
+            @Param("horizon") Long horizon,
+            Pageable pageable
+    );
+
+    /**
+     * Find a user's reports changed after the given key and before the change horizon
+     *
+     * @param userId the ID of the user
+     * @param changeXid transaction ID of the cursor
+     * @param id report ID of the cursor
+     * @param horizon exclusive upper bound on changeXid
+     * @param pageable page size (the page number is always 0)
+     * @return change keys ordered by changeXid, id
+     */
+    @Query("SELECT new com.reportmanagement.dto.ReportChangeKey(r.id, r.changeXid, r.createdXid) FROM Report r " +
+           "WHERE r.user.id = :userId " +
+           "AND r.changeXid >= :changeXid AND (r.changeXid > :changeXid OR r.id > :id) " +
+           "AND r.changeXid < :horizon " +
+           "ORDER BY r.changeXid, r.id")
+    List<ReportChangeKey> findChangesAfterByUserId(
+            @Param("userId") Long userId,
+            @Param("changeXid") Long changeXid,
+            @Param("id") Long id,
+            @Param("horizon") Long horizon,
+            Pageable pageable
+    );
+
+    /**
+     * Find a single report as a detail view, including the summary
+     *
+     * @param id the report ID
+     * @return Optional containing the report view if found
+     */
+    @Query(DETAIL_VIEW_SELECT + "WHERE r.id = :id")
+    Optional<ReportView> findViewById(@Param("id") Long id);
+
+    /**
+     * Find the owner, status and update time of a single report
+     *
+     * @param id the report ID
+     * @return Optional containing the report version if found
+     */
+    @Query("SELECT new com.reportmanagement.dto.ReportVersion(r.id, r.user.id, r.status, r.updatedAt) " +
+           "FROM Report r WHERE r.id = :id")
+    Optional<ReportVersion> findVersionById(@Param("id") Long id);
+
+    /**
+     * Find where the file of a single report is stored
+     *
+     * @param id the report ID
+     * @return Optional containing the file location if found
+     */
+    @Query("SELECT new com.reportmanagement.dto.ReportFileLocation(" +
+           "r.id, r.user.id, r.storageKey, r.filePath, r.createdAt, r.codec, b.sizeBytes) " +
+           "FROM Report r LEFT JOIN ReportBlob b ON b.sha256 = r.blobSha256 WHERE r.id = :id")
+    Optional<ReportFileLocation> findFileLocationById(@Param("id") Long id);
+
+    /**
+     * Find the owners of the reports of a blob
+     *
+     * @param sha256 hex SHA-256 of the blob
+     * @return the distinct user IDs
+     */
+    @Query("SELECT DISTINCT r.user.id FROM Report r WHERE r.blobSha256 = :sha256")
+    List<Long> findUserIdsByBlobSha256(@Param("sha256") String sha256);
+
+    /**
+     * Find detail views, including the summary, for the given report IDs
+     *
+     * Used to attach summaries to a keyset page only when the caller asks for them.
+     *
+     * @param ids the report IDs
+     * @return report views in no particular order
+     */
+    @Query(DETAIL_VIEW_SELECT + "WHERE r.id IN :ids")
+    List<ReportView> findViewsByIdIn(@Param("ids") Collection<Long> ids);
+
+    /**
+     * Find list views for the given report IDs, without the summary
+     *
+     * @param ids the report IDs
+     * @return report views in no particular order
+     */
+    @Query(LIST_VIEW_SELECT + "WHERE r.id IN :ids")
+    List<ReportView> findListViewsByIdIn(@Param("ids") Collection<Long> ids);
+
+    /**
+     * Full-text search over name and summary of all reports, ranked by relevance
+     *
+     * Matches come from idx_reports_search_vector; pass {@code RankCursor.START}
+     * values for the first page.
+     *
+     * @param query the search terms, in websearch_to_tsquery syntax
+     * @param afterRank rank of the last hit of the previous page
+     * @param afterId ID of the last hit of the previous page
+     * @param limit the maximum number of hits to return
+     * @return hits ordered by rank DESC, id DESC
+     */
+    @Query(value = "SELECT id, rank FROM (" +
+                   "SELECT r.id AS id, ts_rank(r.search_vector, q.query) AS rank " +
+                   "FROM reports r, websearch_to_tsquery('english', :query) AS q(query) " +
+                   "WHERE r.search_vector @@ q.query) hits " +
+                   "WHERE rank < :afterRank OR (rank = :afterRank AND id < :afterId) " +
+                   "ORDER BY rank DESC, id DESC LIMIT :limit",
+           nativeQuery = true)
+    List<ReportSearchHit> searchFullText(
+            @Param("query") String query,
+            @Param("afterRank") float afterRank,
+            @Param("afterId") long afterId,
+            @Param("limit") int limit
+    );
+
+    /**
+     * Full-text search over name and summary of a user's reports, ranked by relevance
+     *
+     * @param userId the ID of the user
+     * @param query the search terms, in websearch_to_tsquery syntax
+     * @param afterRank rank of the last hit of the previous page
+     * @param afterId ID of the last hit of the previous page
+     * @param limit the maximum number of hits to return
+     * @return hits ordered by rank DESC, id DESC
+     */
+    @Query(value = "SELECT id, rank FROM (" +
+                   "SELECT r.id AS id, ts_rank(r.search_vector, q.query) AS rank " +
+                   "FROM reports r, websearch_to_tsquery('english', :query) AS q(query) " +
+                   "WHERE r.search_vector @@ q.query AND r.user_id = :userId) hits " +
+                   "WHERE rank < :afterRank OR (rank = :afterRank AND id < :afterId) " +
+                   "ORDER BY rank DESC, id DESC LIMIT :limit",
+           nativeQuery = true)
+    List<ReportSearchHit> searchFullTextByUserId(
+            @Param("userId") Long userId,
+            @Param("query") String query,
+            @Param("afterRank") float afterRank,
+            @Param("afterId") long afterId,
+            @Param("limit") int limit
+    );
+
+    /**
+     * Stream all reports as list views through a server-side cursor
+     *
+     * Must be consumed inside a transaction, otherwise the PostgreSQL driver ignores
+     * the fetch size and buffers the whole result set.
+     *
+     * @return stream of report views ordered by id; the caller must close it
+     */
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = EXPORT_FETCH_SIZE))
+    @Query(LIST_VIEW_SELECT + "ORDER BY r.id")
+    Stream<ReportView> streamAllViews();
+
+    /**
+     * Stream a user's reports as list views through a server-side cursor
+     *
+     * @param userId the ID of the user
+     * @return stream of report views ordered by id; the caller must close it
+     */
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = EXPORT_FETCH_SIZE))
+    @Query(LIST_VIEW_SELECT + "WHERE r.user.id = :userId ORDER BY r.id")
+    Stream<ReportView> streamViewsByUserId(@Param("userId") Long userId);
+
     /**
      * Find reports for a specific user with pagination
      *
@@ -66,4 +385,357 @@ public interface ReportRepository extends JpaRepository<Report, Long> {
      * @return count of reports with the specified status
      */
     long countByUserIdAndStatus(Long userId, ReportStatus status);
+
+    /**
+     * Find the ID and status of every report of a user
+     *
+     * @param userId the ID of the user
+     * @return report states ordered by ID
+     */
+    @Query("SELECT new com.reportmanagement.dto.ReportState(r.id, r.status) " +
+           "FROM Report r WHERE r.user.id = :userId ORDER BY r.id")
+    List<ReportState> findStatesByUserId(@Param("userId") Long userId);
+
+    /**
+     * Find the blob hashes referenced by a user's reports, one entry per report
+     *
+     * Sorted so that releasing them locks blob rows in the same order as the
+     * batch insert of new blobs, which cannot then deadlock against it.
+     *
+     * @param userId the ID of the user
+     * @return blob hashes in ascending order, repeated for reports sharing a blob
+     */
+    @Query("SELECT r.blobSha256 FROM Report r WHERE r.user.id = :userId AND r.blobSha256 IS NOT NULL " +
+           "ORDER BY r.blobSha256")
+    List<String> findBlobHashesByUserId(@Param("userId") Long userId);
+
+    /**
+     * Find the per-report files owned by a user's legacy reports
+     *
+     * @param userId the ID of the user
+     * @return legacy file paths of reports without a blob
+     */
+    @Query("SELECT r.filePath FROM Report r WHERE r.user.id = :userId AND r.blobSha256 IS NULL " +
+           "AND r.filePath IS NOT NULL")
+    List<String> findLegacyFilePathsByUserId(@Param("userId") Long userId);
+
+    /**
+     * Find a report and lock its row until the transaction ends
+     *
+     * @param id the report ID
+     * @return Optional containing the report if found
+     */
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("SELECT r FROM Report r WHERE r.id = :id")
+    Optional<Report> findForUpdate(@Param("id") Long id);
+
+    /**
+     * Find reports whose own file is still outside the storage layout, skipping
+     * reports whose file is known to be missing
+     *
+     * @param afterId ID to continue after
+     * @param pageable page request limiting the batch size
+     * @return report IDs in ascending order
+     */
+    @Query("SELECT r.id FROM Report r " +
+           "WHERE r.storageKey IS NULL AND r.blobSha256 IS NULL AND r.fileMissingSince IS NULL " +
+           "AND r.id > :afterId ORDER BY r.id")
+    List<Long> findLegacyFileIds(@Param("afterId") Long afterId, Pageable pageable);
+
+    /**
+     * Point the reports of a blob at the blob's current file
+     *
+     * Covers unmigrated reports as well as reports whose blob file was stored
+     * again, possibly on another volume or with another codec, after going missing.
+     *
+     * @param sha256 hex SHA-256 of the blob
+     * @param storageKey the blob's storage key
+     * @param codec the blob's codec, or null if stored as uploaded
+     * @param now the update timestamp
+     * @return number of reports updated
+     */
+    @Modifying
+    @Query("UPDATE Report r SET r.storageKey = :storageKey, r.codec = :codec, r.filePath = NULL, " +
+           "r.fileMissingSince = NULL, r.updatedAt = :now, r.version = r.version + 1 " +
+           "WHERE r.blobSha256 = :sha256 " +
+           "AND (r.storageKey IS DISTINCT FROM :storageKey OR r.codec IS DISTINCT FROM :codec)")
+    int attachStorageKey(
+            @Param("sha256") String sha256,
+            @Param("storageKey") String storageKey,
+            @Param("codec") FileCodec codec,
+            @Param("now") LocalDateTime now
+    );
+
+    /**
+     * Flag the reports stored under a key as having a missing file
+     *
+     * @param storageKey the storage key whose file is missing
+     * @param now the detection timestamp
+     * @return number of reports newly flagged
+     */
+    @Transactional
+    @Modifying
+    @Query("UPDATE Report r SET r.fileMissingSince = :now " +
+           "WHERE r.storageKey = :storageKey AND r.fileMissingSince IS NULL")
+    int flagMissingFileByStorageKey(@Param("storageKey") String storageKey, @Param("now") LocalDateTime now);
+
+    /**
+     * Flag a report as having a missing file
+     *
+     * @param id the report ID
+     * @param now the detection timestamp
+     * @return 1 if the report was newly flagged
+     */
+    @Transactional
+    @Modifying
+    @Query("UPDATE Report r SET r.fileMissingSince = :now WHERE r.id = :id AND r.fileMissingSince IS NULL")
+    int flagMissingFile(@Param("id") Long id, @Param("now") LocalDateTime now);
+
+    /**
+     * Clear the missing-file flag of a report
+     *
+     * @param id the report ID
+     * @return 1 if the flag was cleared
+     */
+    @Transactional
+    @Modifying
+    @Query("UPDATE Report r SET r.fileMissingSince = NULL WHERE r.id = :id")
+    int clearMissingFile(@Param("id") Long id);
+
+    /**
+     * Find the file locations of reports flagged with a missing file
+     *
+     * @param afterId ID to continue after
+     * @param pageable page request limiting the batch size
+     * @return file locations ordered by report ID
+     */
+    @Query("SELECT new com.reportmanagement.dto.ReportFileLocation(" +
+           "r.id, r.user.id, r.storageKey, r.filePath, r.createdAt) " +
+           "FROM Report r WHERE r.fileMissingSince IS NOT NULL AND r.id > :afterId ORDER BY r.id")
+    List<ReportFileLocation> findMissingFileLocations(@Param("afterId") Long afterId, Pageable pageable);
+
+    /**
+     * Find the file locations of reports whose file is still outside the storage layout
+     *
+     * @param afterId ID to continue after
+     * @param pageable page request limiting the batch size
+     * @return file locations ordered by report ID
+     */
+    @Query("SELECT new com.reportmanagement.dto.ReportFileLocation(" +
+           "r.id, r.user.id, r.storageKey, r.filePath, r.createdAt) " +
+           "FROM Report r WHERE r.storageKey IS NULL AND r.id > :afterId ORDER BY r.id")
+    List<ReportFileLocation> findLegacyFileLocations(@Param("afterId") Long afterId, Pageable pageable);
+
+    /**
+     * Find the file paths of reports outside the storage layout within a range,
+     * in bytewise order
+     *
+     * @param after lower bound of the range (exclusive)
+     * @param before upper bound of the range (exclusive)
+     * @param limit maximum number of paths to return
+     * @return file paths in ascending bytewise order
+     */
+    @Query(value = "SELECT file_path FROM reports " +
+                   "WHERE storage_key IS NULL AND file_path COLLATE \"C\" > :after AND file_path COLLATE \"C\" < :before " +
+                   "ORDER BY file_path COLLATE \"C\" LIMIT :limit",
+           nativeQuery = true)
+    List<String> findLegacyFilePathsBetween(
+            @Param("after") String after,
+            @Param("before") String before,
+            @Param("limit") int limit
+    );
+
+    /**
+     * Check whether a report outside the storage layout references a file
+     *
+     * @param filePath the file path
+     * @return true if an unmigrated report has the path
+     */
+    boolean existsByFilePathAndStorageKeyIsNull(String filePath);
+
+    /**
+     * Lock the oldest UPLOADED reports for processing, skipping rows already
+     * locked by another worker so concurrent claimers never wait on each other
+     *
+     * Reports held back by a retry backoff are not claimed before it expires.
+     *
+     * @param now the current time
+     * @param limit the maximum number of reports to lock
+     * @return the locked report IDs in ascending order
+     */
+    @Query(value = "SELECT id FROM reports WHERE status = 'UPLOADED' " +
+                   "AND (next_attempt_at IS NULL OR next_attempt_at <= :now) " +
+                   "ORDER BY id LIMIT :limit FOR UPDATE SKIP LOCKED",
+           nativeQuery = true)
+    List<Long> lockUploadedIds(@Param("now") LocalDateTime now, @Param("limit") int limit);
+
+    /**
+     * Move reports locked by the current transaction to PROCESSING, counting
+     * the attempt
+     *
+     * @param ids the report IDs
+     * @param now the update timestamp
+     * @return number of reports updated
+     */
+    @Modifying
+    @Query("UPDATE Report r SET r.status = com.reportmanagement.model.ReportStatus.PROCESSING, " +
+           "r.attempts = r.attempts + 1, r.nextAttemptAt = NULL, " +
+           "r.statusChangedAt = :now, r.updatedAt = :now, r.version = r.version + 1 WHERE r.id IN :ids")
+    int startProcessing(@Param("ids") List<Long> ids, @Param("now") LocalDateTime now);
+
+    /**
+     * Move a report between statuses if it is still in the expected one
+     *
+     * @param id the report ID
+     * @param from the expected current status
+     * @param to the new status
+     * @param now the update timestamp
+     * @return 1 if the report was updated, 0 if it is gone or in another status
+     */
+    @Modifying
+    @Query("UPDATE Report r SET r.status = :to, r.statusChangedAt = :now, r.updatedAt = :now, r.version = r.version + 1 " +
+           "WHERE r.id = :id AND r.status = :from")
+    int transitionStatus(
+            @Param("id") Long id,
+            @Param("from") ReportStatus from,
+            @Param("to") ReportStatus to,
+            @Param("now") LocalDateTime now
+    );
+
+    /**
+     * Move a report between statuses if it is in the expected status and, unless
+     * ownerId is null, owned by the given user
+     *
+     * A single conditional update, so concurrent transitions of the same report
+     * cannot both succeed.
+     *
+     * @param id the report ID
+     * @param from the expected current status
+     * @param to the new status
+     * @param summary the new summary, or null to keep the current one
+     * @param resetAttempts true to restart the attempt count before adding attemptIncrement
+     * @param attemptIncrement 1 to count a processing attempt, otherwise 0
+     * @param ownerId the required owner, or null for any owner
+     * @param now the update timestamp
+     * @return 1 if the report was updated, 0 if it is gone, not owned or in another status
+     */
+    @Modifying
+    @Query("UPDATE Report r SET r.status = :to, r.summary = COALESCE(CAST(:summary AS String), r.summary), " +
+           "r.attempts = CASE WHEN :resetAttempts = TRUE THEN :attemptIncrement " +
+           "ELSE r.attempts + :attemptIncrement END, " +
+           "r.nextAttemptAt = NULL, r.statusChangedAt = :now, r.updatedAt = :now, r.version = r.version + 1 " +
+           "WHERE r.id = :id AND r.status = :from AND (:ownerId IS NULL OR r.user.id = :ownerId)")
+    int compareAndSetStatus(
+            @Param("id") Long id,
+            @Param("from") ReportStatus from,
+            @Param("to") ReportStatus to,
+            @Param("summary") String summary,
+            @Param("resetAttempts") boolean resetAttempts,
+            @Param("attemptIncrement") int attemptIncrement,
+            @Param("ownerId") Long ownerId,
+            @Param("now") LocalDateTime now
+    );
+
+    /**
+     * Complete a report being processed and store its summary
+     *
+     * @param id the report ID
+     * @param claimedAt the status change timestamp of the claim
+     * @param summary the generated summary
+     * @param now the update timestamp
+     * @return 1 if the report was completed, 0 if it is no longer under this claim
+     */
+    @Modifying
+    @Query("UPDATE Report r SET r.status = com.reportmanagement.model.ReportStatus.COMPLETED, " +
+           "r.summary = :summary, r.statusChangedAt = :now, r.updatedAt = :now, r.version = r.version + 1 " +
+           "WHERE r.id = :id AND r.status = com.reportmanagement.model.ReportStatus.PROCESSING " +
+           "AND r.statusChangedAt = :claimedAt")
+    int completeProcessing(
+            @Param("id") Long id,
+            @Param("claimedAt") LocalDateTime claimedAt,
+            @Param("summary") String summary,
+            @Param("now") LocalDateTime now
+    );
+
+    /**
+     * Return a report being processed to UPLOADED, to be claimed again once
+     * its backoff expires
+     *
+     * @param id the report ID
+     * @param claimedAt the status change timestamp of the claim
+     * @param nextAttemptAt the earliest time of the next claim, or null for no backoff
+     * @param refund 1 to not count the abandoned attempt, 0 to count it
+     * @param now the update timestamp
+     * @return 1 if the report was returned, 0 if it is no longer under this claim
+     */
+    @Modifying
+    @Query("UPDATE Report r SET r.status = com.reportmanagement.model.ReportStatus.UPLOADED, " +
+           "r.attempts = r.attempts - :refund, r.nextAttemptAt = :nextAttemptAt, " +
+           "r.statusChangedAt = :now, r.updatedAt = :now, r.version = r.version + 1 " +
+           "WHERE r.id = :id AND r.status = com.reportmanagement.model.ReportStatus.PROCESSING " +
+           "AND r.statusChangedAt = :claimedAt")
+    int requeueProcessing(
+            @Param("id") Long id,
+            @Param("claimedAt") LocalDateTime claimedAt,
+            @Param("nextAttemptAt") LocalDateTime nextAttemptAt,
+            @Param("refund") int refund,
+            @Param("now") LocalDateTime now
+    );
+
+    /**
+     * Move a report being processed to FAILED
+     *
+     * @param id the report ID
+     * @param claimedAt the status change timestamp of the claim
+     * @param now the update timestamp
+     * @return 1 if the report failed, 0 if it is no longer under this claim
+     */
+    @Modifying
+    @Query("UPDATE Report r SET r.status = com.reportmanagement.model.ReportStatus.FAILED, " +
+           "r.nextAttemptAt = NULL, r.statusChangedAt = :now, r.updatedAt = :now, r.version = r.version + 1 " +
+           "WHERE r.id = :id AND r.status = com.reportmanagement.model.ReportStatus.PROCESSING " +
+           "AND r.statusChangedAt = :claimedAt")
+    int failProcessing(
+            @Param("id") Long id,
+            @Param("claimedAt") LocalDateTime claimedAt,
+            @Param("now") LocalDateTime now
+    );
+
+    /**
+     * Find reports that entered PROCESSING before a cutoff
+     *
+     * Reads only idx_reports_processing_since, which holds nothing but PROCESSING
+     * reports, so the cost follows the number of stuck reports rather than the
+     * size of the table.
+     *
+     * @param cutoff reports whose status changed before this are returned
+     * @param afterChangedAt status change timestamp to continue after
+     * @param afterId ID to continue after within the same timestamp
+     * @param pageable page request limiting the batch size
+     * @return stuck reports ordered by status change timestamp and ID
+     */
+    @Query("SELECT new com.reportmanagement.dto.StuckReport(r.id, r.statusChangedAt) " +
+           "FROM Report r WHERE r.status = com.reportmanagement.model.ReportStatus.PROCESSING " +
+           "AND r.statusChangedAt < :cutoff " +
+           "AND r.statusChangedAt >= :afterChangedAt " +
+           "AND (r.statusChangedAt > :afterChangedAt OR r.id > :afterId) " +
+           "ORDER BY r.statusChangedAt, r.id")
+    List<StuckReport> findStuckProcessing(
+            @Param("cutoff") LocalDateTime cutoff,
+            @Param("afterChangedAt") LocalDateTime afterChangedAt,
+            @Param("afterId") Long afterId,
+            Pageable pageable
+    );
+
+    /**
+     * Load the reports claimed for processing
+     *
+     * @param ids the report IDs
+     * @return work items ordered by report ID
+     */
+    @Query("SELECT new com.reportmanagement.dto.ReportWorkItem(" +
+           "r.id, r.user.id, r.name, r.type, r.storageKey, r.filePath, r.codec, " +
+           "r.attempts, r.statusChangedAt) " +
+           "FROM Report r WHERE r.id IN :ids ORDER BY r.id")
+    List<ReportWorkItem> findWorkItems(@Param("ids") List<Long> ids);
 }
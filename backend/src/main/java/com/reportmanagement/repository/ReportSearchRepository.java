@@ -0,0 +1,30 @@
+package com.reportmanagement.repository;
+
+import com.reportmanagement.dto.ReportSearchCriteria;
+import com.reportmanagement.dto.ReportView;
+import com.reportmanagement.util.KeysetCursor;
+
+import java.util.List;
+
+/**
+ * Custom repository fragment for dynamic report search queries
+ *
+ * @author Report Management Team
+ * @version 1.0.0
+ */
+public interface ReportSearchRepository {
+
+    /**
+     * Find one keyset page of reports matching the given filters
+     *
+     * Only predicates for the filters that are set are added to the query, so
+     * PostgreSQL can pick the composite index matching each filter combination.
+     *
+     * @param criteria the search filters
+     * @param ownerId restrict results to this user, or null for all users
+     * @param after the sort key of the last row of the previous page, or null
+     * @param limit the maximum number of rows to return
+     * @return report views ordered by createdAt DESC, id DESC
+     */
+    List<ReportView> search(ReportSearchCriteria criteria, Long ownerId, KeysetCursor after, int limit);
+}
@@ -0,0 +1,93 @@
+package com.reportmanagement.repository;
+
+import com.reportmanagement.dto.ReportSearchCriteria;
+import com.reportmanagement.dto.ReportView;
+import com.reportmanagement.model.Report;
+import com.reportmanagement.model.ReportStatus;
+import com.reportmanagement.util.KeysetCursor;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import jakarta.persistence.criteria.CriteriaBuilder;
+import jakarta.persistence.criteria.CriteriaQuery;
+import jakarta.persistence.criteria.Path;
+import jakarta.persistence.criteria.Predicate;
+import jakarta.persistence.criteria.Root;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Criteria API implementation of {@link ReportSearchRepository}
+ *
+ * @author Report Management Team
+ * @version 1.0.0
+ */
+public class ReportSearchRepositoryImpl implements ReportSearchRepository {
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    @Override
+    public List<ReportView> search(
+            ReportSearchCriteria criteria,
+            Long ownerId,
+            KeysetCursor after,
+            int limit
+    ) {
+        CriteriaBuilder cb = entityManager.getCriteriaBuilder();
+        CriteriaQuery<ReportView> query = cb.createQuery(ReportView.class);
+        Root<Report> report = query.from(Report.class);
+
+        Path<Long> id = report.get("id");
+        Path<Long> userId = report.get("user").get("id");
+        Path<ReportStatus> status = report.get("status");
+        Path<String> type = report.get("type");
+        Path<LocalDate> reportDate = report.get("reportDate");
+        Path<LocalDateTime> createdAt = report.get("createdAt");
+
+        query.select(cb.construct(ReportView.class,
+                id, userId, report.get("name"), type,
+                cb.coalesce(report.<String>get("storageKey"), report.<String>get("filePath")), status,
+                reportDate, createdAt, report.get("updatedAt")));
+
+        List<Predicate> predicates = new ArrayList<>();
+        if (ownerId != null) {
+            predicates.add(cb.equal(userId, ownerId));
+        }
+        if (criteria.getStatus() != null) {
+            predicates.add(cb.equal(status, criteria.getStatus()));
+        }
+        if (criteria.getType() != null && !criteria.getType().isBlank()) {
+            predicates.add(cb.equal(type, criteria.getType()));
+        }
+        if (criteria.getReportDateFrom() != null) {
+            predicates.add(cb.greaterThanOrEqualTo(reportDate, criteria.getReportDateFrom()));
+        }
+        if (criteria.getReportDateTo() != null) {
+            predicates.add(cb.lessThanOrEqualTo(reportDate, criteria.getReportDateTo()));
+        }
+        if (criteria.getCreatedFrom() != null) {
+            predicates.add(cb.greaterThanOrEqualTo(createdAt, criteria.getCreatedFrom()));
+        }
+        if (criteria.getCreatedTo() != null) {
+            predicates.add(cb.lessThanOrEqualTo(createdAt, criteria.getCreatedTo()));
+        }
+        if (after != null) {
+            // Same keyset predicate as ReportRepository.findKeysetPageAfter
+            predicates.add(cb.lessThanOrEqualTo(createdAt, after.timestamp()));
+            predicates.add(cb.or(
+                    cb.lessThan(createdAt, after.timestamp()),
+                    cb.lessThan(id, after.id())
+            ));
+        }
+
+        query.where(predicates.toArray(new Predicate[0]));
+        query.orderBy(cb.desc(createdAt), cb.desc(id));
+
+        return entityManager.createQuery(query)
+                .setMaxResults(limit)
+                .getResultList();
+    }
+}
@@ -0,0 +1,177 @@
+package com.reportmanagement.repository;
+
+import com.reportmanagement.model.ReportStatusCount;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.util.List;
+
+/**
+ * Repository interface for ReportStatusCount entity
+ *
+ * @author Report Management Team
+ * @version 1.0.0
+ */
+@Repository
+public interface ReportStatusCountRepository extends JpaRepository<ReportStatusCount, Long> {
+
+    /**
+     * Add deltas to the counts of one scope and increment its version, creating
+     * its row if needed
+     *
+     * @param scopeId the user ID, or 0 for the global counts
+     * @param uploaded delta for the UPLOADED count
+     * @param processing delta for the PROCESSING count
+     * @param completed delta for the COMPLETED count
+     * @param failed delta for the FAILED count
+     */
+    @Modifying
+    @Query(value = "INSERT INTO report_status_counts " +
+                   "(scope_id, uploaded_count, processing_count, completed_count, failed_count, version) " +
+                   "VALUES (:scopeId, :uploaded, :processing, :completed, :failed, 1) " +
+                   "ON CONFLICT (scope_id) DO UPDATE SET " +
+                   "uploaded_count = report_status_counts.uploaded_count + EXCLUDED.uploaded_count, " +
+                   "processing_count = report_status_counts.processing_count + EXCLUDED.processing_count, " +
+                   "completed_count = report_status_counts.completed_count + EXCLUDED.completed_count, " +
+                   "failed_count = report_status_counts.failed_count + EXCLUDED.failed_count, " +
+                   "version = report_status_counts.version + 1",
+           nativeQuery = true)
+    void applyDelta(
+            @Param("scopeId") long scopeId,
+            @Param("uploaded") long uploaded,
+            @Param("processing") long processing,
+            @Param("completed") long completed,
+            @Param("failed") long failed
+    );
+
+    /**
+     * Increment the versions of per-user rows for reports that changed without
+     * moving between statuses, locking the rows in scope ID order like every writer
+     *
+     * @param scopeIds the user IDs
+     * @return number of rows updated
+     */
+    @Modifying
+    @Query(value = "UPDATE report_status_counts c SET version = c.version + 1 " +
+                   "FROM (SELECT scope_id FROM report_status_counts WHERE scope_id IN (:scopeIds) " +
+                   "ORDER BY scope_id FOR UPDATE) locked " +
+                   "WHERE c.scope_id = locked.scope_id",
+           nativeQuery = true)
+    int incrementVersions(@Param("scopeIds") List<Long> scopeIds);
+
+    /**
+     * Find the scopes to rebuild: users and per-user counter rows, the latter
+     * covering rows left behind by users that no longer exist
+     *
+     * @param afterId scope ID to continue after
+     * @param limit maximum number of IDs
+     * @return scope IDs in ascending order, excluding the global scope
+     */
+    @Query(value = "SELECT id FROM (" +
+                   "SELECT id FROM users WHERE id > :afterId " +
+                   "UNION SELECT scope_id FROM report_status_counts WHERE scope_id > :afterId AND scope_id <> 0" +
+                   ") scopes ORDER BY id LIMIT :limit",
+           nativeQuery = true)
+    List<Long> findScopeIdsAfter(@Param("afterId") long afterId, @Param("limit") int limit);
+
+    /**
+     * Create missing counter rows of existing users, so that they can be locked
+     *
+     * @param scopeIds the user IDs
+     */
+    @Modifying
+    @Query(value = "INSERT INTO report_status_counts " +
+                   "(scope_id, uploaded_count, processing_count, completed_count, failed_count) " +
+                   "SELECT id, 0, 0, 0, 0 FROM users WHERE id IN (:scopeIds) ORDER BY id " +
+                   "ON CONFLICT (scope_id) DO NOTHING",
+           nativeQuery = true)
+    void createMissing(@Param("scopeIds") List<Long> scopeIds);
+
+    /**
+     * Lock counter rows until the current transaction ends, in scope ID order
+     * like every writer
+     *
+     * Writers touch the counts after changing reports, so once a row is locked
+     * every committed change of its reports is visible, and every pending one
+     * will be applied on top of the rebuilt count.
+     *
+     * @param scopeIds the scope IDs
+     * @return the IDs of the rows locked
+     */
+    @Query(value = "SELECT scope_id FROM report_status_counts WHERE scope_id IN (:scopeIds) " +
+                   "ORDER BY scope_id FOR UPDATE",
+           nativeQuery = true)
+    List<Long> lockScopes(@Param("scopeIds") List<Long> scopeIds);
+
+    /**
+     * Correct the locked per-user rows of some scopes to the counts of their reports
+     *
+     * @param scopeIds the user IDs, whose rows must be locked
+     * @return number of rows that had drifted
+     */
+    @Modifying
+    @Query(value = "UPDATE report_status_counts c SET " +
+                   "uploaded_count = actual.uploaded, " +
+                   "processing_count = actual.processing, " +
+                   "completed_count = actual.completed, " +
+                   "failed_count = actual.failed, " +
+                   "version = c.version + 1 " +
+                   "FROM (SELECT s.scope_id, " +
+                   "COUNT(r.id) FILTER (WHERE r.status = 'UPLOADED') AS uploaded, " +
+                   "COUNT(r.id) FILTER (WHERE r.status = 'PROCESSING') AS processing, " +
+                   "COUNT(r.id) FILTER (WHERE r.status = 'COMPLETED') AS completed, " +
+                   "COUNT(r.id) FILTER (WHERE r.status = 'FAILED') AS failed " +
+                   "FROM report_status_counts s LEFT JOIN reports r ON r.user_id = s.scope_id " +
+                   "WHERE s.scope_id IN (:scopeIds) GROUP BY s.scope_id) actual " +
+                   "WHERE c.scope_id = actual.scope_id " +
+                   "AND (c.uploaded_count, c.processing_count, c.completed_count, c.failed_count) " +
+                   "IS DISTINCT FROM (actual.uploaded, actual.processing, actual.completed, actual.failed)",
+           nativeQuery = true)
+    int correctUserCounts(@Param("scopeIds") List<Long> scopeIds);
+
+    /**
+     * Delete the locked per-user rows of some scopes whose user no longer exists
+     *
+     * Rows of existing users are kept even when empty, so their version never
+     * starts over and an ETag built from it is never reused for other content.
+     *
+     * @param scopeIds the user IDs, whose rows must be locked
+     * @return number of rows deleted
+     */
+    @Modifying
+    @Query(value = "DELETE FROM report_status_counts c " +
+                   "WHERE c.scope_id IN (:scopeIds) AND c.scope_id <> 0 " +
+                   "AND NOT EXISTS (SELECT 1 FROM users u WHERE u.id = c.scope_id)",
+           nativeQuery = true)
+    int deleteRemovedUserCounts(@Param("scopeIds") List<Long> scopeIds);
+
+    /**
+     * Correct the locked global row to the sum of the per-user rows
+     *
+     * Writers update their user's row before the global row, so a change counted
+     * in a user row but not yet in the global row is still uncommitted and is
+     * added to the corrected global row once the lock is released.
+     *
+     * @return 1 if the global row had drifted
+     */
+    @Modifying
+    @Query(value = "UPDATE report_status_counts g SET " +
+                   "uploaded_count = total.uploaded, " +
+                   "processing_count = total.processing, " +
+                   "completed_count = total.completed, " +
+                   "failed_count = total.failed, " +
+                   "version = g.version + 1 " +
+                   "FROM (SELECT COALESCE(SUM(uploaded_count), 0) AS uploaded, " +
+                   "COALESCE(SUM(processing_count), 0) AS processing, " +
+                   "COALESCE(SUM(completed_count), 0) AS completed, " +
+                   "COALESCE(SUM(failed_count), 0) AS failed " +
+                   "FROM report_status_counts WHERE scope_id <> 0) total " +
+                   "WHERE g.scope_id = 0 " +
+                   "AND (g.uploaded_count, g.processing_count, g.completed_count, g.failed_count) " +
+                   "IS DISTINCT FROM (total.uploaded, total.processing, total.completed, total.failed)",
+           nativeQuery = true)
+    int correctGlobalCounts();
+}
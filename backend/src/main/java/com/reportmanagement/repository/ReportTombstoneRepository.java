@@ -0,0 +1,107 @@
+package com.reportmanagement.repository;
+
+import com.reportmanagement.model.ReportTombstone;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * Repository interface for ReportTombstone entity
+ *
+ * @author Report Management Team
+ * @version 1.0.0
+ */
+@Repository
+public interface ReportTombstoneRepository extends JpaRepository<ReportTombstone, Long> {
+
+    /**
+     * Find tombstones after the given key and before the change horizon
+     *
+     * @param changeXid transaction ID of the cursor
+     * @param reportId report ID of the cursor
+     * @param horizon exclusive upper bound on changeXid
+     * @param pageable page size (the page number is always 0)
+     * @return tombstones ordered by changeXid, reportId
+     */
+    @Query("SELECT t FROM ReportTombstone t " +
+           "WHERE t.changeXid >= :changeXid " +
+           "AND (t.changeXid > :changeXid OR t.reportId > :reportId) " +
+           "AND t.changeXid < :horizon " +
+           "ORDER BY t.changeXid, t.reportId")
+    List<ReportTombstone> findChangesAfter(
+            @Param("changeXid") Long changeXid,
+            @Param("reportId") Long reportId,
+            @Param("horizon") Long horizon,
+            Pageable pageable
+    );
+
+    /**
+     * Find a user's tombstones after the given key and before the change horizon
+     *
+     * @param userId the ID of the user
+     * @param changeXid transaction ID of the cursor
+     * @param reportId report ID of the cursor
+     * @param horizon exclusive upper bound on changeXid
+     * @param pageable page size (the page number is always 0)
+     * @return tombstones ordered by changeXid, reportId
+     */
+    @Query("SELECT t FROM ReportTombstone t " +
+           "WHERE t.userId = :userId " +
+           "AND t.changeXid >= :changeXid " +
+           "AND (t.changeXid > :changeXid OR t.reportId > :reportId) " +
+           "AND t.changeXid < :horizon " +
+           "ORDER BY t.changeXid, t.reportId")
+    List<ReportTombstone> findChangesAfterByUserId(
+            @Param("userId") Long userId,
+            @Param("changeXid") Long changeXid,
+            @Param("reportId") Long reportId,
+            @Param("horizon") Long horizon,
+            Pageable pageable
+    );
+
+    /**
+     * Leave a tombstone for every report of a user about to be deleted with them
+     *
+     * @param userId the ID of the user
+     * @param deletedAt deletion timestamp of the tombstones
+     * @return number of tombstones written
+     */
+    @Modifying
+    @Query(value = "INSERT INTO report_tombstones (report_id, user_id, deleted_at) " +
+                   "SELECT id, user_id, :deletedAt FROM reports WHERE user_id = :userId",
+           nativeQuery = true)
+    int insertForUser(@Param("userId") Long userId, @Param("deletedAt") LocalDateTime deletedAt);
+
+    /**
+     * Delete tombstones older than the retention cutoff and raise the prune watermark
+     *
+     * The delete and the watermark update run as one statement, so a change feed
+     * call never sees tombstones missing without the watermark covering them.
+     *
+     * @param cutoff tombstones deleted before this time are removed
+     */
+    @Modifying
+    @Query(value = "WITH pruned AS (" +
+                   "    DELETE FROM report_tombstones WHERE deleted_at < :cutoff RETURNING deleted_at, change_xid" +
+                   ") " +
+                   "UPDATE report_tombstone_watermark " +
+                   "SET pruned_through = GREATEST(pruned_through, (SELECT MAX(deleted_at) FROM pruned)), " +
+                   "pruned_through_xid = GREATEST(pruned_through_xid, (SELECT MAX(change_xid) FROM pruned)) " +
+                   "WHERE id = 1",
+           nativeQuery = true)
+    void pruneOlderThan(@Param("cutoff") LocalDateTime cutoff);
+
+    /**
+     * Find the latest transaction ID of any pruned tombstone
+     *
+     * @return the watermark, or null if no tombstone was ever pruned
+     */
+    @Query(value = "SELECT pruned_through_xid FROM report_tombstone_watermark WHERE id = 1", nativeQuery = true)
+    Long findPrunedThroughXid();
+}
@@ -0,0 +1,43 @@
+package com.reportmanagement.repository;
+
+import com.reportmanagement.dto.ReportTransition;
+import com.reportmanagement.model.ReportStatus;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+
+/**
+ * Custom repository fragment for set-based status transitions
+ *
+ * @author Report Management Team
+ * @version 1.0.0
+ */
+public interface ReportTransitionRepository {
+
+    /**
+     * Move every given report that is in one of the source statuses, and owned
+     * by the given user unless ownerId is null, to a new status
+     *
+     * Locks, updates and reports on all the reports in one statement, so the
+     * number of round trips does not grow with the number of reports. Moving a
+     * report to PROCESSING counts an attempt, and moving it out of FAILED
+     * restarts its attempts.
+     *
+     * @param ids the report IDs
+     * @param sources the statuses the new status may be reached from
+     * @param to the new status
+     * @param summary the new summary, or null to keep the current ones
+     * @param ownerId the required owner, or null for any owner
+     * @param now the update timestamp
+     * @return one entry per existing report, ordered by ID; missing reports are absent
+     */
+    List<ReportTransition> transitionStatuses(
+            Collection<Long> ids,
+            Collection<ReportStatus> sources,
+            ReportStatus to,
+            String summary,
+            Long ownerId,
+            LocalDateTime now
+    );
+}
@@ -0,0 +1,81 @@
+package com.reportmanagement.repository;
+
+import com.reportmanagement.dto.ReportTransition;
+import com.reportmanagement.model.ReportStatus;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+
+/**
+ * Native SQL implementation of {@link ReportTransitionRepository}
+ *
+ * The requested rows are locked in ID order, so concurrent bulk updates over
+ * overlapping IDs cannot deadlock, and the update sees exactly the statuses it
+ * reports as previous.
+ *
+ * @author Report Management Team
+ * @version 1.0.0
+ */
+public class ReportTransitionRepositoryImpl implements ReportTransitionRepository {
+
+    private static final String TRANSITION_SQL =
+            "WITH requested AS (" +
+            "  SELECT id, user_id, status FROM reports WHERE id IN (:ids) ORDER BY id FOR UPDATE" +
+            "), updated AS (" +
+            "  UPDATE reports r SET status = :to, " +
+            "    summary = CASE WHEN :keepSummary THEN r.summary ELSE :summary END, " +
+            "    attempts = CASE WHEN q.status = 'FAILED' THEN :attemptIncrement " +
+            "      ELSE r.attempts + :attemptIncrement END, " +
+            "    next_attempt_at = NULL, status_changed_at = :now, updated_at = :now, version = r.version + 1 " +
+            "  FROM requested q " +
+            "  WHERE r.id = q.id AND q.status IN (:sources) AND (:anyOwner OR q.user_id = :ownerId) " +
+            "  RETURNING r.id" +
+            ") " +
+            "SELECT q.id, q.user_id, q.status, u.id IS NOT NULL " +
+            "FROM requested q LEFT JOIN updated u ON u.id = q.id ORDER BY q.id";
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public List<ReportTransition> transitionStatuses(
+            Collection<Long> ids,
+            Collection<ReportStatus> sources,
+            ReportStatus to,
+            String summary,
+            Long ownerId,
+            LocalDateTime now
+    ) {
+        if (ids.isEmpty()) {
+            return List.of();
+        }
+        // An empty IN list is invalid SQL; no source status means no update
+        List<String> sourceNames = sources.isEmpty()
+                ? List.of("")
+                : sources.stream().map(ReportStatus::name).toList();
+
+        List<Object[]> rows = entityManager.createNativeQuery(TRANSITION_SQL)
+                .setParameter("ids", ids)
+                .setParameter("sources", sourceNames)
+                .setParameter("to", to.name())
+                .setParameter("keepSummary", summary == null)
+                .setParameter("summary", summary == null ? "" : summary)
+                .setParameter("attemptIncrement", to == ReportStatus.PROCESSING ? 1 : 0)
+                .setParameter("anyOwner", ownerId == null)
+                .setParameter("ownerId", ownerId == null ? 0L : ownerId)
+                .setParameter("now", now)
+                .getResultList();
+
+        return rows.stream()
+                .map(row -> new ReportTransition(
+                        ((Number) row[0]).longValue(),
+                        ((Number) row[1]).longValue(),
+                        ReportStatus.valueOf((String) row[2]),
+                        (Boolean) row[3]))
+                .toList();
+    }
+}
@@ -0,0 +1,108 @@
+package com.reportmanagement.repository;
+
+import com.reportmanagement.model.ReportUploadSession;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * Repository interface for ReportUploadSession entity
+ *
+ * @author Report Management Team
+ * @version 1.0.0
+ */
+@Repository
+public interface ReportUploadSessionRepository extends JpaRepository<ReportUploadSession, String> {
+
+    /**
+     * Record that a chunk has been written to disk
+     *
+     * @param sessionId the upload session ID
+     * @param chunkIndex the zero-based chunk index
+     */
+    @Transactional
+    @Modifying
+    @Query(value = "INSERT INTO report_upload_chunks (session_id, chunk_index) " +
+                   "VALUES (:sessionId, :chunkIndex) ON CONFLICT DO NOTHING",
+           nativeQuery = true)
+    void markChunkReceived(@Param("sessionId") String sessionId, @Param("chunkIndex") int chunkIndex);
+
+    /**
+     * Find the indexes of the chunks written so far
+     *
+     * @param sessionId the upload session ID
+     * @return chunk indexes in ascending order
+     */
+    @Query(value = "SELECT chunk_index FROM report_upload_chunks " +
+                   "WHERE session_id = :sessionId ORDER BY chunk_index",
+           nativeQuery = true)
+    List<Integer> findReceivedChunks(@Param("sessionId") String sessionId);
+
+    /**
+     * Set or clear the finalizing flag if it is not already in that state
+     *
+     * Only one caller can win the transition, which guards completion and abort
+     * against running twice.
+     *
+     * @param id the upload session ID
+     * @param finalizing the new flag value
+     * @return 1 if the flag changed, 0 otherwise
+     */
+    @Transactional
+    @Modifying
+    @Query("UPDATE ReportUploadSession s SET s.finalizing = :finalizing " +
+           "WHERE s.id = :id AND s.finalizing <> :finalizing")
+    int updateFinalizing(@Param("id") String id, @Param("finalizing") boolean finalizing);
+
+    /**
+     * Start completing a session, provided no chunk is being written to it
+     *
+     * @param id the upload session ID
+     * @return 1 if the session is now finalizing, 0 if it already was or a chunk is in flight
+     */
+    @Transactional
+    @Modifying
+    @Query("UPDATE ReportUploadSession s SET s.finalizing = true " +
+           "WHERE s.id = :id AND s.finalizing = false AND s.activeWrites = 0")
+    int startFinalizing(@Param("id") String id);
+
+    /**
+     * Register a chunk write, unless the session is being completed or aborted
+     *
+     * The check and the increment happen under the session row lock, so they are
+     * serialized with {@link #startFinalizing(String)}.
+     *
+     * @param id the upload session ID
+     * @return 1 if the write may proceed, 0 if the session is finalizing
+     */
+    @Transactional
+    @Modifying
+    @Query("UPDATE ReportUploadSession s SET s.activeWrites = s.activeWrites + 1 " +
+           "WHERE s.id = :id AND s.finalizing = false")
+    int beginWrite(@Param("id") String id);
+
+    /**
+     * Unregister a chunk write started with {@link #beginWrite(String)}
+     *
+     * @param id the upload session ID
+     */
+    @Transactional
+    @Modifying
+    @Query("UPDATE ReportUploadSession s SET s.activeWrites = s.activeWrites - 1 " +
+           "WHERE s.id = :id AND s.activeWrites > 0")
+    void endWrite(@Param("id") String id);
+
+    /**
+     * Find sessions that expired before the given time and are not being completed
+     *
+     * @param cutoff the expiry cutoff
+     * @return expired sessions
+     */
+    List<ReportUploadSession> findByExpiresAtBeforeAndFinalizingFalse(LocalDateTime cutoff);
+}
@@ -0,0 +1,589 @@
+package com.reportmanagement.service;
+
+import com.reportmanagement.exception.InvalidRequestException;
+import com.reportmanagement.exception.PayloadTooLargeException;
+import com.reportmanagement.model.FileCodec;
+import com.reportmanagement.model.Report;
+import com.reportmanagement.model.ReportBlob;
+import com.reportmanagement.repository.ReportBlobRepository;
+import com.reportmanagement.repository.ReportRepository;
+import com.reportmanagement.storage.ReportStorage;
+import com.reportmanagement.util.ContentSniffer;
+import com.reportmanagement.util.DirectBufferPool;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.springframework.util.unit.DataSize;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.io.RandomAccessFile;
+import java.io.SequenceInputStream;
+import java.nio.ByteBuffer;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.channels.ReadableByteChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardOpenOption;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.LocalDateTime;
+import java.util.HexFormat;
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+
+/**
+ * Service class for content-addressed report file storage
+ *
+ * Uploads are first written to a staging file on the storage volume they are
+ * headed for while their SHA-256 is computed, then renamed into ReportStorage
+ * unless a blob with that content is already stored, in which case the staging
+ * file is dropped. Either way the transaction storing the upload does no bulk
+ * I/O. The report_blobs row is locked by every reference change, so a
+ * blob file is only unlinked by the transaction that removes its last reference,
+ * and an upload racing that transaction stores the file again from its own copy.
+ * A file moved into storage by a transaction that rolls back is removed again
+ * afterwards, under the same row lock, unless another upload now references it.
+ *
+ * When compression is enabled, content whose sniffed type is listed in
+ * file.compression.types is gzip-encoded while it is staged; the hash and size
+ * always describe the original bytes, so deduplication is unaffected and the
+ * blob's codec tells readers how to decode its file. Formats that are already
+ * compressed, such as JPEG, PNG, ZIP and most PDFs, are stored as uploaded.
+ *
+ * Blobs and reports created before ReportStorage keep their file in the legacy
+ * upload directory until the storage migration, or a new upload of the same
+ * content, moves it into the storage layout.
+ *
+ * @author Report Management Team
+ * @version 1.0.0
+ */
+@Slf4j
+@Service
+public class ReportBlobStore {
+
+    /**
+     * Storage variant holding a blob's preview image, deleted with the blob's file
+     */
+    public static final String PREVIEW_VARIANT = "preview";
+
+    private final ReportBlobRepository blobRepository;
+    private final ReportRepository reportRepository;
+    private final ReportStatsService reportStatsService;
+    private final ReportStorage storage;
+    private final DirectBufferPool bufferPool;
+    private final TransactionTemplate compensation;
+    private final Path legacyBlobDir;
+    private final int bufferSize;
+    private final boolean compressionEnabled;
+    private final int compressionLevel;
+    private final Set<String> compressibleTypes;
+
+    public ReportBlobStore(
+            ReportBlobRepository blobRepository,
+            ReportRepository reportRepository,
+            ReportStatsService reportStatsService,
+            ReportStorage storage,
+            PlatformTransactionManager transactionManager,
+            @Value("${file.upload-dir}") String uploadDir,
+            @Value("${file.io.buffer-size:64KB}") DataSize bufferSize,
+            @Value("${file.io.pooled-buffers:32}") int pooledBuffers,
+            @Value("${file.compression.enabled:false}") boolean compressionEnabled,
+            @Value("${file.compression.level:6}") int compressionLevel,
+            @Value("${file.compression.types:text/plain}") Set<String> compressibleTypes
+    ) {
+        this.blobRepository = blobRepository;
+        this.reportRepository = reportRepository;
+        this.reportStatsService = reportStatsService;
+        this.storage = storage;
+        this.compensation = new TransactionTemplate(transactionManager);
+        this.compensation.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+        this.legacyBlobDir = Paths.get(uploadDir, "blobs");
+        this.bufferSize = (int) bufferSize.toBytes();
+        this.bufferPool = new DirectBufferPool(pooledBuffers, this.bufferSize);
+        this.compressionEnabled = compressionEnabled;
+        this.compressionLevel = compressionLevel;
+        this.compressibleTypes = compressibleTypes;
+    }
+
+    /**
+     * An upload written to staging and hashed, not yet stored as a blob
+     *
+     * @param sha256 hex SHA-256 of the content
+     * @param size content size in bytes
+     * @param path the staging file
+     * @param codec the encoding of the staging file, or null if it holds the content as uploaded
+     */
+    public record StagedBlob(String sha256, long size, Path path, FileCodec codec) {
+    }
+
+    /**
+     * The stored file a report references
+     *
+     * @param storageKey the storage key of the blob
+     * @param codec the encoding of the blob's file, or null if stored as uploaded
+     */
+    public record StoredBlob(String storageKey, FileCodec codec) {
+    }
+
+    /**
+     * Write an upload to a staging file, hashing it on the way
+     *
+     * Content stored as uploaded passes through pooled direct buffers straight into
+     * a FileChannel, so it is read once and written once. Compressible content is
+     * encoded on its way to the staging file instead.
+     *
+     * @param content the upload content
+     * @param maxSize the maximum accepted size in bytes
+     * @return the staged upload
+     * @throws IOException if the staging file cannot be written
+     * @throws PayloadTooLargeException if the content exceeds maxSize
+     */
+    public StagedBlob stage(InputStream content, long maxSize) throws IOException {
+        Path stagingPath = storage.createStagingFile(UUID.randomUUID() + ".part", 0);
+        byte[] head = content.readNBytes(ContentSniffer.SNIFF_LENGTH);
+        FileCodec codec = codecFor(ContentSniffer.sniff(head, head.length));
+        InputStream whole = new SequenceInputStream(new ByteArrayInputStream(head), content);
+        try {
+            return codec == null
+                    ? writeStaged(whole, stagingPath, maxSize)
+                    : writeEncoded(whole, stagingPath, maxSize, codec);
+        } catch (IOException | RuntimeException e) {
+            Files.deleteIfExists(stagingPath);
+            throw e;
+        }
+    }
+
+    private StagedBlob writeStaged(InputStream content, Path stagingPath, long maxSize) throws IOException {
+        MessageDigest digest = newDigest();
+        ByteBuffer buffer = bufferPool.acquire();
+        long written = 0;
+        try (ReadableByteChannel in = Channels.newChannel(content);
+             FileChannel out = FileChannel.open(stagingPath, StandardOpenOption.WRITE)) {
+            while (in.read(buffer) >= 0) {
+                buffer.flip();
+                buffer.mark();
+                digest.update(buffer);
+                buffer.reset();
+                while (buffer.hasRemaining()) {
+                    written += out.write(buffer);
+                }
+                buffer.clear();
+                checkSize(written, maxSize);
+            }
+        } finally {
+            bufferPool.release(buffer);
+        }
+        return new StagedBlob(HexFormat.of().formatHex(digest.digest()), written, stagingPath, null);
+    }
+
+    private StagedBlob writeEncoded(InputStream content, Path stagingPath, long maxSize, FileCodec codec)
+            throws IOException {
+        MessageDigest digest = newDigest();
+        byte[] buffer = new byte[bufferSize];
+        long size = 0;
+        try (OutputStream out = codec.encode(
+                Files.newOutputStream(stagingPath, StandardOpenOption.WRITE, StandardOpenOption.TRUNCATE_EXISTING),
+                compressionLevel, bufferSize)) {
+            int read;
+            while ((read = content.read(buffer)) >= 0) {
+                digest.update(buffer, 0, read);
+                out.write(buffer, 0, read);
+                size += read;
+                checkSize(size, maxSize);
+            }
+        }
+        return new StagedBlob(HexFormat.of().formatHex(digest.digest()), size, stagingPath, codec);
+    }
+
+    private static void checkSize(long size, long maxSize) {
+        if (size > maxSize) {
+            throw new PayloadTooLargeException(
+                    "File exceeds the maximum upload size of " + maxSize + " bytes");
+        }
+    }
+
+    /**
+     * Choose the codec for content of the given type, or null to store it as uploaded
+     */
+    private FileCodec codecFor(String contentType) {
+        return compressionEnabled && compressibleTypes.contains(contentType) ? FileCodec.GZIP : null;
+    }
+
+    /**
+     * Create an empty staging file of the given size for chunked writes
+     *
+     * @param name the staging file name
+     * @param size the final file size in bytes
+     * @return the staging file
+     * @throws IOException if the file cannot be created
+     */
+    public Path preallocate(String name, long size) throws IOException {
+        Path stagingPath = storage.createStagingFile(name + ".part", size);
+        try (RandomAccessFile file = new RandomAccessFile(stagingPath.toFile(), "rw")) {
+            file.setLength(size);
+        }
+        return stagingPath;
+    }
+
+    /**
+     * Resolve the staging file created by {@link #preallocate(String, long)}
+     *
+     * @param name the staging file name
+     * @return the staging file
+     */
+    public Path preallocated(String name) {
+        return storage.resolveStagingFile(name + ".part");
+    }
+
+    /**
+     * Write exactly {@code length} bytes of content into a staging file at an offset
+     *
+     * At most one buffer of content is held in memory, and the data is forced to
+     * disk before returning so a recorded chunk survives a crash.
+     *
+     * @param content the chunk content
+     * @param file the staging file from {@link #preallocate(String, long)}
+     * @param position the file offset to write at
+     * @param length the expected content length
+     * @throws IOException if the file cannot be written
+     * @throws InvalidRequestException if the content is shorter or longer than length
+     */
+    public void writeAt(InputStream content, Path file, long position, long length) throws IOException {
+        ByteBuffer buffer = bufferPool.acquire();
+        try (ReadableByteChannel in = Channels.newChannel(content);
+             FileChannel out = FileChannel.open(file, StandardOpenOption.WRITE)) {
+            long remaining = length;
+            while (remaining > 0) {
+                buffer.limit((int) Math.min(buffer.capacity(), remaining));
+                int read = in.read(buffer);
+                if (read < 0) {
+                    break;
+                }
+                remaining -= read;
+                buffer.flip();
+                while (buffer.hasRemaining()) {
+                    position += out.write(buffer, position);
+                }
+                buffer.clear();
+            }
+            if (remaining > 0 || content.read() >= 0) {
+                throw new InvalidRequestException("Chunk must be exactly " + length + " bytes");
+            }
+            out.force(false);
+        } finally {
+            bufferPool.release(buffer);
+        }
+    }
+
+    /**
+     * Hash a complete staging file so it can be stored like a streamed upload
+     *
+     * Compressible content is encoded into a new staging file, leaving the given
+     * file in place; the caller deletes it once the staged upload is stored.
+     *
+     * @param file the staging file
+     * @return the staged upload
+     * @throws IOException if the file cannot be read
+     */
+    public StagedBlob adopt(Path file) throws IOException {
+        if (codecFor(ContentSniffer.sniff(file)) != null) {
+            return copyToStaging(file);
+        }
+        MessageDigest digest = newDigest();
+        ByteBuffer buffer = bufferPool.acquire();
+        long size = 0;
+        try (FileChannel in = FileChannel.open(file, StandardOpenOption.READ)) {
+            int read;
+            while ((read = in.read(buffer)) >= 0) {
+                size += read;
+                buffer.flip();
+                digest.update(buffer);
+                buffer.clear();
+            }
+        } finally {
+            bufferPool.release(buffer);
+        }
+        return new StagedBlob(HexFormat.of().formatHex(digest.digest()), size, file, null);
+    }
+
+    /**
+     * Add a report reference to the staged content and make sure its blob is stored
+     *
+     * Must run in the transaction that inserts the referencing report.
+     *
+     * @param staged the staged upload, consumed by this call
+     * @return the stored blob, whose codec may differ from the staged one when the
+     *         content was already stored
+     * @throws IOException if the staging file cannot be moved into storage
+     */
+    @Transactional(propagation = Propagation.MANDATORY)
+    public StoredBlob store(StagedBlob staged) throws IOException {
+        blobRepository.addReference(staged.sha256(), staged.size());
+
+        String storageKey = blobRepository.findStorageKey(staged.sha256());
+        if (storageKey != null && storage.exists(storageKey)) {
+            Files.deleteIfExists(staged.path());
+            return new StoredBlob(storageKey, blobRepository.findCodec(staged.sha256()));
+        }
+        return place(staged.sha256(), staged);
+    }
+
+    /**
+     * Remove a report reference from a blob, unlinking its file with the last one
+     *
+     * Must run in the transaction that deletes the referencing report, after the
+     * report row has been flushed. The file is unlinked only once that
+     * transaction commits, so a rollback leaves the blob readable.
+     *
+     * @param sha256 hex SHA-256 of the content
+     */
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void release(String sha256) {
+        blobRepository.removeReference(sha256);
+        String storageKey = blobRepository.findStorageKey(sha256);
+        if (blobRepository.deleteIfUnreferenced(sha256) == 0) {
+            return;
+        }
+        if (storageKey != null) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    removeBlobFile(sha256, storageKey);
+                }
+            });
+        } else {
+            deleteAfterCommit(legacyBlobPath(sha256));
+        }
+    }
+
+    /**
+     * Unlink the per-report file of a legacy report once the transaction
+     * deleting the report commits
+     *
+     * @param filePath the report's legacy file path
+     */
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void releaseLegacyFile(String filePath) {
+        deleteAfterCommit(Paths.get(filePath));
+    }
+
+    /**
+     * Resolve the file of a report for reading
+     *
+     * @param storageKey the report's storage key, or null for a legacy file
+     * @param filePath the report's legacy file path
+     * @return the file path
+     */
+    public Path resolve(String storageKey, String filePath) {
+        return storageKey != null ? storage.resolve(storageKey) : Paths.get(filePath);
+    }
+
+    /**
+     * Open a stored file for reading its original content
+     *
+     * @param path the file path from {@link #resolve(String, String)}
+     * @param codec the file's codec, or null if stored as uploaded
+     * @return a stream of the original content
+     * @throws IOException if the file cannot be opened
+     */
+    public InputStream open(Path path, FileCodec codec) throws IOException {
+        InputStream in = Files.newInputStream(path);
+        if (codec == null) {
+            return in;
+        }
+        try {
+            return codec.decode(in, bufferSize);
+        } catch (IOException | RuntimeException e) {
+            in.close();
+            throw e;
+        }
+    }
+
+    /**
+     * Move a blob from the legacy flat directory into the storage layout
+     *
+     * The legacy file is copied rather than moved and deleted only after commit,
+     * so reports still pointing at it stay readable if the transaction fails.
+     *
+     * @param sha256 hex SHA-256 of the content
+     * @return true if the blob was migrated
+     * @throws IOException if the file cannot be copied into storage
+     */
+    @Transactional
+    public boolean migrateLegacyBlob(String sha256) throws IOException {
+        ReportBlob blob = blobRepository.findForUpdate(sha256).orElse(null);
+        if (blob == null || blob.getStorageKey() != null) {
+            return false;
+        }
+        Path legacyPath = legacyBlobPath(sha256);
+        if (!Files.exists(legacyPath)) {
+            log.warn("Legacy blob {} has no file at {}", sha256, legacyPath);
+            return false;
+        }
+        StagedBlob copy = copyToStaging(legacyPath);
+        if (!copy.sha256().equals(sha256)) {
+            log.warn("Legacy blob {} does not match its hash, leaving it in place", sha256);
+            discard(copy);
+            return false;
+        }
+        try {
+            place(sha256, copy);
+        } catch (IOException | RuntimeException e) {
+            discard(copy);
+            throw e;
+        }
+        return true;
+    }
+
+    /**
+     * Move the per-report file of a legacy report into the storage layout as a blob
+     *
+     * A report whose file does not exist is flagged with file_missing_since
+     * instead.
+     *
+     * @param reportId the report ID
+     * @return true if the report was migrated
+     * @throws IOException if the file cannot be copied into storage
+     */
+    @Transactional
+    public boolean migrateLegacyReport(Long reportId) throws IOException {
+        Report report = reportRepository.findForUpdate(reportId).orElse(null);
+        if (report == null || report.getStorageKey() != null || report.getBlobSha256() != null) {
+            return false;
+        }
+        Path legacyPath = Paths.get(report.getFilePath());
+        if (!Files.exists(legacyPath)) {
+            // Flagged reports are left out of later passes until the reconciler sees the file again
+            log.warn("Report {} has no file at {}, flagging it as missing", reportId, legacyPath);
+            report.setFileMissingSince(LocalDateTime.now());
+            return false;
+        }
+        StagedBlob copy = copyToStaging(legacyPath);
+        StoredBlob stored;
+        try {
+            stored = store(copy);
+        } catch (IOException | RuntimeException e) {
+            discard(copy);
+            throw e;
+        }
+        report.setStorageKey(stored.storageKey());
+        report.setCodec(stored.codec());
+        report.setBlobSha256(copy.sha256());
+        report.setFilePath(null);
+        reportStatsService.recordChangedAfterCommit(List.of(report.getUser().getId()));
+        deleteAfterCommit(legacyPath);
+        return true;
+    }
+
+    /**
+     * Move a staged file into storage as the blob's file and point the blob and
+     * its reports at the new key and codec
+     */
+    private StoredBlob place(String sha256, StagedBlob staged) throws IOException {
+        String storageKey = storage.store(staged.path(), sha256);
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCompletion(int status) {
+                if (status == STATUS_ROLLED_BACK) {
+                    removeBlobFile(sha256, storageKey);
+                }
+            }
+        });
+        blobRepository.updateStorageKey(sha256, storageKey, staged.codec());
+        if (reportRepository.attachStorageKey(sha256, storageKey, staged.codec(), LocalDateTime.now()) > 0) {
+            reportStatsService.recordChangedAfterCommit(reportRepository.findUserIdsByBlobSha256(sha256));
+        }
+        deleteAfterCommit(legacyBlobPath(sha256));
+        return new StoredBlob(storageKey, staged.codec());
+    }
+
+    /**
+     * Remove a blob file, and its preview, left behind by a rolled-back placement
+     * or a committed release
+     *
+     * Runs in a new transaction holding the blob row lock, so an upload that
+     * committed a reference to the same key in the meantime keeps its file.
+     */
+    private void removeBlobFile(String sha256, String storageKey) {
+        try {
+            compensation.executeWithoutResult(status -> {
+                // A row created here only takes the lock and is deleted again at once
+                blobRepository.lockOrCreate(sha256, 0);
+                String currentKey = blobRepository.findStorageKey(sha256);
+                boolean unreferenced = blobRepository.deleteIfUnreferenced(sha256) == 1;
+                if (unreferenced || !storageKey.equals(currentKey)) {
+                    try {
+                        storage.delete(storageKey);
+                        storage.delete(storage.variantKey(storageKey, PREVIEW_VARIANT));
+                    } catch (IOException e) {
+                        log.warn("Failed to delete blob file {}: {}", storageKey, e.getMessage());
+                    }
+                }
+            });
+        } catch (RuntimeException e) {
+            log.warn("Failed to remove blob file {}: {}", storageKey, e.getMessage());
+        }
+    }
+
+    private StagedBlob copyToStaging(Path file) throws IOException {
+        try (InputStream in = Files.newInputStream(file)) {
+            return stage(in, Long.MAX_VALUE);
+        }
+    }
+
+    private void deleteAfterCommit(Path path) {
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                discard(path);
+            }
+        });
+    }
+
+    /**
+     * Delete a staged upload that will not be stored
+     *
+     * @param staged the staged upload
+     */
+    public void discard(StagedBlob staged) {
+        discard(staged.path());
+    }
+
+    /**
+     * Delete a staging or legacy file, logging failures
+     *
+     * @param path the file to delete
+     */
+    public void discard(Path path) {
+        try {
+            Files.deleteIfExists(path);
+        } catch (IOException e) {
+            log.warn("Failed to delete file {}: {}", path, e.getMessage());
+        }
+    }
+
+    private Path legacyBlobPath(String sha256) {
+        return legacyBlobDir.resolve(sha256);
+    }
+
+    private static MessageDigest newDigest() {
+        try {
+            return MessageDigest.getInstance("SHA-256");
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 is not available", e);
+        }
+    }
+}
@@ -0,0 +1,165 @@
+package com.reportmanagement.service;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.reportmanagement.dto.ReportView;
+import com.reportmanagement.model.ReportExportFormat;
+import com.reportmanagement.model.User;
+import com.reportmanagement.repository.ReportRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.security.core.Authentication;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.util.Iterator;
+import java.util.stream.Stream;
+
+/**
+ * Service class for streaming report metadata exports
+ *
+ * Rows are read through a server-side cursor and written to the output stream as
+ * they arrive, so memory use does not depend on the number of exported reports.
+ *
+ * @author Report Management Team
+ * @version 1.0.0
+ */
+@Service
+@RequiredArgsConstructor
+public class ReportExportService {
+
+    private static final String CSV_HEADER =
+            "id,userId,name,type,filePath,status,reportDate,createdAt,updatedAt";
+
+    /**
+     * Rows written between two flushes, matching the cursor fetch size. The first
+     * row is always flushed on its own so the client sees data immediately.
+     */
+    private static final int FLUSH_INTERVAL = Integer.parseInt(ReportRepository.EXPORT_FETCH_SIZE);
+
+    private final ReportRepository reportRepository;
+    private final ObjectMapper objectMapper;
+
+    /**
+     * Export the metadata of all reports visible to the authenticated user
+     *
+     * The transaction keeps the JDBC connection in non-autocommit mode, which the
+     * PostgreSQL driver requires to honour the cursor fetch size.
+     *
+     * @param format the export format
+     * @param out the stream to write to; it is flushed but not closed
+     * @param authentication the authentication object containing user details
+     * @throws IOException if writing to the output stream fails
+     */
+    @Transactional(readOnly = true)
+    public void exportReports(
+            ReportExportFormat format,
+            OutputStream out,
+            Authentication authentication
+    ) throws IOException {
+        User user = (User) authentication.getPrincipal();
+        Writer writer = new BufferedWriter(new OutputStreamWriter(out, StandardCharsets.UTF_8));
+
+        try (Stream<ReportView> reports = isAdmin(user)
+                ? reportRepository.streamAllViews()
+                : reportRepository.streamViewsByUserId(user.getId())) {
+            switch (format) {
+                case NDJSON -> writeNdjson(reports.iterator(), writer);
+                case CSV -> writeCsv(reports.iterator(), writer);
+            }
+        }
+        writer.flush();
+    }
+
+    private void writeNdjson(Iterator<ReportView> reports, Writer writer) throws IOException {
+        JsonGenerator generator = objectMapper.getFactory().createGenerator(writer);
+        generator.disable(JsonGenerator.Feature.AUTO_CLOSE_TARGET);
+        generator.setRootValueSeparator(null);
+
+        int written = 0;
+        while (reports.hasNext()) {
+            ReportView report = reports.next();
+            generator.writeStartObject();
+            generator.writeNumberField("id", report.id());
+            generator.writeNumberField("userId", report.userId());
+            generator.writeStringField("name", report.name());
+            generator.writeStringField("type", report.type());
+            generator.writeStringField("filePath", report.filePath());
+            generator.writeStringField("status", toText(report.status()));
+            generator.writeStringField("reportDate", toText(report.reportDate()));
+            generator.writeStringField("createdAt", toText(report.createdAt()));
+            generator.writeStringField("updatedAt", toText(report.updatedAt()));
+            generator.writeEndObject();
+            generator.writeRaw('\n');
+
+            if (++written == 1 || written % FLUSH_INTERVAL == 0) {
+                generator.flush();
+            }
+        }
+        generator.flush();
+    }
+
+    private void writeCsv(Iterator<ReportView> reports, Writer writer) throws IOException {
+        writer.write(CSV_HEADER);
+        writer.write('\n');
+        writer.flush();
+
+        int written = 0;
+        while (reports.hasNext()) {
+            ReportView report = reports.next();
+            writer.write(String.valueOf(report.id()));
+            writer.write(',');
+            writer.write(String.valueOf(report.userId()));
+            writer.write(',');
+            writeCsvField(writer, report.name());
+            writer.write(',');
+            writeCsvField(writer, report.type());
+            writer.write(',');
+            writeCsvField(writer, report.filePath());
+            writer.write(',');
+            writeCsvField(writer, toText(report.status()));
+            writer.write(',');
+            writeCsvField(writer, toText(report.reportDate()));
+            writer.write(',');
+            writeCsvField(writer, toText(report.createdAt()));
+            writer.write(',');
+            writeCsvField(writer, toText(report.updatedAt()));
+            writer.write('\n');
+
+            if (++written == 1 || written % FLUSH_INTERVAL == 0) {
+                writer.flush();
+            }
+        }
+    }
+
+    /**
+     * Write a CSV field, quoting it when it contains a separator, quote or line break
+     */
+    private void writeCsvField(Writer writer, String value) throws IOException {
+        if (value == null) {
+            return;
+        }
+        boolean quote = value.indexOf(',') >= 0 || value.indexOf('"') >= 0
+                || value.indexOf('\n') >= 0 || value.indexOf('\r') >= 0;
+        if (!quote) {
+            writer.write(value);
+            return;
+        }
+        writer.write('"');
+        writer.write(value.replace("\"", "\"\""));
+        writer.write('"');
+    }
+
+    private String toText(Object value) {
+        return value != null ? value.toString() : null;
+    }
+
+    private boolean isAdmin(User user) {
+        return user.getRole() != null && "ADMIN".equalsIgnoreCase(user.getRole());
+    }
+}
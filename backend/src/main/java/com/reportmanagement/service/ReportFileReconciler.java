@@ -0,0 +1,526 @@
+package com.reportmanagement.service;
+
+import com.reportmanagement.dto.ReportFileLocation;
+import com.reportmanagement.repository.ReportBlobRepository;
+import com.reportmanagement.repository.ReportRepository;
+import com.reportmanagement.repository.ReportUploadSessionRepository;
+import com.reportmanagement.storage.LocalReportStorage;
+import com.reportmanagement.util.IoRateLimiter;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.InterruptedIOException;
+import java.nio.file.FileVisitOption;
+import java.nio.file.FileVisitResult;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.SimpleFileVisitor;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.attribute.BasicFileAttributes;
+import java.nio.file.attribute.FileTime;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.EnumSet;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.BiFunction;
+import java.util.function.Function;
+import java.util.function.Predicate;
+
+/**
+ * Scheduled reconciliation of stored files against the database
+ *
+ * Each storage volume is processed one hash shard ({@code <volume>/<ab>}) at a
+ * time: the shard is walked with Files.walkFileTree and its file keys sorted,
+ * then merged like a merge join with the blob storage keys of the same shard,
+ * streamed from the database in bytewise order. A file without a key is an
+ * orphan and is moved to the volume's quarantine directory once it is older
+ * than the grace period, which covers uploads whose transaction has not yet
+ * committed; variants such as previews belong to the file they are stored
+ * beside. A key without a file, once the file is confirmed absent on disk,
+ * marks its reports with file_missing_since.
+ * Stale staging files of every volume are quarantined the same way. The legacy
+ * flat files of the upload directory and of its blobs directory are merged with
+ * the file paths of unmigrated reports and the hashes of unmigrated blobs, so
+ * their orphans are quarantined too, and legacy per-report files are checked for
+ * existence. Quarantined files are deleted after the retention period. Memory is
+ * bounded by one shard's or one legacy directory's listing, and a file that
+ * cannot be quarantined is logged and skipped without ending the run.
+ *
+ * Every file system operation goes through an {@link IoRateLimiter}, and the run
+ * executes on its own thread so it never holds up other scheduled jobs.
+ *
+ * @author Report Management Team
+ * @version 1.0.0
+ */
+@Slf4j
+@Service
+@ConditionalOnProperty(name = "reports.storage.type", havingValue = "local", matchIfMissing = true)
+public class ReportFileReconciler implements DisposableBean {
+
+    private static final String QUARANTINE_DIR = ".quarantine";
+    private static final int SHARD_COUNT = 256;
+    private static final int BATCH_SIZE = 1000;
+
+    private final LocalReportStorage storage;
+    private final ReportBlobRepository blobRepository;
+    private final ReportRepository reportRepository;
+    private final ReportUploadSessionRepository sessionRepository;
+    private final Path uploadRoot;
+    private final Path legacyBlobDir;
+    private final Path legacyStagingDir;
+    private final Path uploadQuarantineDir;
+    private final ExecutorService executor;
+    private final AtomicBoolean running = new AtomicBoolean();
+
+    @Value("${reports.reconciler.enabled:true}")
+    private boolean enabled;
+
+    @Value("${reports.reconciler.grace-period-hours:24}")
+    private long gracePeriodHours;
+
+    @Value("${reports.reconciler.quarantine-retention-days:30}")
+    private long quarantineRetentionDays;
+
+    @Value("${reports.reconciler.max-operations-per-second:200}")
+    private int maxOperationsPerSecond;
+
+    public ReportFileReconciler(
+            LocalReportStorage storage,
+            ReportBlobRepository blobRepository,
+            ReportRepository reportRepository,
+            ReportUploadSessionRepository sessionRepository,
+            @Value("${file.upload-dir}") String uploadDir
+    ) {
+        this.storage = storage;
+        this.blobRepository = blobRepository;
+        this.reportRepository = reportRepository;
+        this.sessionRepository = sessionRepository;
+        this.uploadRoot = Paths.get(uploadDir);
+        this.legacyBlobDir = Paths.get(uploadDir, "blobs");
+        this.legacyStagingDir = Paths.get(uploadDir, LocalReportStorage.STAGING_DIR);
+        this.uploadQuarantineDir = Paths.get(uploadDir, QUARANTINE_DIR);
+        this.executor = Executors.newSingleThreadExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "report-file-reconciler");
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
+
+    /**
+     * Start a reconciliation run unless one is still in progress
+     */
+    @Scheduled(cron = "${reports.reconciler.cron:0 0 2 * * *}")
+    public void scheduleReconcile() {
+        if (!enabled) {
+            return;
+        }
+        if (!running.compareAndSet(false, true)) {
+            log.warn("Skipping file reconciliation, the previous run is still in progress");
+            return;
+        }
+        executor.execute(() -> {
+            try {
+                reconcile();
+            } catch (InterruptedIOException e) {
+                log.info("File reconciliation interrupted");
+            } catch (Exception e) {
+                log.error("File reconciliation failed", e);
+            } finally {
+                running.set(false);
+            }
+        });
+    }
+
+    @Override
+    public void destroy() {
+        executor.shutdownNow();
+    }
+
+    /**
+     * Reconcile every volume, the staging directory and legacy files once
+     *
+     * @throws IOException if a directory cannot be walked
+     */
+    void reconcile() throws IOException {
+        Run run = new Run(new IoRateLimiter(maxOperationsPerSecond),
+                FileTime.from(Instant.now().minus(Duration.ofHours(gracePeriodHours))));
+
+        recheckMissingFiles(run);
+        for (Map.Entry<String, Path> volume : storage.volumes().entrySet()) {
+            for (int shard = 0; shard < SHARD_COUNT; shard++) {
+                reconcileShard(volume.getKey(), volume.getValue(), String.format("%02x", shard), run);
+            }
+        }
+        for (Path root : storage.volumes().values()) {
+            reconcileStaging(root.resolve(LocalReportStorage.STAGING_DIR), root.resolve(QUARANTINE_DIR), run);
+        }
+        // Uploads were staged in the upload directory before volumes had their own staging
+        reconcileStaging(legacyStagingDir, uploadQuarantineDir, run);
+        reconcileLegacyFiles(run);
+        checkLegacyFiles(run);
+
+        FileTime retentionCutoff = FileTime.from(Instant.now().minus(Duration.ofDays(quarantineRetentionDays)));
+        for (Path root : storage.volumes().values()) {
+            purgeQuarantine(root.resolve(QUARANTINE_DIR), retentionCutoff, run);
+        }
+        purgeQuarantine(uploadQuarantineDir, retentionCutoff, run);
+
+        log.info("File reconciliation finished: {} files scanned, {} orphans quarantined, {} could not be, "
+                        + "{} orphans within grace period, {} missing files flagged, {} recovered, {} purged",
+                run.scanned, run.quarantined, run.failed, run.withinGrace, run.flagged, run.recovered, run.purged);
+    }
+
+    /**
+     * Merge one shard's files with the storage keys of the same shard
+     */
+    private void reconcileShard(String volumeId, Path root, String shard, Run run) throws IOException {
+        List<StoredFile> files = listShard(volumeId, root, root.resolve(shard), run);
+        // '0' follows '/' in ASCII, so this bounds exactly the keys under "<volume>/<shard>/"
+        String before = volumeId + "/" + shard + "0";
+        KeyStream keys = new KeyStream(volumeId + "/" + shard + "/",
+                (after, limit) -> blobRepository.findStorageKeysBetween(after, before, limit));
+
+        Iterator<StoredFile> fileIterator = files.iterator();
+        StoredFile file = fileIterator.hasNext() ? fileIterator.next() : null;
+        String key = keys.next();
+        String matched = null;
+        while (file != null || key != null) {
+            int order = file == null ? 1 : key == null ? -1 : file.key().compareTo(key);
+            if (order < 0) {
+                // Variants sort right after the file they belong to
+                if (!isVariantOf(file.key(), matched)) {
+                    handleOrphan(file, root.resolve(QUARANTINE_DIR).resolve(root.relativize(file.path())),
+                            blobRepository::existsByStorageKey, run);
+                }
+                file = fileIterator.hasNext() ? fileIterator.next() : null;
+            } else if (order > 0) {
+                // Re-check the file system, since the file may have been stored after the shard was listed
+                run.pace();
+                if (!Files.exists(storage.resolve(key))) {
+                    run.flagged += reportRepository.flagMissingFileByStorageKey(key, LocalDateTime.now());
+                }
+                key = keys.next();
+            } else {
+                matched = key;
+                file = fileIterator.hasNext() ? fileIterator.next() : null;
+                key = keys.next();
+            }
+        }
+    }
+
+    private static boolean isVariantOf(String fileKey, String key) {
+        return key != null
+                && fileKey.length() > key.length() + 1
+                && fileKey.startsWith(key)
+                && fileKey.charAt(key.length()) == '.'
+                && fileKey.substring(key.length() + 1).chars().allMatch(c -> c >= 'a' && c <= 'z');
+    }
+
+    private List<StoredFile> listShard(String volumeId, Path root, Path shardDir, Run run) throws IOException {
+        List<StoredFile> files = new ArrayList<>();
+        if (!Files.isDirectory(shardDir)) {
+            return files;
+        }
+        Files.walkFileTree(shardDir, EnumSet.noneOf(FileVisitOption.class), Integer.MAX_VALUE,
+                new SimpleFileVisitor<>() {
+                    @Override
+                    public FileVisitResult visitFile(Path file, BasicFileAttributes attributes) throws IOException {
+                        run.pace();
+                        run.scanned++;
+                        if (attributes.isRegularFile()) {
+                            String relative = root.relativize(file).toString().replace(File.separatorChar, '/');
+                            files.add(new StoredFile(volumeId + "/" + relative, file, attributes.lastModifiedTime()));
+                        }
+                        return FileVisitResult.CONTINUE;
+                    }
+
+                    @Override
+                    public FileVisitResult visitFileFailed(Path file, IOException e) {
+                        log.warn("Cannot read {} during reconciliation: {}", file, e.getMessage());
+                        return FileVisitResult.CONTINUE;
+                    }
+                });
+        files.sort(Comparator.comparing(StoredFile::key));
+        return files;
+    }
+
+    /**
+     * Merge the legacy flat files of the upload directory with the file paths of
+     * unmigrated reports, and the legacy blob files with the unmigrated blobs
+     *
+     * Legacy file paths were built by resolving a file name against the upload
+     * directory, so a listed file is referenced exactly when its path is stored.
+     */
+    private void reconcileLegacyFiles(Run run) throws IOException {
+        List<StoredFile> files = listFlat(uploadRoot, Path::toString, run);
+        // The character after the separator bounds exactly the paths under the upload directory
+        String before = uploadRoot.toString() + (char) (File.separatorChar + 1);
+        KeyStream paths = new KeyStream(uploadRoot.toString() + File.separator,
+                (after, limit) -> reportRepository.findLegacyFilePathsBetween(after, before, limit));
+        mergeLegacy(files, paths, reportRepository::existsByFilePathAndStorageKeyIsNull,
+                uploadQuarantineDir.resolve("legacy"), run);
+
+        List<StoredFile> blobs = listFlat(legacyBlobDir, file -> file.getFileName().toString(), run);
+        KeyStream hashes = new KeyStream("", blobRepository::findLegacyHashesAfter);
+        mergeLegacy(blobs, hashes, blobRepository::existsBySha256AndStorageKeyIsNull,
+                uploadQuarantineDir.resolve("blobs"), run);
+    }
+
+    private void mergeLegacy(List<StoredFile> files, KeyStream keys, Predicate<String> referenced,
+                             Path quarantineDir, Run run) throws IOException {
+        String key = keys.next();
+        for (StoredFile file : files) {
+            while (key != null && key.compareTo(file.key()) < 0) {
+                key = keys.next();
+            }
+            if (!file.key().equals(key)) {
+                handleOrphan(file, quarantineDir.resolve(file.path().getFileName()), referenced, run);
+            }
+        }
+    }
+
+    /**
+     * List the regular files directly inside a directory, sorted by key
+     */
+    private List<StoredFile> listFlat(Path dir, Function<Path, String> keyOf, Run run) throws IOException {
+        List<StoredFile> files = new ArrayList<>();
+        if (!Files.isDirectory(dir)) {
+            return files;
+        }
+        Files.walkFileTree(dir, EnumSet.noneOf(FileVisitOption.class), 1,
+                new SimpleFileVisitor<>() {
+                    @Override
+                    public FileVisitResult visitFile(Path file, BasicFileAttributes attributes) throws IOException {
+                        run.pace();
+                        if (attributes.isRegularFile()) {
+                            run.scanned++;
+                            files.add(new StoredFile(keyOf.apply(file), file, attributes.lastModifiedTime()));
+                        }
+                        return FileVisitResult.CONTINUE;
+                    }
+
+                    @Override
+                    public FileVisitResult visitFileFailed(Path file, IOException e) {
+                        log.warn("Cannot read {} during reconciliation: {}", file, e.getMessage());
+                        return FileVisitResult.CONTINUE;
+                    }
+                });
+        files.sort(Comparator.comparing(StoredFile::key));
+        return files;
+    }
+
+    /**
+     * Quarantine an unreferenced file once it is past the grace period, re-checking
+     * the database first in case it was referenced since the keys were read
+     */
+    private void handleOrphan(StoredFile file, Path quarantinePath, Predicate<String> referenced, Run run)
+            throws IOException {
+        if (file.lastModified().compareTo(run.graceCutoff) > 0) {
+            run.withinGrace++;
+            return;
+        }
+        if (referenced.test(file.key())) {
+            return;
+        }
+        run.pace();
+        quarantine(file.path(), quarantinePath, run);
+    }
+
+    /**
+     * Quarantine staging files that are past the grace period and do not belong to
+     * a live upload session
+     */
+    private void reconcileStaging(Path stagingDir, Path quarantineDir, Run run) throws IOException {
+        if (!Files.isDirectory(stagingDir)) {
+            return;
+        }
+        List<Path> stale = new ArrayList<>();
+        Files.walkFileTree(stagingDir, EnumSet.noneOf(FileVisitOption.class), 1,
+                new SimpleFileVisitor<>() {
+                    @Override
+                    public FileVisitResult visitFile(Path file, BasicFileAttributes attributes) throws IOException {
+                        run.pace();
+                        run.scanned++;
+                        if (attributes.isRegularFile() && attributes.lastModifiedTime().compareTo(run.graceCutoff) <= 0) {
+                            stale.add(file);
+                        }
+                        return FileVisitResult.CONTINUE;
+                    }
+                });
+        for (Path file : stale) {
+            String name = file.getFileName().toString();
+            if (name.endsWith(".part") && sessionRepository.existsById(name.substring(0, name.length() - 5))) {
+                continue;
+            }
+            run.pace();
+            quarantine(file, quarantineDir.resolve("staging").resolve(name), run);
+        }
+    }
+
+    /**
+     * Clear the flag of reports whose file has reappeared, for example after a
+     * volume was remounted or a quarantined file was restored
+     */
+    private void recheckMissingFiles(Run run) throws IOException {
+        long afterId = 0;
+        List<ReportFileLocation> batch;
+        do {
+            batch = reportRepository.findMissingFileLocations(afterId, PageRequest.of(0, BATCH_SIZE));
+            for (ReportFileLocation location : batch) {
+                afterId = location.id();
+                run.pace();
+                if (Files.exists(resolve(location))) {
+                    run.recovered += reportRepository.clearMissingFile(location.id());
+                }
+            }
+        } while (batch.size() == BATCH_SIZE);
+    }
+
+    /**
+     * Flag legacy reports whose file is missing; moving the files is left to the
+     * storage migration
+     */
+    private void checkLegacyFiles(Run run) throws IOException {
+        long afterId = 0;
+        List<ReportFileLocation> batch;
+        do {
+            batch = reportRepository.findLegacyFileLocations(afterId, PageRequest.of(0, BATCH_SIZE));
+            for (ReportFileLocation location : batch) {
+                afterId = location.id();
+                run.pace();
+                if (!Files.exists(resolve(location))) {
+                    run.flagged += reportRepository.flagMissingFile(location.id(), LocalDateTime.now());
+                }
+            }
+        } while (batch.size() == BATCH_SIZE);
+    }
+
+    private void purgeQuarantine(Path quarantineDir, FileTime retentionCutoff, Run run) throws IOException {
+        if (!Files.isDirectory(quarantineDir)) {
+            return;
+        }
+        Files.walkFileTree(quarantineDir, new SimpleFileVisitor<>() {
+            @Override
+            public FileVisitResult visitFile(Path file, BasicFileAttributes attributes) throws IOException {
+                run.pace();
+                if (attributes.lastModifiedTime().compareTo(retentionCutoff) < 0) {
+                    Files.deleteIfExists(file);
+                    run.purged++;
+                }
+                return FileVisitResult.CONTINUE;
+            }
+        });
+    }
+
+    /**
+     * Move a file into quarantine, stamping it with the quarantine time so the
+     * retention period starts now
+     *
+     * A failure is logged and counted, and the run goes on with the next file.
+     */
+    private static void quarantine(Path file, Path target, Run run) {
+        try {
+            Files.createDirectories(target.getParent());
+            Files.move(file, target, StandardCopyOption.REPLACE_EXISTING);
+            Files.setLastModifiedTime(target, FileTime.from(Instant.now()));
+        } catch (IOException e) {
+            log.warn("Cannot quarantine orphaned file {} to {}: {}", file, target, e.toString());
+            run.failed++;
+            return;
+        }
+        log.warn("Quarantined orphaned file {} to {}", file, target);
+        run.quarantined++;
+    }
+
+    private Path resolve(ReportFileLocation location) {
+        return location.storageKey() != null
+                ? storage.resolve(location.storageKey())
+                : Paths.get(location.filePath());
+    }
+
+    private record StoredFile(String key, Path path, FileTime lastModified) {
+    }
+
+    /**
+     * Sorted keys of one range, fetched from the database in batches
+     */
+    private static final class KeyStream {
+
+        private final BiFunction<String, Integer, List<String>> query;
+        private String after;
+        private List<String> batch = List.of();
+        private int index;
+        private boolean exhausted;
+
+        /**
+         * @param after key to start after
+         * @param query fetches at most the given number of keys after a key, in bytewise order
+         */
+        KeyStream(String after, BiFunction<String, Integer, List<String>> query) {
+            this.after = after;
+            this.query = query;
+        }
+
+        String next() {
+            if (index == batch.size()) {
+                if (exhausted) {
+                    return null;
+                }
+                batch = query.apply(after, BATCH_SIZE);
+                index = 0;
+                exhausted = batch.size() < BATCH_SIZE;
+                if (batch.isEmpty()) {
+                    return null;
+                }
+            }
+            after = batch.get(index++);
+            return after;
+        }
+    }
+
+    /**
+     * State and counters of one reconciliation run
+     */
+    private static final class Run {
+
+        private final IoRateLimiter limiter;
+        private final FileTime graceCutoff;
+        private long scanned;
+        private long quarantined;
+        private long failed;
+        private long withinGrace;
+        private long flagged;
+        private long recovered;
+        private long purged;
+
+        Run(IoRateLimiter limiter, FileTime graceCutoff) {
+            this.limiter = limiter;
+            this.graceCutoff = graceCutoff;
+        }
+
+        void pace() throws InterruptedIOException {
+            try {
+                limiter.acquire();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new InterruptedIOException("File reconciliation interrupted");
+            }
+        }
+    }
+}
@@ -0,0 +1,245 @@
+package com.reportmanagement.service;
+
+import com.reportmanagement.dto.ByteRange;
+import com.reportmanagement.dto.ReportFileLocation;
+import com.reportmanagement.exception.ResourceNotFoundException;
+import com.reportmanagement.model.FileCodec;
+import com.reportmanagement.util.ContentSniffer;
+import jakarta.servlet.ServletOutputStream;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpRange;
+import org.springframework.security.core.Authentication;
+import org.springframework.stereotype.Service;
+
+import java.io.EOFException;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.ByteBuffer;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.channels.WritableByteChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.time.ZoneId;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * Service class for serving stored report files
+ *
+ * Full and single-range responses are handed to Tomcat's sendfile support, so the
+ * kernel copies the file to the socket without the bytes entering the JVM. When
+ * sendfile is unavailable, and for multi-range responses whose parts are
+ * interleaved with headers, the file is written with FileChannel.transferTo.
+ *
+ * Files stored with a codec are decoded on the fly and copied through a heap
+ * buffer instead. A range of such a file is served by decoding from the start
+ * and skipping to its first byte, so its cost grows with the range's end offset.
+ *
+ * @author Report Management Team
+ * @version 1.0.0
+ */
+@Service
+@RequiredArgsConstructor
+public class ReportFileService {
+
+    private static final String SENDFILE_SUPPORT = "org.apache.tomcat.sendfile.support";
+    private static final String SENDFILE_FILENAME = "org.apache.tomcat.sendfile.filename";
+    private static final String SENDFILE_START = "org.apache.tomcat.sendfile.start";
+    private static final String SENDFILE_END = "org.apache.tomcat.sendfile.end";
+    private static final int DECODE_BUFFER_SIZE = 64 * 1024;
+
+    private final ReportService reportService;
+    private final ReportBlobStore blobStore;
+
+    /**
+     * A report's stored file with the metadata needed to serve it
+     *
+     * @param path the file path
+     * @param length the size of the original content in bytes
+     * @param lastModified the report creation time in epoch milliseconds
+     * @param contentType the sniffed media type
+     * @param codec the file's codec, or null if stored as uploaded
+     */
+    public record StoredFile(Path path, long length, long lastModified, String contentType, FileCodec codec) {
+    }
+
+    /**
+     * Resolve the stored file of a report after checking ownership
+     *
+     * @param id the report ID
+     * @param authentication the authentication object
+     * @return the stored file
+     * @throws IOException if the file cannot be inspected
+     * @throws ResourceNotFoundException if the report or its file does not exist
+     */
+    public StoredFile getReportFile(Long id, Authentication authentication) throws IOException {
+        ReportFileLocation location = reportService.getReportFileLocation(id, authentication);
+        Path path = blobStore.resolve(location.storageKey(), location.filePath());
+        if (!Files.isRegularFile(path)) {
+            throw new ResourceNotFoundException("File not found for report with id: " + id);
+        }
+        long lastModified = location.createdAt()
+                .atZone(ZoneId.systemDefault()).toInstant().toEpochMilli();
+        if (location.codec() == null) {
+            return new StoredFile(path, Files.size(path), lastModified, ContentSniffer.sniff(path), null);
+        }
+        try (InputStream in = blobStore.open(path, location.codec())) {
+            byte[] head = in.readNBytes(ContentSniffer.SNIFF_LENGTH);
+            return new StoredFile(path, location.contentLength(), lastModified,
+                    ContentSniffer.sniff(head, head.length), location.codec());
+        }
+    }
+
+    /**
+     * Write a stored file, honouring the request's Range header
+     *
+     * @param file the stored file
+     * @param request the servlet request
+     * @param response the servlet response
+     * @throws IOException if writing the response fails
+     */
+    public void writeFile(StoredFile file, HttpServletRequest request, HttpServletResponse response)
+            throws IOException {
+        response.setHeader(HttpHeaders.ACCEPT_RANGES, "bytes");
+
+        String rangeHeader = request.getHeader(HttpHeaders.RANGE);
+        if (rangeHeader == null) {
+            response.setContentType(file.contentType());
+            transfer(file, new ByteRange(0, file.length() - 1), request, response);
+            return;
+        }
+
+        List<ByteRange> ranges;
+        try {
+            ranges = toByteRanges(HttpRange.parseRanges(rangeHeader), file.length());
+        } catch (IllegalArgumentException e) {
+            response.setHeader(HttpHeaders.CONTENT_RANGE, "bytes */" + file.length());
+            response.setStatus(HttpServletResponse.SC_REQUESTED_RANGE_NOT_SATISFIABLE);
+            return;
+        }
+
+        response.setStatus(HttpServletResponse.SC_PARTIAL_CONTENT);
+        if (ranges.size() == 1) {
+            ByteRange range = ranges.get(0);
+            response.setContentType(file.contentType());
+            response.setHeader(HttpHeaders.CONTENT_RANGE, contentRange(range, file.length()));
+            transfer(file, range, request, response);
+        } else {
+            writeMultipart(file, ranges, response);
+        }
+    }
+
+    /**
+     * Resolve parsed ranges against the file length
+     *
+     * Rejects requests whose ranges add up to more than the file, which would let
+     * overlapping ranges amplify the response.
+     */
+    private List<ByteRange> toByteRanges(List<HttpRange> httpRanges, long length) {
+        if (httpRanges.isEmpty()) {
+            throw new IllegalArgumentException("No ranges requested");
+        }
+        List<ByteRange> ranges = new ArrayList<>(httpRanges.size());
+        long total = 0;
+        for (HttpRange httpRange : httpRanges) {
+            ByteRange range = new ByteRange(httpRange.getRangeStart(length), httpRange.getRangeEnd(length));
+            total += range.length();
+            ranges.add(range);
+        }
+        if (total > length) {
+            throw new IllegalArgumentException("Requested ranges exceed the file length");
+        }
+        return ranges;
+    }
+
+    private void transfer(StoredFile file, ByteRange range, HttpServletRequest request,
+                          HttpServletResponse response) throws IOException {
+        response.setContentLengthLong(range.length());
+        if (range.length() == 0) {
+            return;
+        }
+        if (file.codec() == null && Boolean.TRUE.equals(request.getAttribute(SENDFILE_SUPPORT))) {
+            request.setAttribute(SENDFILE_FILENAME, file.path().toAbsolutePath().toString());
+            request.setAttribute(SENDFILE_START, range.start());
+            request.setAttribute(SENDFILE_END, range.end() + 1);
+            return;
+        }
+        copyRange(file, range, Channels.newChannel(response.getOutputStream()));
+    }
+
+    private void writeMultipart(StoredFile file, List<ByteRange> ranges, HttpServletResponse response)
+            throws IOException {
+        String boundary = UUID.randomUUID().toString().replace("-", "");
+        List<byte[]> partHeaders = new ArrayList<>(ranges.size());
+        byte[] closing = ("\r\n--" + boundary + "--\r\n").getBytes(StandardCharsets.US_ASCII);
+        long contentLength = closing.length;
+        for (ByteRange range : ranges) {
+            byte[] header = ("\r\n--" + boundary + "\r\n"
+                    + HttpHeaders.CONTENT_TYPE + ": " + file.contentType() + "\r\n"
+                    + HttpHeaders.CONTENT_RANGE + ": " + contentRange(range, file.length()) + "\r\n\r\n")
+                    .getBytes(StandardCharsets.US_ASCII);
+            partHeaders.add(header);
+            contentLength += header.length + range.length();
+        }
+
+        response.setContentType("multipart/byteranges; boundary=" + boundary);
+        response.setContentLengthLong(contentLength);
+
+        ServletOutputStream out = response.getOutputStream();
+        WritableByteChannel channel = Channels.newChannel(out);
+        for (int i = 0; i < ranges.size(); i++) {
+            out.write(partHeaders.get(i));
+            copyRange(file, ranges.get(i), channel);
+        }
+        out.write(closing);
+    }
+
+    private void copyRange(StoredFile file, ByteRange range, WritableByteChannel out) throws IOException {
+        if (file.codec() != null) {
+            copyDecodedRange(file, range, out);
+            return;
+        }
+        try (FileChannel in = FileChannel.open(file.path(), StandardOpenOption.READ)) {
+            long position = range.start();
+            long remaining = range.length();
+            while (remaining > 0) {
+                long transferred = in.transferTo(position, remaining, out);
+                if (transferred <= 0) {
+                    throw new EOFException("File ended before byte " + position);
+                }
+                position += transferred;
+                remaining -= transferred;
+            }
+        }
+    }
+
+    private void copyDecodedRange(StoredFile file, ByteRange range, WritableByteChannel out) throws IOException {
+        try (InputStream in = blobStore.open(file.path(), file.codec())) {
+            in.skipNBytes(range.start());
+            byte[] buffer = new byte[DECODE_BUFFER_SIZE];
+            long remaining = range.length();
+            while (remaining > 0) {
+                int read = in.read(buffer, 0, (int) Math.min(buffer.length, remaining));
+                if (read < 0) {
+                    throw new EOFException("File ended before byte " + (range.end() + 1 - remaining));
+                }
+                ByteBuffer chunk = ByteBuffer.wrap(buffer, 0, read);
+                while (chunk.hasRemaining()) {
+                    out.write(chunk);
+                }
+                remaining -= read;
+            }
+        }
+    }
+
+    private static String contentRange(ByteRange range, long length) {
+        return "bytes " + range.start() + "-" + range.end() + "/" + length;
+    }
+}
@@ -0,0 +1,126 @@
+package com.reportmanagement.service;
+
+import com.reportmanagement.event.ReportLifecycleEvent;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Background threads that drain the report event outbox
+ *
+ * Each thread delivers full batches back to back while the outbox has a
+ * backlog, and otherwise waits for the poll interval or until a lifecycle event
+ * commits on this instance. Dispatchers on several instances share the outbox
+ * through SKIP LOCKED claims. Delivery follows no order: event IDs are drawn in
+ * blocks per instance and do not follow commit order, and several dispatchers
+ * deliver their batches concurrently, so even the events of one report may
+ * arrive out of order.
+ *
+ * @author Report Management Team
+ * @version 1.0.0
+ */
+@Slf4j
+@Service
+public class ReportOutboxDispatcher implements DisposableBean {
+
+    private static final long SHUTDOWN_GRACE_MS = 10_000;
+
+    private final ReportOutboxService outboxService;
+    private final List<Thread> dispatchers = new ArrayList<>();
+    private final Object workSignal = new Object();
+    private volatile boolean running;
+
+    @Value("${reports.outbox.enabled:true}")
+    private boolean enabled;
+
+    @Value("${reports.outbox.dispatchers:1}")
+    private int dispatcherCount;
+
+    @Value("${reports.outbox.batch-size:500}")
+    private int batchSize;
+
+    @Value("${reports.outbox.poll-interval-ms:1000}")
+    private long pollIntervalMs;
+
+    public ReportOutboxDispatcher(ReportOutboxService outboxService) {
+        this.outboxService = outboxService;
+    }
+
+    /**
+     * Start the dispatchers once the application, including its migrations, is ready
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public synchronized void start() {
+        if (!enabled || running) {
+            return;
+        }
+        running = true;
+        for (int i = 0; i < dispatcherCount; i++) {
+            Thread dispatcher = new Thread(this::dispatch, "report-outbox-" + i);
+            dispatcher.setDaemon(true);
+            dispatchers.add(dispatcher);
+            dispatcher.start();
+        }
+        log.info("Report outbox dispatcher started with {} threads", dispatcherCount);
+    }
+
+    /**
+     * Wake idle dispatchers when a lifecycle event commits on this instance
+     *
+     * @param event the lifecycle event
+     */
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+    public void onReportEvent(ReportLifecycleEvent event) {
+        synchronized (workSignal) {
+            workSignal.notifyAll();
+        }
+    }
+
+    @Override
+    public void destroy() throws InterruptedException {
+        List<Thread> stopping;
+        synchronized (this) {
+            running = false;
+            stopping = new ArrayList<>(dispatchers);
+            dispatchers.clear();
+        }
+        stopping.forEach(Thread::interrupt);
+        long deadline = System.currentTimeMillis() + SHUTDOWN_GRACE_MS;
+        for (Thread dispatcher : stopping) {
+            dispatcher.join(Math.max(1, deadline - System.currentTimeMillis()));
+        }
+    }
+
+    private void dispatch() {
+        while (running) {
+            try {
+                if (outboxService.dispatch(batchSize) < batchSize) {
+                    awaitWork();
+                }
+            } catch (InterruptedException e) {
+                return;
+            } catch (Exception e) {
+                log.error("Delivering report outbox events failed", e);
+                try {
+                    Thread.sleep(pollIntervalMs);
+                } catch (InterruptedException interrupted) {
+                    return;
+                }
+            }
+        }
+    }
+
+    private void awaitWork() throws InterruptedException {
+        synchronized (workSignal) {
+            workSignal.wait(pollIntervalMs);
+        }
+    }
+}
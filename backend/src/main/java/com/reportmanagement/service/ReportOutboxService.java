@@ -0,0 +1,125 @@
+package com.reportmanagement.service;
+
+import com.reportmanagement.event.ReportEventSink;
+import com.reportmanagement.event.ReportLifecycleEvent;
+import com.reportmanagement.event.ReportOutboxMessage;
+import com.reportmanagement.model.ReportOutboxEvent;
+import com.reportmanagement.repository.ReportOutboxRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.io.IOException;
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * Service class for the transactional outbox of report lifecycle events
+ *
+ * Every lifecycle event is written to the outbox by the transaction that
+ * produces it, so an event exists if and only if its change committed. The
+ * dispatcher later delivers pending events to every {@link ReportEventSink} in
+ * batches and, in the same transaction, deletes them or, when
+ * reports.outbox.retention-hours is set, marks them for a later compaction.
+ *
+ * @author Report Management Team
+ * @version 1.0.0
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class ReportOutboxService {
+
+    private static final int COMPACTION_BATCH_SIZE = 5000;
+
+    private final ReportOutboxRepository outboxRepository;
+    private final List<ReportEventSink> sinks;
+
+    @Value("${reports.outbox.enabled:true}")
+    private boolean enabled;
+
+    @Value("${reports.outbox.retention-hours:0}")
+    private long retentionHours;
+
+    /**
+     * Write a lifecycle event to the outbox
+     *
+     * Runs synchronously in the transaction that publishes the event. Inserts
+     * are queued until the transaction flushes, so the events of a batch
+     * operation are written with batched inserts.
+     *
+     * @param event the report lifecycle event
+     */
+    @EventListener
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void record(ReportLifecycleEvent event) {
+        if (!enabled) {
+            return;
+        }
+        outboxRepository.save(ReportOutboxEvent.builder()
+                .type(event.type())
+                .reportId(event.reportId())
+                .userId(event.userId())
+                .previousStatus(event.previousStatus())
+                .status(event.status())
+                .occurredAt(event.occurredAt())
+                .build());
+    }
+
+    /**
+     * Deliver the oldest pending events to every sink and acknowledge them
+     *
+     * Events locked by another dispatcher are skipped. If a sink fails, the
+     * transaction rolls back and the events stay pending.
+     *
+     * @param limit the maximum number of events to deliver
+     * @return the number of events delivered
+     * @throws IOException if a sink fails
+     */
+    @Transactional(rollbackFor = IOException.class)
+    public int dispatch(int limit) throws IOException {
+        List<Long> ids = outboxRepository.lockPendingIds(limit);
+        if (ids.isEmpty()) {
+            return 0;
+        }
+        List<ReportOutboxMessage> messages = outboxRepository.findMessages(ids);
+        for (ReportEventSink sink : sinks) {
+            sink.deliver(messages);
+        }
+
+        if (retentionHours > 0) {
+            outboxRepository.markDispatched(ids, LocalDateTime.now());
+        } else {
+            outboxRepository.deleteByIds(ids);
+        }
+        return ids.size();
+    }
+
+    /**
+     * Delete delivered events older than the retention
+     *
+     * Deletes in bounded batches, each in its own transaction, so compaction
+     * never holds locks on a large part of the table.
+     */
+    @Scheduled(cron = "${reports.outbox.compact-cron:0 */10 * * * *}")
+    public void compact() {
+        if (retentionHours <= 0) {
+            return;
+        }
+        LocalDateTime cutoff = LocalDateTime.now().minusHours(retentionHours);
+        long total = 0;
+        int deleted;
+        do {
+            deleted = outboxRepository.deleteDispatchedBefore(cutoff, COMPACTION_BATCH_SIZE);
+            total += deleted;
+        } while (deleted == COMPACTION_BATCH_SIZE);
+        if (total > 0) {
+            log.info("Compacted {} delivered outbox events", total);
+        }
+    }
+}
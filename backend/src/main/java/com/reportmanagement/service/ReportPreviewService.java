@@ -0,0 +1,299 @@
+package com.reportmanagement.service;
+
+import com.reportmanagement.dto.ReportFileLocation;
+import com.reportmanagement.event.ReportLifecycleEvent;
+import com.reportmanagement.exception.ResourceNotFoundException;
+import com.reportmanagement.model.FileCodec;
+import com.reportmanagement.model.ReportChangeType;
+import com.reportmanagement.repository.ReportRepository;
+import com.reportmanagement.storage.ReportStorage;
+import com.reportmanagement.util.ContentSniffer;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.security.core.Authentication;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import javax.imageio.ImageIO;
+import javax.imageio.ImageReadParam;
+import javax.imageio.ImageReader;
+import javax.imageio.stream.FileCacheImageInputStream;
+import javax.imageio.stream.ImageInputStream;
+import java.awt.Graphics2D;
+import java.awt.RenderingHints;
+import java.awt.image.BufferedImage;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Iterator;
+import java.util.Set;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Service class for report preview images
+ *
+ * Once a report's insert commits, image uploads are queued for a small worker
+ * pool that writes a preview no larger than reports.previews.max-dimension on
+ * either side. Images are read with source subsampling, so the decoder only
+ * keeps every n-th pixel and a huge scan never has to fit in memory at full
+ * resolution. Previews are stored as a variant beside the blob file, so every
+ * report sharing the content shares one preview.
+ *
+ * The queue is bounded: when it is full, new work is dropped, and a request for
+ * a missing preview of an image queues it again. Blobs found to have no preview,
+ * because they are not images or cannot be decoded, are remembered by storage
+ * key, so requests for them are answered without reading the file or queuing
+ * work. Keys are content hashes, so an entry never goes stale; the set is
+ * cleared when it reaches reports.previews.negative-cache-size.
+ *
+ * @author Report Management Team
+ * @version 1.0.0
+ */
+@Slf4j
+@Service
+public class ReportPreviewService implements DisposableBean {
+
+    private static final Set<String> IMAGE_TYPES = Set.of("image/jpeg", "image/png", "image/gif", "image/tiff");
+
+    private final ReportService reportService;
+    private final ReportRepository reportRepository;
+    private final ReportBlobStore blobStore;
+    private final ReportStorage storage;
+    private final ThreadPoolExecutor executor;
+    private final Set<Long> pending = ConcurrentHashMap.newKeySet();
+    private final Set<String> withoutPreview = ConcurrentHashMap.newKeySet();
+
+    @Value("${reports.previews.enabled:true}")
+    private boolean enabled;
+
+    @Value("${reports.previews.max-dimension:320}")
+    private int maxDimension;
+
+    @Value("${reports.previews.negative-cache-size:10000}")
+    private int negativeCacheSize;
+
+    public ReportPreviewService(
+            ReportService reportService,
+            ReportRepository reportRepository,
+            ReportBlobStore blobStore,
+            ReportStorage storage,
+            @Value("${reports.previews.threads:2}") int threads,
+            @Value("${reports.previews.queue-capacity:200}") int queueCapacity
+    ) {
+        this.reportService = reportService;
+        this.reportRepository = reportRepository;
+        this.blobStore = blobStore;
+        this.storage = storage;
+        this.executor = new ThreadPoolExecutor(threads, threads, 0L, TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(queueCapacity), runnable -> {
+                    Thread thread = new Thread(runnable, "report-preview");
+                    thread.setDaemon(true);
+                    thread.setPriority(Thread.MIN_PRIORITY);
+                    return thread;
+                });
+    }
+
+    /**
+     * A stored preview image
+     *
+     * @param path the preview file
+     * @param contentType the preview's media type
+     * @param etag the entity tag, derived from the content hash of the original
+     */
+    public record Preview(Path path, String contentType, String etag) {
+    }
+
+    /**
+     * Queue preview generation for new reports once their insert has committed
+     *
+     * @param event the lifecycle event
+     */
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+    public void onReportCreated(ReportLifecycleEvent event) {
+        if (event.type() == ReportChangeType.CREATED) {
+            schedule(event.reportId());
+        }
+    }
+
+    /**
+     * Find the preview of a report after checking ownership
+     *
+     * @param id the report ID
+     * @param authentication the authentication object
+     * @return the stored preview
+     * @throws IOException if the preview cannot be inspected
+     * @throws ResourceNotFoundException if the report has no preview, yet or at all
+     */
+    public Preview getPreview(Long id, Authentication authentication) throws IOException {
+        ReportFileLocation location = reportService.getReportFileLocation(id, authentication);
+        String storageKey = location.storageKey();
+        if (storageKey != null && !withoutPreview.contains(storageKey)) {
+            Path path = storage.resolve(storage.variantKey(storageKey, ReportBlobStore.PREVIEW_VARIANT));
+            if (Files.isRegularFile(path)) {
+                String hash = storageKey.substring(storageKey.lastIndexOf('/') + 1);
+                return new Preview(path, ContentSniffer.sniff(path), "\"" + hash + "\"");
+            }
+            // A missing file is flagged by the reconciler and may come back, so it is not remembered
+            Path source = storage.resolve(storageKey);
+            if (Files.isRegularFile(source)) {
+                if (isImage(source, location.codec())) {
+                    schedule(id);
+                } else {
+                    markWithoutPreview(storageKey);
+                }
+            }
+        }
+        throw new ResourceNotFoundException("Preview not available for report with id: " + id);
+    }
+
+    @Override
+    public void destroy() {
+        executor.shutdownNow();
+    }
+
+    private void schedule(Long reportId) {
+        if (!enabled || !pending.add(reportId)) {
+            return;
+        }
+        try {
+            executor.execute(() -> {
+                try {
+                    generate(reportId);
+                } catch (Exception e) {
+                    log.warn("Failed to generate preview for report {}: {}", reportId, e.getMessage());
+                } finally {
+                    pending.remove(reportId);
+                }
+            });
+        } catch (RejectedExecutionException e) {
+            pending.remove(reportId);
+            log.debug("Preview queue is full, skipping report {}", reportId);
+        }
+    }
+
+    private void generate(Long reportId) throws IOException {
+        ReportFileLocation location = reportRepository.findFileLocationById(reportId).orElse(null);
+        if (location == null || location.storageKey() == null) {
+            return;
+        }
+        String previewKey = storage.variantKey(location.storageKey(), ReportBlobStore.PREVIEW_VARIANT);
+        if (storage.exists(previewKey)) {
+            return;
+        }
+        Path source = storage.resolve(location.storageKey());
+        BufferedImage image = isImage(source, location.codec()) ? readSubsampled(source, location.codec()) : null;
+        if (image == null) {
+            markWithoutPreview(location.storageKey());
+            return;
+        }
+
+        BufferedImage preview = scale(image);
+        boolean alpha = preview.getColorModel().hasAlpha();
+        Path temp = Files.createTempFile("report-preview", alpha ? ".png" : ".jpg");
+        try {
+            if (!ImageIO.write(preview, alpha ? "png" : "jpg", temp.toFile())) {
+                throw new IOException("No image writer available for the preview");
+            }
+            storage.storeVariant(temp, previewKey);
+        } finally {
+            Files.deleteIfExists(temp);
+        }
+    }
+
+    /**
+     * Whether a stored file is an image a preview can be made of, from the
+     * leading bytes of its original content
+     */
+    private boolean isImage(Path source, FileCodec codec) throws IOException {
+        try (InputStream in = blobStore.open(source, codec)) {
+            byte[] head = in.readNBytes(ContentSniffer.SNIFF_LENGTH);
+            return IMAGE_TYPES.contains(ContentSniffer.sniff(head, head.length));
+        }
+    }
+
+    private void markWithoutPreview(String storageKey) {
+        if (withoutPreview.size() >= negativeCacheSize) {
+            withoutPreview.clear();
+        }
+        withoutPreview.add(storageKey);
+    }
+
+    /**
+     * Decode an image at the coarsest subsampling that still covers the preview
+     * size, or return null if no image reader accepts the file
+     */
+    private BufferedImage readSubsampled(Path source, FileCodec codec) throws IOException {
+        try (ImageInputStream input = openImage(source, codec)) {
+            Iterator<ImageReader> readers = ImageIO.getImageReaders(input);
+            if (!readers.hasNext()) {
+                return null;
+            }
+            ImageReader reader = readers.next();
+            try {
+                reader.setInput(input, true, true);
+                int longestSide = Math.max(reader.getWidth(0), reader.getHeight(0));
+                int subsampling = Math.max(1, longestSide / maxDimension);
+                ImageReadParam param = reader.getDefaultReadParam();
+                param.setSourceSubsampling(subsampling, subsampling, 0, 0);
+                return reader.read(0, param);
+            } finally {
+                reader.dispose();
+            }
+        }
+    }
+
+    /**
+     * Open a stored image for random access, reading plain files in place and
+     * caching decoded content in a temporary file
+     */
+    private ImageInputStream openImage(Path source, FileCodec codec) throws IOException {
+        if (codec == null) {
+            return ImageIO.createImageInputStream(source.toFile());
+        }
+        InputStream content = blobStore.open(source, codec);
+        try {
+            return new FileCacheImageInputStream(content, null) {
+                @Override
+                public void close() throws IOException {
+                    try {
+                        super.close();
+                    } finally {
+                        content.close();
+                    }
+                }
+            };
+        } catch (IOException | RuntimeException e) {
+            content.close();
+            throw e;
+        }
+    }
+
+    /**
+     * Scale an image to fit the preview size, converting it to plain RGB or ARGB
+     * so that any source color model can be encoded
+     */
+    private BufferedImage scale(BufferedImage image) {
+        double factor = Math.min(1.0, (double) maxDimension / Math.max(image.getWidth(), image.getHeight()));
+        int width = Math.max(1, (int) Math.round(image.getWidth() * factor));
+        int height = Math.max(1, (int) Math.round(image.getHeight() * factor));
+        boolean alpha = image.getColorModel().hasAlpha();
+
+        BufferedImage scaled = new BufferedImage(width, height,
+                alpha ? BufferedImage.TYPE_INT_ARGB : BufferedImage.TYPE_INT_RGB);
+        Graphics2D graphics = scaled.createGraphics();
+        try {
+            graphics.setRenderingHint(RenderingHints.KEY_INTERPOLATION, RenderingHints.VALUE_INTERPOLATION_BILINEAR);
+            graphics.drawImage(image, 0, 0, width, height, null);
+        } finally {
+            graphics.dispose();
+        }
+        return scaled;
+    }
+}
@@ -0,0 +1,260 @@
+package com.reportmanagement.service;
+
+import com.reportmanagement.dto.ProcessingMetricsResponse;
+import com.reportmanagement.dto.ReportWorkItem;
+import com.reportmanagement.event.ReportLifecycleEvent;
+import com.reportmanagement.exception.UnauthorizedException;
+import com.reportmanagement.model.ReportChangeType;
+import com.reportmanagement.model.ReportStatus;
+import com.reportmanagement.model.ReportStatusCount;
+import com.reportmanagement.model.User;
+import com.reportmanagement.processing.ReportDocument;
+import com.reportmanagement.processing.ReportProcessor;
+import com.reportmanagement.util.StageTimer;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.security.core.Authentication;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Built-in engine that drives reports from UPLOADED through PROCESSING to COMPLETED
+ *
+ * Each worker thread claims a batch of UPLOADED reports in one short transaction,
+ * runs the configured {@link ReportProcessor} on each with no connection held,
+ * and completes each report in its own short transaction. Claims skip rows locked
+ * by other claimers, so workers on several instances drain the same queue
+ * without double processing or waiting on each other. Idle workers poll, and are
+ * woken early when a report is created on this instance.
+ *
+ * A report whose processing fails is returned to UPLOADED with a backoff, or
+ * moved to FAILED once it has used all its attempts. Claimed reports not yet
+ * processed at shutdown are returned to UPLOADED without counting the attempt.
+ * Reports whose worker dies without either are re-driven by
+ * {@link ReportProcessingReaper}.
+ *
+ * @author Report Management Team
+ * @version 1.0.0
+ */
+@Slf4j
+@Service
+public class ReportProcessingEngine implements DisposableBean {
+
+    private static final long SHUTDOWN_GRACE_MS = 10_000;
+
+    private final ReportProcessingService processingService;
+    private final ReportStatsService reportStatsService;
+    private final ReportProcessor processor;
+    private final ReportBlobStore blobStore;
+    private final StageTimer claimTimer = new StageTimer();
+    private final StageTimer processTimer = new StageTimer();
+    private final StageTimer completeTimer = new StageTimer();
+    private final List<Thread> workers = new ArrayList<>();
+    private final Object workSignal = new Object();
+    private volatile boolean running;
+
+    @Value("${reports.processing.enabled:true}")
+    private boolean enabled;
+
+    @Value("${reports.processing.workers:2}")
+    private int workerCount;
+
+    @Value("${reports.processing.batch-size:10}")
+    private int batchSize;
+
+    @Value("${reports.processing.poll-interval-ms:5000}")
+    private long pollIntervalMs;
+
+    public ReportProcessingEngine(
+            ReportProcessingService processingService,
+            ReportStatsService reportStatsService,
+            ReportProcessor processor,
+            ReportBlobStore blobStore
+    ) {
+        this.processingService = processingService;
+        this.reportStatsService = reportStatsService;
+        this.processor = processor;
+        this.blobStore = blobStore;
+    }
+
+    /**
+     * Start the workers once the application, including its migrations, is ready
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public synchronized void start() {
+        if (!enabled || running) {
+            return;
+        }
+        running = true;
+        for (int i = 0; i < workerCount; i++) {
+            Thread worker = new Thread(this::work, "report-processor-" + i);
+            worker.setDaemon(true);
+            workers.add(worker);
+            worker.start();
+        }
+        log.info("Report processing engine started with {} workers", workerCount);
+    }
+
+    /**
+     * Wake idle workers when a report is created on this instance
+     *
+     * @param event the lifecycle event
+     */
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+    public void onReportCreated(ReportLifecycleEvent event) {
+        if (event.type() == ReportChangeType.CREATED) {
+            synchronized (workSignal) {
+                workSignal.notifyAll();
+            }
+        }
+    }
+
+    /**
+     * Get the queue depth and this instance's stage timings
+     *
+     * @param authentication the authentication object
+     * @return the processing metrics
+     * @throws UnauthorizedException if the user is not an administrator
+     */
+    public ProcessingMetricsResponse getMetrics(Authentication authentication) {
+        User user = (User) authentication.getPrincipal();
+        if (user.getRole() == null || !"ADMIN".equalsIgnoreCase(user.getRole())) {
+            throw new UnauthorizedException("Only administrators can view processing metrics");
+        }
+
+        ReportStatusCount counts = reportStatsService.getGlobalCounts();
+        Map<String, ProcessingMetricsResponse.StageMetrics> stages = new LinkedHashMap<>();
+        stages.put("claim", toMetrics(claimTimer));
+        stages.put("process", toMetrics(processTimer));
+        stages.put("complete", toMetrics(completeTimer));
+
+        return ProcessingMetricsResponse.builder()
+                .queueDepth(counts.getUploadedCount())
+                .inProgress(counts.getProcessingCount())
+                .failed(counts.getFailedCount())
+                .workers(running ? workerCount : 0)
+                .stages(stages)
+                .build();
+    }
+
+    @Override
+    public void destroy() throws InterruptedException {
+        List<Thread> stopping;
+        synchronized (this) {
+            running = false;
+            stopping = new ArrayList<>(workers);
+            workers.clear();
+        }
+        stopping.forEach(Thread::interrupt);
+        long deadline = System.currentTimeMillis() + SHUTDOWN_GRACE_MS;
+        for (Thread worker : stopping) {
+            worker.join(Math.max(1, deadline - System.currentTimeMillis()));
+        }
+    }
+
+    private void work() {
+        while (running) {
+            try {
+                List<ReportWorkItem> batch = claim();
+                if (batch.isEmpty()) {
+                    awaitWork();
+                } else {
+                    processBatch(batch);
+                }
+            } catch (InterruptedException e) {
+                return;
+            } catch (RuntimeException e) {
+                log.error("Report processing worker failed", e);
+                try {
+                    Thread.sleep(pollIntervalMs);
+                } catch (InterruptedException interrupted) {
+                    return;
+                }
+            }
+        }
+    }
+
+    private List<ReportWorkItem> claim() {
+        long start = System.nanoTime();
+        boolean succeeded = false;
+        try {
+            List<ReportWorkItem> batch = processingService.claim(batchSize);
+            succeeded = true;
+            return batch;
+        } finally {
+            claimTimer.record(System.nanoTime() - start, succeeded);
+        }
+    }
+
+    private void processBatch(List<ReportWorkItem> batch) throws InterruptedException {
+        for (int i = 0; i < batch.size(); i++) {
+            if (!running || Thread.currentThread().isInterrupted()) {
+                // Clear the interrupt so the release can use the database
+                Thread.interrupted();
+                processingService.release(batch.subList(i, batch.size()));
+                throw new InterruptedException("Report processing engine stopped");
+            }
+            process(batch.get(i));
+        }
+    }
+
+    private void process(ReportWorkItem item) {
+        long start = System.nanoTime();
+        String summary;
+        try {
+            ReportDocument document = new ReportDocument(item.id(), item.name(), item.type(),
+                    () -> blobStore.open(blobStore.resolve(item.storageKey(), item.filePath()), item.codec()));
+            summary = processor.process(document);
+            processTimer.record(System.nanoTime() - start, true);
+        } catch (Exception e) {
+            processTimer.record(System.nanoTime() - start, false);
+            ReportStatus outcome = processingService.fail(item);
+            if (outcome == ReportStatus.FAILED) {
+                log.warn("Processing report {} failed after {} attempts: {}",
+                        item.id(), item.attempts(), e.getMessage());
+            } else if (outcome == ReportStatus.UPLOADED) {
+                log.warn("Processing report {} failed on attempt {}, will retry: {}",
+                        item.id(), item.attempts(), e.getMessage());
+            } else {
+                log.info("Report {} was deleted or changed status while being processed", item.id());
+            }
+            return;
+        }
+
+        start = System.nanoTime();
+        boolean succeeded = false;
+        try {
+            if (!processingService.complete(item, summary)) {
+                log.info("Report {} was deleted or changed status while being processed", item.id());
+            }
+            succeeded = true;
+        } finally {
+            completeTimer.record(System.nanoTime() - start, succeeded);
+        }
+    }
+
+    private void awaitWork() throws InterruptedException {
+        synchronized (workSignal) {
+            workSignal.wait(pollIntervalMs);
+        }
+    }
+
+    private static ProcessingMetricsResponse.StageMetrics toMetrics(StageTimer timer) {
+        return ProcessingMetricsResponse.StageMetrics.builder()
+                .count(timer.getCount())
+                .failures(timer.getFailures())
+                .meanMillis(timer.getMeanMillis())
+                .maxMillis(timer.getMaxMillis())
+                .totalMillis(timer.getTotalMillis())
+                .build();
+    }
+}
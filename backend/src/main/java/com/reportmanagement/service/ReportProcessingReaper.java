@@ -0,0 +1,89 @@
+package com.reportmanagement.service;
+
+import com.reportmanagement.dto.StuckReport;
+import com.reportmanagement.model.ReportStatus;
+import com.reportmanagement.repository.ReportRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Scheduled re-drive of reports stuck in PROCESSING
+ *
+ * A report stays PROCESSING if the worker or client processing it dies before
+ * completing it. Every sweep pages through the PROCESSING reports older than
+ * reports.processing.reaper.stuck-timeout-minutes, oldest first, and returns
+ * each to UPLOADED with a backoff, or moves it to FAILED once it has used all
+ * its attempts (see {@link ReportProcessingService#redrive}).
+ *
+ * Pages are read from a partial index holding only PROCESSING reports and
+ * continue after the last report of the previous page, so a sweep reads each
+ * stuck report once and nothing else, however large the table grows. Every page
+ * is re-driven in its own short transaction. Sweeps on several instances may
+ * overlap; each report is re-driven by only one of them.
+ *
+ * @author Report Management Team
+ * @version 1.0.0
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class ReportProcessingReaper {
+
+    private static final LocalDateTime KEYSET_START = LocalDateTime.of(1970, 1, 1, 0, 0);
+
+    private final ReportRepository reportRepository;
+    private final ReportProcessingService processingService;
+
+    @Value("${reports.processing.reaper.enabled:true}")
+    private boolean enabled;
+
+    @Value("${reports.processing.reaper.stuck-timeout-minutes:30}")
+    private long stuckTimeoutMinutes;
+
+    @Value("${reports.processing.reaper.batch-size:100}")
+    private int batchSize;
+
+    /**
+     * Re-drive every report that has been PROCESSING for longer than the timeout
+     */
+    @Scheduled(fixedDelayString = "${reports.processing.reaper.interval-ms:60000}")
+    public void sweep() {
+        if (!enabled) {
+            return;
+        }
+
+        LocalDateTime cutoff = LocalDateTime.now().minusMinutes(stuckTimeoutMinutes);
+        LocalDateTime afterChangedAt = KEYSET_START;
+        long afterId = 0L;
+        int retried = 0;
+        int failed = 0;
+
+        List<StuckReport> page;
+        do {
+            page = reportRepository.findStuckProcessing(cutoff, afterChangedAt, afterId, PageRequest.of(0, batchSize));
+            if (page.isEmpty()) {
+                break;
+            }
+            Map<ReportStatus, Integer> outcomes = processingService.redrive(page);
+            retried += outcomes.getOrDefault(ReportStatus.UPLOADED, 0);
+            failed += outcomes.getOrDefault(ReportStatus.FAILED, 0);
+
+            StuckReport last = page.get(page.size() - 1);
+            afterChangedAt = last.statusChangedAt();
+            afterId = last.id();
+        } while (page.size() == batchSize);
+
+        if (retried > 0 || failed > 0) {
+            log.warn("Re-drove reports stuck in PROCESSING since before {}: {} queued for retry, {} failed",
+                    cutoff, retried, failed);
+        }
+    }
+}
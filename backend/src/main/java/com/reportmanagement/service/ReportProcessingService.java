@@ -0,0 +1,200 @@
+package com.reportmanagement.service;
+
+import com.reportmanagement.dto.ReportWorkItem;
+import com.reportmanagement.dto.StuckReport;
+import com.reportmanagement.event.ReportLifecycleEvent;
+import com.reportmanagement.model.ReportChangeType;
+import com.reportmanagement.model.ReportStatus;
+import com.reportmanagement.repository.ReportRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Service class for the status changes made by the processing engine
+ *
+ * Each method is one short transaction, so the engine holds no connection while
+ * a report is processed. Status changes keep the status counters and lifecycle
+ * events in step exactly as manual status updates do.
+ *
+ * A claim is identified by the status change timestamp it set; completing,
+ * retrying or failing a report only succeeds while that claim is current, so a
+ * worker that outlives its claim cannot overwrite a later one. Failed attempts
+ * return the report to UPLOADED after an exponential backoff until
+ * reports.processing.retry.max-attempts is reached, then the report is FAILED.
+ *
+ * @author Report Management Team
+ * @version 1.0.0
+ */
+@Service
+@RequiredArgsConstructor
+public class ReportProcessingService {
+
+    private final ReportRepository reportRepository;
+    private final ReportStatsService reportStatsService;
+    private final ApplicationEventPublisher eventPublisher;
+
+    @Value("${reports.processing.retry.max-attempts:5}")
+    private int maxAttempts;
+
+    @Value("${reports.processing.retry.backoff-base-seconds:30}")
+    private long backoffBaseSeconds;
+
+    @Value("${reports.processing.retry.backoff-max-seconds:3600}")
+    private long backoffMaxSeconds;
+
+    /**
+     * Claim a batch of UPLOADED reports and move them to PROCESSING
+     *
+     * Rows locked by another claimer are skipped rather than waited for, so any
+     * number of workers on any number of instances can claim concurrently, and
+     * each report is claimed by exactly one of them. Reports still in their retry
+     * backoff are left alone.
+     *
+     * @param limit the maximum number of reports to claim
+     * @return the claimed reports
+     */
+    @Transactional
+    public List<ReportWorkItem> claim(int limit) {
+        LocalDateTime now = LocalDateTime.now();
+        List<Long> ids = reportRepository.lockUploadedIds(now, limit);
+        if (ids.isEmpty()) {
+            return List.of();
+        }
+        reportRepository.startProcessing(ids, now);
+        List<ReportWorkItem> items = reportRepository.findWorkItems(ids);
+        recordTransitions(items, ReportStatus.UPLOADED, ReportStatus.PROCESSING, now);
+        return items;
+    }
+
+    /**
+     * Store the summary of a processed report and move it to COMPLETED
+     *
+     * @param item the claimed report
+     * @param summary the generated summary
+     * @return false if the report was deleted, changed status or claimed again in the meantime
+     */
+    @Transactional
+    public boolean complete(ReportWorkItem item, String summary) {
+        LocalDateTime now = LocalDateTime.now();
+        if (reportRepository.completeProcessing(item.id(), item.statusChangedAt(), summary, now) == 0) {
+            return false;
+        }
+        recordTransitions(List.of(item), ReportStatus.PROCESSING, ReportStatus.COMPLETED, now);
+        return true;
+    }
+
+    /**
+     * Return claimed reports that were not processed to the queue
+     *
+     * The abandoned attempts are not counted and the reports are not held back.
+     *
+     * @param items the claimed reports
+     */
+    @Transactional
+    public void release(List<ReportWorkItem> items) {
+        LocalDateTime now = LocalDateTime.now();
+        List<ReportWorkItem> released = items.stream()
+                .filter(item -> reportRepository.requeueProcessing(
+                        item.id(), item.statusChangedAt(), null, 1, now) == 1)
+                .toList();
+        recordTransitions(released, ReportStatus.PROCESSING, ReportStatus.UPLOADED, now);
+    }
+
+    /**
+     * Record a failed attempt at a claimed report
+     *
+     * The report is returned to UPLOADED with a backoff, or moved to FAILED if it
+     * has used all its attempts.
+     *
+     * @param item the claimed report
+     * @return the new status, or null if the report is no longer under this claim
+     */
+    @Transactional
+    public ReportStatus fail(ReportWorkItem item) {
+        return retryOrFail(item, LocalDateTime.now());
+    }
+
+    /**
+     * Re-drive reports stuck in PROCESSING since before a cutoff
+     *
+     * Each report is returned to UPLOADED with a backoff, or moved to FAILED if it
+     * has used all its attempts. Reports that completed, or were claimed again,
+     * since they were found are left alone.
+     *
+     * @param stuck reports found by {@link ReportRepository#findStuckProcessing}
+     * @return the number of reports returned to UPLOADED and moved to FAILED, by new status
+     */
+    @Transactional
+    public Map<ReportStatus, Integer> redrive(List<StuckReport> stuck) {
+        LocalDateTime now = LocalDateTime.now();
+        Map<Long, LocalDateTime> foundAt = new HashMap<>();
+        for (StuckReport report : stuck) {
+            foundAt.put(report.id(), report.statusChangedAt());
+        }
+
+        Map<ReportStatus, Integer> outcomes = new EnumMap<>(ReportStatus.class);
+        for (ReportWorkItem item : reportRepository.findWorkItems(List.copyOf(foundAt.keySet()))) {
+            if (!item.statusChangedAt().equals(foundAt.get(item.id()))) {
+                continue;
+            }
+            ReportStatus outcome = retryOrFail(item, now);
+            if (outcome != null) {
+                outcomes.merge(outcome, 1, Integer::sum);
+            }
+        }
+        return outcomes;
+    }
+
+    private ReportStatus retryOrFail(ReportWorkItem item, LocalDateTime now) {
+        ReportStatus outcome;
+        int updated;
+        if (item.attempts() >= maxAttempts) {
+            outcome = ReportStatus.FAILED;
+            updated = reportRepository.failProcessing(item.id(), item.statusChangedAt(), now);
+        } else {
+            outcome = ReportStatus.UPLOADED;
+            updated = reportRepository.requeueProcessing(
+                    item.id(), item.statusChangedAt(), now.plusSeconds(backoffSeconds(item.attempts())), 0, now);
+        }
+        if (updated == 0) {
+            return null;
+        }
+        recordTransitions(List.of(item), ReportStatus.PROCESSING, outcome, now);
+        return outcome;
+    }
+
+    /**
+     * Delay before the next attempt: the base delay doubled for each attempt made
+     * after the first, capped at the maximum
+     */
+    long backoffSeconds(int attempts) {
+        int doublings = Math.max(attempts - 1, 0);
+        // A shift into the sign bit would wrap below the cap
+        if (doublings >= Long.numberOfLeadingZeros(backoffBaseSeconds) - 1) {
+            return backoffMaxSeconds;
+        }
+        return Math.min(backoffBaseSeconds << doublings, backoffMaxSeconds);
+    }
+
+    private void recordTransitions(List<ReportWorkItem> items, ReportStatus from, ReportStatus to,
+                                   LocalDateTime now) {
+        Map<Long, Long> countsByUser = new HashMap<>();
+        for (ReportWorkItem item : items) {
+            countsByUser.merge(item.userId(), 1L, Long::sum);
+        }
+        reportStatsService.recordTransitions(countsByUser, from, to);
+        for (ReportWorkItem item : items) {
+            eventPublisher.publishEvent(new ReportLifecycleEvent(
+                    ReportChangeType.UPDATED, item.id(), item.userId(), from, to, now));
+        }
+    }
+}
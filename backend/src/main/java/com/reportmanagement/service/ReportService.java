@@ -1,30 +1,64 @@
 package com.reportmanagement.service;
 
+import com.reportmanagement.dto.BulkStatusUpdateRequest;
+import com.reportmanagement.dto.BulkStatusUpdateResponse;
+import com.reportmanagement.dto.CursorPage;
+import com.reportmanagement.dto.ReportChangeKey;
+import com.reportmanagement.dto.ReportChangeResponse;
+import com.reportmanagement.dto.ReportFileLocation;
 import com.reportmanagement.dto.ReportRequest;
 import com.reportmanagement.dto.ReportResponse;
+import com.reportmanagement.dto.ReportSearchHit;
+import com.reportmanagement.dto.ReportSearchCriteria;
+import com.reportmanagement.dto.ReportTransition;
+import com.reportmanagement.dto.ReportVersion;
+import com.reportmanagement.dto.ReportView;
+import com.reportmanagement.dto.ResourceVersion;
 import com.reportmanagement.dto.StatusUpdateRequest;
+import com.reportmanagement.event.ReportLifecycleEvent;
+import com.reportmanagement.exception.CursorExpiredException;
+import com.reportmanagement.exception.InvalidRequestException;
 import com.reportmanagement.exception.InvalidStatusTransitionException;
 import com.reportmanagement.exception.ResourceNotFoundException;
 import com.reportmanagement.exception.UnauthorizedException;
 import com.reportmanagement.model.Report;
+import com.reportmanagement.model.ReportChangeType;
 import com.reportmanagement.model.ReportStatus;
+import com.reportmanagement.model.ReportStatusCount;
+import com.reportmanagement.model.ReportTombstone;
 import com.reportmanagement.model.User;
 import com.reportmanagement.repository.ReportRepository;
+import com.reportmanagement.repository.ReportTombstoneRepository;
+import com.reportmanagement.util.ChangeCursor;
+import com.reportmanagement.util.KeysetCursor;
+import com.reportmanagement.util.RankCursor;
 import lombok.RequiredArgsConstructor;
 import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.security.core.Authentication;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
-import org.springframework.web.multipart.MultipartFile;
 
 import java.io.IOException;
-import java.nio.file.Files;
-import java.nio.file.Path;
-import java.nio.file.Paths;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
 import java.time.format.DateTimeFormatter;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
 import java.util.List;
-import java.util.UUID;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.function.Function;
 import java.util.stream.Collectors;
+import java.util.stream.IntStream;
 
 /**
  * Service class for handling report operations
@@ -37,29 +71,328 @@ import java.util.stream.Collectors;
 public class ReportService {
 
     private final ReportRepository reportRepository;
+    private final ReportStatsService reportStatsService;
+    private final ReportBlobStore blobStore;
+    private final ReportTombstoneRepository tombstoneRepository;
+    private final ApplicationEventPublisher eventPublisher;
 
-    @Value("${file.upload-dir}")
-    private String uploadDir;
+    @Value("${reports.changes.tombstone-retention-days:30}")
+    private int tombstoneRetentionDays;
+
+    @Value("${reports.status-updates.max-ids:1000}")
+    private int maxBulkStatusIds;
 
     private static final DateTimeFormatter DATE_FORMATTER = DateTimeFormatter.ofPattern("yyyy-MM-dd");
 
+    private static final int DEFAULT_PAGE_SIZE = 20;
+    private static final int MAX_PAGE_SIZE = 100;
+
     /**
      * Get all reports for the authenticated user
      *
+     * @param includeSummary whether to load the summary of each report
      * @param authentication the authentication object containing user details
      * @return list of report responses
      */
-    public List<ReportResponse> getAllReports(Authentication authentication) {
+    public List<ReportResponse> getAllReports(boolean includeSummary, Authentication authentication) {
         User user = getAuthenticatedUser(authentication);
-        List<Report> reports = isAdmin(user)
-            ? reportRepository.findAll()
-            : reportRepository.findByUserIdOrderByCreatedAtDesc(user.getId());
+        List<ReportView> reports;
+        if (isAdmin(user)) {
+            reports = includeSummary
+                    ? reportRepository.findAllDetailViews()
+                    : reportRepository.findAllViews();
+        } else {
+            reports = includeSummary
+                    ? reportRepository.findDetailViewsByUserId(user.getId())
+                    : reportRepository.findViewsByUserId(user.getId());
+        }
         return reports.stream()
-            .sorted((r1, r2) -> r2.getCreatedAt().compareTo(r1.getCreatedAt()))
                 .map(this::mapToResponse)
                 .collect(Collectors.toList());
     }
 
+    /**
+     * Get one keyset page of reports for the authenticated user
+     *
+     * Pages are ordered by createdAt DESC, id DESC and located with a range predicate
+     * on the last seen sort key, so the cost of a page does not grow with its depth.
+     *
+     * @param limit the requested page size, clamped to [1, MAX_PAGE_SIZE]
+     * @param after the cursor returned with the previous page, or null for the first page
+     * @param includeSummary whether to load the summary of each report
+     * @param authentication the authentication object containing user details
+     * @return the page of report responses and the cursor for the next page
+     * @throws InvalidRequestException if the cursor is malformed
+     */
+    public CursorPage<ReportResponse> getReportPage(
+            Integer limit,
+            String after,
+            boolean includeSummary,
+            Authentication authentication
+    ) {
+        User user = getAuthenticatedUser(authentication);
+        int pageSize = clampPageSize(limit);
+        // Fetch one extra row to find out whether another page exists
+        Pageable pageable = PageRequest.ofSize(pageSize + 1);
+        KeysetCursor cursor = after != null && !after.isBlank() ? KeysetCursor.decode(after) : null;
+
+        List<ReportView> reports;
+        if (isAdmin(user)) {
+            reports = cursor == null
+                    ? reportRepository.findKeysetFirstPage(pageable)
+                    : reportRepository.findKeysetPageAfter(cursor.timestamp(), cursor.id(), pageable);
+        } else {
+            reports = cursor == null
+                    ? reportRepository.findKeysetFirstPageByUserId(user.getId(), pageable)
+                    : reportRepository.findKeysetPageAfterByUserId(
+                            user.getId(), cursor.timestamp(), cursor.id(), pageable);
+        }
+
+        return toCursorPage(reports, pageSize, includeSummary);
+    }
+
+    /**
+     * Search reports visible to the authenticated user
+     *
+     * Results are keyset-paginated in the same order and with the same cursor
+     * format as {@link #getReportPage}.
+     *
+     * @param criteria the search filters
+     * @param limit the requested page size, clamped to [1, MAX_PAGE_SIZE]
+     * @param after the cursor returned with the previous page, or null for the first page
+     * @param includeSummary whether to load the summary of each report
+     * @param authentication the authentication object containing user details
+     * @return the page of matching report responses and the cursor for the next page
+     * @throws InvalidRequestException if a range or the cursor is invalid
+     */
+    public CursorPage<ReportResponse> searchReports(
+            ReportSearchCriteria criteria,
+            Integer limit,
+            String after,
+            boolean includeSummary,
+            Authentication authentication
+    ) {
+        User user = getAuthenticatedUser(authentication);
+        validateRange("reportDate", criteria.getReportDateFrom(), criteria.getReportDateTo());
+        validateRange("createdAt", criteria.getCreatedFrom(), criteria.getCreatedTo());
+
+        int pageSize = clampPageSize(limit);
+        KeysetCursor cursor = after != null && !after.isBlank() ? KeysetCursor.decode(after) : null;
+        Long ownerId = isAdmin(user) ? null : user.getId();
+
+        List<ReportView> reports = reportRepository.search(criteria, ownerId, cursor, pageSize + 1);
+        return toCursorPage(reports, pageSize, includeSummary);
+    }
+
+    /**
+     * Full-text search over name and summary of reports visible to the authenticated user
+     *
+     * Matching IDs are ranked in PostgreSQL using the GIN-indexed search vector and
+     * keyset-paginated on (rank DESC, id DESC); only the rows of the requested page
+     * are then loaded.
+     *
+     * @param query the search terms
+     * @param limit the requested page size, clamped to [1, MAX_PAGE_SIZE]
+     * @param after the cursor returned with the previous page, or null for the first page
+     * @param includeSummary whether to load the summary of each report
+     * @param authentication the authentication object containing user details
+     * @return the page of matching report responses, most relevant first
+     * @throws InvalidRequestException if the cursor is malformed
+     */
+    public CursorPage<ReportResponse> searchReportsFullText(
+            String query,
+            Integer limit,
+            String after,
+            boolean includeSummary,
+            Authentication authentication
+    ) {
+        User user = getAuthenticatedUser(authentication);
+        int pageSize = clampPageSize(limit);
+        RankCursor cursor = after != null && !after.isBlank() ? RankCursor.decode(after) : RankCursor.START;
+
+        List<ReportSearchHit> hits = isAdmin(user)
+                ? reportRepository.searchFullText(query, cursor.rank(), cursor.id(), pageSize + 1)
+                : reportRepository.searchFullTextByUserId(
+                        user.getId(), query, cursor.rank(), cursor.id(), pageSize + 1);
+
+        String nextCursor = null;
+        if (hits.size() > pageSize) {
+            hits = hits.subList(0, pageSize);
+            ReportSearchHit last = hits.get(pageSize - 1);
+            nextCursor = new RankCursor(last.getRank(), last.getId()).encode();
+        }
+        if (hits.isEmpty()) {
+            return CursorPage.<ReportResponse>builder()
+                    .items(List.of())
+                    .build();
+        }
+
+        List<Long> ids = hits.stream().map(ReportSearchHit::getId).collect(Collectors.toList());
+        Map<Long, ReportView> views = (includeSummary
+                ? reportRepository.findViewsByIdIn(ids)
+                : reportRepository.findListViewsByIdIn(ids))
+                .stream()
+                .collect(Collectors.toMap(ReportView::id, Function.identity()));
+
+        return CursorPage.<ReportResponse>builder()
+                .items(ids.stream()
+                        .map(views::get)
+                        .filter(Objects::nonNull)
+                        .map(this::mapToResponse)
+                        .collect(Collectors.toList()))
+                .nextCursor(nextCursor)
+                .build();
+    }
+
+    /**
+     * Get reports created, updated or deleted after the given change cursor
+     *
+     * Changes and deletion tombstones are both read in (transaction ID, id) order
+     * from their indexes and merged, so the cost depends on the number of changes
+     * rather than on the number of reports. Only changes of transactions older
+     * than the oldest one still in flight are returned; a cursor never moves past
+     * a change that has yet to commit, however long its transaction runs.
+     *
+     * @param since the cursor returned by the previous call, or null to start from the beginning
+     * @param limit the requested page size, clamped to [1, MAX_PAGE_SIZE]
+     * @param authentication the authentication object containing user details
+     * @return the changes in order and the cursor to pass as {@code since} next time
+     * @throws InvalidRequestException if the cursor is malformed
+     * @throws CursorExpiredException if tombstones the cursor still needs were already pruned
+     */
+    public CursorPage<ReportChangeResponse> getChanges(
+            String since,
+            Integer limit,
+            Authentication authentication
+    ) {
+        User user = getAuthenticatedUser(authentication);
+        long horizon = reportRepository.findChangeHorizon();
+        ChangeCursor cursor = since != null && !since.isBlank() ? ChangeCursor.decode(since) : ChangeCursor.origin(horizon);
+        if (cursor.isExpired(tombstoneRepository.findPrunedThroughXid())) {
+            throw new CursorExpiredException("Change cursor has expired, reload the full report list");
+        }
+
+        int pageSize = clampPageSize(limit);
+        Pageable pageable = PageRequest.ofSize(pageSize + 1);
+        List<ReportChangeKey> changed;
+        List<ReportTombstone> deleted;
+        if (isAdmin(user)) {
+            changed = reportRepository.findChangesAfter(cursor.xid(), cursor.id(), horizon, pageable);
+            deleted = tombstoneRepository.findChangesAfter(cursor.xid(), cursor.id(), horizon, pageable);
+        } else {
+            changed = reportRepository.findChangesAfterByUserId(
+                    user.getId(), cursor.xid(), cursor.id(), horizon, pageable);
+            deleted = tombstoneRepository.findChangesAfterByUserId(
+                    user.getId(), cursor.xid(), cursor.id(), horizon, pageable);
+        }
+        Map<Long, ReportView> views = changed.isEmpty() ? Map.of() : reportRepository
+                .findViewsByIdIn(changed.stream().map(ReportChangeKey::id).collect(Collectors.toList()))
+                .stream()
+                .collect(Collectors.toMap(ReportView::id, Function.identity()));
+
+        // Merge both ordered lists by (transaction ID, id)
+        List<ReportChangeResponse> changes = new ArrayList<>(pageSize);
+        int c = 0;
+        int d = 0;
+        long lastXid = cursor.xid();
+        long lastId = cursor.id();
+        while (changes.size() < pageSize && (c < changed.size() || d < deleted.size())) {
+            boolean takeChanged = d >= deleted.size() || (c < changed.size()
+                    && compareKeys(changed.get(c).changeXid(), changed.get(c).id(),
+                            deleted.get(d).getChangeXid(), deleted.get(d).getReportId()) < 0);
+            if (takeChanged) {
+                ReportChangeKey key = changed.get(c++);
+                lastXid = key.changeXid();
+                lastId = key.id();
+                ReportView report = views.get(key.id());
+                if (report == null) {
+                    // Deleted since the keys were read; its tombstone follows later
+                    continue;
+                }
+                changes.add(ReportChangeResponse.builder()
+                        .changeType(compareKeys(key.createdXid(), key.id(), cursor.xid(), cursor.id()) > 0
+                                ? ReportChangeType.CREATED
+                                : ReportChangeType.UPDATED)
+                        .reportId(report.id())
+                        .changedAt(report.updatedAt())
+                        .report(mapToResponse(report))
+                        .build());
+            } else {
+                ReportTombstone tombstone = deleted.get(d++);
+                changes.add(ReportChangeResponse.builder()
+                        .changeType(ReportChangeType.DELETED)
+                        .reportId(tombstone.getReportId())
+                        .changedAt(tombstone.getDeletedAt())
+                        .build());
+                lastXid = tombstone.getChangeXid();
+                lastId = tombstone.getReportId();
+            }
+        }
+
+        // Everything before the horizon was returned, so the client is caught up to it
+        boolean exhausted = c >= changed.size() && d >= deleted.size();
+        ChangeCursor next = exhausted && lastXid < horizon
+                ? new ChangeCursor(horizon, 0L, horizon)
+                : new ChangeCursor(lastXid, lastId, cursor.syncedXid());
+
+        return CursorPage.<ReportChangeResponse>builder()
+                .items(changes)
+                .nextCursor(next.encode())
+                .build();
+    }
+
+    /**
+     * Remove deletion tombstones older than the retention period
+     */
+    @Scheduled(cron = "${reports.changes.tombstone-prune-cron:0 0 4 * * *}")
+    @Transactional
+    public void pruneTombstones() {
+        tombstoneRepository.pruneOlderThan(LocalDateTime.now().minusDays(tombstoneRetentionDays));
+    }
+
+    /**
+     * Get the version of the report list visible to the authenticated user
+     *
+     * Read from the scope's status counter row, whose version every report change
+     * increments under the row lock, so it follows commit order and covers
+     * deletions without loading any report rows.
+     *
+     * @param authentication the authentication object containing user details
+     * @return the ETag validator of the list
+     */
+    public ResourceVersion getReportListVersion(Authentication authentication) {
+        User user = getAuthenticatedUser(authentication);
+        long scopeId = isAdmin(user) ? ReportStatusCount.GLOBAL_SCOPE_ID : user.getId();
+        long version = reportStatsService.getVersion(scopeId);
+
+        return ResourceVersion.builder()
+                .etag("\"list-" + scopeId + "-" + version + "\"")
+                // No Last-Modified: the version is not a point in time
+                .lastModified(-1)
+                .build();
+    }
+
+    /**
+     * Get the version of a single report
+     *
+     * @param id the report ID
+     * @param authentication the authentication object
+     * @return the ETag and Last-Modified validators of the report
+     * @throws ResourceNotFoundException if report not found
+     * @throws UnauthorizedException if user doesn't own the report
+     */
+    public ResourceVersion getReportVersion(Long id, Authentication authentication) {
+        User user = getAuthenticatedUser(authentication);
+        ReportVersion version = reportRepository.findVersionById(id)
+                .orElseThrow(() -> new ResourceNotFoundException("Report", id));
+        validateOwnership(version.userId(), user);
+
+        return ResourceVersion.builder()
+                .etag("\"report-" + version.id() + "-" + versionOf(version.updatedAt()) + "\"")
+                .lastModified(toEpochMillis(version.updatedAt()))
+                .build();
+    }
+
     /**
      * Get a report by ID
      *
@@ -71,62 +404,130 @@ public class ReportService {
      */
     public ReportResponse getReportById(Long id, Authentication authentication) {
         User user = getAuthenticatedUser(authentication);
-        Report report = findReportAndValidateOwnership(id, user);
+        ReportView report = reportRepository.findViewById(id)
+                .orElseThrow(() -> new ResourceNotFoundException("Report", id));
+        validateOwnership(report.userId(), user);
         return mapToResponse(report);
     }
 
     /**
-     * Create a new report with file upload
+     * Get where the file of a report is stored
      *
-     * @param file the uploaded file
-     * @param request the report request containing metadata
+     * @param id the report ID
      * @param authentication the authentication object
-     * @return the created report response
-     * @throws IOException if file storage fails
+     * @return the file location
+     * @throws ResourceNotFoundException if report not found
+     * @throws UnauthorizedException if user doesn't own the report
      */
-    @Transactional
-    public ReportResponse createReport(
-            MultipartFile file,
-            ReportRequest request,
-            Authentication authentication
-    ) throws IOException {
+    public ReportFileLocation getReportFileLocation(Long id, Authentication authentication) {
         User user = getAuthenticatedUser(authentication);
+        ReportFileLocation location = reportRepository.findFileLocationById(id)
+                .orElseThrow(() -> new ResourceNotFoundException("Report", id));
+        validateOwnership(location.userId(), user);
+        return location;
+    }
 
-        // Create upload directory if it doesn't exist
-        Path uploadPath = Paths.get(uploadDir);
-        if (!Files.exists(uploadPath)) {
-            Files.createDirectories(uploadPath);
-        }
-
-        // Generate unique filename
-        String originalFilename = file.getOriginalFilename();
-        String extension = originalFilename != null ?
-                originalFilename.substring(originalFilename.lastIndexOf(".")) : "";
-        String uniqueFilename = user.getId() + "_" + UUID.randomUUID() + extension;
-        Path filePath = uploadPath.resolve(uniqueFilename);
-
-        // Save file
-        Files.copy(file.getInputStream(), filePath);
+    /**
+     * Store a staged file and insert the report row referencing it
+     *
+     * Records the UPLOADED count and publishes the CREATED event in the same
+     * transaction as the insert. Callers stage the file before calling this, so
+     * the transaction only covers the rename into storage and the row writes.
+     *
+     * @param user the report owner
+     * @param request the report request containing metadata
+     * @param staged the staged file, consumed by this call
+     * @return the created report response
+     * @throws IOException if the file cannot be moved into storage
+     */
+    @Transactional
+    public ReportResponse saveReport(User user, ReportRequest request, ReportBlobStore.StagedBlob staged)
+            throws IOException {
+        ReportBlobStore.StoredBlob stored = blobStore.store(staged);
 
-        // Create report entity
         Report report = Report.builder()
                 .user(user)
                 .name(request.getName())
                 .type(request.getType())
-                .filePath(filePath.toString())
+                .storageKey(stored.storageKey())
+                .codec(stored.codec())
+                .blobSha256(staged.sha256())
                 .status(ReportStatus.UPLOADED)
                 .reportDate(request.getReportDate())
                 .build();
 
-        // Save report
         report = reportRepository.save(report);
+        reportStatsService.recordTransition(user.getId(), null, ReportStatus.UPLOADED);
+        eventPublisher.publishEvent(new ReportLifecycleEvent(
+                ReportChangeType.CREATED, report.getId(), user.getId(),
+                null, ReportStatus.UPLOADED, report.getCreatedAt()));
 
         return mapToResponse(report);
     }
 
+    /**
+     * Store staged files and insert their report rows in one transaction
+     *
+     * Blobs are stored in hash order, so concurrent batches lock blob rows in the
+     * same order and cannot deadlock. The report rows take ids from the pooled
+     * sequence without a round trip each and are written as one JDBC batch when
+     * the transaction flushes.
+     *
+     * @param user the reports' owner
+     * @param requests the report metadata, one entry per staged file
+     * @param staged the staged files, consumed by this call
+     * @return the created report responses, in the order of the staged files
+     * @throws IOException if a file cannot be moved into storage
+     */
+    @Transactional
+    public List<ReportResponse> saveReports(
+            User user,
+            List<ReportRequest> requests,
+            List<ReportBlobStore.StagedBlob> staged
+    ) throws IOException {
+        ReportBlobStore.StoredBlob[] stored = new ReportBlobStore.StoredBlob[staged.size()];
+        List<Integer> hashOrder = IntStream.range(0, staged.size()).boxed()
+                .sorted(Comparator.comparing((Integer i) -> staged.get(i).sha256()))
+                .toList();
+        for (int i : hashOrder) {
+            stored[i] = blobStore.store(staged.get(i));
+        }
+
+        List<Report> reports = new ArrayList<>(staged.size());
+        for (int i = 0; i < staged.size(); i++) {
+            ReportRequest request = requests.get(i);
+            reports.add(Report.builder()
+                    .user(user)
+                    .name(request.getName())
+                    .type(request.getType())
+                    .storageKey(stored[i].storageKey())
+                    .codec(stored[i].codec())
+                    .blobSha256(staged.get(i).sha256())
+                    .status(ReportStatus.UPLOADED)
+                    .reportDate(request.getReportDate())
+                    .build());
+        }
+
+        reports = reportRepository.saveAll(reports);
+        reportStatsService.recordCreated(user.getId(), reports.size());
+        for (Report report : reports) {
+            eventPublisher.publishEvent(new ReportLifecycleEvent(
+                    ReportChangeType.CREATED, report.getId(), user.getId(),
+                    null, ReportStatus.UPLOADED, report.getCreatedAt()));
+        }
+
+        return reports.stream().map(this::mapToResponse).toList();
+    }
+
     /**
      * Update the status of a report
      *
+     * The transition is a single compare-and-set update conditional on the
+     * expected previous status and, for non-admins, on ownership, so of several
+     * concurrent transitions of the same report at most one succeeds. Only when
+     * it matches no row is the report read, to tell a missing report, a report
+     * owned by someone else and an invalid transition apart.
+     *
      * @param id the report ID
      * @param request the status update request
      * @param authentication the authentication object
@@ -142,27 +543,110 @@ public class ReportService {
             Authentication authentication
     ) {
         User user = getAuthenticatedUser(authentication);
-        Report report = findReportAndValidateOwnership(id, user);
-
-        // Validate status transition
-        ReportStatus currentStatus = report.getStatus();
         ReportStatus newStatus = request.getStatus();
+        Long ownerId = isAdmin(user) ? null : user.getId();
+        LocalDateTime now = LocalDateTime.now();
 
-        if (!ReportStatus.isValidTransition(currentStatus, newStatus)) {
-            throw new InvalidStatusTransitionException(
-                    String.format("Cannot transition from %s to %s", currentStatus, newStatus)
-            );
+        ReportStatus previousStatus = null;
+        List<ReportStatus> expected = ReportStatus.sourcesOf(newStatus);
+        while (previousStatus == null) {
+            for (ReportStatus from : expected) {
+                // A failed report queued again gets a fresh set of attempts
+                int updated = reportRepository.compareAndSetStatus(
+                        id, from, newStatus, request.getSummary(),
+                        from == ReportStatus.FAILED, newStatus == ReportStatus.PROCESSING ? 1 : 0,
+                        ownerId, now);
+                if (updated == 1) {
+                    previousStatus = from;
+                    break;
+                }
+            }
+            if (previousStatus == null) {
+                // The report changed between the update and this read if its status
+                // is now a valid source; try again from that status
+                expected = List.of(findTransitionSource(id, newStatus, user));
+            }
+        }
+
+        ReportView report = reportRepository.findViewById(id)
+                .orElseThrow(() -> new ResourceNotFoundException("Report", id));
+        reportStatsService.recordTransition(report.userId(), previousStatus, newStatus);
+        eventPublisher.publishEvent(new ReportLifecycleEvent(
+                ReportChangeType.UPDATED, report.id(), report.userId(),
+                previousStatus, newStatus, report.updatedAt()));
+
+        return mapToResponse(report);
+    }
+
+    /**
+     * Move several reports to the same status
+     *
+     * All reports are checked, locked and moved in a single statement that only
+     * touches reports in a valid source status that the user may access, so the
+     * batch costs one round trip however many reports it names. Reports that
+     * cannot be moved are reported per ID instead of failing the batch.
+     *
+     * @param request the IDs, the new status and an optional summary
+     * @param authentication the authentication object
+     * @return one result per distinct requested ID, in request order
+     * @throws InvalidRequestException if more IDs are given than allowed
+     */
+    @Transactional
+    public BulkStatusUpdateResponse updateReportStatuses(
+            BulkStatusUpdateRequest request,
+            Authentication authentication
+    ) {
+        User user = getAuthenticatedUser(authentication);
+        Set<Long> ids = new LinkedHashSet<>(request.getIds());
+        if (ids.size() > maxBulkStatusIds) {
+            throw new InvalidRequestException(
+                    "At most " + maxBulkStatusIds + " reports can be updated at once");
         }
 
-        // Update status and optionally summary
-        report.setStatus(newStatus);
-        if (request.getSummary() != null) {
-            report.setSummary(request.getSummary());
+        ReportStatus newStatus = request.getStatus();
+        LocalDateTime now = LocalDateTime.now();
+        List<ReportTransition> transitions = reportRepository.transitionStatuses(
+                ids, ReportStatus.sourcesOf(newStatus), newStatus, request.getSummary(),
+                isAdmin(user) ? null : user.getId(), now);
+
+        Map<Long, ReportTransition> byId = new HashMap<>();
+        Map<ReportStatus, Map<Long, Long>> movedByStatus = new EnumMap<>(ReportStatus.class);
+        for (ReportTransition transition : transitions) {
+            byId.put(transition.id(), transition);
+            if (transition.updated()) {
+                movedByStatus.computeIfAbsent(transition.previousStatus(), status -> new HashMap<>())
+                        .merge(transition.userId(), 1L, Long::sum);
+            }
         }
+        movedByStatus.forEach((from, countsByUser) ->
+                reportStatsService.recordTransitions(countsByUser, from, newStatus));
 
-        report = reportRepository.save(report);
+        List<BulkStatusUpdateResponse.Result> results = new ArrayList<>(ids.size());
+        int updated = 0;
+        for (Long id : ids) {
+            ReportTransition transition = byId.get(id);
+            BulkStatusUpdateResponse.Result.ResultBuilder result = BulkStatusUpdateResponse.Result.builder().id(id);
+            if (transition == null) {
+                result.outcome(BulkStatusUpdateResponse.Outcome.NOT_FOUND);
+            } else if (transition.updated()) {
+                result.outcome(BulkStatusUpdateResponse.Outcome.UPDATED).status(newStatus);
+                eventPublisher.publishEvent(new ReportLifecycleEvent(
+                        ReportChangeType.UPDATED, id, transition.userId(),
+                        transition.previousStatus(), newStatus, now));
+                updated++;
+            } else if (!isAdmin(user) && !transition.userId().equals(user.getId())) {
+                result.outcome(BulkStatusUpdateResponse.Outcome.FORBIDDEN);
+            } else {
+                result.outcome(BulkStatusUpdateResponse.Outcome.INVALID_TRANSITION)
+                        .status(transition.previousStatus());
+            }
+            results.add(result.build());
+        }
 
-        return mapToResponse(report);
+        return BulkStatusUpdateResponse.builder()
+                .updated(updated)
+                .results(results)
+                .build();
     }
 
     /**
@@ -178,19 +662,24 @@ public class ReportService {
         User user = getAuthenticatedUser(authentication);
         Report report = findReportAndValidateOwnership(id, user);
 
-        // Delete file from filesystem
-        try {
-            Path filePath = Paths.get(report.getFilePath());
-            if (Files.exists(filePath)) {
-                Files.delete(filePath);
-            }
-        } catch (IOException e) {
-            // Log error but continue with database deletion
-            System.err.println("Failed to delete file: " + e.getMessage());
-        }
-
-        // Delete from database
+        // Delete from database, leaving a tombstone for the change feed
         reportRepository.delete(report);
+        tombstoneRepository.save(ReportTombstone.builder()
+                .reportId(report.getId())
+                .userId(report.getUser().getId())
+                .deletedAt(LocalDateTime.now())
+                .build());
+        reportRepository.flush();
+        // Legacy reports own their file; deduplicated ones release their blob
+        if (report.getBlobSha256() != null) {
+            blobStore.release(report.getBlobSha256());
+        } else if (report.getFilePath() != null) {
+            blobStore.releaseLegacyFile(report.getFilePath());
+        }
+        reportStatsService.recordTransition(report.getUser().getId(), report.getStatus(), null);
+        eventPublisher.publishEvent(new ReportLifecycleEvent(
+                ReportChangeType.DELETED, report.getId(), report.getUser().getId(),
+                report.getStatus(), null, LocalDateTime.now()));
     }
 
     /**
@@ -207,11 +696,92 @@ public class ReportService {
         Report report = reportRepository.findById(reportId)
                 .orElseThrow(() -> new ResourceNotFoundException("Report", reportId));
 
-        if (!isAdmin(user) && !report.getUser().getId().equals(user.getId())) {
+        validateOwnership(report.getUser().getId(), user);
+
+        return report;
+    }
+
+    /**
+     * Explain why a status transition matched no row
+     *
+     * @return the current status, if the transition is valid from it
+     */
+    private ReportStatus findTransitionSource(Long id, ReportStatus newStatus, User user) {
+        ReportVersion version = reportRepository.findVersionById(id)
+                .orElseThrow(() -> new ResourceNotFoundException("Report", id));
+        validateOwnership(version.userId(), user);
+
+        ReportStatus currentStatus = version.status();
+        if (!ReportStatus.isValidTransition(currentStatus, newStatus)) {
+            throw new InvalidStatusTransitionException(
+                    String.format("Cannot transition from %s to %s", currentStatus, newStatus)
+            );
+        }
+        return currentStatus;
+    }
+
+    /**
+     * Validate that the user may access a report owned by the given user ID
+     */
+    private void validateOwnership(Long ownerId, User user) {
+        if (!isAdmin(user) && !ownerId.equals(user.getId())) {
             throw new UnauthorizedException("You don't have permission to access this report");
         }
+    }
 
-        return report;
+    /**
+     * Build a cursor page from a result fetched with one extra row
+     */
+    private CursorPage<ReportResponse> toCursorPage(
+            List<ReportView> reports,
+            int pageSize,
+            boolean includeSummary
+    ) {
+        String nextCursor = null;
+        if (reports.size() > pageSize) {
+            reports = reports.subList(0, pageSize);
+            ReportView last = reports.get(pageSize - 1);
+            nextCursor = new KeysetCursor(last.createdAt(), last.id()).encode();
+        }
+
+        return CursorPage.<ReportResponse>builder()
+                .items(mapToResponses(reports, includeSummary))
+                .nextCursor(nextCursor)
+                .build();
+    }
+
+    private <T extends Comparable<? super T>> void validateRange(String field, T from, T to) {
+        if (from != null && to != null && from.compareTo(to) > 0) {
+            throw new InvalidRequestException(field + " range start must not be after its end");
+        }
+    }
+
+    private int compareKeys(Long xid1, Long id1, Long xid2, Long id2) {
+        int byXid = xid1.compareTo(xid2);
+        return byXid != 0 ? byXid : id1.compareTo(id2);
+    }
+
+    /**
+     * Encode a timestamp at full precision for use inside an ETag
+     */
+    private String versionOf(LocalDateTime timestamp) {
+        if (timestamp == null) {
+            return "0";
+        }
+        return timestamp.toEpochSecond(ZoneOffset.UTC) + "." + timestamp.getNano();
+    }
+
+    private long toEpochMillis(LocalDateTime timestamp) {
+        return timestamp != null
+                ? timestamp.atZone(ZoneId.systemDefault()).toInstant().toEpochMilli()
+                : -1;
+    }
+
+    private int clampPageSize(Integer limit) {
+        if (limit == null) {
+            return DEFAULT_PAGE_SIZE;
+        }
+        return Math.max(1, Math.min(limit, MAX_PAGE_SIZE));
     }
 
     private boolean isAdmin(User user) {
@@ -219,6 +789,41 @@ public class ReportService {
     }
 
 
+    /**
+     * Map list views to ReportResponse DTOs, loading summaries in one extra query if requested
+     */
+    private List<ReportResponse> mapToResponses(List<ReportView> reports, boolean includeSummary) {
+        if (includeSummary && !reports.isEmpty()) {
+            Map<Long, ReportView> detailed = reportRepository.findViewsByIdIn(
+                            reports.stream().map(ReportView::id).collect(Collectors.toList()))
+                    .stream()
+                    .collect(Collectors.toMap(ReportView::id, Function.identity()));
+            reports = reports.stream()
+                    .map(view -> detailed.getOrDefault(view.id(), view))
+                    .collect(Collectors.toList());
+        }
+        return reports.stream()
+                .map(this::mapToResponse)
+                .collect(Collectors.toList());
+    }
+
+    /**
+     * Map ReportView read model to ReportResponse DTO
+     */
+    private ReportResponse mapToResponse(ReportView report) {
+        return ReportResponse.builder()
+                .id(report.id())
+                .name(report.name())
+                .type(report.type())
+                .filePath(report.filePath())
+                .status(report.status())
+                .summary(report.summary())
+                .reportDate(report.reportDate())
+                .createdAt(report.createdAt())
+                .updatedAt(report.updatedAt())
+                .build();
+    }
+
     /**
      * Map Report entity to ReportResponse DTO
      */
@@ -227,7 +832,7 @@ public class ReportService {
                 .id(report.getId())
                 .name(report.getName())
                 .type(report.getType())
-                .filePath(report.getFilePath())
+                .filePath(report.getStorageKey() != null ? report.getStorageKey() : report.getFilePath())
                 .status(report.getStatus())
                 .summary(report.getSummary())
                 .reportDate(report.getReportDate())
@@ -0,0 +1,283 @@
+package com.reportmanagement.service;
+
+import com.reportmanagement.dto.ReportStatsResponse;
+import com.reportmanagement.model.ReportStatus;
+import com.reportmanagement.model.ReportStatusCount;
+import com.reportmanagement.model.User;
+import com.reportmanagement.repository.ReportStatusCountRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.security.core.Authentication;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+
+/**
+ * Service class for the per-user and global report status counters
+ *
+ * Counters are adjusted inside the transactions that create, transition and delete
+ * reports, so the dashboard reads them with a single primary-key lookup instead of
+ * counting rows. The per-user row is always updated before the global row, which
+ * keeps the lock order identical across writers. Every update also increments the
+ * row's version, which the report list uses as its ETag.
+ *
+ * The nightly rebuild follows the same order without locking the table: a small
+ * batch of user rows is locked, corrected to the counts of their reports and
+ * committed, and the global row is finally corrected to the sum of the user rows.
+ * Report writes only ever wait for the one batch that holds their counter row.
+ *
+ * @author Report Management Team
+ * @version 1.0.0
+ */
+@Slf4j
+@Service
+public class ReportStatsService {
+
+    private final ReportStatusCountRepository statusCountRepository;
+    private final TransactionTemplate transactionTemplate;
+    private final TransactionTemplate afterCommitTemplate;
+    private final int rebuildBatchSize;
+
+    public ReportStatsService(
+            ReportStatusCountRepository statusCountRepository,
+            PlatformTransactionManager transactionManager,
+            @Value("${reports.stats.reconcile-batch-size:200}") int rebuildBatchSize
+    ) {
+        this.statusCountRepository = statusCountRepository;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.afterCommitTemplate = new TransactionTemplate(transactionManager);
+        this.afterCommitTemplate.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+        this.rebuildBatchSize = rebuildBatchSize;
+    }
+
+    /**
+     * Get the status counters visible to the authenticated user
+     *
+     * Admins get the global counters, other users their own.
+     *
+     * @param authentication the authentication object containing user details
+     * @return the report counts by status
+     */
+    @Transactional(readOnly = true)
+    public ReportStatsResponse getStats(Authentication authentication) {
+        User user = (User) authentication.getPrincipal();
+        long scopeId = isAdmin(user) ? ReportStatusCount.GLOBAL_SCOPE_ID : user.getId();
+
+        ReportStatusCount counts = statusCountRepository.findById(scopeId)
+                .orElseGet(() -> ReportStatusCount.builder().scopeId(scopeId).build());
+
+        return ReportStatsResponse.builder()
+                .uploaded(counts.getUploadedCount())
+                .processing(counts.getProcessingCount())
+                .completed(counts.getCompletedCount())
+                .failed(counts.getFailedCount())
+                .total(counts.getTotal())
+                .build();
+    }
+
+    /**
+     * Get the version of the reports of a user, or of all users
+     *
+     * @param scopeId the user ID, or {@link ReportStatusCount#GLOBAL_SCOPE_ID}
+     * @return the scope's version, 0 if none of its reports ever changed
+     */
+    public long getVersion(long scopeId) {
+        return statusCountRepository.findById(scopeId)
+                .map(ReportStatusCount::getVersion)
+                .orElse(0L);
+    }
+
+    /**
+     * Record a report moving between statuses
+     *
+     * Must run in the transaction that changes the report, after the change.
+     *
+     * @param userId the owner of the report
+     * @param from the previous status, or null for a new report
+     * @param to the new status, or null for a deleted report
+     */
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void recordTransition(Long userId, ReportStatus from, ReportStatus to) {
+        long uploaded = delta(ReportStatus.UPLOADED, from, to);
+        long processing = delta(ReportStatus.PROCESSING, from, to);
+        long completed = delta(ReportStatus.COMPLETED, from, to);
+        long failed = delta(ReportStatus.FAILED, from, to);
+        if (uploaded == 0 && processing == 0 && completed == 0 && failed == 0) {
+            return;
+        }
+
+        statusCountRepository.applyDelta(userId, uploaded, processing, completed, failed);
+        statusCountRepository.applyDelta(ReportStatusCount.GLOBAL_SCOPE_ID, uploaded, processing, completed, failed);
+    }
+
+    /**
+     * Record reports of several users moving between the same two statuses
+     *
+     * Applies one delta per user, in user ID order so concurrent callers lock the
+     * counter rows in the same order, and a single delta to the global counters.
+     * Must run in the transaction that changes the reports, after the change.
+     *
+     * @param countsByUser number of reports moved per owner
+     * @param from the previous status
+     * @param to the new status
+     */
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void recordTransitions(Map<Long, Long> countsByUser, ReportStatus from, ReportStatus to) {
+        long uploaded = delta(ReportStatus.UPLOADED, from, to);
+        long processing = delta(ReportStatus.PROCESSING, from, to);
+        long completed = delta(ReportStatus.COMPLETED, from, to);
+        long failed = delta(ReportStatus.FAILED, from, to);
+        if (countsByUser.isEmpty() || (uploaded == 0 && processing == 0 && completed == 0 && failed == 0)) {
+            return;
+        }
+
+        long total = 0;
+        for (Map.Entry<Long, Long> entry : new TreeMap<>(countsByUser).entrySet()) {
+            long count = entry.getValue();
+            statusCountRepository.applyDelta(entry.getKey(),
+                    uploaded * count, processing * count, completed * count, failed * count);
+            total += count;
+        }
+        statusCountRepository.applyDelta(ReportStatusCount.GLOBAL_SCOPE_ID,
+                uploaded * total, processing * total, completed * total, failed * total);
+    }
+
+    /**
+     * Record reports that changed without moving between statuses, once the
+     * current transaction commits
+     *
+     * Such changes are made while other counter rows may already be locked, so
+     * the versions are incremented afterwards in a new transaction, in the usual
+     * user-then-global order. Until then the scope's list ETag still matches the
+     * previous content.
+     *
+     * @param userIds the owners of the changed reports
+     */
+    public void recordChangedAfterCommit(Collection<Long> userIds) {
+        if (userIds.isEmpty()) {
+            return;
+        }
+        List<Long> scopeIds = userIds.stream().distinct().sorted().toList();
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                try {
+                    afterCommitTemplate.executeWithoutResult(status -> {
+                        statusCountRepository.incrementVersions(scopeIds);
+                        statusCountRepository.applyDelta(ReportStatusCount.GLOBAL_SCOPE_ID, 0, 0, 0, 0);
+                    });
+                } catch (RuntimeException e) {
+                    log.warn("Failed to increment the report list versions of users {}", scopeIds, e);
+                }
+            }
+        });
+    }
+
+    /**
+     * Read the global counters
+     *
+     * @return the counts over all users
+     */
+    public ReportStatusCount getGlobalCounts() {
+        return statusCountRepository.findById(ReportStatusCount.GLOBAL_SCOPE_ID)
+                .orElseGet(() -> ReportStatusCount.builder().scopeId(ReportStatusCount.GLOBAL_SCOPE_ID).build());
+    }
+
+    /**
+     * Record several new reports of one user with a single counter update
+     *
+     * Must run in the transaction that inserts the reports.
+     *
+     * @param userId the owner of the reports
+     * @param count the number of reports inserted
+     */
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void recordCreated(Long userId, int count) {
+        if (count == 0) {
+            return;
+        }
+        statusCountRepository.applyDelta(userId, count, 0, 0, 0);
+        statusCountRepository.applyDelta(ReportStatusCount.GLOBAL_SCOPE_ID, count, 0, 0, 0);
+    }
+
+    /**
+     * Remove a deleted user's counters and subtract them from the global counters
+     *
+     * Must run in the transaction that deletes the user.
+     *
+     * @param userId the ID of the deleted user
+     */
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void removeUser(Long userId) {
+        statusCountRepository.findById(userId).ifPresent(counts -> {
+            statusCountRepository.delete(counts);
+            statusCountRepository.flush();
+            statusCountRepository.applyDelta(
+                    ReportStatusCount.GLOBAL_SCOPE_ID,
+                    -counts.getUploadedCount(),
+                    -counts.getProcessingCount(),
+                    -counts.getCompletedCount(),
+                    -counts.getFailedCount()
+            );
+        });
+    }
+
+    /**
+     * Rebuild all counters from the reports table
+     *
+     * Runs on the configured schedule to repair any drift, for example after
+     * reports were changed directly in the database. Each batch of users is
+     * rebuilt in its own short transaction under its counter rows' locks.
+     */
+    @Scheduled(cron = "${reports.stats.reconcile-cron:0 30 3 * * *}")
+    public void reconcile() {
+        int corrected = 0;
+        int removed = 0;
+        long afterId = 0;
+        List<Long> scopeIds;
+        do {
+            scopeIds = statusCountRepository.findScopeIdsAfter(afterId, rebuildBatchSize);
+            if (scopeIds.isEmpty()) {
+                break;
+            }
+            afterId = scopeIds.get(scopeIds.size() - 1);
+            List<Long> batch = scopeIds;
+            int[] result = transactionTemplate.execute(status -> {
+                statusCountRepository.createMissing(batch);
+                statusCountRepository.lockScopes(batch);
+                return new int[]{
+                        statusCountRepository.correctUserCounts(batch),
+                        statusCountRepository.deleteRemovedUserCounts(batch)
+                };
+            });
+            corrected += result[0];
+            removed += result[1];
+        } while (scopeIds.size() == rebuildBatchSize);
+
+        int global = transactionTemplate.execute(status -> {
+            statusCountRepository.applyDelta(ReportStatusCount.GLOBAL_SCOPE_ID, 0, 0, 0, 0);
+            return statusCountRepository.correctGlobalCounts();
+        });
+        log.info("Rebuilt report status counts: corrected {} user rows and {} global row, removed {} rows of deleted users",
+                corrected, global, removed);
+    }
+
+    private long delta(ReportStatus status, ReportStatus from, ReportStatus to) {
+        return (status == to ? 1 : 0) - (status == from ? 1 : 0);
+    }
+
+    private boolean isAdmin(User user) {
+        return user.getRole() != null && "ADMIN".equalsIgnoreCase(user.getRole());
+    }
+}
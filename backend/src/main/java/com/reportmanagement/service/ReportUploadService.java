@@ -0,0 +1,217 @@
+package com.reportmanagement.service;
+
+import com.reportmanagement.dto.ReportRequest;
+import com.reportmanagement.dto.ReportResponse;
+import com.reportmanagement.exception.InvalidRequestException;
+import com.reportmanagement.exception.PayloadTooLargeException;
+import com.reportmanagement.model.User;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.security.core.Authentication;
+import org.springframework.stereotype.Service;
+import org.springframework.util.unit.DataSize;
+import org.springframework.web.multipart.MultipartFile;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InterruptedIOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+/**
+ * Service class for report uploads
+ *
+ * Report creation is a staged pipeline. The upload is first written to a staging
+ * file and hashed with no database connection held, so a slow client cannot
+ * occupy the connection pool. A short transaction then inserts the row and
+ * renames the staged file into storage. If that transaction fails, the staged
+ * file is deleted here and a file already renamed into storage is removed by
+ * ReportBlobStore once the rollback completes.
+ *
+ * Raw request bodies are staged through pooled direct buffers, so the upload is
+ * written to disk once and never held in the heap or in a multipart temp file.
+ * The rename only stays cheap while the staging directory and the storage volumes
+ * share a file system; otherwise the move into storage is a copy.
+ *
+ * Batch uploads stage their files in parallel on a bounded pool shared by all
+ * requests and insert every report in one transaction.
+ *
+ * @author Report Management Team
+ * @version 1.0.0
+ */
+@Service
+public class ReportUploadService implements DisposableBean {
+
+    private final ReportService reportService;
+    private final ReportBlobStore blobStore;
+    private final long maxUploadSize;
+    private final int maxBatchFiles;
+    private final ExecutorService stagingPool;
+
+    public ReportUploadService(
+            ReportService reportService,
+            ReportBlobStore blobStore,
+            @Value("${file.stream-upload.max-size:100MB}") DataSize maxUploadSize,
+            @Value("${file.batch-upload.max-files:50}") int maxBatchFiles,
+            @Value("${file.batch-upload.threads:4}") int stagingThreads
+    ) {
+        this.reportService = reportService;
+        this.blobStore = blobStore;
+        this.maxUploadSize = maxUploadSize.toBytes();
+        this.maxBatchFiles = maxBatchFiles;
+        this.stagingPool = Executors.newFixedThreadPool(stagingThreads, runnable -> {
+            Thread thread = new Thread(runnable, "report-batch-staging");
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
+
+    /**
+     * Create a report from a multipart file upload
+     *
+     * @param file the uploaded file
+     * @param request the report request containing metadata
+     * @param authentication the authentication object
+     * @return the created report response
+     * @throws IOException if file storage fails
+     */
+    public ReportResponse createReport(
+            MultipartFile file,
+            ReportRequest request,
+            Authentication authentication
+    ) throws IOException {
+        User user = (User) authentication.getPrincipal();
+
+        // Multipart size limits are enforced by the servlet container
+        ReportBlobStore.StagedBlob staged;
+        try (InputStream content = file.getInputStream()) {
+            staged = blobStore.stage(content, Long.MAX_VALUE);
+        }
+        return save(user, request, staged);
+    }
+
+    /**
+     * Create one report per file of a multipart batch upload
+     *
+     * The files are staged in parallel; either every report is created or none is.
+     *
+     * @param files the uploaded files
+     * @param requests the report metadata, one entry per file in the same order
+     * @param authentication the authentication object
+     * @return the created report responses, in the order of the files
+     * @throws IOException if file storage fails
+     * @throws InvalidRequestException if the files and metadata do not match up
+     */
+    public List<ReportResponse> createReports(
+            List<MultipartFile> files,
+            List<ReportRequest> requests,
+            Authentication authentication
+    ) throws IOException {
+        if (files.size() != requests.size()) {
+            throw new InvalidRequestException(
+                    "Expected metadata for " + files.size() + " files but got " + requests.size() + " entries");
+        }
+        if (files.isEmpty() || files.size() > maxBatchFiles) {
+            throw new InvalidRequestException("A batch must contain between 1 and " + maxBatchFiles + " files");
+        }
+        User user = (User) authentication.getPrincipal();
+
+        List<ReportBlobStore.StagedBlob> staged = stageAll(files);
+        try {
+            return reportService.saveReports(user, requests, staged);
+        } catch (IOException | RuntimeException e) {
+            staged.forEach(blobStore::discard);
+            throw e;
+        }
+    }
+
+    /**
+     * Create a report from a raw request body stream
+     *
+     * @param body the request body containing the file content
+     * @param contentLength the declared body length, or -1 if unknown
+     * @param request the report request containing metadata
+     * @param authentication the authentication object
+     * @return the created report response
+     * @throws IOException if file storage fails
+     * @throws PayloadTooLargeException if the body exceeds the configured limit
+     */
+    public ReportResponse createReport(
+            InputStream body,
+            long contentLength,
+            ReportRequest request,
+            Authentication authentication
+    ) throws IOException {
+        if (contentLength > maxUploadSize) {
+            throw new PayloadTooLargeException("File exceeds the maximum upload size of " + maxUploadSize + " bytes");
+        }
+        User user = (User) authentication.getPrincipal();
+
+        ReportBlobStore.StagedBlob staged = blobStore.stage(body, maxUploadSize);
+        return save(user, request, staged);
+    }
+
+    /**
+     * Stage files on the staging pool, deleting every staged file if any fails
+     */
+    private List<ReportBlobStore.StagedBlob> stageAll(List<MultipartFile> files) throws IOException {
+        List<Future<ReportBlobStore.StagedBlob>> futures = new ArrayList<>(files.size());
+        for (MultipartFile file : files) {
+            futures.add(stagingPool.submit(() -> {
+                try (InputStream content = file.getInputStream()) {
+                    return blobStore.stage(content, Long.MAX_VALUE);
+                }
+            }));
+        }
+
+        List<ReportBlobStore.StagedBlob> staged = new ArrayList<>(files.size());
+        Exception failure = null;
+        for (Future<ReportBlobStore.StagedBlob> future : futures) {
+            try {
+                staged.add(future.get());
+            } catch (ExecutionException e) {
+                if (failure == null) {
+                    failure = e.getCause() instanceof Exception cause ? cause : e;
+                }
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                futures.forEach(pending -> pending.cancel(true));
+                failure = new InterruptedIOException("Interrupted while staging the batch");
+                break;
+            }
+        }
+        if (failure != null) {
+            staged.forEach(blobStore::discard);
+            if (failure instanceof IOException ioException) {
+                throw ioException;
+            }
+            if (failure instanceof RuntimeException runtimeException) {
+                throw runtimeException;
+            }
+            throw new IOException("Failed to stage the batch", failure);
+        }
+        return staged;
+    }
+
+    @Override
+    public void destroy() {
+        stagingPool.shutdownNow();
+    }
+
+    /**
+     * Insert the report for a staged file, deleting the staged file if that fails
+     */
+    private ReportResponse save(User user, ReportRequest request, ReportBlobStore.StagedBlob staged)
+            throws IOException {
+        try {
+            return reportService.saveReport(user, request, staged);
+        } catch (IOException | RuntimeException e) {
+            blobStore.discard(staged);
+            throw e;
+        }
+    }
+}
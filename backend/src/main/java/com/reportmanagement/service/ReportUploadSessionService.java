@@ -0,0 +1,314 @@
+package com.reportmanagement.service;
+
+import com.reportmanagement.dto.ByteRange;
+import com.reportmanagement.dto.ReportRequest;
+import com.reportmanagement.dto.ReportResponse;
+import com.reportmanagement.dto.UploadSessionRequest;
+import com.reportmanagement.dto.UploadSessionResponse;
+import com.reportmanagement.exception.InvalidRequestException;
+import com.reportmanagement.exception.PayloadTooLargeException;
+import com.reportmanagement.exception.ResourceNotFoundException;
+import com.reportmanagement.exception.UnauthorizedException;
+import com.reportmanagement.model.ReportUploadSession;
+import com.reportmanagement.model.User;
+import com.reportmanagement.repository.ReportUploadSessionRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.security.core.Authentication;
+import org.springframework.stereotype.Service;
+import org.springframework.util.unit.DataSize;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * Service class for resumable chunked report uploads
+ *
+ * A session preallocates a staging file of the declared size. Chunks are written
+ * at their offsets as they arrive, in any order and any number of times, so a
+ * client can resume after a failure by re-sending only the missing chunks. Each
+ * chunk request streams through one pooled buffer and holds its thread only for
+ * that chunk. Completing the session hashes the file and stores it as a blob
+ * exactly like a single-shot upload. Chunk writes in flight are counted on the
+ * session row: completion only starts when none is running and no write starts
+ * after it, so nothing writes into a file once it has been hashed and shared.
+ *
+ * @author Report Management Team
+ * @version 1.0.0
+ */
+@Slf4j
+@Service
+public class ReportUploadSessionService {
+
+    private final ReportUploadSessionRepository sessionRepository;
+    private final ReportBlobStore blobStore;
+    private final ReportService reportService;
+    private final int chunkSize;
+    private final long maxUploadSize;
+    private final Duration sessionTtl;
+
+    public ReportUploadSessionService(
+            ReportUploadSessionRepository sessionRepository,
+            ReportBlobStore blobStore,
+            ReportService reportService,
+            @Value("${reports.uploads.chunk-size:8MB}") DataSize chunkSize,
+            @Value("${reports.uploads.max-size:2GB}") DataSize maxUploadSize,
+            @Value("${reports.uploads.session-ttl-hours:24}") long sessionTtlHours
+    ) {
+        this.sessionRepository = sessionRepository;
+        this.blobStore = blobStore;
+        this.reportService = reportService;
+        this.chunkSize = (int) chunkSize.toBytes();
+        this.maxUploadSize = maxUploadSize.toBytes();
+        this.sessionTtl = Duration.ofHours(sessionTtlHours);
+    }
+
+    /**
+     * Start a resumable upload
+     *
+     * @param request the report metadata and declared file size
+     * @param authentication the authentication object
+     * @return the new session
+     * @throws IOException if the staging file cannot be created
+     * @throws PayloadTooLargeException if the declared size exceeds the limit
+     */
+    public UploadSessionResponse createSession(UploadSessionRequest request, Authentication authentication)
+            throws IOException {
+        if (request.getTotalSize() > maxUploadSize) {
+            throw new PayloadTooLargeException("File exceeds the maximum upload size of " + maxUploadSize + " bytes");
+        }
+        User user = (User) authentication.getPrincipal();
+        String id = UUID.randomUUID().toString();
+        LocalDateTime now = LocalDateTime.now();
+
+        Path stagingPath = blobStore.preallocate(id, request.getTotalSize());
+        try {
+            ReportUploadSession session = sessionRepository.save(ReportUploadSession.builder()
+                    .id(id)
+                    .userId(user.getId())
+                    .name(request.getName())
+                    .type(request.getType())
+                    .reportDate(request.getReportDate())
+                    .totalSize(request.getTotalSize())
+                    .chunkSize(chunkSize)
+                    .createdAt(now)
+                    .expiresAt(now.plus(sessionTtl))
+                    .build());
+            return mapToResponse(session, List.of());
+        } catch (RuntimeException e) {
+            blobStore.discard(stagingPath);
+            throw e;
+        }
+    }
+
+    /**
+     * Write one chunk of an upload
+     *
+     * @param id the upload session ID
+     * @param chunkIndex the zero-based chunk index
+     * @param content the chunk content
+     * @param authentication the authentication object
+     * @return the session with its received ranges
+     * @throws IOException if the chunk cannot be written
+     */
+    public UploadSessionResponse writeChunk(String id, int chunkIndex, InputStream content,
+                                            Authentication authentication) throws IOException {
+        ReportUploadSession session = findOpenSession(id, authentication);
+        int chunkCount = chunkCount(session);
+        if (chunkIndex < 0 || chunkIndex >= chunkCount) {
+            throw new InvalidRequestException("Chunk index must be between 0 and " + (chunkCount - 1));
+        }
+
+        long offset = (long) chunkIndex * session.getChunkSize();
+        long length = Math.min(session.getChunkSize(), session.getTotalSize() - offset);
+        // Completion cannot start while the write is registered, and the write is refused once it has
+        if (sessionRepository.beginWrite(id) == 0) {
+            throw new InvalidRequestException("Upload is already being completed");
+        }
+        try {
+            blobStore.writeAt(content, blobStore.preallocated(id), offset, length);
+            sessionRepository.markChunkReceived(id, chunkIndex);
+        } finally {
+            sessionRepository.endWrite(id);
+        }
+
+        return mapToResponse(session, sessionRepository.findReceivedChunks(id));
+    }
+
+    /**
+     * Get an upload session with the byte ranges received so far
+     *
+     * @param id the upload session ID
+     * @param authentication the authentication object
+     * @return the session
+     */
+    public UploadSessionResponse getSession(String id, Authentication authentication) {
+        ReportUploadSession session = findSession(id, authentication);
+        return mapToResponse(session, sessionRepository.findReceivedChunks(id));
+    }
+
+    /**
+     * Complete an upload into a report once every chunk has been received
+     *
+     * @param id the upload session ID
+     * @param authentication the authentication object
+     * @return the created report
+     * @throws IOException if the file cannot be stored
+     * @throws InvalidRequestException if chunks are missing or still being written, or completion is already running
+     */
+    public ReportResponse completeSession(String id, Authentication authentication) throws IOException {
+        ReportUploadSession session = findOpenSession(id, authentication);
+        int received = sessionRepository.findReceivedChunks(id).size();
+        if (received < chunkCount(session)) {
+            throw new InvalidRequestException(
+                    "Upload is incomplete: " + received + " of " + chunkCount(session) + " chunks received");
+        }
+        startFinalizing(id);
+
+        Path stagingPath = blobStore.preallocated(id);
+        ReportBlobStore.StagedBlob staged = null;
+        ReportResponse report;
+        try {
+            ReportRequest request = ReportRequest.builder()
+                    .name(session.getName())
+                    .type(session.getType())
+                    .reportDate(session.getReportDate())
+                    .build();
+            staged = blobStore.adopt(stagingPath);
+            report = reportService.saveReport((User) authentication.getPrincipal(), request, staged);
+        } catch (IOException | RuntimeException e) {
+            // An encoded copy is dropped; the upload itself stays staged for a retry
+            if (staged != null && !staged.path().equals(stagingPath)) {
+                blobStore.discard(staged);
+            }
+            // The file is still staged unless storing consumed it; only then is a retry impossible
+            if (Files.exists(stagingPath)) {
+                sessionRepository.updateFinalizing(id, false);
+            } else {
+                sessionRepository.deleteById(id);
+            }
+            throw e;
+        }
+        // Storing consumed the staging file unless an encoded copy was stored instead
+        blobStore.discard(stagingPath);
+        sessionRepository.deleteById(id);
+        return report;
+    }
+
+    /**
+     * Abort an upload and delete its staging file
+     *
+     * @param id the upload session ID
+     * @param authentication the authentication object
+     */
+    public void abortSession(String id, Authentication authentication) {
+        findOpenSession(id, authentication);
+        startFinalizing(id);
+        blobStore.discard(blobStore.preallocated(id));
+        sessionRepository.deleteById(id);
+    }
+
+    /**
+     * Purge expired sessions and their staging files
+     *
+     * Sessions being completed or aborted are skipped, since their staging file
+     * may already be on its way into storage. A chunk write still running on an
+     * expired session does not hold up the purge; it only writes into the
+     * unlinked staging file.
+     */
+    @Scheduled(cron = "${reports.uploads.cleanup-cron:0 15 * * * *}")
+    public void purgeExpiredSessions() {
+        int purged = 0;
+        for (ReportUploadSession session : sessionRepository.findByExpiresAtBeforeAndFinalizingFalse(LocalDateTime.now())) {
+            if (sessionRepository.updateFinalizing(session.getId(), true) == 0) {
+                continue;
+            }
+            blobStore.discard(blobStore.preallocated(session.getId()));
+            sessionRepository.deleteById(session.getId());
+            purged++;
+        }
+        if (purged > 0) {
+            log.info("Purged {} expired upload sessions", purged);
+        }
+    }
+
+    private ReportUploadSession findSession(String id, Authentication authentication) {
+        User user = (User) authentication.getPrincipal();
+        ReportUploadSession session = sessionRepository.findById(id)
+                .orElseThrow(() -> new ResourceNotFoundException("Upload session not found with id: " + id));
+        if (!session.getUserId().equals(user.getId())) {
+            throw new UnauthorizedException("You don't have permission to access this upload");
+        }
+        return session;
+    }
+
+    private ReportUploadSession findOpenSession(String id, Authentication authentication) {
+        ReportUploadSession session = findSession(id, authentication);
+        if (session.isFinalizing()) {
+            throw new InvalidRequestException("Upload is already being completed");
+        }
+        if (session.getExpiresAt().isBefore(LocalDateTime.now())) {
+            throw new ResourceNotFoundException("Upload session not found with id: " + id);
+        }
+        return session;
+    }
+
+    /**
+     * Claim a session for completion or abort, which excludes any chunk write
+     */
+    private void startFinalizing(String id) {
+        if (sessionRepository.startFinalizing(id) == 0) {
+            boolean finalizing = sessionRepository.findById(id).map(ReportUploadSession::isFinalizing).orElse(true);
+            throw new InvalidRequestException(finalizing
+                    ? "Upload is already being completed"
+                    : "Chunks are still being written, retry once they have finished");
+        }
+    }
+
+    private static int chunkCount(ReportUploadSession session) {
+        return (int) ((session.getTotalSize() + session.getChunkSize() - 1) / session.getChunkSize());
+    }
+
+    /**
+     * Merge consecutive received chunks into byte ranges
+     */
+    private UploadSessionResponse mapToResponse(ReportUploadSession session, List<Integer> receivedChunks) {
+        List<ByteRange> ranges = new ArrayList<>();
+        long rangeStart = -1;
+        int previous = -2;
+        for (int chunk : receivedChunks) {
+            if (chunk != previous + 1) {
+                if (rangeStart >= 0) {
+                    ranges.add(new ByteRange(rangeStart, chunkEnd(session, previous)));
+                }
+                rangeStart = (long) chunk * session.getChunkSize();
+            }
+            previous = chunk;
+        }
+        if (rangeStart >= 0) {
+            ranges.add(new ByteRange(rangeStart, chunkEnd(session, previous)));
+        }
+
+        return UploadSessionResponse.builder()
+                .uploadId(session.getId())
+                .name(session.getName())
+                .totalSize(session.getTotalSize())
+                .chunkSize(session.getChunkSize())
+                .chunkCount(chunkCount(session))
+                .receivedRanges(ranges)
+                .expiresAt(session.getExpiresAt())
+                .build();
+    }
+
+    private static long chunkEnd(ReportUploadSession session, int chunk) {
+        return Math.min((long) (chunk + 1) * session.getChunkSize(), session.getTotalSize()) - 1;
+    }
+}
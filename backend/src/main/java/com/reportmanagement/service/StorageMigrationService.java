@@ -0,0 +1,118 @@
+package com.reportmanagement.service;
+
+import com.reportmanagement.repository.ReportBlobRepository;
+import com.reportmanagement.repository.ReportRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import java.util.List;
+
+/**
+ * Background job moving files from the legacy upload directory into ReportStorage
+ *
+ * Runs while the application serves traffic: each tick migrates one batch of
+ * legacy blobs and one batch of per-report legacy files, each item in its own
+ * short transaction, and remembers where it stopped. Files that cannot be
+ * migrated are logged and skipped until the next pass; reports whose file is
+ * missing are flagged and left to the file reconciler. A pass that migrates
+ * nothing makes the job wait for the idle interval before the next one, so it
+ * can stay enabled without rescanning the same leftovers every few seconds.
+ *
+ * @author Report Management Team
+ * @version 1.0.0
+ */
+@Slf4j
+@Service
+public class StorageMigrationService {
+
+    private final ReportBlobRepository blobRepository;
+    private final ReportRepository reportRepository;
+    private final ReportBlobStore blobStore;
+    private final boolean enabled;
+    private final int batchSize;
+    private final long idleIntervalMs;
+
+    private String blobCursor = "";
+    private long reportCursor = 0;
+    private int migratedInPass = 0;
+    private int failedInPass = 0;
+    private long idleUntil = 0;
+
+    public StorageMigrationService(
+            ReportBlobRepository blobRepository,
+            ReportRepository reportRepository,
+            ReportBlobStore blobStore,
+            @Value("${reports.storage.migration.enabled:true}") boolean enabled,
+            @Value("${reports.storage.migration.batch-size:100}") int batchSize,
+            @Value("${reports.storage.migration.idle-interval-ms:600000}") long idleIntervalMs
+    ) {
+        this.blobRepository = blobRepository;
+        this.reportRepository = reportRepository;
+        this.blobStore = blobStore;
+        this.enabled = enabled;
+        this.batchSize = batchSize;
+        this.idleIntervalMs = idleIntervalMs;
+    }
+
+    /**
+     * Migrate the next batch of legacy files
+     */
+    @Scheduled(fixedDelayString = "${reports.storage.migration.interval-ms:10000}")
+    public synchronized void migrateBatch() {
+        if (!enabled || System.currentTimeMillis() < idleUntil) {
+            return;
+        }
+
+        List<String> blobs = blobRepository.findLegacyBlobs(blobCursor, batchSize);
+        for (String sha256 : blobs) {
+            blobCursor = sha256;
+            record(sha256, () -> blobStore.migrateLegacyBlob(sha256));
+        }
+        if (blobs.size() == batchSize) {
+            return;
+        }
+
+        List<Long> reportIds = reportRepository.findLegacyFileIds(reportCursor, PageRequest.of(0, batchSize));
+        for (Long reportId : reportIds) {
+            reportCursor = reportId;
+            record("report " + reportId, () -> blobStore.migrateLegacyReport(reportId));
+        }
+        if (reportIds.size() < batchSize) {
+            endPass();
+        }
+    }
+
+    private void record(String item, Migration migration) {
+        try {
+            if (migration.run()) {
+                migratedInPass++;
+            } else {
+                failedInPass++;
+            }
+        } catch (Exception e) {
+            failedInPass++;
+            log.warn("Storage migration of {} failed: {}", item, e.getMessage());
+        }
+    }
+
+    private void endPass() {
+        if (migratedInPass > 0 || failedInPass > 0) {
+            log.info("Storage migration pass finished: {} migrated, {} skipped", migratedInPass, failedInPass);
+        }
+        if (migratedInPass == 0) {
+            idleUntil = System.currentTimeMillis() + idleIntervalMs;
+        }
+        blobCursor = "";
+        reportCursor = 0;
+        migratedInPass = 0;
+        failedInPass = 0;
+    }
+
+    @FunctionalInterface
+    private interface Migration {
+        boolean run() throws Exception;
+    }
+}
@@ -1,14 +1,21 @@
 package com.reportmanagement.service;
 
 import com.reportmanagement.dto.CreateUserRequest;
+import com.reportmanagement.dto.ReportState;
 import com.reportmanagement.dto.UserResponse;
+import com.reportmanagement.event.ReportLifecycleEvent;
+import com.reportmanagement.model.ReportChangeType;
 import com.reportmanagement.model.User;
+import com.reportmanagement.repository.ReportRepository;
+import com.reportmanagement.repository.ReportTombstoneRepository;
 import com.reportmanagement.repository.UserRepository;
 import lombok.RequiredArgsConstructor;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.time.LocalDateTime;
 import java.util.List;
 import java.util.stream.Collectors;
 
@@ -24,6 +31,11 @@ public class UserService {
 
     private final UserRepository userRepository;
     private final PasswordEncoder passwordEncoder;
+    private final ReportStatsService reportStatsService;
+    private final ReportRepository reportRepository;
+    private final ReportBlobStore blobStore;
+    private final ReportTombstoneRepository tombstoneRepository;
+    private final ApplicationEventPublisher eventPublisher;
 
     /**
      * Get all users
@@ -65,13 +77,31 @@ public class UserService {
 
     /**
      * Delete user by ID
+     *
+     * The user's reports are deleted with them; each leaves a tombstone for the
+     * change feed and publishes a DELETED lifecycle event for the outbox and
+     * live subscribers. Their blobs are released and the files of their legacy
+     * reports are unlinked once the deletion commits.
      */
     @Transactional
     public void deleteUser(Long id) {
         if (!userRepository.existsById(id)) {
             throw new RuntimeException("User not found with id: " + id);
         }
+        List<ReportState> reports = reportRepository.findStatesByUserId(id);
+        List<String> blobHashes = reportRepository.findBlobHashesByUserId(id);
+        List<String> legacyFiles = reportRepository.findLegacyFilePathsByUserId(id);
+        LocalDateTime deletedAt = LocalDateTime.now();
+        tombstoneRepository.insertForUser(id, deletedAt);
         userRepository.deleteById(id);
+        userRepository.flush();
+        reportStatsService.removeUser(id);
+        blobHashes.forEach(blobStore::release);
+        legacyFiles.forEach(blobStore::releaseLegacyFile);
+        for (ReportState report : reports) {
+            eventPublisher.publishEvent(new ReportLifecycleEvent(
+                    ReportChangeType.DELETED, report.id(), id, report.status(), null, deletedAt));
+        }
     }
 
     /**
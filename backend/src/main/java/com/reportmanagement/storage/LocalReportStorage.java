@@ -0,0 +1,237 @@
+package com.reportmanagement.storage;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+import org.springframework.util.unit.DataSize;
+
+import java.io.IOException;
+import java.nio.file.AtomicMoveNotSupportedException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.UUID;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * Report storage on one or more local volumes
+ *
+ * Files are laid out as {@code <volume>/<ab>/<cd>/<name>}, where ab and cd are the
+ * first two byte pairs of the content hash, so no directory grows beyond a few
+ * thousand entries. Each new file goes to the volume with the most usable space,
+ * skipping volumes that would drop below the configured free-space floor. Keys are
+ * {@code <volumeId>/<ab>/<cd>/<name>}, relative to the volume, so a volume can be
+ * remounted elsewhere by changing its configured path. A variant of a file is
+ * stored beside it as {@code <name>.<variant>}.
+ *
+ * Each volume has its own {@code .staging} directory. Uploads are staged on the
+ * volume chosen for them, so storing one is always a rename within a file
+ * system, never a copy, even when the volumes are separate mounts.
+ *
+ * @author Report Management Team
+ * @version 1.0.0
+ */
+@Slf4j
+@Component
+@ConditionalOnProperty(name = "reports.storage.type", havingValue = "local", matchIfMissing = true)
+public class LocalReportStorage implements ReportStorage {
+
+    /**
+     * Directory under each volume root holding files staged for that volume
+     */
+    public static final String STAGING_DIR = ".staging";
+
+    private static final Pattern VOLUME_ID = Pattern.compile("[A-Za-z0-9_-]+");
+    private static final Pattern NAME = Pattern.compile("[0-9a-f]{4}[0-9a-f]*");
+    private static final Pattern KEY = Pattern.compile(
+            "([A-Za-z0-9_-]+)/([0-9a-f]{2}/[0-9a-f]{2}/[0-9a-f]{4,})(\\.[a-z]+)?");
+    private static final Pattern VARIANT = Pattern.compile("[a-z]+");
+
+    private final Map<String, Path> volumes;
+    private final long minFreeSpace;
+
+    /**
+     * @param volumes comma-separated {@code id=path} pairs
+     * @param minFreeSpace usable space a volume must keep after a write
+     */
+    public LocalReportStorage(
+            @Value("${reports.storage.volumes:v0=${file.upload-dir}/store}") String volumes,
+            @Value("${reports.storage.min-free-space:1GB}") DataSize minFreeSpace
+    ) throws IOException {
+        this.volumes = Collections.unmodifiableMap(parseVolumes(volumes));
+        this.minFreeSpace = minFreeSpace.toBytes();
+        for (Path root : this.volumes.values()) {
+            Files.createDirectories(root);
+        }
+        log.info("Report storage volumes: {}", this.volumes);
+    }
+
+    @Override
+    public Path createStagingFile(String name, long expectedSize) throws IOException {
+        Path stagingDir = volumes.get(selectVolume(expectedSize)).resolve(STAGING_DIR);
+        Files.createDirectories(stagingDir);
+        return Files.createFile(stagingDir.resolve(name));
+    }
+
+    @Override
+    public Path resolveStagingFile(String name) {
+        for (Path root : volumes.values()) {
+            Path file = root.resolve(STAGING_DIR).resolve(name);
+            if (Files.exists(file)) {
+                return file;
+            }
+        }
+        return volumes.values().iterator().next().resolve(STAGING_DIR).resolve(name);
+    }
+
+    @Override
+    public String store(Path source, String name) throws IOException {
+        if (!NAME.matcher(name).matches()) {
+            throw new IllegalArgumentException("Invalid storage name: " + name);
+        }
+        // A staged file already sits on its volume; its space was accounted for when it was staged
+        String volumeId = stagingVolume(source);
+        if (volumeId == null) {
+            volumeId = selectVolume(Files.size(source));
+        }
+        String relative = name.substring(0, 2) + "/" + name.substring(2, 4) + "/" + name;
+        Path target = volumes.get(volumeId).resolve(relative);
+        Files.createDirectories(target.getParent());
+        moveInto(source, target);
+        return volumeId + "/" + relative;
+    }
+
+    @Override
+    public String variantKey(String key, String variant) {
+        Matcher matcher = KEY.matcher(key);
+        if (!matcher.matches() || matcher.group(3) != null) {
+            throw new IllegalArgumentException("Invalid storage key: " + key);
+        }
+        if (!VARIANT.matcher(variant).matches()) {
+            throw new IllegalArgumentException("Invalid storage variant: " + variant);
+        }
+        return key + "." + variant;
+    }
+
+    @Override
+    public void storeVariant(Path source, String variantKey) throws IOException {
+        Matcher matcher = KEY.matcher(variantKey);
+        if (!matcher.matches() || matcher.group(3) == null) {
+            throw new IllegalArgumentException("Invalid variant key: " + variantKey);
+        }
+        Path target = resolve(variantKey);
+        Files.createDirectories(target.getParent());
+        moveInto(source, target);
+    }
+
+    @Override
+    public Path resolve(String key) {
+        Matcher matcher = KEY.matcher(key);
+        if (!matcher.matches()) {
+            throw new IllegalArgumentException("Invalid storage key: " + key);
+        }
+        Path root = volumes.get(matcher.group(1));
+        if (root == null) {
+            throw new IllegalArgumentException("Unknown storage volume in key: " + key);
+        }
+        String relative = matcher.group(3) == null ? matcher.group(2) : matcher.group(2) + matcher.group(3);
+        return root.resolve(relative);
+    }
+
+    @Override
+    public boolean exists(String key) {
+        return Files.exists(resolve(key));
+    }
+
+    @Override
+    public void delete(String key) throws IOException {
+        Files.deleteIfExists(resolve(key));
+    }
+
+    /**
+     * Configured volumes by ID, in configuration order
+     *
+     * @return volume root directories by volume ID
+     */
+    public Map<String, Path> volumes() {
+        return volumes;
+    }
+
+    /**
+     * Pick the volume with the most usable space that stays above the floor
+     */
+    private String selectVolume(long size) throws IOException {
+        String selected = null;
+        long selectedSpace = -1;
+        for (Map.Entry<String, Path> volume : volumes.entrySet()) {
+            long usable = Files.getFileStore(volume.getValue()).getUsableSpace();
+            if (usable - size >= minFreeSpace && usable > selectedSpace) {
+                selected = volume.getKey();
+                selectedSpace = usable;
+            }
+        }
+        if (selected == null) {
+            throw new IOException("No storage volume has room for " + size + " more bytes");
+        }
+        return selected;
+    }
+
+    /**
+     * Find the volume whose staging directory holds a file, or null if none does
+     */
+    private String stagingVolume(Path file) {
+        Path normalized = file.toAbsolutePath().normalize();
+        for (Map.Entry<String, Path> volume : volumes.entrySet()) {
+            if (normalized.startsWith(volume.getValue().resolve(STAGING_DIR))) {
+                return volume.getKey();
+            }
+        }
+        return null;
+    }
+
+    /**
+     * Rename the file into place, copying through a temporary sibling when the
+     * source is on a different file system so readers never see a partial file
+     */
+    private static void moveInto(Path source, Path target) throws IOException {
+        try {
+            Files.move(source, target, StandardCopyOption.ATOMIC_MOVE);
+        } catch (AtomicMoveNotSupportedException e) {
+            Path temp = target.resolveSibling(target.getFileName() + "." + UUID.randomUUID() + ".tmp");
+            try {
+                Files.copy(source, temp);
+                Files.move(temp, target, StandardCopyOption.ATOMIC_MOVE);
+            } catch (IOException | RuntimeException copyFailure) {
+                Files.deleteIfExists(temp);
+                throw copyFailure;
+            }
+            Files.delete(source);
+        }
+    }
+
+    private static Map<String, Path> parseVolumes(String volumes) {
+        Map<String, Path> parsed = new LinkedHashMap<>();
+        for (String entry : volumes.split(",")) {
+            String trimmed = entry.trim();
+            int separator = trimmed.indexOf('=');
+            if (separator <= 0) {
+                throw new IllegalArgumentException("Storage volume must be id=path: " + trimmed);
+            }
+            String id = trimmed.substring(0, separator).trim();
+            if (!VOLUME_ID.matcher(id).matches() || parsed.containsKey(id)) {
+                throw new IllegalArgumentException("Invalid or duplicate storage volume id: " + id);
+            }
+            parsed.put(id, Paths.get(trimmed.substring(separator + 1).trim()).toAbsolutePath().normalize());
+        }
+        if (parsed.isEmpty()) {
+            throw new IllegalArgumentException("At least one storage volume is required");
+        }
+        return parsed;
+    }
+}
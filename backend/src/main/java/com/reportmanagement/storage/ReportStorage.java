@@ -0,0 +1,97 @@
+package com.reportmanagement.storage;
+
+import java.io.IOException;
+import java.nio.file.Path;
+
+/**
+ * Storage backend for report files
+ *
+ * Files are addressed by an opaque storage key chosen by the backend when the file
+ * is stored. Keys are persisted on reports and blobs instead of absolute paths, so
+ * the storage layout and the volumes behind it can change without rewriting rows.
+ *
+ * Files derived from a stored file, such as previews, are stored as variants
+ * next to it under a key derived from the file's key.
+ *
+ * @author Report Management Team
+ * @version 1.0.0
+ */
+public interface ReportStorage {
+
+    /**
+     * Create an empty staging file where a file of about the given size will be
+     * stored, so that storing it later is a rename on the same file system
+     * rather than a copy
+     *
+     * @param name the staging file name
+     * @param expectedSize the expected file size in bytes, 0 if unknown
+     * @return the new staging file
+     * @throws IOException if the file cannot be created or no volume has room for it
+     */
+    Path createStagingFile(String name, long expectedSize) throws IOException;
+
+    /**
+     * Resolve a staging file created by {@link #createStagingFile(String, long)}
+     *
+     * @param name the staging file name
+     * @return the staging file, which does not exist if it was never created or was deleted
+     */
+    Path resolveStagingFile(String name);
+
+    /**
+     * Move a local file into storage
+     *
+     * A file from {@link #createStagingFile(String, long)} is renamed into place;
+     * any other file may have to be copied.
+     *
+     * @param source the file to store; it no longer exists after a successful call
+     * @param name the content name, a lowercase hex SHA-256
+     * @return the storage key of the stored file
+     * @throws IOException if the file cannot be stored
+     */
+    String store(Path source, String name) throws IOException;
+
+    /**
+     * Derive the key of a variant of a stored file
+     *
+     * @param key the storage key of the original file
+     * @param variant the variant name, lowercase letters only
+     * @return the variant's storage key
+     * @throws IllegalArgumentException if the key or variant is malformed
+     */
+    String variantKey(String key, String variant);
+
+    /**
+     * Move a local file into storage as a variant, replacing any previous version
+     *
+     * @param source the file to store; it no longer exists after a successful call
+     * @param variantKey the key from {@link #variantKey(String, String)}
+     * @throws IOException if the file cannot be stored
+     */
+    void storeVariant(Path source, String variantKey) throws IOException;
+
+    /**
+     * Resolve a storage key to a readable local file
+     *
+     * @param key the storage key
+     * @return the file path
+     * @throws IllegalArgumentException if the key is malformed or names an unknown volume
+     */
+    Path resolve(String key);
+
+    /**
+     * Check whether a stored file exists
+     *
+     * @param key the storage key
+     * @return true if the file exists
+     */
+    boolean exists(String key);
+
+    /**
+     * Delete a stored file if it exists
+     *
+     * @param key the storage key
+     * @throws IOException if the file cannot be deleted
+     */
+    void delete(String key) throws IOException;
+}
@@ -0,0 +1,102 @@
+package com.reportmanagement.util;
+
+import com.reportmanagement.exception.CursorExpiredException;
+import com.reportmanagement.exception.InvalidRequestException;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeParseException;
+import java.util.Base64;
+
+/**
+ * Opaque cursor of the report change feed
+ *
+ * Carries the (transaction ID, id) key of the last change returned and the
+ * change horizon the client's copy dates from: when it started from the
+ * beginning of the feed or last caught up with it. A deletion before that
+ * horizon concerns a report the client never received, so the cursor only
+ * expires when tombstones after both points have been pruned.
+ *
+ * @author Report Management Team
+ * @version 1.0.0
+ */
+public record ChangeCursor(Long xid, Long id, Long syncedXid) {
+
+    private static final String SEPARATOR = "|";
+    private static final String FORMAT = "x";
+
+    /**
+     * Start a feed from the beginning
+     *
+     * @param horizon the current change horizon
+     * @return a cursor before every change
+     */
+    public static ChangeCursor origin(long horizon) {
+        return new ChangeCursor(0L, 0L, horizon);
+    }
+
+    /**
+     * Whether tombstones this cursor still needs may have been pruned
+     *
+     * @param prunedThroughXid the latest transaction ID of any pruned tombstone, or null if none was pruned
+     * @return true if the client must resynchronise
+     */
+    public boolean isExpired(Long prunedThroughXid) {
+        if (prunedThroughXid == null) {
+            return false;
+        }
+        return Math.max(xid, syncedXid) <= prunedThroughXid;
+    }
+
+    /**
+     * Encode this cursor into a URL-safe token
+     *
+     * @return the encoded cursor
+     */
+    public String encode() {
+        String raw = FORMAT + SEPARATOR + xid + SEPARATOR + id + SEPARATOR + syncedXid;
+        return Base64.getUrlEncoder().withoutPadding()
+                .encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+
+    /**
+     * Decode a token produced by {@link #encode()}
+     *
+     * Tokens issued while the feed was ordered by update time cannot be placed
+     * in the transaction order and are treated as expired.
+     *
+     * @param token the encoded cursor
+     * @return the decoded cursor
+     * @throws InvalidRequestException if the token is malformed
+     * @throws CursorExpiredException if the token predates the transaction order
+     */
+    public static ChangeCursor decode(String token) {
+        String[] parts;
+        try {
+            String raw = new String(Base64.getUrlDecoder().decode(token), StandardCharsets.UTF_8);
+            parts = raw.split("\\|", -1);
+            if (parts.length == 4 && FORMAT.equals(parts[0])) {
+                return new ChangeCursor(Long.parseLong(parts[1]), Long.parseLong(parts[2]), Long.parseLong(parts[3]));
+            }
+        } catch (IllegalArgumentException e) {
+            throw new InvalidRequestException("Invalid cursor: " + token);
+        }
+        if (isTimestampToken(parts)) {
+            throw new CursorExpiredException("Change cursor has expired, reload the full report list");
+        }
+        throw new InvalidRequestException("Invalid cursor: " + token);
+    }
+
+    private static boolean isTimestampToken(String[] parts) {
+        if (parts.length != 2 && parts.length != 3) {
+            return false;
+        }
+        try {
+            LocalDateTime.parse(parts[0]);
+            Long.parseLong(parts[1]);
+            return true;
+        } catch (DateTimeParseException | NumberFormatException e) {
+            return false;
+        }
+    }
+}
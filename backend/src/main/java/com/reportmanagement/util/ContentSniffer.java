@@ -0,0 +1,111 @@
+package com.reportmanagement.util;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+/**
+ * Detects the media type of a stored report from its leading bytes
+ *
+ * Stored files carry no extension, so the type is recovered from the magic
+ * numbers of the formats reports arrive in, falling back to plain text for
+ * content without control bytes and to application/octet-stream otherwise.
+ *
+ * @author Report Management Team
+ * @version 1.0.0
+ */
+public final class ContentSniffer {
+
+    /**
+     * Number of leading bytes inspected, enough to reach the DICOM preamble marker
+     */
+    public static final int SNIFF_LENGTH = 512;
+
+    public static final String OCTET_STREAM = "application/octet-stream";
+
+    private static final int DICOM_MARKER_OFFSET = 128;
+
+    private ContentSniffer() {
+    }
+
+    /**
+     * Detect the media type of a file
+     *
+     * @param file the file to inspect
+     * @return the detected media type
+     * @throws IOException if the file cannot be read
+     */
+    public static String sniff(Path file) throws IOException {
+        try (InputStream in = Files.newInputStream(file)) {
+            byte[] head = in.readNBytes(SNIFF_LENGTH);
+            return sniff(head, head.length);
+        }
+    }
+
+    /**
+     * Detect the media type of content from its leading bytes
+     *
+     * @param head buffer holding the leading bytes
+     * @param length number of valid bytes in head
+     * @return the detected media type
+     */
+    public static String sniff(byte[] head, int length) {
+        if (startsWith(head, length, 0, "%PDF-".getBytes(StandardCharsets.US_ASCII))) {
+            return "application/pdf";
+        }
+        if (startsWith(head, length, 0, new byte[] {(byte) 0x89, 'P', 'N', 'G'})) {
+            return "image/png";
+        }
+        if (startsWith(head, length, 0, new byte[] {(byte) 0xFF, (byte) 0xD8, (byte) 0xFF})) {
+            return "image/jpeg";
+        }
+        if (startsWith(head, length, 0, "GIF8".getBytes(StandardCharsets.US_ASCII))) {
+            return "image/gif";
+        }
+        if (startsWith(head, length, 0, new byte[] {'I', 'I', '*', 0})
+                || startsWith(head, length, 0, new byte[] {'M', 'M', 0, '*'})) {
+            return "image/tiff";
+        }
+        if (startsWith(head, length, DICOM_MARKER_OFFSET, "DICM".getBytes(StandardCharsets.US_ASCII))) {
+            return "application/dicom";
+        }
+        if (startsWith(head, length, 0, new byte[] {'P', 'K', 3, 4})) {
+            return "application/zip";
+        }
+        return isText(head, length) ? "text/plain" : OCTET_STREAM;
+    }
+
+    private static boolean startsWith(byte[] head, int length, int offset, byte[] magic) {
+        if (length < offset + magic.length) {
+            return false;
+        }
+        for (int i = 0; i < magic.length; i++) {
+            if (head[offset + i] != magic[i]) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Treat content as text when it has no control bytes other than whitespace;
+     * bytes of 0x80 and above are allowed so UTF-8 text qualifies
+     */
+    private static boolean isText(byte[] head, int length) {
+        if (length == 0) {
+            return false;
+        }
+        for (int i = 0; i < length; i++) {
+            int b = head[i] & 0xFF;
+            if (b < 0x20 && b != '\t' && b != '\n' && b != '\r' && b != '\f') {
+                return false;
+            }
+            if (b == 0x7F) {
+                return false;
+            }
+        }
+        return true;
+    }
+}
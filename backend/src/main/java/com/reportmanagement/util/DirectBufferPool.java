@@ -0,0 +1,47 @@
+package com.reportmanagement.util;
+
+import java.nio.ByteBuffer;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+
+/**
+ * Small pool of reusable direct byte buffers for file channel I/O
+ *
+ * Writing a direct buffer to a FileChannel avoids the temporary direct copy the
+ * JDK makes for heap buffers, and reusing the buffers avoids the cost of
+ * allocating and freeing native memory for every upload. When the pool is empty a
+ * new buffer is allocated; buffers released into a full pool are dropped.
+ *
+ * @author Report Management Team
+ * @version 1.0.0
+ */
+public class DirectBufferPool {
+
+    private final BlockingQueue<ByteBuffer> buffers;
+    private final int bufferSize;
+
+    public DirectBufferPool(int capacity, int bufferSize) {
+        this.buffers = new ArrayBlockingQueue<>(capacity);
+        this.bufferSize = bufferSize;
+    }
+
+    /**
+     * Take a cleared buffer from the pool, allocating one if none is free
+     *
+     * @return a direct buffer ready for writing
+     */
+    public ByteBuffer acquire() {
+        ByteBuffer buffer = buffers.poll();
+        return buffer != null ? buffer : ByteBuffer.allocateDirect(bufferSize);
+    }
+
+    /**
+     * Return a buffer to the pool
+     *
+     * @param buffer a buffer obtained from {@link #acquire()}
+     */
+    public void release(ByteBuffer buffer) {
+        buffer.clear();
+        buffers.offer(buffer);
+    }
+}
@@ -0,0 +1,39 @@
+package com.reportmanagement.util;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Paces background I/O to a fixed number of operations per second
+ *
+ * Each call to {@link #acquire()} is scheduled one interval after the previous
+ * one and sleeps until its slot, so a long scan spreads its load evenly instead
+ * of competing with request traffic in bursts.
+ *
+ * @author Report Management Team
+ * @version 1.0.0
+ */
+public class IoRateLimiter {
+
+    private final long intervalNanos;
+    private long nextSlot = System.nanoTime();
+
+    public IoRateLimiter(int operationsPerSecond) {
+        if (operationsPerSecond <= 0) {
+            throw new IllegalArgumentException("Operations per second must be positive");
+        }
+        this.intervalNanos = TimeUnit.SECONDS.toNanos(1) / operationsPerSecond;
+    }
+
+    /**
+     * Wait for the next operation slot
+     *
+     * @throws InterruptedException if the thread is interrupted while waiting
+     */
+    public synchronized void acquire() throws InterruptedException {
+        long now = System.nanoTime();
+        if (nextSlot > now) {
+            TimeUnit.NANOSECONDS.sleep(nextSlot - now);
+        }
+        nextSlot = Math.max(now, nextSlot) + intervalNanos;
+    }
+}
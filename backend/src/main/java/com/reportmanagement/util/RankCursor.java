@@ -0,0 +1,56 @@
+package com.reportmanagement.util;
+
+import com.reportmanagement.exception.InvalidRequestException;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+
+/**
+ * Opaque keyset cursor over the (rank DESC, id DESC) ordering of full-text results
+ *
+ * @author Report Management Team
+ * @version 1.0.0
+ */
+public record RankCursor(float rank, long id) {
+
+    /**
+     * Cursor positioned before the first result
+     */
+    public static final RankCursor START = new RankCursor(Float.MAX_VALUE, Long.MAX_VALUE);
+
+    private static final String SEPARATOR = "|";
+
+    /**
+     * Encode this cursor into a URL-safe token
+     *
+     * @return the encoded cursor
+     */
+    public String encode() {
+        String raw = Float.toString(rank) + SEPARATOR + id;
+        return Base64.getUrlEncoder().withoutPadding()
+                .encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+
+    /**
+     * Decode a token produced by {@link #encode()}
+     *
+     * @param token the encoded cursor
+     * @return the decoded cursor
+     * @throws InvalidRequestException if the token is malformed
+     */
+    public static RankCursor decode(String token) {
+        try {
+            String raw = new String(Base64.getUrlDecoder().decode(token), StandardCharsets.UTF_8);
+            int separator = raw.lastIndexOf(SEPARATOR);
+            if (separator < 0) {
+                throw new InvalidRequestException("Invalid cursor: " + token);
+            }
+            return new RankCursor(
+                    Float.parseFloat(raw.substring(0, separator)),
+                    Long.parseLong(raw.substring(separator + 1))
+            );
+        } catch (IllegalArgumentException e) {
+            throw new InvalidRequestException("Invalid cursor: " + token);
+        }
+    }
+}
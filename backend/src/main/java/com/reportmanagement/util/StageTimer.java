@@ -0,0 +1,57 @@
+package com.reportmanagement.util;
+
+import java.util.concurrent.atomic.LongAccumulator;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Lock-free duration statistics for one stage of a pipeline
+ *
+ * Records are cheap enough to take on every item from many threads; readers see
+ * a consistent-enough snapshot for monitoring.
+ *
+ * @author Report Management Team
+ * @version 1.0.0
+ */
+public final class StageTimer {
+
+    private final LongAdder count = new LongAdder();
+    private final LongAdder failures = new LongAdder();
+    private final LongAdder totalNanos = new LongAdder();
+    private final LongAccumulator maxNanos = new LongAccumulator(Math::max, 0);
+
+    /**
+     * Record one execution of the stage
+     *
+     * @param nanos the time taken in nanoseconds
+     * @param succeeded false if the stage failed
+     */
+    public void record(long nanos, boolean succeeded) {
+        count.increment();
+        if (!succeeded) {
+            failures.increment();
+        }
+        totalNanos.add(nanos);
+        maxNanos.accumulate(nanos);
+    }
+
+    public long getCount() {
+        return count.sum();
+    }
+
+    public long getFailures() {
+        return failures.sum();
+    }
+
+    public double getTotalMillis() {
+        return totalNanos.sum() / 1_000_000.0;
+    }
+
+    public double getMeanMillis() {
+        long executions = count.sum();
+        return executions == 0 ? 0 : getTotalMillis() / executions;
+    }
+
+    public double getMaxMillis() {
+        return maxNanos.get() / 1_000_000.0;
+    }
+}
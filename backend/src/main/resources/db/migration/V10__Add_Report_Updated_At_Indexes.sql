@@ -0,0 +1,10 @@
+-- Migration V10: Add Report Updated-At Indexes
+-- Report Management System
+
+-- MAX(updated_at) for the report list version used by conditional GET,
+-- answered from the end of the index without touching the table.
+CREATE INDEX idx_reports_updated_at ON reports(updated_at);
+CREATE INDEX idx_reports_user_updated_at ON reports(user_id, updated_at);
+
+COMMENT ON INDEX idx_reports_updated_at IS 'Latest change over all reports';
+COMMENT ON INDEX idx_reports_user_updated_at IS 'Latest change over a user''s reports';
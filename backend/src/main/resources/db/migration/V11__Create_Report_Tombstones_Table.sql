@@ -0,0 +1,18 @@
+-- Migration V11: Create Report Tombstones Table
+-- Report Management System
+
+-- Records deleted reports so the change feed can report deletions.
+-- Rows older than the configured retention are pruned.
+CREATE TABLE report_tombstones (
+    report_id BIGINT PRIMARY KEY,
+    user_id BIGINT NOT NULL,
+    deleted_at TIMESTAMP NOT NULL
+);
+
+CREATE INDEX idx_report_tombstones_deleted_at ON report_tombstones(deleted_at, report_id);
+CREATE INDEX idx_report_tombstones_user_deleted_at ON report_tombstones(user_id, deleted_at, report_id);
+
+COMMENT ON TABLE report_tombstones IS 'Deleted reports, kept for the change feed';
+COMMENT ON COLUMN report_tombstones.report_id IS 'ID of the deleted report';
+COMMENT ON COLUMN report_tombstones.user_id IS 'Owner of the deleted report';
+COMMENT ON COLUMN report_tombstones.deleted_at IS 'Deletion timestamp';
@@ -0,0 +1,24 @@
+-- Migration V12: Create Report Blobs Table
+-- Report Management System
+
+-- Stored files are content-addressed by SHA-256 so identical uploads share one
+-- file. ref_count is the number of reports pointing at the blob; the file is
+-- unlinked when it drops to zero.
+CREATE TABLE report_blobs (
+    sha256 VARCHAR(64) PRIMARY KEY,
+    size_bytes BIGINT NOT NULL,
+    ref_count INTEGER NOT NULL CHECK (ref_count >= 0),
+    created_at TIMESTAMP NOT NULL DEFAULT CURRENT_TIMESTAMP
+);
+
+-- Reports uploaded before this migration keep their own file and a NULL hash
+ALTER TABLE reports ADD COLUMN blob_sha256 VARCHAR(64)
+    CONSTRAINT fk_reports_blob REFERENCES report_blobs(sha256);
+
+CREATE INDEX idx_reports_blob_sha256 ON reports(blob_sha256);
+
+COMMENT ON TABLE report_blobs IS 'Content-addressed report files shared by identical uploads';
+COMMENT ON COLUMN report_blobs.sha256 IS 'Hex SHA-256 of the file content';
+COMMENT ON COLUMN report_blobs.size_bytes IS 'File size in bytes';
+COMMENT ON COLUMN report_blobs.ref_count IS 'Number of reports referencing the blob';
+COMMENT ON COLUMN reports.blob_sha256 IS 'Content hash of the stored file, NULL for legacy per-report files';
@@ -0,0 +1,36 @@
+-- Migration V13: Create Report Upload Sessions Tables
+-- Report Management System
+
+-- Resumable chunked uploads. The file is assembled in a preallocated staging file
+-- and becomes a report when the session is completed; expired sessions are purged.
+CREATE TABLE report_upload_sessions (
+    id VARCHAR(36) PRIMARY KEY,
+    user_id BIGINT NOT NULL,
+    name VARCHAR(255) NOT NULL,
+    type VARCHAR(100) NOT NULL,
+    report_date DATE NOT NULL,
+    total_size BIGINT NOT NULL CHECK (total_size > 0),
+    chunk_size INTEGER NOT NULL CHECK (chunk_size > 0),
+    finalizing BOOLEAN NOT NULL DEFAULT FALSE,
+    created_at TIMESTAMP NOT NULL DEFAULT CURRENT_TIMESTAMP,
+    expires_at TIMESTAMP NOT NULL,
+    CONSTRAINT fk_upload_session_user FOREIGN KEY (user_id) REFERENCES users(id) ON DELETE CASCADE
+);
+
+CREATE INDEX idx_report_upload_sessions_expires_at ON report_upload_sessions(expires_at);
+
+-- One row per chunk written to disk
+CREATE TABLE report_upload_chunks (
+    session_id VARCHAR(36) NOT NULL,
+    chunk_index INTEGER NOT NULL,
+    PRIMARY KEY (session_id, chunk_index),
+    CONSTRAINT fk_upload_chunk_session FOREIGN KEY (session_id)
+        REFERENCES report_upload_sessions(id) ON DELETE CASCADE
+);
+
+COMMENT ON TABLE report_upload_sessions IS 'In-progress resumable report uploads';
+COMMENT ON COLUMN report_upload_sessions.total_size IS 'Declared file size in bytes';
+COMMENT ON COLUMN report_upload_sessions.chunk_size IS 'Size of every chunk except possibly the last';
+COMMENT ON COLUMN report_upload_sessions.finalizing IS 'Set while the session is being completed or aborted';
+COMMENT ON COLUMN report_upload_sessions.expires_at IS 'Time after which the session and its file are purged';
+COMMENT ON TABLE report_upload_chunks IS 'Chunks of an upload session already written to disk';
@@ -0,0 +1,19 @@
+-- Migration V14: Add Report Storage Keys
+-- Report Management System
+
+-- Files are addressed by a volume-relative storage key instead of an absolute
+-- path. file_path is kept for files not yet moved into the storage layout and is
+-- cleared once a report is migrated.
+ALTER TABLE reports ADD COLUMN storage_key VARCHAR(500);
+ALTER TABLE reports ALTER COLUMN file_path DROP NOT NULL;
+ALTER TABLE reports ADD CONSTRAINT chk_reports_file_location
+    CHECK (storage_key IS NOT NULL OR file_path IS NOT NULL);
+
+ALTER TABLE report_blobs ADD COLUMN storage_key VARCHAR(500);
+
+-- Lets the storage migration find unmigrated reports without scanning the table
+CREATE INDEX idx_reports_unmigrated ON reports(id) WHERE storage_key IS NULL;
+
+COMMENT ON COLUMN reports.storage_key IS 'Volume-relative storage key of the file';
+COMMENT ON COLUMN reports.file_path IS 'Legacy file path, NULL once the file is in the storage layout';
+COMMENT ON COLUMN report_blobs.storage_key IS 'Volume-relative storage key, NULL for blobs in the legacy flat directory';
@@ -0,0 +1,14 @@
+-- Migration V15: Add Report File Reconciliation
+-- Report Management System
+
+-- Set by the file reconciler when a report's file is missing from storage,
+-- cleared when a later run finds the file again.
+ALTER TABLE reports ADD COLUMN file_missing_since TIMESTAMP;
+
+CREATE INDEX idx_reports_file_missing ON reports(id) WHERE file_missing_since IS NOT NULL;
+
+-- The reconciler merges sorted storage keys with a sorted directory walk, so keys
+-- are compared and ordered bytewise regardless of the database collation
+CREATE INDEX idx_report_blobs_storage_key ON report_blobs(storage_key COLLATE "C");
+
+COMMENT ON COLUMN reports.file_missing_since IS 'When the reconciler first found the file missing, NULL if present';
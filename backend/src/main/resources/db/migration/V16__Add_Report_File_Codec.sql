@@ -0,0 +1,14 @@
+-- Migration V16: Add Report File Codec
+-- Report Management System
+
+-- Encoding of the stored file, NULL when it is stored exactly as uploaded.
+-- The blob's codec describes its file; reports copy it so serving a file
+-- needs no join.
+ALTER TABLE report_blobs ADD COLUMN codec VARCHAR(20);
+ALTER TABLE reports ADD COLUMN codec VARCHAR(20);
+
+ALTER TABLE report_blobs ADD CONSTRAINT chk_report_blobs_codec CHECK (codec IN ('GZIP'));
+ALTER TABLE reports ADD CONSTRAINT chk_reports_codec CHECK (codec IN ('GZIP'));
+
+COMMENT ON COLUMN report_blobs.codec IS 'Encoding of the stored file, NULL if stored as uploaded';
+COMMENT ON COLUMN reports.codec IS 'Encoding of the stored file, copied from the blob';
@@ -0,0 +1,11 @@
+-- Migration V17: Use Pooled Report Ids
+-- Report Management System
+
+-- Hibernate now draws report ids from the sequence in blocks of 50 (pooled
+-- optimizer), so inserts can be sent as JDBC batches. Each nextval reserves
+-- the 50 ids ending at the returned value.
+ALTER SEQUENCE reports_id_seq INCREMENT BY 50;
+
+-- A plain nextval default would hand out an id inside a block the application
+-- has already reserved, so rows must now be inserted with an explicit id
+ALTER TABLE reports ALTER COLUMN id DROP DEFAULT;
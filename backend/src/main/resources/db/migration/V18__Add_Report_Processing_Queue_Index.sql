@@ -0,0 +1,9 @@
+-- Migration V18: Add Report Processing Queue Index
+-- Report Management System
+
+-- The processing engine claims the oldest UPLOADED reports with
+-- FOR UPDATE SKIP LOCKED; this index holds only the waiting reports, so a
+-- claim reads a handful of index entries however large the table grows
+CREATE INDEX idx_reports_processing_queue ON reports(id) WHERE status = 'UPLOADED';
+
+COMMENT ON INDEX idx_reports_processing_queue IS 'UPLOADED reports in claim order for the processing engine';
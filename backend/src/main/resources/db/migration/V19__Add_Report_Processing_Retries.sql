@@ -0,0 +1,38 @@
+-- Migration V19: Add Report Processing Retries
+-- Report Management System
+
+-- attempts counts the times a report was moved to PROCESSING, next_attempt_at
+-- holds back a re-driven report until its backoff expires, and
+-- status_changed_at records when the status last changed so reports stuck in
+-- PROCESSING can be found
+ALTER TABLE reports
+    ADD COLUMN attempts INTEGER NOT NULL DEFAULT 0,
+    ADD COLUMN next_attempt_at TIMESTAMP,
+    ADD COLUMN status_changed_at TIMESTAMP;
+
+UPDATE reports
+SET status_changed_at = COALESCE(updated_at, created_at, NOW()),
+    attempts = CASE WHEN status = 'UPLOADED' THEN 0 ELSE 1 END;
+
+ALTER TABLE reports
+    ALTER COLUMN status_changed_at SET DEFAULT NOW(),
+    ALTER COLUMN status_changed_at SET NOT NULL,
+    ADD CONSTRAINT chk_reports_attempts CHECK (attempts >= 0);
+
+-- Reports that exhaust their attempts end in FAILED
+ALTER TABLE reports DROP CONSTRAINT chk_status;
+ALTER TABLE reports ADD CONSTRAINT chk_status
+    CHECK (status IN ('UPLOADED', 'PROCESSING', 'COMPLETED', 'FAILED'));
+
+-- The reaper reads (status_changed_at, id) of PROCESSING reports older than its
+-- timeout straight from this index, so a sweep touches only the stuck reports
+CREATE INDEX idx_reports_processing_since ON reports(status_changed_at, id) WHERE status = 'PROCESSING';
+
+ALTER TABLE report_status_counts ADD COLUMN failed_count BIGINT NOT NULL DEFAULT 0;
+
+COMMENT ON COLUMN reports.status IS 'Report status (UPLOADED, PROCESSING, COMPLETED, FAILED)';
+COMMENT ON COLUMN reports.attempts IS 'Number of times the report was moved to PROCESSING';
+COMMENT ON COLUMN reports.next_attempt_at IS 'Earliest time the processing engine may claim the report again, NULL if not held back';
+COMMENT ON COLUMN reports.status_changed_at IS 'When the status last changed';
+COMMENT ON COLUMN report_status_counts.failed_count IS 'Reports in FAILED status';
+COMMENT ON INDEX idx_reports_processing_since IS 'PROCESSING reports by age for the stuck-report reaper';
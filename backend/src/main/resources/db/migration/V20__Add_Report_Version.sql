@@ -0,0 +1,9 @@
+-- Migration V20: Add Report Version
+-- Report Management System
+
+-- Optimistic lock version of a report, incremented by every update; entity
+-- updates only apply to the version they read, and status transitions are
+-- compare-and-set updates that increment it as well
+ALTER TABLE reports ADD COLUMN version BIGINT NOT NULL DEFAULT 0;
+
+COMMENT ON COLUMN reports.version IS 'Optimistic lock version, incremented by every update';
@@ -0,0 +1,31 @@
+-- Migration V21: Create Report Outbox Table
+-- Report Management System
+
+-- Report lifecycle events, written in the transaction that changes the report
+-- and delivered to downstream sinks by the outbox dispatcher. Delivered rows
+-- are deleted, or marked and compacted after the configured retention.
+CREATE SEQUENCE report_outbox_id_seq INCREMENT BY 50;
+
+CREATE TABLE report_outbox (
+    id BIGINT PRIMARY KEY,
+    event_type VARCHAR(20) NOT NULL,
+    report_id BIGINT NOT NULL,
+    user_id BIGINT NOT NULL,
+    previous_status VARCHAR(50),
+    status VARCHAR(50),
+    occurred_at TIMESTAMP NOT NULL,
+    dispatched_at TIMESTAMP,
+    CONSTRAINT chk_report_outbox_event_type CHECK (event_type IN ('CREATED', 'UPDATED', 'DELETED'))
+);
+
+-- Undelivered events in delivery order; stays small however many delivered
+-- rows are kept for replay
+CREATE INDEX idx_report_outbox_pending ON report_outbox(id) WHERE dispatched_at IS NULL;
+
+COMMENT ON TABLE report_outbox IS 'Report lifecycle events awaiting delivery to downstream sinks';
+COMMENT ON COLUMN report_outbox.id IS 'Event ID, increasing in commit order per writer; consumers deduplicate on it';
+COMMENT ON COLUMN report_outbox.event_type IS 'Kind of change (CREATED, UPDATED, DELETED)';
+COMMENT ON COLUMN report_outbox.previous_status IS 'Status before the change, NULL for a new report';
+COMMENT ON COLUMN report_outbox.status IS 'Status after the change, NULL for a deleted report';
+COMMENT ON COLUMN report_outbox.occurred_at IS 'When the change was made';
+COMMENT ON COLUMN report_outbox.dispatched_at IS 'When the event was delivered, NULL while pending';
@@ -0,0 +1,16 @@
+-- Migration V22: Create Report Tombstone Watermark
+-- Report Management System
+
+-- Latest deletion time of any pruned tombstone. Change feed cursors only expire
+-- when tombstones they still need may have been pruned, which this records.
+CREATE TABLE report_tombstone_watermark (
+    id SMALLINT PRIMARY KEY DEFAULT 1,
+    pruned_through TIMESTAMP,
+    CONSTRAINT chk_report_tombstone_watermark_single_row CHECK (id = 1)
+);
+
+INSERT INTO report_tombstone_watermark (id, pruned_through)
+VALUES (1, NULL);
+
+COMMENT ON TABLE report_tombstone_watermark IS 'Single row recording how far tombstones were pruned';
+COMMENT ON COLUMN report_tombstone_watermark.pruned_through IS 'Latest deleted_at of any pruned tombstone, NULL if none';
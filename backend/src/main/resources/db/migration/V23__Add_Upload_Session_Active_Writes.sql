@@ -0,0 +1,12 @@
+-- Migration V23: Add Upload Session Active Writes
+-- Report Management System
+
+-- Chunk writes in progress. Completion only starts while no chunk is being
+-- written, and no chunk write starts once completion has, so a late chunk can
+-- never write into a file that has been hashed and stored as a shared blob.
+-- A count left behind by a crashed instance keeps the session from completing
+-- until it expires and is purged.
+ALTER TABLE report_upload_sessions ADD COLUMN active_writes INTEGER NOT NULL DEFAULT 0
+    CONSTRAINT chk_report_upload_sessions_active_writes CHECK (active_writes >= 0);
+
+COMMENT ON COLUMN report_upload_sessions.active_writes IS 'Number of chunk writes in progress';
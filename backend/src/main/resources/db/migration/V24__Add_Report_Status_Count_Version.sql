@@ -0,0 +1,10 @@
+-- Migration V24: Add Report Status Count Version
+-- Report Management System
+
+-- Change counter of each scope, incremented by the same upserts that adjust the
+-- counts and by any other change to a report in the scope. Row locks order the
+-- increments by commit, so unlike MAX(updated_at) a version read after a commit
+-- always reflects it, even when transactions commit out of timestamp order.
+ALTER TABLE report_status_counts ADD COLUMN version BIGINT NOT NULL DEFAULT 0;
+
+COMMENT ON COLUMN report_status_counts.version IS 'Incremented by every change to the reports of the scope';
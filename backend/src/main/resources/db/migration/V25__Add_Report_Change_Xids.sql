@@ -0,0 +1,49 @@
+-- Migration V25: Add Report Change Xids
+-- Report Management System
+
+-- The change feed orders reports and tombstones by the ID of the transaction
+-- that last wrote them, and only returns rows written by transactions older than
+-- the oldest one still in flight (pg_snapshot_xmin). Every such transaction has
+-- finished, so no row can later appear behind a cursor, however long the
+-- transaction that writes it runs. updated_at comes from the application clock
+-- and is only reported to clients.
+--
+-- Existing rows get 0, before any tracked change. Inserts take the current
+-- transaction ID from the column defaults, updates from the trigger.
+ALTER TABLE reports ADD COLUMN change_xid BIGINT NOT NULL DEFAULT 0;
+ALTER TABLE reports ADD COLUMN created_xid BIGINT NOT NULL DEFAULT 0;
+ALTER TABLE reports ALTER COLUMN change_xid SET DEFAULT pg_current_xact_id()::text::bigint;
+ALTER TABLE reports ALTER COLUMN created_xid SET DEFAULT pg_current_xact_id()::text::bigint;
+
+CREATE FUNCTION reports_set_change_xid() RETURNS TRIGGER AS $$
+BEGIN
+    NEW.change_xid := pg_current_xact_id()::text::bigint;
+    RETURN NEW;
+END;
+$$ LANGUAGE plpgsql;
+
+CREATE TRIGGER trg_reports_change_xid
+    BEFORE UPDATE ON reports
+    FOR EACH ROW EXECUTE FUNCTION reports_set_change_xid();
+
+ALTER TABLE report_tombstones ADD COLUMN change_xid BIGINT NOT NULL DEFAULT 0;
+ALTER TABLE report_tombstones ALTER COLUMN change_xid SET DEFAULT pg_current_xact_id()::text::bigint;
+
+-- The updated_at indexes only served the change feed and the list version
+DROP INDEX idx_reports_updated_at;
+DROP INDEX idx_reports_user_updated_at;
+CREATE INDEX idx_reports_change_xid ON reports(change_xid, id);
+CREATE INDEX idx_reports_user_change_xid ON reports(user_id, change_xid, id);
+CREATE INDEX idx_report_tombstones_change_xid ON report_tombstones(change_xid, report_id);
+CREATE INDEX idx_report_tombstones_user_change_xid ON report_tombstones(user_id, change_xid, report_id);
+
+-- Cursors expire against the transaction IDs of pruned tombstones
+ALTER TABLE report_tombstone_watermark ADD COLUMN pruned_through_xid BIGINT;
+UPDATE report_tombstone_watermark SET pruned_through_xid = 0 WHERE pruned_through IS NOT NULL;
+
+COMMENT ON COLUMN reports.change_xid IS 'ID of the transaction that last wrote the report';
+COMMENT ON COLUMN reports.created_xid IS 'ID of the transaction that created the report';
+COMMENT ON COLUMN report_tombstones.change_xid IS 'ID of the transaction that deleted the report';
+COMMENT ON COLUMN report_tombstone_watermark.pruned_through_xid IS 'Latest change_xid of any pruned tombstone, NULL if none';
+COMMENT ON INDEX idx_reports_change_xid IS 'Change feed over all reports';
+COMMENT ON INDEX idx_reports_user_change_xid IS 'Change feed over a user''s reports';
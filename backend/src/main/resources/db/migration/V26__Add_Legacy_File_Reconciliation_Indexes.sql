@@ -0,0 +1,12 @@
+-- Migration V26: Add Legacy File Reconciliation Indexes
+-- Report Management System
+
+-- The reconciler merges the sorted listings of the legacy upload directory and
+-- its blobs directory with the file paths of unmigrated reports and the hashes
+-- of unmigrated blobs, read in bytewise order. Both shrink to nothing as the
+-- storage migration progresses.
+CREATE INDEX idx_reports_legacy_file_path ON reports(file_path COLLATE "C") WHERE storage_key IS NULL;
+CREATE INDEX idx_report_blobs_legacy ON report_blobs(sha256 COLLATE "C") WHERE storage_key IS NULL;
+
+COMMENT ON INDEX idx_reports_legacy_file_path IS 'File paths of reports outside the storage layout, bytewise';
+COMMENT ON INDEX idx_report_blobs_legacy IS 'Hashes of blobs in the legacy flat directory, bytewise';
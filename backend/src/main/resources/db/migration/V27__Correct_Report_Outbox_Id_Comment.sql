@@ -0,0 +1,8 @@
+-- Migration V27: Correct Report Outbox Id Comment
+-- Report Management System
+
+-- Event IDs come from a sequence drawn in blocks of 50 by each instance, so a
+-- later change, even to the same report, can get a lower ID than an earlier
+-- one, and a transaction can commit after events with higher IDs were
+-- delivered. IDs identify events; they do not order them.
+COMMENT ON COLUMN report_outbox.id IS 'Event ID, unique but not in commit order even for one report; consumers deduplicate on it';
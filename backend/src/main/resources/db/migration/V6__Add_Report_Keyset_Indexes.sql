@@ -0,0 +1,8 @@
+-- Migration V6: Add Report Keyset Pagination Indexes
+-- Report Management System
+
+-- Per-user keyset pagination on (created_at DESC, id DESC).
+-- Admin pages are served by the existing idx_reports_created_at.
+CREATE INDEX idx_reports_user_created_at ON reports(user_id, created_at DESC, id DESC);
+
+COMMENT ON INDEX idx_reports_user_created_at IS 'Keyset pagination of a user''s reports';
@@ -0,0 +1,21 @@
+-- Migration V7: Add Report Search Indexes
+-- Report Management System
+
+-- Composite indexes for GET /reports/search. Each one leads with the equality
+-- filters and ends with the keyset sort key, so a filtered page is read as a
+-- single index range scan without a separate sort step.
+
+-- Per-user filters (non-admin callers always filter on user_id)
+CREATE INDEX idx_reports_user_status_created_at ON reports(user_id, status, created_at DESC, id DESC);
+CREATE INDEX idx_reports_user_type_created_at ON reports(user_id, type, created_at DESC, id DESC);
+CREATE INDEX idx_reports_user_report_date ON reports(user_id, report_date);
+
+-- Cross-user filters used by admins
+CREATE INDEX idx_reports_status_created_at ON reports(status, created_at DESC, id DESC);
+CREATE INDEX idx_reports_report_date ON reports(report_date);
+
+COMMENT ON INDEX idx_reports_user_status_created_at IS 'Search by owner and status, newest first';
+COMMENT ON INDEX idx_reports_user_type_created_at IS 'Search by owner and type, newest first';
+COMMENT ON INDEX idx_reports_user_report_date IS 'Search by owner and report date range';
+COMMENT ON INDEX idx_reports_status_created_at IS 'Admin search by status, newest first';
+COMMENT ON INDEX idx_reports_report_date IS 'Admin search by report date range';
@@ -0,0 +1,14 @@
+-- Migration V8: Add Report Full-Text Search
+-- Report Management System
+
+-- Generated search document over the report name (weight A) and summary (weight B).
+-- PostgreSQL keeps it up to date on every insert and update of either column.
+ALTER TABLE reports ADD COLUMN search_vector tsvector
+    GENERATED ALWAYS AS (
+        setweight(to_tsvector('english', coalesce(name, '')), 'A') ||
+        setweight(to_tsvector('english', coalesce(summary, '')), 'B')
+    ) STORED;
+
+CREATE INDEX idx_reports_search_vector ON reports USING GIN (search_vector);
+
+COMMENT ON COLUMN reports.search_vector IS 'Full-text search document over name and summary';
@@ -0,0 +1,33 @@
+-- Migration V9: Create Report Status Counts Table
+-- Report Management System
+
+-- One row per user plus a global row (scope_id = 0), maintained incrementally
+-- inside the transactions that create, transition and delete reports.
+CREATE TABLE report_status_counts (
+    scope_id BIGINT PRIMARY KEY,
+    uploaded_count BIGINT NOT NULL DEFAULT 0,
+    processing_count BIGINT NOT NULL DEFAULT 0,
+    completed_count BIGINT NOT NULL DEFAULT 0
+);
+
+-- Backfill from existing reports
+INSERT INTO report_status_counts (scope_id, uploaded_count, processing_count, completed_count)
+SELECT user_id,
+       COUNT(*) FILTER (WHERE status = 'UPLOADED'),
+       COUNT(*) FILTER (WHERE status = 'PROCESSING'),
+       COUNT(*) FILTER (WHERE status = 'COMPLETED')
+FROM reports
+GROUP BY user_id;
+
+INSERT INTO report_status_counts (scope_id, uploaded_count, processing_count, completed_count)
+SELECT 0,
+       COUNT(*) FILTER (WHERE status = 'UPLOADED'),
+       COUNT(*) FILTER (WHERE status = 'PROCESSING'),
+       COUNT(*) FILTER (WHERE status = 'COMPLETED')
+FROM reports;
+
+COMMENT ON TABLE report_status_counts IS 'Per-user and global report counts by status';
+COMMENT ON COLUMN report_status_counts.scope_id IS 'User ID, or 0 for the global counts';
+COMMENT ON COLUMN report_status_counts.uploaded_count IS 'Reports in UPLOADED status';
+COMMENT ON COLUMN report_status_counts.processing_count IS 'Reports in PROCESSING status';
+COMMENT ON COLUMN report_status_counts.completed_count IS 'Reports in COMPLETED status';
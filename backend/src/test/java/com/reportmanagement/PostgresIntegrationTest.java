@@ -0,0 +1,19 @@
+package com.reportmanagement;
+
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+
+/**
+ * Base class for integration tests against the PostgreSQL test database
+ *
+ * The test profile points at the database named in application-test.yml, which
+ * FlywayConfig cleans and migrates when the application context starts. Test
+ * classes named *IT run with mvn verify.
+ *
+ * @author Report Management Team
+ * @version 1.0.0
+ */
+@SpringBootTest
+@ActiveProfiles("test")
+public abstract class PostgresIntegrationTest {
+}
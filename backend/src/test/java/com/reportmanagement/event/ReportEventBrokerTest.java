@@ -0,0 +1,123 @@
+package com.reportmanagement.event;
+
+import com.reportmanagement.model.ReportChangeType;
+import com.reportmanagement.model.ReportStatus;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.io.IOException;
+import java.io.InterruptedIOException;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertTimeoutPreemptively;
+
+/**
+ * Tests for delivery to slow subscribers of {@link ReportEventBroker}
+ *
+ * @author Report Management Team
+ * @version 1.0.0
+ */
+class ReportEventBrokerTest {
+
+    private static final int BUFFER_SIZE = 4;
+
+    private ReportEventBroker broker;
+
+    @BeforeEach
+    void setUp() {
+        broker = new ReportEventBroker(1, 600_000, 200);
+        ReflectionTestUtils.setField(broker, "bufferSize", BUFFER_SIZE);
+        ReflectionTestUtils.setField(broker, "timeoutMs", 60_000L);
+    }
+
+    @AfterEach
+    void tearDown() {
+        broker.destroy();
+    }
+
+    @Test
+    void publisherNeverWaitsForSlowSubscriber() throws InterruptedException {
+        BlockingEmitter slow = new BlockingEmitter();
+        broker.subscribe(1L, false, slow);
+        assertThat(slow.sendStarted.await(5, TimeUnit.SECONDS)).isTrue();
+
+        assertTimeoutPreemptively(Duration.ofSeconds(1), () -> {
+            for (long reportId = 1; reportId <= BUFFER_SIZE * 3; reportId++) {
+                broker.onReportEvent(event(reportId, 1L));
+            }
+        });
+        assertThat(slow.completedOn).isNull();
+        assertThat(broker.subscriberCount()).isZero();
+
+        slow.release.countDown();
+        assertThat(slow.completed.await(5, TimeUnit.SECONDS)).isTrue();
+        assertThat(slow.completedOn.getName()).isEqualTo("report-events-sender");
+    }
+
+    @Test
+    void stuckSendDoesNotStallOtherSubscribers() throws InterruptedException {
+        BlockingEmitter stuck = new BlockingEmitter();
+        BlockingEmitter healthy = new BlockingEmitter();
+        healthy.release.countDown();
+        try {
+            broker.subscribe(1L, false, stuck);
+            assertThat(stuck.sendStarted.await(5, TimeUnit.SECONDS)).isTrue();
+            broker.subscribe(2L, false, healthy);
+
+            broker.onReportEvent(event(1L, 2L));
+
+            long deadline = System.currentTimeMillis() + 5_000;
+            while (healthy.sent.get() < 2 && System.currentTimeMillis() < deadline) {
+                Thread.sleep(10);
+            }
+            assertThat(healthy.sent.get()).isEqualTo(2);
+            assertThat(broker.subscriberCount()).isEqualTo(1);
+        } finally {
+            stuck.release.countDown();
+        }
+        assertThat(stuck.completed.await(5, TimeUnit.SECONDS)).isTrue();
+    }
+
+    private static ReportLifecycleEvent event(Long reportId, Long userId) {
+        return new ReportLifecycleEvent(ReportChangeType.UPDATED, reportId, userId,
+                ReportStatus.UPLOADED, ReportStatus.PROCESSING, LocalDateTime.now());
+    }
+
+    /**
+     * An emitter whose sends block, like a client that stopped reading, until released
+     */
+    private static final class BlockingEmitter extends SseEmitter {
+
+        private final CountDownLatch sendStarted = new CountDownLatch(1);
+        private final CountDownLatch release = new CountDownLatch(1);
+        private final CountDownLatch completed = new CountDownLatch(1);
+        private final AtomicInteger sent = new AtomicInteger();
+        private volatile Thread completedOn;
+
+        @Override
+        public void send(SseEventBuilder builder) throws IOException {
+            sendStarted.countDown();
+            try {
+                release.await();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new InterruptedIOException();
+            }
+            sent.incrementAndGet();
+        }
+
+        @Override
+        public void complete() {
+            completedOn = Thread.currentThread();
+            completed.countDown();
+        }
+    }
+}
@@ -0,0 +1,133 @@
+package com.reportmanagement.processing;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Tests for {@link ExtractiveSummaryProcessor}
+ *
+ * @author Report Management Team
+ * @version 1.0.0
+ */
+class ExtractiveSummaryProcessorTest {
+
+    private ExtractiveSummaryProcessor processor;
+
+    @BeforeEach
+    void setUp() {
+        processor = new ExtractiveSummaryProcessor();
+        ReflectionTestUtils.setField(processor, "maxSentences", 2);
+        ReflectionTestUtils.setField(processor, "maxChars", 1000);
+    }
+
+    @Test
+    void csvIsDelimited() {
+        assertThat(ExtractiveSummaryProcessor.isDelimited(ascii("a,b,c\n1,2,3\n4,5,6\n"))).isTrue();
+    }
+
+    @Test
+    void tabSeparatedIsDelimited() {
+        assertThat(ExtractiveSummaryProcessor.isDelimited(ascii("a\tb\n1\t2\n"))).isTrue();
+    }
+
+    @Test
+    void proseIsNotDelimited() {
+        assertThat(ExtractiveSummaryProcessor.isDelimited(ascii(
+                "The scan, taken today, was clear.\nNo follow-up is needed.\nReview in a year, or sooner.\n")))
+                .isFalse();
+    }
+
+    @Test
+    void singleLineIsNotDelimited() {
+        assertThat(ExtractiveSummaryProcessor.isDelimited(ascii("a,b,c\n"))).isFalse();
+    }
+
+    @Test
+    void incompleteLastLineIsIgnored() {
+        assertThat(ExtractiveSummaryProcessor.isDelimited(ascii("a,b\n1,2\n3,4,5,6"))).isTrue();
+    }
+
+    @Test
+    void summarisesText() throws IOException {
+        String summary = processor.process(document(ascii("""
+                Annual cardiology review for the outpatient clinic.
+                Blood pressure readings improved after medication changes.
+                Blood pressure medication changes reduced readings further.
+                """)));
+
+        assertThat(summary).isEqualTo("Annual cardiology review for the outpatient clinic. "
+                + "Blood pressure readings improved after medication changes.");
+    }
+
+    @Test
+    void summarisesCsvByRows() throws IOException {
+        String summary = processor.process(document(ascii("""
+                patient,test,result
+                alpha,glucose,normal
+                bravo,glucose,normal
+                """)));
+
+        assertThat(summary).startsWith("patient,test,result ");
+    }
+
+    @Test
+    void describesBinaryFiles() throws IOException {
+        byte[] png = new byte[1000];
+        System.arraycopy(new byte[]{(byte) 0x89, 'P', 'N', 'G', '\r', '\n', 0x1A, '\n'}, 0, png, 0, 8);
+
+        assertThat(processor.process(document(png)))
+                .isEqualTo("IMAGING report \"Report\": image/png, 1,000 bytes");
+    }
+
+    @Test
+    void describesTextWithoutSentences() throws IOException {
+        assertThat(processor.process(document(ascii("1 2 3\n4 5 6\n"))))
+                .isEqualTo("IMAGING report \"Report\": text/plain, 12 bytes");
+    }
+
+    @Test
+    void streamsLargeText() throws IOException {
+        long size = 64L * 1024 * 1024;
+        byte[] sentence = ascii("Routine observation recorded during the evening ward rounds. ");
+        InputStream large = new InputStream() {
+            private long position;
+
+            @Override
+            public int read() {
+                return position < size ? sentence[(int) (position++ % sentence.length)] : -1;
+            }
+
+            @Override
+            public int read(byte[] buffer, int offset, int length) {
+                if (position >= size) {
+                    return -1;
+                }
+                int count = (int) Math.min(length, size - position);
+                for (int i = 0; i < count; i++) {
+                    buffer[offset + i] = sentence[(int) (position++ % sentence.length)];
+                }
+                return count;
+            }
+        };
+
+        String summary = processor.process(new ReportDocument(1L, "Report", "IMAGING", () -> large));
+
+        assertThat(summary).startsWith("Routine observation recorded");
+    }
+
+    private static ReportDocument document(byte[] content) {
+        return new ReportDocument(1L, "Report", "IMAGING", () -> new ByteArrayInputStream(content));
+    }
+
+    private static byte[] ascii(String text) {
+        return text.getBytes(StandardCharsets.US_ASCII);
+    }
+}
@@ -0,0 +1,114 @@
+package com.reportmanagement.processing;
+
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.StringWriter;
+import java.nio.charset.StandardCharsets;
+import java.util.zip.DeflaterOutputStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Tests for {@link PdfTextExtractor}
+ *
+ * @author Report Management Team
+ * @version 1.0.0
+ */
+class PdfTextExtractorTest {
+
+    @Test
+    void extractsTextOfUncompressedStream() throws IOException {
+        byte[] pdf = pdf(plainStream("BT /F1 12 Tf 72 712 Td (Blood panel results) Tj ET"));
+
+        assertThat(extract(pdf)).isEqualTo("Blood panel results");
+    }
+
+    @Test
+    void extractsTextOfFlateDecodeStream() throws IOException {
+        byte[] pdf = pdf(flateStream("BT (Compressed findings) Tj 0 -14 Td (second line) Tj ET"));
+
+        assertThat(extract(pdf)).isEqualTo("Compressed findings second line");
+    }
+
+    @Test
+    void spacesWordsAtWideTjAdjustments() throws IOException {
+        byte[] pdf = pdf(plainStream("BT [(Kerned) -50 (text) -400 (gap)] TJ ET"));
+
+        assertThat(extract(pdf)).isEqualTo("Kernedtext gap");
+    }
+
+    @Test
+    void decodesEscapesAndHexStrings() throws IOException {
+        byte[] pdf = pdf(plainStream("BT (Nested \\(paren\\) and \\101) Tj <20486578> Tj ET"));
+
+        assertThat(extract(pdf)).isEqualTo("Nested (paren) and A Hex");
+    }
+
+    @Test
+    void ignoresStringsOutsideTextObjects() throws IOException {
+        byte[] pdf = pdf(plainStream("(Not shown) Tj BT (Shown) Tj ET"));
+
+        assertThat(extract(pdf)).isEqualTo("Shown");
+    }
+
+    @Test
+    void skipsImageAndOtherFilterStreams() throws IOException {
+        byte[] image = stream("<< /Type /XObject /Subtype /Image /Length 12 >>",
+                "BT (pixels) Tj ET".getBytes(StandardCharsets.ISO_8859_1));
+        byte[] encoded = stream("<< /Filter /ASCIIHexDecode /Length 8 >>",
+                "BT (hex) Tj ET".getBytes(StandardCharsets.ISO_8859_1));
+        byte[] pdf = pdf(image, encoded, plainStream("BT (Visible) Tj ET"));
+
+        assertThat(extract(pdf)).isEqualTo("Visible");
+    }
+
+    @Test
+    void toleratesCorruptFlateStream() throws IOException {
+        byte[] corrupt = stream("<< /Filter /FlateDecode /Length 9 >>",
+                "not zlib!".getBytes(StandardCharsets.ISO_8859_1));
+        byte[] pdf = pdf(corrupt, plainStream("BT (After corruption) Tj ET"));
+
+        assertThat(extract(pdf)).isEqualTo("After corruption");
+    }
+
+    private static String extract(byte[] pdf) throws IOException {
+        StringWriter out = new StringWriter();
+        PdfTextExtractor.extract(new ByteArrayInputStream(pdf), out);
+        return out.toString().strip();
+    }
+
+    private static byte[] plainStream(String content) {
+        byte[] data = content.getBytes(StandardCharsets.ISO_8859_1);
+        return stream("<< /Length " + data.length + " >>", data);
+    }
+
+    private static byte[] flateStream(String content) throws IOException {
+        ByteArrayOutputStream compressed = new ByteArrayOutputStream();
+        try (DeflaterOutputStream deflater = new DeflaterOutputStream(compressed)) {
+            deflater.write(content.getBytes(StandardCharsets.ISO_8859_1));
+        }
+        byte[] data = compressed.toByteArray();
+        return stream("<< /Filter /FlateDecode /Length " + data.length + " >>", data);
+    }
+
+    private static byte[] stream(String dictionary, byte[] data) {
+        ByteArrayOutputStream object = new ByteArrayOutputStream();
+        object.writeBytes(("1 0 obj\n" + dictionary + "\nstream\n").getBytes(StandardCharsets.ISO_8859_1));
+        object.writeBytes(data);
+        object.writeBytes("\nendstream\nendobj\n".getBytes(StandardCharsets.ISO_8859_1));
+        return object.toByteArray();
+    }
+
+    private static byte[] pdf(byte[]... objects) {
+        ByteArrayOutputStream pdf = new ByteArrayOutputStream();
+        pdf.writeBytes("%PDF-1.4\n".getBytes(StandardCharsets.ISO_8859_1));
+        for (byte[] object : objects) {
+            pdf.writeBytes(object);
+        }
+        pdf.writeBytes("trailer\n<< /Root 1 0 R >>\n%%EOF\n".getBytes(StandardCharsets.ISO_8859_1));
+        return pdf.toByteArray();
+    }
+}
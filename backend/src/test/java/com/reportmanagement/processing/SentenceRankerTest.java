@@ -0,0 +1,136 @@
+package com.reportmanagement.processing;
+
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Tests for {@link SentenceRanker}
+ *
+ * @author Report Management Team
+ * @version 1.0.0
+ */
+class SentenceRankerTest {
+
+    @Test
+    void keepsLeadAndMostRepresentativeSentencesInDocumentOrder() throws IOException {
+        String summary = summarize(new SentenceRanker(), """
+                Quarterly laboratory report for the cardiology ward.
+                Weather during the quarter stayed mild and uneventful overall.
+                Cholesterol results improved across cholesterol panels this quarter.
+                Parking arrangements changed near the north entrance gate.
+                Cholesterol panels showed lower cholesterol results for most patients.
+                """, 3, 1000);
+
+        assertThat(summary).isEqualTo("Quarterly laboratory report for the cardiology ward. "
+                + "Cholesterol results improved across cholesterol panels this quarter. "
+                + "Cholesterol panels showed lower cholesterol results for most patients.");
+    }
+
+    @Test
+    void decimalsAndAbbreviationsDoNotEndSentences() throws IOException {
+        String summary = summarize(new SentenceRanker(),
+                "Hemoglobin measured 13.5 grams per decilitre, i.e., within range. Second sentence follows here.",
+                1, 1000);
+
+        assertThat(summary).isEqualTo("Hemoglobin measured 13.5 grams per decilitre, i.e., within range.");
+    }
+
+    @Test
+    void blankLineEndsSentenceWithoutPunctuation() throws IOException {
+        String summary = summarize(new SentenceRanker(), """
+                Discharge summary heading without punctuation
+
+                Patient recovered fully after treatment.
+                """, 1, 1000);
+
+        assertThat(summary).isEqualTo("Discharge summary heading without punctuation");
+    }
+
+    @Test
+    void lineModeTreatsEveryRowAsSentence() throws IOException {
+        String summary = summarize(new SentenceRanker(true), """
+                patient,glucose,result
+                alpha,glucose,result
+                bravo,glucose,elevated
+                """, 2, 1000);
+
+        assertThat(summary).isEqualTo("patient,glucose,result alpha,glucose,result");
+    }
+
+    @Test
+    void truncatesSingleSentenceLongerThanLimit() throws IOException {
+        String summary = summarize(new SentenceRanker(), "Radiology findings describe several small nodules.", 3, 20);
+
+        assertThat(summary).hasSize(20).endsWith("\u2026").startsWith("Radiology findings");
+    }
+
+    @Test
+    void returnsEmptySummaryWithoutQualifyingSentences() throws IOException {
+        assertThat(summarize(new SentenceRanker(), "Ok. 12 34 56. A b c.", 3, 1000)).isEmpty();
+    }
+
+    @Test
+    void pruneHalvesTableOfEqualCounts() throws IOException {
+        SentenceRanker ranker = new SentenceRanker(false, 100, 10);
+        for (int i = 0; i < 101; i++) {
+            ranker.write("term" + toLetters(i) + " ");
+        }
+
+        assertThat(ranker.trackedTerms()).isEqualTo(50);
+    }
+
+    @Test
+    void pruneKeepsMostFrequentTerms() throws IOException {
+        SentenceRanker ranker = new SentenceRanker(true, 10, 10);
+        StringBuilder text = new StringBuilder();
+        for (int i = 0; i < 3; i++) {
+            text.append("cardiac rhythm stable\n");
+        }
+        for (int i = 0; i < 20; i++) {
+            text.append("rare").append(toLetters(i)).append(" seldom").append(toLetters(i))
+                    .append(" unusual").append(toLetters(i)).append('\n');
+        }
+        String summary = summarize(ranker, text.toString(), 2, 1000);
+
+        assertThat(ranker.trackedTerms()).isLessThanOrEqualTo(10);
+        assertThat(summary).isEqualTo("cardiac rhythm stable cardiac rhythm stable");
+    }
+
+    @Test
+    void tableStaysBoundedOverLongText() throws IOException {
+        SentenceRanker ranker = new SentenceRanker(false, 1000, 20);
+        StringBuilder sentence = new StringBuilder();
+        for (int i = 0; i < 200_000; i++) {
+            sentence.setLength(0);
+            sentence.append("Observation ").append(toLetters(i)).append(" recorded ")
+                    .append(toLetters(i * 31)).append(" during rounds. ");
+            ranker.write(sentence.toString());
+            assertThat(ranker.trackedTerms()).isLessThanOrEqualTo(1000);
+        }
+        ranker.close();
+
+        assertThat(ranker.summarize(3, 1000)).startsWith("Observation");
+    }
+
+    private static String summarize(SentenceRanker ranker, String text, int maxSentences, int maxChars)
+            throws IOException {
+        ranker.write(text);
+        ranker.close();
+        return ranker.summarize(maxSentences, maxChars);
+    }
+
+    /**
+     * Spell a number in letters, since digit-only words are not terms
+     */
+    private static String toLetters(int n) {
+        StringBuilder letters = new StringBuilder();
+        do {
+            letters.append((char) ('a' + n % 26));
+            n /= 26;
+        } while (n > 0);
+        return letters.toString();
+    }
+}
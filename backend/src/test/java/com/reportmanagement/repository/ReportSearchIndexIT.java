@@ -0,0 +1,257 @@
+package com.reportmanagement.repository;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.reportmanagement.PostgresIntegrationTest;
+import com.reportmanagement.dto.ReportSearchCriteria;
+import com.reportmanagement.model.ReportStatus;
+import com.reportmanagement.util.KeysetCursor;
+import org.hibernate.cfg.AvailableSettings;
+import org.hibernate.resource.jdbc.spi.StatementInspector;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestInstance;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.autoconfigure.orm.jpa.HibernatePropertiesCustomizer;
+import org.springframework.boot.test.context.TestConfiguration;
+import org.springframework.context.annotation.Bean;
+import org.springframework.jdbc.core.ConnectionCallback;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.sql.ResultSet;
+import java.sql.Statement;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.StringJoiner;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Checks with EXPLAIN that report searches are served by the V7 composite indexes
+ *
+ * Every search runs through {@link ReportSearchRepository#search}. The SQL that
+ * Hibernate sends is captured and explained with the same argument values
+ * against a seeded and analyzed reports table.
+ *
+ * @author Report Management Team
+ * @version 1.0.0
+ */
+@TestInstance(TestInstance.Lifecycle.PER_CLASS)
+class ReportSearchIndexIT extends PostgresIntegrationTest {
+
+    private static final int USERS = 200;
+    private static final int REPORTS_PER_USER = 500;
+    private static final int PAGE_SIZE = 21;
+
+    private static final List<String> statements = Collections.synchronizedList(new ArrayList<>());
+
+    @Autowired
+    private ReportRepository reportRepository;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+    private long ownerId;
+
+    @TestConfiguration
+    static class StatementCapture {
+
+        @Bean
+        HibernatePropertiesCustomizer statementInspector() {
+            StatementInspector inspector = sql -> {
+                statements.add(sql);
+                return sql;
+            };
+            return properties -> properties.put(AvailableSettings.STATEMENT_INSPECTOR, inspector);
+        }
+    }
+
+    @BeforeAll
+    void seedReports() {
+        jdbcTemplate.update("""
+                INSERT INTO users (email, password)
+                SELECT 'search-' || u || '@example.com', 'x' FROM generate_series(1, ?) u
+                """, USERS);
+        // Users' reports interleave on disk, as uploads from many users do, most
+        // reports are COMPLETED, and report dates span decades
+        jdbcTemplate.update("""
+                INSERT INTO reports (id, user_id, name, type, file_path, status, report_date, created_at, updated_at)
+                SELECT nextval('reports_id_seq'),
+                       u.id,
+                       'Report ' || n,
+                       (ARRAY['LAB_REPORT', 'IMAGING', 'PRESCRIPTION', 'DISCHARGE', 'OTHER'])[1 + n % 5],
+                       'seed/' || u.id || '/' || n,
+                       CASE WHEN n % 100 = 0 THEN 'FAILED'
+                            WHEN n % 100 < 5 THEN 'UPLOADED'
+                            WHEN n % 100 < 9 THEN 'PROCESSING'
+                            ELSE 'COMPLETED' END,
+                       DATE '2000-01-01' + ((u.id * 7919 + n * 37) % 10000)::int,
+                       TIMESTAMP '2025-01-01' + n * INTERVAL '17 minutes',
+                       TIMESTAMP '2025-01-01' + n * INTERVAL '17 minutes'
+                FROM users u CROSS JOIN generate_series(1, ?) n
+                WHERE u.email LIKE 'search-%'
+                ORDER BY n, u.id
+                """, REPORTS_PER_USER);
+        jdbcTemplate.execute("ANALYZE reports");
+        ownerId = jdbcTemplate.queryForObject("SELECT MIN(id) FROM users WHERE email LIKE 'search-%'", Long.class);
+    }
+
+    @Test
+    void ownerListUsesKeysetIndexWithoutSort() {
+        Plan plan = explainSearch(new ReportSearchCriteria(), ownerId, null);
+
+        assertThat(plan.indexes()).containsExactly("idx_reports_user_created_at");
+        assertThat(plan.nodeTypes()).noneMatch(type -> type.endsWith("Sort"));
+    }
+
+    @Test
+    void ownerStatusFilterUsesStatusIndexWithoutSort() {
+        Plan plan = explainSearch(ReportSearchCriteria.builder().status(ReportStatus.COMPLETED).build(), ownerId, null);
+
+        assertThat(plan.indexes()).containsExactly("idx_reports_user_status_created_at");
+        assertThat(plan.nodeTypes()).noneMatch(type -> type.endsWith("Sort"));
+    }
+
+    @Test
+    void ownerStatusFilterAfterCursorUsesStatusIndexWithoutSort() {
+        KeysetCursor after = new KeysetCursor(LocalDateTime.of(2025, 3, 1, 0, 0), 1_000L);
+        Plan plan = explainSearch(ReportSearchCriteria.builder().status(ReportStatus.COMPLETED).build(), ownerId, after);
+
+        assertThat(plan.indexes()).containsExactly("idx_reports_user_status_created_at");
+        assertThat(plan.nodeTypes()).noneMatch(type -> type.endsWith("Sort"));
+    }
+
+    @Test
+    void ownerTypeFilterUsesTypeIndexWithoutSort() {
+        Plan plan = explainSearch(ReportSearchCriteria.builder().type("IMAGING").build(), ownerId, null);
+
+        assertThat(plan.indexes()).containsExactly("idx_reports_user_type_created_at");
+        assertThat(plan.nodeTypes()).noneMatch(type -> type.endsWith("Sort"));
+    }
+
+    @Test
+    void ownerReportDateRangeUsesReportDateIndex() {
+        ReportSearchCriteria criteria = ReportSearchCriteria.builder()
+                .reportDateFrom(LocalDate.of(2024, 1, 1))
+                .reportDateTo(LocalDate.of(2024, 1, 31))
+                .build();
+        Plan plan = explainSearch(criteria, ownerId, null);
+
+        assertThat(plan.indexes()).containsExactly("idx_reports_user_report_date");
+    }
+
+    @Test
+    void adminStatusFilterUsesStatusIndexWithoutSort() {
+        Plan plan = explainSearch(ReportSearchCriteria.builder().status(ReportStatus.FAILED).build(), null, null);
+
+        assertThat(plan.indexes()).containsExactly("idx_reports_status_created_at");
+        assertThat(plan.nodeTypes()).noneMatch(type -> type.endsWith("Sort"));
+    }
+
+    @Test
+    void adminReportDateRangeUsesReportDateIndex() {
+        ReportSearchCriteria criteria = ReportSearchCriteria.builder()
+                .reportDateFrom(LocalDate.of(2024, 1, 1))
+                .reportDateTo(LocalDate.of(2024, 1, 2))
+                .build();
+        Plan plan = explainSearch(criteria, null, null);
+
+        assertThat(plan.indexes()).containsExactly("idx_reports_report_date");
+    }
+
+    /**
+     * Run the search, then explain the statement Hibernate sent for it with the
+     * same argument values
+     */
+    private Plan explainSearch(ReportSearchCriteria criteria, Long owner, KeysetCursor after) {
+        statements.clear();
+        reportRepository.search(criteria, owner, after, PAGE_SIZE);
+        String sql = statements.stream()
+                .filter(statement -> statement.contains("from reports"))
+                .reduce((first, second) -> second)
+                .orElseThrow(() -> new AssertionError("No search statement captured"));
+
+        // Bound in the order ReportSearchRepositoryImpl adds its predicates
+        List<Object> arguments = new ArrayList<>();
+        if (owner != null) {
+            arguments.add(owner);
+        }
+        if (criteria.getStatus() != null) {
+            arguments.add(criteria.getStatus().name());
+        }
+        if (criteria.getType() != null) {
+            arguments.add(criteria.getType());
+        }
+        if (criteria.getReportDateFrom() != null) {
+            arguments.add(criteria.getReportDateFrom());
+        }
+        if (criteria.getReportDateTo() != null) {
+            arguments.add(criteria.getReportDateTo());
+        }
+        if (after != null) {
+            arguments.add(after.timestamp());
+            arguments.add(after.timestamp());
+            arguments.add(after.id());
+        }
+        arguments.add(PAGE_SIZE);
+        return explain(sql, arguments);
+    }
+
+    private Plan explain(String sql, List<Object> arguments) {
+        StringBuilder numbered = new StringBuilder(sql.length());
+        int parameters = 0;
+        for (int i = 0; i < sql.length(); i++) {
+            char c = sql.charAt(i);
+            if (c == '?') {
+                numbered.append('$').append(++parameters);
+            } else {
+                numbered.append(c);
+            }
+        }
+        assertThat(parameters).as("parameters of %s", sql).isEqualTo(arguments.size());
+
+        StringJoiner literals = new StringJoiner(", ", "(", ")");
+        for (Object argument : arguments) {
+            literals.add("'" + argument + "'");
+        }
+
+        String json = jdbcTemplate.execute((ConnectionCallback<String>) connection -> {
+            try (Statement statement = connection.createStatement()) {
+                statement.execute("PREPARE search_plan AS " + numbered);
+                try (ResultSet rs = statement.executeQuery("EXPLAIN (FORMAT JSON) EXECUTE search_plan" + literals)) {
+                    rs.next();
+                    return rs.getString(1);
+                } finally {
+                    statement.execute("DEALLOCATE search_plan");
+                }
+            }
+        });
+
+        try {
+            Plan plan = new Plan(new ArrayList<>(), new ArrayList<>());
+            collect(objectMapper.readTree(json).get(0).get("Plan"), plan);
+            return plan;
+        } catch (Exception e) {
+            throw new IllegalStateException("Unreadable plan: " + json, e);
+        }
+    }
+
+    private static void collect(JsonNode node, Plan plan) {
+        plan.nodeTypes().add(node.get("Node Type").asText());
+        if (node.has("Index Name")) {
+            plan.indexes().add(node.get("Index Name").asText());
+        }
+        if (node.has("Plans")) {
+            for (JsonNode child : node.get("Plans")) {
+                collect(child, plan);
+            }
+        }
+    }
+
+    private record Plan(List<String> indexes, List<String> nodeTypes) {
+    }
+}
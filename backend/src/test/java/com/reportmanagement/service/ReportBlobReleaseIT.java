@@ -0,0 +1,102 @@
+package com.reportmanagement.service;
+
+import com.reportmanagement.PostgresIntegrationTest;
+import com.reportmanagement.service.ReportBlobStore.StagedBlob;
+import com.reportmanagement.service.ReportBlobStore.StoredBlob;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * Blob files are unlinked only when the releasing transaction commits
+ *
+ * @author Report Management Team
+ * @version 1.0.0
+ */
+class ReportBlobReleaseIT extends PostgresIntegrationTest {
+
+    @Autowired
+    private ReportBlobStore blobStore;
+
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+
+    @Test
+    void rolledBackReleaseKeepsFile() throws IOException {
+        Blob blob = storeBlob();
+
+        assertThatThrownBy(() -> transactionTemplate.executeWithoutResult(status -> {
+            blobStore.release(blob.sha256());
+            assertThat(blob.file()).exists();
+            throw new IllegalStateException("rollback");
+        })).isInstanceOf(IllegalStateException.class);
+
+        assertThat(blob.file()).exists();
+    }
+
+    @Test
+    void committedReleaseUnlinksFile() throws IOException {
+        Blob blob = storeBlob();
+
+        transactionTemplate.executeWithoutResult(status -> {
+            blobStore.release(blob.sha256());
+            assertThat(blob.file()).exists();
+        });
+
+        assertThat(blob.file()).doesNotExist();
+    }
+
+    @Test
+    void committedReleaseKeepsFileStillReferenced() throws IOException {
+        String content = "shared " + UUID.randomUUID();
+        Blob blob = storeBlob(content);
+        storeBlob(content);
+
+        transactionTemplate.executeWithoutResult(status -> blobStore.release(blob.sha256()));
+
+        assertThat(blob.file()).exists();
+    }
+
+    @Test
+    void committedReleaseOfLegacyFileUnlinksIt() throws IOException {
+        Path legacy = Files.createTempFile("legacy-report", ".txt");
+
+        transactionTemplate.executeWithoutResult(status -> {
+            blobStore.releaseLegacyFile(legacy.toString());
+            assertThat(legacy).exists();
+        });
+
+        assertThat(legacy).doesNotExist();
+    }
+
+    private Blob storeBlob() throws IOException {
+        return storeBlob("report " + UUID.randomUUID());
+    }
+
+    private Blob storeBlob(String content) throws IOException {
+        StagedBlob staged = blobStore.stage(
+                new ByteArrayInputStream(content.getBytes(StandardCharsets.UTF_8)), Long.MAX_VALUE);
+        StoredBlob stored = transactionTemplate.execute(status -> {
+            try {
+                return blobStore.store(staged);
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+        });
+        return new Blob(staged.sha256(), blobStore.resolve(stored.storageKey(), null));
+    }
+
+    private record Blob(String sha256, Path file) {
+    }
+}
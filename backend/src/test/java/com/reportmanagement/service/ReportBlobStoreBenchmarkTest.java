@@ -0,0 +1,120 @@
+package com.reportmanagement.service;
+
+import com.reportmanagement.service.ReportBlobStore.StagedBlob;
+import com.reportmanagement.storage.LocalReportStorage;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.util.unit.DataSize;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.Random;
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Write and read throughput of staging report files as uploaded and gzip encoded
+ *
+ * Opt-in: run with {@code mvn test -Pbenchmark}, and set the input size with
+ * {@code -Dbenchmark.size-mb} (default 64). Both codecs stage and read the same
+ * generated CSV report; throughput is of the original content, the best of the
+ * measured rounds after a warm-up.
+ *
+ * @author Report Management Team
+ * @version 1.0.0
+ */
+@Tag("benchmark")
+class ReportBlobStoreBenchmarkTest {
+
+    private static final int ROUNDS = 3;
+    private static final String[] MEASUREMENTS = {"heart rate", "glucose", "systolic", "diastolic", "temperature"};
+    private static final String[] FLAGS = {"normal", "low", "high"};
+
+    @TempDir
+    Path uploadDir;
+
+    @Test
+    void stageAndReadThroughput() throws IOException {
+        byte[] content = generateReport(Integer.getInteger("benchmark.size-mb", 64) * 1024 * 1024);
+
+        Result raw = measure(store(false), content);
+        Result gzip = measure(store(true), content);
+
+        System.out.printf("Report staging throughput over %.1f MB:%n", megabytes(content.length));
+        System.out.printf("  raw   write %8.1f MB/s  read %8.1f MB/s  stored %6.1f%%%n",
+                raw.writeMbPerSecond, raw.readMbPerSecond, 100.0 * raw.storedBytes / content.length);
+        System.out.printf("  gzip  write %8.1f MB/s  read %8.1f MB/s  stored %6.1f%%%n",
+                gzip.writeMbPerSecond, gzip.readMbPerSecond, 100.0 * gzip.storedBytes / content.length);
+        assertThat(gzip.storedBytes).isLessThan(raw.storedBytes);
+    }
+
+    private Result measure(ReportBlobStore store, byte[] content) throws IOException {
+        Result result = new Result();
+        for (int round = 0; round <= ROUNDS; round++) {
+            long start = System.nanoTime();
+            StagedBlob staged = store.stage(new ByteArrayInputStream(content), Long.MAX_VALUE);
+            long written = System.nanoTime();
+            long read;
+            try (InputStream in = store.open(staged.path(), staged.codec())) {
+                read = in.transferTo(OutputStream.nullOutputStream());
+            }
+            long finished = System.nanoTime();
+            assertThat(read).isEqualTo(content.length);
+
+            // Round 0 warms up the JIT and the page cache
+            if (round > 0) {
+                result.writeMbPerSecond = Math.max(result.writeMbPerSecond, throughput(content.length, written - start));
+                result.readMbPerSecond = Math.max(result.readMbPerSecond, throughput(content.length, finished - written));
+                result.storedBytes = Files.size(staged.path());
+            }
+            store.discard(staged);
+        }
+        return result;
+    }
+
+    private ReportBlobStore store(boolean compression) throws IOException {
+        LocalReportStorage storage = new LocalReportStorage("v0=" + uploadDir.resolve("store"), DataSize.ofBytes(0));
+        return new ReportBlobStore(null, null, null, storage, null, uploadDir.toString(),
+                DataSize.ofKilobytes(64), 4, compression, 6, Set.of("text/plain", "text/csv"));
+    }
+
+    /**
+     * Generate a CSV report of measurements, varied enough that gzip works for its ratio
+     */
+    private static byte[] generateReport(int size) {
+        Random random = new Random(42);
+        ByteArrayOutputStream out = new ByteArrayOutputStream(size + 128);
+        while (out.size() < size) {
+            String line = String.format("2024-%02d-%02d,ward-%d,%s,%d.%d,%s%n",
+                    random.nextInt(12) + 1, random.nextInt(28) + 1, random.nextInt(40),
+                    MEASUREMENTS[random.nextInt(MEASUREMENTS.length)], random.nextInt(200), random.nextInt(10),
+                    FLAGS[random.nextInt(FLAGS.length)]);
+            out.writeBytes(line.getBytes(StandardCharsets.US_ASCII));
+        }
+        byte[] content = out.toByteArray();
+        return content.length == size ? content : Arrays.copyOf(content, size);
+    }
+
+    private static double throughput(long bytes, long nanos) {
+        return megabytes(bytes) / (nanos / 1e9);
+    }
+
+    private static double megabytes(long bytes) {
+        return bytes / (1024.0 * 1024.0);
+    }
+
+    private static final class Result {
+        private double writeMbPerSecond;
+        private double readMbPerSecond;
+        private long storedBytes;
+    }
+}
@@ -0,0 +1,159 @@
+package com.reportmanagement.service;
+
+import com.reportmanagement.exception.PayloadTooLargeException;
+import com.reportmanagement.model.FileCodec;
+import com.reportmanagement.service.ReportBlobStore.StagedBlob;
+import com.reportmanagement.storage.LocalReportStorage;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.util.unit.DataSize;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.security.DigestInputStream;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.HexFormat;
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * Tests for staging and reading report files with optional gzip encoding
+ *
+ * @author Report Management Team
+ * @version 1.0.0
+ */
+class ReportBlobStoreTest {
+
+    private static final byte[] PNG_HEADER = {(byte) 0x89, 'P', 'N', 'G', '\r', '\n', 0x1A, '\n'};
+
+    @TempDir
+    Path uploadDir;
+
+    @Test
+    void textIsStagedGzipEncodedAndReadBackAsUploaded() throws IOException {
+        byte[] content = repeat("Glucose 5.4 mmol/L, within the reference range.\n", 2_000);
+        ReportBlobStore store = store(true);
+
+        StagedBlob staged = store.stage(new ByteArrayInputStream(content), Long.MAX_VALUE);
+
+        assertThat(staged.codec()).isEqualTo(FileCodec.GZIP);
+        assertThat(staged.size()).isEqualTo(content.length);
+        assertThat(staged.sha256()).isEqualTo(sha256(content));
+        assertThat(Files.size(staged.path())).isLessThan(content.length / 10);
+        try (InputStream in = store.open(staged.path(), staged.codec())) {
+            assertThat(in.readAllBytes()).isEqualTo(content);
+        }
+    }
+
+    @Test
+    void incompressibleTypeIsStagedAsUploaded() throws IOException {
+        byte[] content = new byte[10_000];
+        System.arraycopy(PNG_HEADER, 0, content, 0, PNG_HEADER.length);
+        ReportBlobStore store = store(true);
+
+        StagedBlob staged = store.stage(new ByteArrayInputStream(content), Long.MAX_VALUE);
+
+        assertThat(staged.codec()).isNull();
+        assertThat(Files.readAllBytes(staged.path())).isEqualTo(content);
+        assertThat(staged.sha256()).isEqualTo(sha256(content));
+    }
+
+    @Test
+    void textIsStagedAsUploadedWhenCompressionIsDisabled() throws IOException {
+        byte[] content = repeat("Plain text report line.\n", 100);
+        ReportBlobStore store = store(false);
+
+        StagedBlob staged = store.stage(new ByteArrayInputStream(content), Long.MAX_VALUE);
+
+        assertThat(staged.codec()).isNull();
+        assertThat(Files.readAllBytes(staged.path())).isEqualTo(content);
+    }
+
+    @Test
+    void oversizedUploadIsRejectedAndItsStagingFileDeleted() throws IOException {
+        byte[] content = repeat("Too long for the limit.\n", 10_000);
+        ReportBlobStore store = store(true);
+
+        assertThatThrownBy(() -> store.stage(new ByteArrayInputStream(content), 1_000))
+                .isInstanceOf(PayloadTooLargeException.class);
+
+        try (var staging = Files.list(uploadDir.resolve("store").resolve(LocalReportStorage.STAGING_DIR))) {
+            assertThat(staging).isEmpty();
+        }
+    }
+
+    @Test
+    void largeTextRoundTripsThroughGzip() throws IOException, NoSuchAlgorithmException {
+        long size = 128L * 1024 * 1024;
+        byte[] line = "2024-03-01,ward-7,heart rate,72,bpm,normal\n".getBytes(StandardCharsets.US_ASCII);
+        ReportBlobStore store = store(true);
+
+        StagedBlob staged = store.stage(new RepeatingInputStream(line, size), Long.MAX_VALUE);
+
+        assertThat(staged.codec()).isEqualTo(FileCodec.GZIP);
+        assertThat(staged.size()).isEqualTo(size);
+        MessageDigest digest = MessageDigest.getInstance("SHA-256");
+        try (InputStream in = new DigestInputStream(store.open(staged.path(), staged.codec()), digest)) {
+            assertThat(in.transferTo(OutputStream.nullOutputStream())).isEqualTo(size);
+        }
+        assertThat(HexFormat.of().formatHex(digest.digest())).isEqualTo(staged.sha256());
+    }
+
+    private ReportBlobStore store(boolean compression) throws IOException {
+        LocalReportStorage storage = new LocalReportStorage("v0=" + uploadDir.resolve("store"), DataSize.ofBytes(0));
+        return new ReportBlobStore(null, null, null, storage, null, uploadDir.toString(),
+                DataSize.ofKilobytes(64), 4, compression, 6, Set.of("text/plain"));
+    }
+
+    private static byte[] repeat(String line, int times) {
+        return line.repeat(times).getBytes(StandardCharsets.US_ASCII);
+    }
+
+    private static String sha256(byte[] content) {
+        try {
+            return HexFormat.of().formatHex(MessageDigest.getInstance("SHA-256").digest(content));
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    /**
+     * Repeats a line up to a size without holding the content in memory
+     */
+    private static final class RepeatingInputStream extends InputStream {
+
+        private final byte[] pattern;
+        private final long size;
+        private long position;
+
+        RepeatingInputStream(byte[] pattern, long size) {
+            this.pattern = pattern;
+            this.size = size;
+        }
+
+        @Override
+        public int read() {
+            return position < size ? pattern[(int) (position++ % pattern.length)] : -1;
+        }
+
+        @Override
+        public int read(byte[] buffer, int offset, int length) {
+            if (position >= size) {
+                return -1;
+            }
+            int count = (int) Math.min(length, size - position);
+            for (int i = 0; i < count; i++) {
+                buffer[offset + i] = pattern[(int) (position++ % pattern.length)];
+            }
+            return count;
+        }
+    }
+}
@@ -0,0 +1,176 @@
+package com.reportmanagement.service;
+
+import com.reportmanagement.PostgresIntegrationTest;
+import com.reportmanagement.dto.CursorPage;
+import com.reportmanagement.dto.ReportChangeResponse;
+import com.reportmanagement.exception.CursorExpiredException;
+import com.reportmanagement.model.ReportChangeType;
+import com.reportmanagement.model.User;
+import com.reportmanagement.repository.UserRepository;
+import com.reportmanagement.util.ChangeCursor;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.Authentication;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * Change feed ordering by commit and cursor expiry against pruned tombstones
+ *
+ * @author Report Management Team
+ * @version 1.0.0
+ */
+class ReportChangeFeedIT extends PostgresIntegrationTest {
+
+    @Autowired
+    private ReportService reportService;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+
+    private User user;
+    private Authentication authentication;
+
+    @BeforeEach
+    void createUser() {
+        jdbcTemplate.update("UPDATE report_tombstone_watermark SET pruned_through = NULL, pruned_through_xid = NULL");
+        jdbcTemplate.update("DELETE FROM report_tombstones");
+        user = userRepository.save(User.builder()
+                .email("changes-" + UUID.randomUUID() + "@example.com")
+                .password("x")
+                .role("USER")
+                .build());
+        authentication = new UsernamePasswordAuthenticationToken(user, null, List.of());
+    }
+
+    @Test
+    void initialSyncOverOldReportsSurvivesPrune() {
+        LocalDateTime now = LocalDateTime.now();
+        insertReport("Old report A", now.minusDays(45));
+        insertReport("Old report B", now.minusDays(40));
+        insertTombstone(now.minusDays(35));
+        reportService.pruneTombstones();
+
+        CursorPage<ReportChangeResponse> first = reportService.getChanges(null, 1, authentication);
+        CursorPage<ReportChangeResponse> second = reportService.getChanges(first.getNextCursor(), 1, authentication);
+
+        assertThat(first.getItems()).extracting(change -> change.getReport().getName()).containsExactly("Old report A");
+        assertThat(second.getItems()).extracting(change -> change.getReport().getName()).containsExactly("Old report B");
+    }
+
+    @Test
+    void cursorFromBeforePrunedDeletionsExpires() {
+        insertReport("Old report", LocalDateTime.now().minusDays(45));
+        long staleSync = horizon();
+        String stale = new ChangeCursor(staleSync, 0L, staleSync).encode();
+        insertTombstone(LocalDateTime.now().minusDays(35));
+        reportService.pruneTombstones();
+
+        assertThatThrownBy(() -> reportService.getChanges(stale, 10, authentication))
+                .isInstanceOf(CursorExpiredException.class);
+    }
+
+    @Test
+    void oldCursorIsValidWhileNothingWasPruned() {
+        long staleSync = horizon();
+        String stale = new ChangeCursor(staleSync, 0L, staleSync).encode();
+        insertReport("Old report", LocalDateTime.now().minusDays(45));
+
+        CursorPage<ReportChangeResponse> page = reportService.getChanges(stale, 10, authentication);
+
+        assertThat(page.getItems()).extracting(change -> change.getReport().getName()).containsExactly("Old report");
+    }
+
+    @Test
+    void changeCommittedAfterLaterOnesIsNotSkipped() throws Exception {
+        String caughtUp = reportService.getChanges(null, 10, authentication).getNextCursor();
+
+        CountDownLatch written = new CountDownLatch(1);
+        CountDownLatch commit = new CountDownLatch(1);
+        ExecutorService writer = Executors.newSingleThreadExecutor();
+        String next;
+        try {
+            // Writes first, with the earlier update time, and commits last
+            Future<?> slow = writer.submit(() -> transactionTemplate.executeWithoutResult(status -> {
+                insertReport("Slow report", LocalDateTime.now().minusMinutes(10));
+                written.countDown();
+                try {
+                    commit.await(10, TimeUnit.SECONDS);
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+            }));
+            assertThat(written.await(10, TimeUnit.SECONDS)).isTrue();
+            insertReport("Fast report", LocalDateTime.now());
+
+            CursorPage<ReportChangeResponse> held = reportService.getChanges(caughtUp, 10, authentication);
+            assertThat(held.getItems()).isEmpty();
+            next = held.getNextCursor();
+
+            commit.countDown();
+            slow.get(10, TimeUnit.SECONDS);
+        } finally {
+            commit.countDown();
+            writer.shutdownNow();
+        }
+
+        CursorPage<ReportChangeResponse> page = reportService.getChanges(next, 10, authentication);
+
+        assertThat(page.getItems()).extracting(change -> change.getReport().getName())
+                .containsExactly("Slow report", "Fast report");
+        assertThat(page.getItems()).extracting(ReportChangeResponse::getChangeType)
+                .containsOnly(ReportChangeType.CREATED);
+    }
+
+    @Test
+    void updatedReportMovesToItsCommit() {
+        insertReport("Report A", LocalDateTime.now());
+        insertReport("Report B", LocalDateTime.now());
+        String cursor = reportService.getChanges(null, 10, authentication).getNextCursor();
+
+        jdbcTemplate.update("UPDATE reports SET name = 'Report A2' WHERE user_id = ? AND name = 'Report A'",
+                user.getId());
+        CursorPage<ReportChangeResponse> page = reportService.getChanges(cursor, 10, authentication);
+
+        assertThat(page.getItems()).extracting(change -> change.getReport().getName()).containsExactly("Report A2");
+        assertThat(page.getItems()).extracting(ReportChangeResponse::getChangeType)
+                .containsExactly(ReportChangeType.UPDATED);
+    }
+
+    private long horizon() {
+        return jdbcTemplate.queryForObject("SELECT pg_snapshot_xmin(pg_current_snapshot())::text::bigint", Long.class);
+    }
+
+    private void insertReport(String name, LocalDateTime changedAt) {
+        jdbcTemplate.update("""
+                INSERT INTO reports (id, user_id, name, type, file_path, status, created_at, updated_at)
+                VALUES (nextval('reports_id_seq'), ?, ?, 'LAB_REPORT', 'seed/changes', 'COMPLETED', ?, ?)
+                """, user.getId(), name, Timestamp.valueOf(changedAt), Timestamp.valueOf(changedAt));
+    }
+
+    private void insertTombstone(LocalDateTime deletedAt) {
+        jdbcTemplate.update("INSERT INTO report_tombstones (report_id, user_id, deleted_at) "
+                + "VALUES (nextval('reports_id_seq'), ?, ?)", user.getId(), Timestamp.valueOf(deletedAt));
+    }
+}
@@ -0,0 +1,276 @@
+package com.reportmanagement.service;
+
+import com.reportmanagement.PostgresIntegrationTest;
+import com.reportmanagement.model.User;
+import com.reportmanagement.repository.ReportBlobRepository;
+import com.reportmanagement.repository.ReportRepository;
+import com.reportmanagement.repository.ReportUploadSessionRepository;
+import com.reportmanagement.repository.UserRepository;
+import com.reportmanagement.storage.LocalReportStorage;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.util.unit.DataSize;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.attribute.FileTime;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.HexFormat;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Reconciliation of a temporary storage volume against the database
+ *
+ * @author Report Management Team
+ * @version 1.0.0
+ */
+class ReportFileReconcilerIT extends PostgresIntegrationTest {
+
+    private static final String VOLUME = "reconciler";
+
+    @Autowired
+    private ReportBlobRepository blobRepository;
+
+    @Autowired
+    private ReportRepository reportRepository;
+
+    @Autowired
+    private ReportUploadSessionRepository sessionRepository;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @TempDir
+    Path volumeRoot;
+
+    @TempDir
+    Path uploadDir;
+
+    private ReportFileReconciler reconciler;
+    private User user;
+
+    @BeforeEach
+    void setUp() throws IOException {
+        reconciler = new ReportFileReconciler(
+                new LocalReportStorage(VOLUME + "=" + volumeRoot, DataSize.ofBytes(0)),
+                blobRepository, reportRepository, sessionRepository, uploadDir.toString());
+        ReflectionTestUtils.setField(reconciler, "enabled", true);
+        ReflectionTestUtils.setField(reconciler, "gracePeriodHours", 24L);
+        ReflectionTestUtils.setField(reconciler, "quarantineRetentionDays", 30L);
+        ReflectionTestUtils.setField(reconciler, "maxOperationsPerSecond", 100_000);
+        user = userRepository.save(User.builder()
+                .email("reconciler-" + UUID.randomUUID() + "@example.com")
+                .password("x")
+                .role("USER")
+                .build());
+    }
+
+    @Test
+    void referencedFileAndItsPreviewAreKept() throws IOException {
+        String key = key(VOLUME);
+        Long reportId = insertReport(key);
+        Path file = writeFile(key, true);
+        Path preview = writeFile(key + ".preview", true);
+
+        reconciler.reconcile();
+
+        assertThat(file).exists();
+        assertThat(preview).exists();
+        assertThat(fileMissing(reportId)).isFalse();
+    }
+
+    @Test
+    void orphanPastGracePeriodIsQuarantined() throws IOException {
+        String key = key(VOLUME);
+        Path orphan = writeFile(key, true);
+        Path orphanPreview = writeFile(key + ".preview", true);
+
+        reconciler.reconcile();
+
+        assertThat(orphan).doesNotExist();
+        assertThat(orphanPreview).doesNotExist();
+        assertThat(volumeRoot.resolve(".quarantine").resolve(volumeRoot.relativize(orphan))).exists();
+        assertThat(volumeRoot.resolve(".quarantine").resolve(volumeRoot.relativize(orphanPreview))).exists();
+    }
+
+    @Test
+    void orphanWithinGracePeriodIsKept() throws IOException {
+        Path orphan = writeFile(key(VOLUME), false);
+
+        reconciler.reconcile();
+
+        assertThat(orphan).exists();
+    }
+
+    @Test
+    void fileBesideReferencedFileThatIsNoVariantIsQuarantined() throws IOException {
+        String key = key(VOLUME);
+        insertReport(key);
+        writeFile(key, true);
+        Path copy = writeFile(key + ".tmp1", true);
+        Path upper = writeFile(key + ".Preview", true);
+
+        reconciler.reconcile();
+
+        assertThat(copy).doesNotExist();
+        assertThat(upper).doesNotExist();
+    }
+
+    @Test
+    void missingFileIsFlaggedAndClearedOnceItReappears() throws IOException {
+        String key = key(VOLUME);
+        Long reportId = insertReport(key);
+
+        reconciler.reconcile();
+
+        assertThat(fileMissing(reportId)).isTrue();
+
+        writeFile(key, true);
+        reconciler.reconcile();
+
+        assertThat(fileMissing(reportId)).isFalse();
+    }
+
+    @Test
+    void fileSkippedByTheListingIsRecheckedBeforeFlagging() throws IOException {
+        String key = key(VOLUME);
+        Long reportId = insertReport(key);
+        // The shard walk does not follow links, so only the re-check on disk finds this file
+        Path target = Files.writeString(uploadDir.resolve("linked"), "content");
+        Path link = volumeRoot.resolve(key.substring(VOLUME.length() + 1));
+        Files.createDirectories(link.getParent());
+        Files.createSymbolicLink(link, target);
+
+        reconciler.reconcile();
+
+        assertThat(fileMissing(reportId)).isFalse();
+    }
+
+    @Test
+    void keysOutsideTheVolumeShardsAreLeftAlone() throws IOException {
+        // A volume whose ID extends the configured one sorts right after its shards
+        Long otherVolume = insertReport(key(VOLUME + "x"));
+        Long otherVolumeSameShard = insertReport(VOLUME + "-" + key(VOLUME).substring(VOLUME.length()));
+
+        reconciler.reconcile();
+
+        assertThat(fileMissing(otherVolume)).isFalse();
+        assertThat(fileMissing(otherVolumeSameShard)).isFalse();
+    }
+
+    @Test
+    void orphanedLegacyFileIsQuarantinedAndReferencedOneKept() throws IOException {
+        Path referenced = writeLegacyFile(user.getId() + "_" + UUID.randomUUID() + ".pdf");
+        Long reportId = insertLegacyReport(referenced);
+        Path orphan = writeLegacyFile(user.getId() + "_" + UUID.randomUUID() + ".pdf");
+
+        reconciler.reconcile();
+
+        assertThat(referenced).exists();
+        assertThat(fileMissing(reportId)).isFalse();
+        assertThat(orphan).doesNotExist();
+        assertThat(uploadDir.resolve(".quarantine").resolve("legacy").resolve(orphan.getFileName())).exists();
+    }
+
+    @Test
+    void orphanedLegacyBlobIsQuarantinedAndUnmigratedOneKept() throws IOException {
+        String unmigrated = sha256(UUID.randomUUID().toString());
+        jdbcTemplate.update("INSERT INTO report_blobs (sha256, size_bytes, ref_count) VALUES (?, 7, 1)", unmigrated);
+        Path kept = writeLegacyFile("blobs/" + unmigrated);
+        String orphanHash = sha256(UUID.randomUUID().toString());
+        Path orphan = writeLegacyFile("blobs/" + orphanHash);
+
+        reconciler.reconcile();
+
+        assertThat(kept).exists();
+        assertThat(orphan).doesNotExist();
+        assertThat(uploadDir.resolve(".quarantine").resolve("blobs").resolve(orphanHash)).exists();
+    }
+
+    @Test
+    void fileThatCannotBeQuarantinedDoesNotEndTheRun() throws IOException {
+        // A file where the legacy quarantine directory belongs makes every move there fail
+        Files.createDirectories(uploadDir.resolve(".quarantine"));
+        Files.writeString(uploadDir.resolve(".quarantine").resolve("legacy"), "in the way");
+        Path stuck = writeLegacyFile(user.getId() + "_" + UUID.randomUUID() + ".pdf");
+        Path orphanBlob = writeLegacyFile("blobs/" + sha256(UUID.randomUUID().toString()));
+        String key = key(VOLUME);
+        Long reportId = insertReport(key);
+
+        reconciler.reconcile();
+
+        assertThat(stuck).exists();
+        assertThat(orphanBlob).doesNotExist();
+        assertThat(fileMissing(reportId)).isTrue();
+    }
+
+    private Long insertLegacyReport(Path file) {
+        return jdbcTemplate.queryForObject("""
+                INSERT INTO reports (id, user_id, name, type, file_path, status, created_at, updated_at)
+                VALUES (nextval('reports_id_seq'), ?, 'Report', 'LAB_REPORT', ?, 'UPLOADED', NOW(), NOW())
+                RETURNING id
+                """, Long.class, user.getId(), file.toString());
+    }
+
+    private Path writeLegacyFile(String name) throws IOException {
+        Path file = uploadDir.resolve(name);
+        Files.createDirectories(file.getParent());
+        Files.writeString(file, "content");
+        Files.setLastModifiedTime(file, FileTime.from(Instant.now().minus(Duration.ofHours(25))));
+        return file;
+    }
+
+    private Long insertReport(String key) {
+        String sha256 = key.substring(key.lastIndexOf('/') + 1);
+        jdbcTemplate.update("INSERT INTO report_blobs (sha256, size_bytes, ref_count, storage_key) VALUES (?, 7, 1, ?)",
+                sha256, key);
+        return jdbcTemplate.queryForObject("""
+                INSERT INTO reports (id, user_id, name, type, storage_key, blob_sha256, status, created_at, updated_at)
+                VALUES (nextval('reports_id_seq'), ?, 'Report', 'LAB_REPORT', ?, ?, 'UPLOADED', NOW(), NOW())
+                RETURNING id
+                """, Long.class, user.getId(), key, sha256);
+    }
+
+    private Path writeFile(String key, boolean pastGracePeriod) throws IOException {
+        Path file = volumeRoot.resolve(key.substring(key.indexOf('/') + 1));
+        Files.createDirectories(file.getParent());
+        Files.writeString(file, "content");
+        if (pastGracePeriod) {
+            Files.setLastModifiedTime(file, FileTime.from(Instant.now().minus(Duration.ofHours(25))));
+        }
+        return file;
+    }
+
+    private boolean fileMissing(Long reportId) {
+        return jdbcTemplate.queryForObject(
+                "SELECT file_missing_since IS NOT NULL FROM reports WHERE id = ?", Boolean.class, reportId);
+    }
+
+    private static String key(String volume) {
+        String sha256 = sha256(UUID.randomUUID().toString());
+        return volume + "/" + sha256.substring(0, 2) + "/" + sha256.substring(2, 4) + "/" + sha256;
+    }
+
+    private static String sha256(String content) {
+        try {
+            return HexFormat.of().formatHex(
+                    MessageDigest.getInstance("SHA-256").digest(content.getBytes(StandardCharsets.UTF_8)));
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+}
@@ -0,0 +1,157 @@
+package com.reportmanagement.service;
+
+import com.reportmanagement.PostgresIntegrationTest;
+import com.reportmanagement.model.ReportStatus;
+import com.reportmanagement.model.User;
+import com.reportmanagement.repository.UserRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.Authentication;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * ETag of the report list, read from the status counter versions
+ *
+ * @author Report Management Team
+ * @version 1.0.0
+ */
+class ReportListVersionIT extends PostgresIntegrationTest {
+
+    @Autowired
+    private ReportService reportService;
+
+    @Autowired
+    private ReportStatsService reportStatsService;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+
+    private User user;
+    private Authentication authentication;
+
+    @BeforeEach
+    void createUser() {
+        user = userRepository.save(User.builder()
+                .email("list-version-" + UUID.randomUUID() + "@example.com")
+                .password("x")
+                .role("USER")
+                .build());
+        authentication = new UsernamePasswordAuthenticationToken(user, null, List.of());
+    }
+
+    @Test
+    void everyChangeGetsANewEtag() {
+        Set<String> etags = new HashSet<>();
+        etags.add(etag());
+
+        Long reportId = insertReport();
+        assertThat(etags.add(etag())).isTrue();
+
+        transition(reportId, ReportStatus.UPLOADED, ReportStatus.PROCESSING);
+        assertThat(etags.add(etag())).isTrue();
+
+        delete(reportId, ReportStatus.PROCESSING);
+        assertThat(etags.add(etag())).isTrue();
+
+        // The emptied counter row survives the rebuild, so its version never starts over
+        reportStatsService.reconcile();
+        insertReport();
+        assertThat(etags.add(etag())).isTrue();
+    }
+
+    @Test
+    void changeIsVisibleOnceCommitted() throws Exception {
+        Long reportId = insertReport();
+        String before = etag();
+
+        CountDownLatch changed = new CountDownLatch(1);
+        CountDownLatch commit = new CountDownLatch(1);
+        ExecutorService writer = Executors.newSingleThreadExecutor();
+        try {
+            Future<?> pending = writer.submit(() -> transactionTemplate.executeWithoutResult(status -> {
+                jdbcTemplate.update("UPDATE reports SET status = 'PROCESSING', updated_at = NOW() - INTERVAL '1 hour' " +
+                        "WHERE id = ?", reportId);
+                reportStatsService.recordTransition(user.getId(), ReportStatus.UPLOADED, ReportStatus.PROCESSING);
+                changed.countDown();
+                try {
+                    commit.await(10, TimeUnit.SECONDS);
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+            }));
+            assertThat(changed.await(10, TimeUnit.SECONDS)).isTrue();
+            assertThat(etag()).isEqualTo(before);
+
+            commit.countDown();
+            pending.get(10, TimeUnit.SECONDS);
+        } finally {
+            commit.countDown();
+            writer.shutdownNow();
+        }
+
+        // Committed with an update time older than the last one, which MAX(updated_at) would miss
+        assertThat(etag()).isNotEqualTo(before);
+    }
+
+    @Test
+    void changeWithoutTransitionGetsANewEtagAfterCommit() {
+        insertReport();
+        String before = etag();
+
+        transactionTemplate.executeWithoutResult(status ->
+                reportStatsService.recordChangedAfterCommit(List.of(user.getId())));
+
+        assertThat(etag()).isNotEqualTo(before);
+    }
+
+    private String etag() {
+        return reportService.getReportListVersion(authentication).getEtag();
+    }
+
+    private Long insertReport() {
+        return transactionTemplate.execute(status -> {
+            Long id = jdbcTemplate.queryForObject("""
+                    INSERT INTO reports (id, user_id, name, type, file_path, status, created_at, updated_at)
+                    VALUES (nextval('reports_id_seq'), ?, 'Report', 'LAB_REPORT', 'seed/list', 'UPLOADED', NOW(), NOW())
+                    RETURNING id
+                    """, Long.class, user.getId());
+            reportStatsService.recordCreated(user.getId(), 1);
+            return id;
+        });
+    }
+
+    private void transition(Long reportId, ReportStatus from, ReportStatus to) {
+        transactionTemplate.executeWithoutResult(status -> {
+            jdbcTemplate.update("UPDATE reports SET status = ? WHERE id = ?", to.name(), reportId);
+            reportStatsService.recordTransition(user.getId(), from, to);
+        });
+    }
+
+    private void delete(Long reportId, ReportStatus from) {
+        transactionTemplate.executeWithoutResult(status -> {
+            jdbcTemplate.update("DELETE FROM reports WHERE id = ?", reportId);
+            reportStatsService.recordTransition(user.getId(), from, null);
+        });
+    }
+}
@@ -0,0 +1,122 @@
+package com.reportmanagement.service;
+
+import com.reportmanagement.PostgresIntegrationTest;
+import com.reportmanagement.event.ReportEventSink;
+import com.reportmanagement.event.ReportLifecycleEvent;
+import com.reportmanagement.event.ReportOutboxMessage;
+import com.reportmanagement.model.ReportChangeType;
+import com.reportmanagement.model.ReportStatus;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.TestConfiguration;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.context.annotation.Bean;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.TestPropertySource;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Outbox delivery under concurrent load
+ *
+ * Producers commit lifecycle events from many threads while several dispatchers
+ * drain the outbox; every committed event must reach the sinks exactly once and
+ * the outbox must end up empty.
+ *
+ * @author Report Management Team
+ * @version 1.0.0
+ */
+@TestPropertySource(properties = {
+        "reports.outbox.enabled=true",
+        "reports.outbox.dispatchers=4",
+        "reports.outbox.batch-size=200",
+        "reports.outbox.poll-interval-ms=100"
+})
+class ReportOutboxLoadIT extends PostgresIntegrationTest {
+
+    private static final int PRODUCERS = 8;
+    private static final int TRANSACTIONS_PER_PRODUCER = 50;
+    private static final int EVENTS_PER_TRANSACTION = 50;
+    private static final long REPORT_ID_BASE = 1_000_000_000L;
+
+    private static final Map<Long, AtomicInteger> deliveries = new ConcurrentHashMap<>();
+
+    @Autowired
+    private ApplicationEventPublisher eventPublisher;
+
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @TestConfiguration
+    static class RecordingSink {
+
+        @Bean
+        ReportEventSink recordingSink() {
+            return messages -> {
+                for (ReportOutboxMessage message : messages) {
+                    deliveries.computeIfAbsent(message.reportId(), id -> new AtomicInteger()).incrementAndGet();
+                }
+            };
+        }
+    }
+
+    @Test
+    void everyCommittedEventIsDeliveredOnce() throws Exception {
+        int total = PRODUCERS * TRANSACTIONS_PER_PRODUCER * EVENTS_PER_TRANSACTION;
+        ExecutorService producers = Executors.newFixedThreadPool(PRODUCERS);
+        try {
+            List<Future<?>> running = new ArrayList<>();
+            for (int p = 0; p < PRODUCERS; p++) {
+                int producer = p;
+                running.add(producers.submit(() -> produce(producer)));
+            }
+            for (Future<?> producer : running) {
+                producer.get(120, TimeUnit.SECONDS);
+            }
+        } finally {
+            producers.shutdownNow();
+        }
+
+        long deadline = System.currentTimeMillis() + 120_000;
+        while (pending() > 0 && System.currentTimeMillis() < deadline) {
+            Thread.sleep(100);
+        }
+
+        assertThat(pending()).isZero();
+        assertThat(deliveries).hasSize(total);
+        assertThat(deliveries.values()).allMatch(count -> count.get() == 1);
+    }
+
+    private void produce(int producer) {
+        for (int t = 0; t < TRANSACTIONS_PER_PRODUCER; t++) {
+            long first = REPORT_ID_BASE + ((long) producer * TRANSACTIONS_PER_PRODUCER + t) * EVENTS_PER_TRANSACTION;
+            transactionTemplate.executeWithoutResult(status -> {
+                for (int e = 0; e < EVENTS_PER_TRANSACTION; e++) {
+                    eventPublisher.publishEvent(new ReportLifecycleEvent(
+                            ReportChangeType.UPDATED, first + e, 1L,
+                            ReportStatus.UPLOADED, ReportStatus.PROCESSING, LocalDateTime.now()));
+                }
+            });
+        }
+    }
+
+    private long pending() {
+        return jdbcTemplate.queryForObject(
+                "SELECT COUNT(*) FROM report_outbox WHERE dispatched_at IS NULL", Long.class);
+    }
+}
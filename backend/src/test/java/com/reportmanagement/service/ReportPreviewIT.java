@@ -0,0 +1,114 @@
+package com.reportmanagement.service;
+
+import com.reportmanagement.PostgresIntegrationTest;
+import com.reportmanagement.exception.ResourceNotFoundException;
+import com.reportmanagement.model.User;
+import com.reportmanagement.repository.UserRepository;
+import com.reportmanagement.storage.ReportStorage;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.Authentication;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.ThreadPoolExecutor;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * Preview requests for reports that have no preview yet
+ *
+ * @author Report Management Team
+ * @version 1.0.0
+ */
+class ReportPreviewIT extends PostgresIntegrationTest {
+
+    private static final byte[] PNG_HEADER = {(byte) 0x89, 'P', 'N', 'G', '\r', '\n', 0x1A, '\n'};
+
+    @Autowired
+    private ReportPreviewService previewService;
+
+    @Autowired
+    private ReportStorage storage;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    private User user;
+    private Authentication authentication;
+
+    @BeforeEach
+    void setUp() {
+        // Previews are off in the test profile; requests only need the queue to accept work
+        ReflectionTestUtils.setField(previewService, "enabled", true);
+        user = userRepository.save(User.builder()
+                .email("preview-" + UUID.randomUUID() + "@example.com")
+                .password("x")
+                .role("USER")
+                .build());
+        authentication = new UsernamePasswordAuthenticationToken(user, null, List.of());
+    }
+
+    @AfterEach
+    void disablePreviews() {
+        ReflectionTestUtils.setField(previewService, "enabled", false);
+    }
+
+    @Test
+    void reportThatIsNoImageIsAnsweredWithoutQueuingWork() throws IOException {
+        Long reportId = insertReport("Lab values, all within range.\n".getBytes(StandardCharsets.US_ASCII));
+        long queued = queuedTasks();
+
+        for (int i = 0; i < 3; i++) {
+            assertThatThrownBy(() -> previewService.getPreview(reportId, authentication))
+                    .isInstanceOf(ResourceNotFoundException.class);
+        }
+
+        assertThat(queuedTasks()).isEqualTo(queued);
+    }
+
+    @Test
+    void imageWithoutPreviewIsQueued() throws IOException {
+        byte[] content = new byte[1_000];
+        System.arraycopy(PNG_HEADER, 0, content, 0, PNG_HEADER.length);
+        Long reportId = insertReport(content);
+        long queued = queuedTasks();
+
+        assertThatThrownBy(() -> previewService.getPreview(reportId, authentication))
+                .isInstanceOf(ResourceNotFoundException.class);
+
+        assertThat(queuedTasks()).isEqualTo(queued + 1);
+    }
+
+    private long queuedTasks() {
+        return ((ThreadPoolExecutor) ReflectionTestUtils.getField(previewService, "executor")).getTaskCount();
+    }
+
+    private Long insertReport(byte[] content) throws IOException {
+        String sha256 = UUID.randomUUID().toString().replace("-", "") + UUID.randomUUID().toString().replace("-", "");
+        String key = "v0/" + sha256.substring(0, 2) + "/" + sha256.substring(2, 4) + "/" + sha256;
+        Path file = storage.resolve(key);
+        Files.createDirectories(file.getParent());
+        Files.write(file, content);
+        jdbcTemplate.update("INSERT INTO report_blobs (sha256, size_bytes, ref_count, storage_key) VALUES (?, ?, 1, ?)",
+                sha256, content.length, key);
+        return jdbcTemplate.queryForObject("""
+                INSERT INTO reports (id, user_id, name, type, storage_key, blob_sha256, status, created_at, updated_at)
+                VALUES (nextval('reports_id_seq'), ?, 'Report', 'LAB_REPORT', ?, ?, 'UPLOADED', NOW(), NOW())
+                RETURNING id
+                """, Long.class, user.getId(), key, sha256);
+    }
+}
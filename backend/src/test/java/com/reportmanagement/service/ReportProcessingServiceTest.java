@@ -0,0 +1,56 @@
+package com.reportmanagement.service;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Tests for the retry backoff of {@link ReportProcessingService}
+ *
+ * @author Report Management Team
+ * @version 1.0.0
+ */
+class ReportProcessingServiceTest {
+
+    @Test
+    void firstRetryWaitsBaseDelay() {
+        ReportProcessingService service = service(30, 3600);
+
+        assertThat(service.backoffSeconds(0)).isEqualTo(30);
+        assertThat(service.backoffSeconds(1)).isEqualTo(30);
+    }
+
+    @Test
+    void delayDoublesPerAttempt() {
+        ReportProcessingService service = service(30, 3600);
+
+        assertThat(service.backoffSeconds(2)).isEqualTo(60);
+        assertThat(service.backoffSeconds(3)).isEqualTo(120);
+        assertThat(service.backoffSeconds(4)).isEqualTo(240);
+    }
+
+    @Test
+    void delayIsCappedAtMaximum() {
+        ReportProcessingService service = service(30, 3600);
+
+        assertThat(service.backoffSeconds(8)).isEqualTo(3600);
+        assertThat(service.backoffSeconds(40)).isEqualTo(3600);
+        assertThat(service.backoffSeconds(Integer.MAX_VALUE)).isEqualTo(3600);
+    }
+
+    @Test
+    void largeBaseDoesNotOverflowPastCap() {
+        ReportProcessingService service = service(1L << 40, Long.MAX_VALUE);
+
+        assertThat(service.backoffSeconds(30)).isPositive();
+        assertThat(service.backoffSeconds(40)).isEqualTo(Long.MAX_VALUE);
+    }
+
+    private static ReportProcessingService service(long baseSeconds, long maxSeconds) {
+        ReportProcessingService service = new ReportProcessingService(null, null, null);
+        ReflectionTestUtils.setField(service, "backoffBaseSeconds", baseSeconds);
+        ReflectionTestUtils.setField(service, "backoffMaxSeconds", maxSeconds);
+        return service;
+    }
+}
@@ -0,0 +1,143 @@
+package com.reportmanagement.service;
+
+import com.reportmanagement.PostgresIntegrationTest;
+import com.reportmanagement.model.ReportStatus;
+import com.reportmanagement.model.User;
+import com.reportmanagement.repository.UserRepository;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Rebuilding the status counters while reports are being written
+ *
+ * @author Report Management Team
+ * @version 1.0.0
+ */
+class ReportStatsReconcileIT extends PostgresIntegrationTest {
+
+    private static final int WRITERS = 4;
+
+    @Autowired
+    private ReportStatsService reportStatsService;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+
+    @Test
+    void driftedCountersAreCorrected() {
+        User user = createUser();
+        insertReport(user.getId());
+        insertReport(user.getId());
+        jdbcTemplate.update("UPDATE report_status_counts SET uploaded_count = 7, failed_count = 3 WHERE scope_id = ?",
+                user.getId());
+        jdbcTemplate.update("UPDATE report_status_counts SET completed_count = completed_count + 5 WHERE scope_id = 0");
+
+        reportStatsService.reconcile();
+
+        assertThat(counts(user.getId())).isEqualTo(actualCounts(user.getId()));
+        assertThat(counts(user.getId()).get("uploaded")).isEqualTo(2L);
+        assertThat(counts(0L)).isEqualTo(actualCounts(null));
+    }
+
+    @Test
+    void rebuildDuringWritesLosesNoChange() throws Exception {
+        List<User> users = new ArrayList<>();
+        for (int i = 0; i < WRITERS; i++) {
+            users.add(createUser());
+        }
+        AtomicBoolean stop = new AtomicBoolean();
+        ExecutorService writers = Executors.newFixedThreadPool(WRITERS);
+        try {
+            List<Future<?>> running = new ArrayList<>();
+            for (User user : users) {
+                running.add(writers.submit(() -> {
+                    while (!stop.get()) {
+                        Long reportId = insertReport(user.getId());
+                        transition(user.getId(), reportId);
+                    }
+                }));
+            }
+            for (int i = 0; i < 5; i++) {
+                reportStatsService.reconcile();
+            }
+            stop.set(true);
+            for (Future<?> writer : running) {
+                writer.get(30, TimeUnit.SECONDS);
+            }
+        } finally {
+            stop.set(true);
+            writers.shutdownNow();
+        }
+
+        for (User user : users) {
+            assertThat(counts(user.getId())).isEqualTo(actualCounts(user.getId()));
+        }
+        reportStatsService.reconcile();
+        assertThat(counts(0L)).isEqualTo(actualCounts(null));
+    }
+
+    private User createUser() {
+        return userRepository.save(User.builder()
+                .email("stats-" + UUID.randomUUID() + "@example.com")
+                .password("x")
+                .role("USER")
+                .build());
+    }
+
+    private Long insertReport(Long userId) {
+        return transactionTemplate.execute(status -> {
+            Long id = jdbcTemplate.queryForObject("""
+                    INSERT INTO reports (id, user_id, name, type, file_path, status, created_at, updated_at)
+                    VALUES (nextval('reports_id_seq'), ?, 'Report', 'LAB_REPORT', 'seed/stats', 'UPLOADED', NOW(), NOW())
+                    RETURNING id
+                    """, Long.class, userId);
+            reportStatsService.recordCreated(userId, 1);
+            return id;
+        });
+    }
+
+    private void transition(Long userId, Long reportId) {
+        transactionTemplate.executeWithoutResult(status -> {
+            jdbcTemplate.update("UPDATE reports SET status = 'COMPLETED' WHERE id = ?", reportId);
+            reportStatsService.recordTransition(userId, ReportStatus.UPLOADED, ReportStatus.COMPLETED);
+        });
+    }
+
+    private Map<String, Object> counts(Long scopeId) {
+        return jdbcTemplate.queryForMap("""
+                SELECT uploaded_count AS uploaded, processing_count AS processing,
+                       completed_count AS completed, failed_count AS failed
+                FROM report_status_counts WHERE scope_id = ?
+                """, scopeId);
+    }
+
+    private Map<String, Object> actualCounts(Long userId) {
+        return jdbcTemplate.queryForMap("""
+                SELECT COUNT(*) FILTER (WHERE status = 'UPLOADED') AS uploaded,
+                       COUNT(*) FILTER (WHERE status = 'PROCESSING') AS processing,
+                       COUNT(*) FILTER (WHERE status = 'COMPLETED') AS completed,
+                       COUNT(*) FILTER (WHERE status = 'FAILED') AS failed
+                FROM reports WHERE ?::bigint IS NULL OR user_id = ?
+                """, userId, userId);
+    }
+}
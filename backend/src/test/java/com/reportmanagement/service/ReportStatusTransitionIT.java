@@ -0,0 +1,169 @@
+package com.reportmanagement.service;
+
+import com.reportmanagement.PostgresIntegrationTest;
+import com.reportmanagement.dto.StatusUpdateRequest;
+import com.reportmanagement.exception.InvalidStatusTransitionException;
+import com.reportmanagement.model.ReportStatus;
+import com.reportmanagement.model.ReportStatusCount;
+import com.reportmanagement.model.User;
+import com.reportmanagement.repository.ReportStatusCountRepository;
+import com.reportmanagement.repository.UserRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.Authentication;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Concurrent status transitions of one report
+ *
+ * Several threads request the same transition at once; the compare-and-set
+ * update must let exactly one of them through and keep the status counters in
+ * step with the reports table.
+ *
+ * @author Report Management Team
+ * @version 1.0.0
+ */
+class ReportStatusTransitionIT extends PostgresIntegrationTest {
+
+    private static final int THREADS = 16;
+    private static final int ROUNDS = 20;
+
+    @Autowired
+    private ReportService reportService;
+
+    @Autowired
+    private ReportStatsService reportStatsService;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private ReportStatusCountRepository statusCountRepository;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+
+    private User user;
+    private Authentication authentication;
+
+    @BeforeEach
+    void createUser() {
+        user = userRepository.save(User.builder()
+                .email("transitions-" + UUID.randomUUID() + "@example.com")
+                .password("x")
+                .role("USER")
+                .build());
+        authentication = new UsernamePasswordAuthenticationToken(user, null, List.of());
+    }
+
+    @Test
+    void concurrentTransitionsHaveExactlyOneWinner() throws Exception {
+        ReportStatusCount globalBefore = reportStatsService.getGlobalCounts();
+        ExecutorService executor = Executors.newFixedThreadPool(THREADS);
+        try {
+            for (int round = 0; round < ROUNDS; round++) {
+                Long reportId = insertReport();
+                // Retry path included: UPLOADED -> PROCESSING -> FAILED -> UPLOADED -> PROCESSING -> COMPLETED
+                for (ReportStatus status : List.of(ReportStatus.PROCESSING, ReportStatus.FAILED,
+                        ReportStatus.UPLOADED, ReportStatus.PROCESSING, ReportStatus.COMPLETED)) {
+                    assertThat(race(executor, reportId, status))
+                            .as("winners of %s in round %d", status, round)
+                            .isEqualTo(1);
+                    assertThat(jdbcTemplate.queryForObject(
+                            "SELECT status FROM reports WHERE id = ?", String.class, reportId))
+                            .isEqualTo(status.name());
+                }
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+
+        ReportStatusCount counts = statusCountRepository.findById(user.getId()).orElseThrow();
+        assertThat(counts.getUploadedCount()).isZero();
+        assertThat(counts.getProcessingCount()).isZero();
+        assertThat(counts.getFailedCount()).isZero();
+        assertThat(counts.getCompletedCount()).isEqualTo(ROUNDS);
+        assertThat(counts.getCompletedCount()).isEqualTo(jdbcTemplate.queryForObject(
+                "SELECT COUNT(*) FROM reports WHERE user_id = ? AND status = 'COMPLETED'", Long.class, user.getId()));
+
+        ReportStatusCount globalAfter = reportStatsService.getGlobalCounts();
+        assertThat(globalAfter.getUploadedCount()).isEqualTo(globalBefore.getUploadedCount());
+        assertThat(globalAfter.getProcessingCount()).isEqualTo(globalBefore.getProcessingCount());
+        assertThat(globalAfter.getFailedCount()).isEqualTo(globalBefore.getFailedCount());
+        assertThat(globalAfter.getCompletedCount()).isEqualTo(globalBefore.getCompletedCount() + ROUNDS);
+    }
+
+    @Test
+    void transitionWithoutSummaryKeepsCurrentSummary() {
+        Long reportId = insertReport();
+        jdbcTemplate.update("UPDATE reports SET summary = 'Earlier summary' WHERE id = ?", reportId);
+
+        reportService.updateReportStatus(reportId,
+                StatusUpdateRequest.builder().status(ReportStatus.PROCESSING).build(), authentication);
+
+        assertThat(jdbcTemplate.queryForObject("SELECT summary FROM reports WHERE id = ?", String.class, reportId))
+                .isEqualTo("Earlier summary");
+    }
+
+    /**
+     * Start every thread on the same transition at once and count the winners;
+     * every loser must be refused as an invalid transition
+     */
+    private int race(ExecutorService executor, Long reportId, ReportStatus status) throws Exception {
+        StatusUpdateRequest request = StatusUpdateRequest.builder().status(status).summary("Summary").build();
+        CountDownLatch ready = new CountDownLatch(THREADS);
+        CountDownLatch start = new CountDownLatch(1);
+        List<Future<Boolean>> attempts = new ArrayList<>();
+        for (int i = 0; i < THREADS; i++) {
+            attempts.add(executor.submit(() -> {
+                ready.countDown();
+                start.await();
+                try {
+                    reportService.updateReportStatus(reportId, request, authentication);
+                    return true;
+                } catch (InvalidStatusTransitionException e) {
+                    return false;
+                }
+            }));
+        }
+        assertThat(ready.await(10, TimeUnit.SECONDS)).isTrue();
+        start.countDown();
+
+        int winners = 0;
+        for (Future<Boolean> attempt : attempts) {
+            if (attempt.get(30, TimeUnit.SECONDS)) {
+                winners++;
+            }
+        }
+        return winners;
+    }
+
+    private Long insertReport() {
+        return transactionTemplate.execute(status -> {
+            Long id = jdbcTemplate.queryForObject("""
+                    INSERT INTO reports (id, user_id, name, type, file_path, status, created_at, updated_at)
+                    VALUES (nextval('reports_id_seq'), ?, 'Report', 'LAB_REPORT', 'seed/transitions', 'UPLOADED', NOW(), NOW())
+                    RETURNING id
+                    """, Long.class, user.getId());
+            reportStatsService.recordCreated(user.getId(), 1);
+            return id;
+        });
+    }
+}
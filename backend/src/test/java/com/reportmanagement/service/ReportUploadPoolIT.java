@@ -0,0 +1,149 @@
+package com.reportmanagement.service;
+
+import com.reportmanagement.PostgresIntegrationTest;
+import com.reportmanagement.dto.ReportRequest;
+import com.reportmanagement.dto.ReportResponse;
+import com.reportmanagement.model.User;
+import com.reportmanagement.repository.UserRepository;
+import com.zaxxer.hikari.HikariDataSource;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.Authentication;
+
+import javax.sql.DataSource;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InterruptedIOException;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Slow uploads must not hold pooled connections while their bodies stream in
+ *
+ * More uploads than the pool has connections are started and held mid-body;
+ * the pool must stay idle and usable until they finish.
+ *
+ * @author Report Management Team
+ * @version 1.0.0
+ */
+class ReportUploadPoolIT extends PostgresIntegrationTest {
+
+    @Autowired
+    private ReportUploadService uploadService;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private DataSource dataSource;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Test
+    void stalledUploadsHoldNoConnections() throws Exception {
+        HikariDataSource hikari = (HikariDataSource) dataSource;
+        int uploads = hikari.getMaximumPoolSize() + 10;
+        User user = userRepository.save(User.builder()
+                .email("uploads-" + UUID.randomUUID() + "@example.com")
+                .password("x")
+                .role("USER")
+                .build());
+        Authentication authentication = new UsernamePasswordAuthenticationToken(user, null, List.of());
+
+        CountDownLatch stalled = new CountDownLatch(uploads);
+        CountDownLatch resume = new CountDownLatch(1);
+        ExecutorService clients = Executors.newFixedThreadPool(uploads);
+        try {
+            List<Future<ReportResponse>> responses = new ArrayList<>();
+            for (int i = 0; i < uploads; i++) {
+                byte[] first = ("Report " + i + " first half of the body.\n").getBytes(StandardCharsets.US_ASCII);
+                byte[] second = ("Report " + i + " second half of the body.\n").getBytes(StandardCharsets.US_ASCII);
+                ReportRequest request = ReportRequest.builder()
+                        .name("Upload " + i)
+                        .type("LAB_REPORT")
+                        .reportDate(LocalDate.of(2024, 1, 1))
+                        .build();
+                responses.add(clients.submit(() -> uploadService.createReport(
+                        new StallingInputStream(first, second, stalled, resume), -1, request, authentication)));
+            }
+
+            assertThat(stalled.await(30, TimeUnit.SECONDS)).isTrue();
+            assertThat(hikari.getHikariPoolMXBean().getActiveConnections()).isZero();
+            assertThat(jdbcTemplate.queryForObject("SELECT 1", Integer.class)).isEqualTo(1);
+
+            resume.countDown();
+            for (Future<ReportResponse> response : responses) {
+                assertThat(response.get(60, TimeUnit.SECONDS).getId()).isNotNull();
+            }
+        } finally {
+            resume.countDown();
+            clients.shutdownNow();
+        }
+
+        assertThat(jdbcTemplate.queryForObject(
+                "SELECT COUNT(*) FROM reports WHERE user_id = ?", Long.class, user.getId()))
+                .isEqualTo(uploads);
+    }
+
+    /**
+     * A request body that delivers its first part, then stalls like a slow client
+     * until released
+     */
+    private static final class StallingInputStream extends InputStream {
+
+        private final byte[] first;
+        private final byte[] second;
+        private final CountDownLatch stalled;
+        private final CountDownLatch resume;
+        private int position;
+
+        StallingInputStream(byte[] first, byte[] second, CountDownLatch stalled, CountDownLatch resume) {
+            this.first = first;
+            this.second = second;
+            this.stalled = stalled;
+            this.resume = resume;
+        }
+
+        @Override
+        public int read() throws IOException {
+            byte[] one = new byte[1];
+            return read(one, 0, 1) < 0 ? -1 : one[0] & 0xFF;
+        }
+
+        @Override
+        public int read(byte[] buffer, int offset, int length) throws IOException {
+            if (position == first.length) {
+                stalled.countDown();
+                try {
+                    resume.await();
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                    throw new InterruptedIOException();
+                }
+            }
+            int total = first.length + second.length;
+            if (position >= total) {
+                return -1;
+            }
+            int count = Math.min(length, (position < first.length ? first.length : total) - position);
+            for (int i = 0; i < count; i++) {
+                buffer[offset + i] = position < first.length ? first[position] : second[position - first.length];
+                position++;
+            }
+            return count;
+        }
+    }
+}
@@ -0,0 +1,199 @@
+package com.reportmanagement.service;
+
+import com.reportmanagement.PostgresIntegrationTest;
+import com.reportmanagement.dto.ReportResponse;
+import com.reportmanagement.dto.UploadSessionRequest;
+import com.reportmanagement.dto.UploadSessionResponse;
+import com.reportmanagement.exception.InvalidRequestException;
+import com.reportmanagement.exception.ResourceNotFoundException;
+import com.reportmanagement.model.User;
+import com.reportmanagement.repository.ReportUploadSessionRepository;
+import com.reportmanagement.repository.UserRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.Authentication;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InterruptedIOException;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.LocalDate;
+import java.util.HexFormat;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * Completion of a resumable upload racing with chunk writes
+ *
+ * A chunk still being written must keep the session from completing, and no
+ * chunk may be written once completion has started, so the stored blob always
+ * has the content that was hashed.
+ *
+ * @author Report Management Team
+ * @version 1.0.0
+ */
+class ReportUploadSessionIT extends PostgresIntegrationTest {
+
+    private static final String FIRST = "first text";
+    private static final String RESENT = "resent txt";
+
+    @Autowired
+    private ReportUploadSessionService sessionService;
+
+    @Autowired
+    private ReportUploadSessionRepository sessionRepository;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    private Authentication authentication;
+
+    @BeforeEach
+    void createUser() {
+        User user = userRepository.save(User.builder()
+                .email("sessions-" + UUID.randomUUID() + "@example.com")
+                .password("x")
+                .role("USER")
+                .build());
+        authentication = new UsernamePasswordAuthenticationToken(user, null, List.of());
+    }
+
+    @Test
+    void completionWaitsForChunkInFlight() throws Exception {
+        String id = createSession();
+        sessionService.writeChunk(id, 0, ascii(FIRST), authentication);
+
+        CountDownLatch stalled = new CountDownLatch(1);
+        CountDownLatch resume = new CountDownLatch(1);
+        ExecutorService client = Executors.newSingleThreadExecutor();
+        try {
+            Future<UploadSessionResponse> resend = client.submit(() -> sessionService.writeChunk(
+                    id, 0, new StallingInputStream(RESENT.getBytes(StandardCharsets.US_ASCII), stalled, resume),
+                    authentication));
+            assertThat(stalled.await(10, TimeUnit.SECONDS)).isTrue();
+
+            assertThatThrownBy(() -> sessionService.completeSession(id, authentication))
+                    .isInstanceOf(InvalidRequestException.class)
+                    .hasMessageContaining("still being written");
+
+            resume.countDown();
+            resend.get(10, TimeUnit.SECONDS);
+        } finally {
+            resume.countDown();
+            client.shutdownNow();
+        }
+
+        ReportResponse report = sessionService.completeSession(id, authentication);
+
+        assertThat(jdbcTemplate.queryForObject(
+                "SELECT blob_sha256 FROM reports WHERE id = ?", String.class, report.getId()))
+                .isEqualTo(sha256(RESENT));
+        assertThatThrownBy(() -> sessionService.writeChunk(id, 0, ascii(FIRST), authentication))
+                .isInstanceOf(ResourceNotFoundException.class);
+    }
+
+    @Test
+    void noChunkWriteStartsOnceCompletionHas() throws IOException {
+        String id = createSession();
+        sessionService.writeChunk(id, 0, ascii(FIRST), authentication);
+
+        assertThat(sessionRepository.startFinalizing(id)).isEqualTo(1);
+
+        assertThat(sessionRepository.beginWrite(id)).isZero();
+        assertThatThrownBy(() -> sessionService.writeChunk(id, 0, ascii(RESENT), authentication))
+                .isInstanceOf(InvalidRequestException.class);
+    }
+
+    @Test
+    void purgeSkipsSessionsBeingCompleted() throws IOException {
+        String finalizing = createSession();
+        String abandoned = createSession();
+        jdbcTemplate.update("UPDATE report_upload_sessions SET expires_at = NOW() - INTERVAL '1 hour' WHERE id IN (?, ?)",
+                finalizing, abandoned);
+        sessionRepository.startFinalizing(finalizing);
+
+        sessionService.purgeExpiredSessions();
+
+        assertThat(sessionRepository.existsById(finalizing)).isTrue();
+        assertThat(sessionRepository.existsById(abandoned)).isFalse();
+    }
+
+    private String createSession() throws IOException {
+        return sessionService.createSession(UploadSessionRequest.builder()
+                .name("Chunked")
+                .type("LAB_REPORT")
+                .reportDate(LocalDate.of(2024, 1, 1))
+                .totalSize((long) FIRST.length())
+                .build(), authentication).getUploadId();
+    }
+
+    private static InputStream ascii(String content) {
+        return new ByteArrayInputStream(content.getBytes(StandardCharsets.US_ASCII));
+    }
+
+    private static String sha256(String content) throws NoSuchAlgorithmException {
+        return HexFormat.of().formatHex(MessageDigest.getInstance("SHA-256")
+                .digest(content.getBytes(StandardCharsets.US_ASCII)));
+    }
+
+    /**
+     * A chunk body that delivers its first half, then stalls until released
+     */
+    private static final class StallingInputStream extends InputStream {
+
+        private final byte[] content;
+        private final CountDownLatch stalled;
+        private final CountDownLatch resume;
+        private int position;
+
+        StallingInputStream(byte[] content, CountDownLatch stalled, CountDownLatch resume) {
+            this.content = content;
+            this.stalled = stalled;
+            this.resume = resume;
+        }
+
+        @Override
+        public int read() throws IOException {
+            byte[] one = new byte[1];
+            return read(one, 0, 1) < 0 ? -1 : one[0] & 0xFF;
+        }
+
+        @Override
+        public int read(byte[] buffer, int offset, int length) throws IOException {
+            int half = content.length / 2;
+            if (position == half) {
+                stalled.countDown();
+                try {
+                    resume.await();
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                    throw new InterruptedIOException();
+                }
+            }
+            if (position >= content.length) {
+                return -1;
+            }
+            int count = Math.min(length, (position < half ? half : content.length) - position);
+            System.arraycopy(content, position, buffer, offset, count);
+            position += count;
+            return count;
+        }
+    }
+}
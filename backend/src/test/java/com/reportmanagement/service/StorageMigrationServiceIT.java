@@ -0,0 +1,110 @@
+package com.reportmanagement.service;
+
+import com.reportmanagement.PostgresIntegrationTest;
+import com.reportmanagement.model.User;
+import com.reportmanagement.repository.ReportBlobRepository;
+import com.reportmanagement.repository.ReportRepository;
+import com.reportmanagement.repository.UserRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Migration passes over legacy report files
+ *
+ * @author Report Management Team
+ * @version 1.0.0
+ */
+class StorageMigrationServiceIT extends PostgresIntegrationTest {
+
+    private static final int BATCH_SIZE = 100_000;
+
+    @Autowired
+    private ReportBlobRepository blobRepository;
+
+    @Autowired
+    private ReportRepository reportRepository;
+
+    @Autowired
+    private ReportBlobStore blobStore;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @TempDir
+    Path legacyDir;
+
+    private User user;
+
+    @BeforeEach
+    void createUser() {
+        user = userRepository.save(User.builder()
+                .email("migration-" + UUID.randomUUID() + "@example.com")
+                .password("x")
+                .role("USER")
+                .build());
+    }
+
+    @Test
+    void legacyFileIsMigrated() throws IOException {
+        Path file = Files.writeString(legacyDir.resolve("report.txt"), "Legacy report " + UUID.randomUUID());
+        Long reportId = insertLegacyReport(file);
+
+        migration(0).migrateBatch();
+
+        assertThat(jdbcTemplate.queryForObject(
+                "SELECT storage_key IS NOT NULL FROM reports WHERE id = ?", Boolean.class, reportId)).isTrue();
+    }
+
+    @Test
+    void reportWithMissingFileIsFlaggedAndLeftOutOfLaterPasses() {
+        Long reportId = insertLegacyReport(legacyDir.resolve("missing.txt"));
+
+        migration(0).migrateBatch();
+
+        assertThat(jdbcTemplate.queryForObject(
+                "SELECT file_missing_since IS NOT NULL FROM reports WHERE id = ?", Boolean.class, reportId)).isTrue();
+        assertThat(reportRepository.findLegacyFileIds(reportId - 1, PageRequest.of(0, 1)))
+                .doesNotContain(reportId);
+    }
+
+    @Test
+    void passThatMigratesNothingWaitsForIdleInterval() throws IOException {
+        // Move whatever earlier tests left behind, so the next pass has nothing to migrate
+        migration(0).migrateBatch();
+        StorageMigrationService migration = migration(600_000);
+        migration.migrateBatch();
+
+        Path file = Files.writeString(legacyDir.resolve("late.txt"), "Late report " + UUID.randomUUID());
+        Long reportId = insertLegacyReport(file);
+        migration.migrateBatch();
+
+        assertThat(jdbcTemplate.queryForObject(
+                "SELECT storage_key IS NULL FROM reports WHERE id = ?", Boolean.class, reportId)).isTrue();
+    }
+
+    private StorageMigrationService migration(long idleIntervalMs) {
+        return new StorageMigrationService(blobRepository, reportRepository, blobStore, true, BATCH_SIZE, idleIntervalMs);
+    }
+
+    private Long insertLegacyReport(Path file) {
+        return jdbcTemplate.queryForObject("""
+                INSERT INTO reports (id, user_id, name, type, file_path, status, created_at, updated_at)
+                VALUES (nextval('reports_id_seq'), ?, 'Report', 'LAB_REPORT', ?, 'UPLOADED', NOW(), NOW())
+                RETURNING id
+                """, Long.class, user.getId(), file.toString());
+    }
+}
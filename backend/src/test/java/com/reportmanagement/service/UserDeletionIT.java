@@ -0,0 +1,113 @@
+package com.reportmanagement.service;
+
+import com.reportmanagement.PostgresIntegrationTest;
+import com.reportmanagement.event.ReportLifecycleEvent;
+import com.reportmanagement.model.ReportChangeType;
+import com.reportmanagement.model.ReportStatus;
+import com.reportmanagement.model.User;
+import com.reportmanagement.repository.UserRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.event.ApplicationEvents;
+import org.springframework.test.context.event.RecordApplicationEvents;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.tuple;
+
+/**
+ * Reports deleted together with their owner
+ *
+ * @author Report Management Team
+ * @version 1.0.0
+ */
+@RecordApplicationEvents
+class UserDeletionIT extends PostgresIntegrationTest {
+
+    @Autowired
+    private UserService userService;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private ApplicationEvents events;
+
+    @Value("${file.upload-dir}")
+    private String uploadDir;
+
+    private User user;
+    private final List<Long> reportIds = new ArrayList<>();
+
+    @BeforeEach
+    void createUserWithReports() {
+        user = userRepository.save(User.builder()
+                .email("deleted-" + UUID.randomUUID() + "@example.com")
+                .password("x")
+                .role("USER")
+                .build());
+        reportIds.add(insertReport("UPLOADED"));
+        reportIds.add(insertReport("COMPLETED"));
+    }
+
+    @Test
+    void deletedUserLeavesTombstonesForTheirReports() {
+        userService.deleteUser(user.getId());
+
+        List<Long> tombstones = jdbcTemplate.queryForList(
+                "SELECT report_id FROM report_tombstones WHERE user_id = ?", Long.class, user.getId());
+        assertThat(tombstones).containsExactlyInAnyOrderElementsOf(reportIds);
+        assertThat(jdbcTemplate.queryForObject(
+                "SELECT COUNT(*) FROM reports WHERE user_id = ?", Long.class, user.getId())).isZero();
+    }
+
+    @Test
+    void deletedUserPublishesDeletedEventPerReport() {
+        userService.deleteUser(user.getId());
+
+        assertThat(events.stream(ReportLifecycleEvent.class))
+                .extracting(ReportLifecycleEvent::type, ReportLifecycleEvent::reportId,
+                        ReportLifecycleEvent::userId, ReportLifecycleEvent::previousStatus,
+                        ReportLifecycleEvent::status)
+                .containsExactly(
+                        tuple(ReportChangeType.DELETED, reportIds.get(0), user.getId(), ReportStatus.UPLOADED, null),
+                        tuple(ReportChangeType.DELETED, reportIds.get(1), user.getId(), ReportStatus.COMPLETED, null));
+    }
+
+    @Test
+    void deletedUserLeavesNoLegacyFiles() throws IOException {
+        Path file = Paths.get(uploadDir).resolve(user.getId() + "_" + UUID.randomUUID() + ".pdf");
+        Files.createDirectories(file.getParent());
+        Files.writeString(file, "content");
+        insertReport("COMPLETED", file.toString());
+
+        userService.deleteUser(user.getId());
+
+        assertThat(file).doesNotExist();
+    }
+
+    private Long insertReport(String status) {
+        return insertReport(status, "seed/deleted");
+    }
+
+    private Long insertReport(String status, String filePath) {
+        return jdbcTemplate.queryForObject("""
+                INSERT INTO reports (id, user_id, name, type, file_path, status, created_at, updated_at)
+                VALUES (nextval('reports_id_seq'), ?, 'Report', 'LAB_REPORT', ?, ?, NOW(), NOW())
+                RETURNING id
+                """, Long.class, user.getId(), filePath, status);
+    }
+}
@@ -0,0 +1,66 @@
+package com.reportmanagement.storage;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.util.unit.DataSize;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.attribute.BasicFileAttributes;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Tests for staging and storing files on {@link LocalReportStorage} volumes
+ *
+ * @author Report Management Team
+ * @version 1.0.0
+ */
+class LocalReportStorageTest {
+
+    private static final String NAME = "ab12cd34ef56";
+
+    @TempDir
+    Path dir;
+
+    @Test
+    void stagedFileIsRenamedIntoItsOwnVolume() throws IOException {
+        LocalReportStorage storage = storage();
+        Path staged = storage.createStagingFile("upload.part", 0);
+        Files.writeString(staged, "content");
+        String volumeId = dir.relativize(staged).getName(0).toString();
+        Object fileKey = Files.readAttributes(staged, BasicFileAttributes.class).fileKey();
+
+        String key = storage.store(staged, NAME);
+
+        assertThat(key).isEqualTo(volumeId + "/ab/12/" + NAME);
+        assertThat(staged).doesNotExist();
+        assertThat(storage.resolve(key)).hasContent("content");
+        assertThat(Files.readAttributes(storage.resolve(key), BasicFileAttributes.class).fileKey()).isEqualTo(fileKey);
+    }
+
+    @Test
+    void stagingFileIsResolvedOnWhicheverVolumeHoldsIt() throws IOException {
+        LocalReportStorage storage = storage();
+        Path staged = storage.createStagingFile("session.part", 1024);
+
+        assertThat(storage.resolveStagingFile("session.part")).isEqualTo(staged);
+        assertThat(storage.resolveStagingFile("unknown.part")).doesNotExist();
+    }
+
+    @Test
+    void fileStagedElsewhereIsStillStored() throws IOException {
+        LocalReportStorage storage = storage();
+        Path outside = Files.writeString(dir.resolve("outside"), "content");
+
+        String key = storage.store(outside, NAME);
+
+        assertThat(outside).doesNotExist();
+        assertThat(storage.resolve(key)).hasContent("content");
+    }
+
+    private LocalReportStorage storage() throws IOException {
+        return new LocalReportStorage("a=" + dir.resolve("a") + ",b=" + dir.resolve("b"), DataSize.ofBytes(0));
+    }
+}
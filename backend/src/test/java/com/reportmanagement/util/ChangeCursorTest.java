@@ -0,0 +1,71 @@
+package com.reportmanagement.util;
+
+import com.reportmanagement.exception.CursorExpiredException;
+import com.reportmanagement.exception.InvalidRequestException;
+import org.junit.jupiter.api.Test;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.util.Base64;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * Encoding and expiry rules of change feed cursors
+ *
+ * @author Report Management Team
+ * @version 1.0.0
+ */
+class ChangeCursorTest {
+
+    private static final long HORIZON = 50_000L;
+
+    @Test
+    void encodeRoundTrips() {
+        ChangeCursor cursor = new ChangeCursor(HORIZON - 4_000, 42L, HORIZON);
+
+        assertThat(ChangeCursor.decode(cursor.encode())).isEqualTo(cursor);
+    }
+
+    @Test
+    void timestampTokensHaveExpired() {
+        LocalDateTime now = LocalDateTime.of(2025, 6, 1, 12, 0);
+        String keyOnly = new KeysetCursor(now, 7L).encode();
+        String withSync = Base64.getUrlEncoder().withoutPadding()
+                .encodeToString((now + "|7|" + now).getBytes(StandardCharsets.UTF_8));
+
+        assertThatThrownBy(() -> ChangeCursor.decode(keyOnly)).isInstanceOf(CursorExpiredException.class);
+        assertThatThrownBy(() -> ChangeCursor.decode(withSync)).isInstanceOf(CursorExpiredException.class);
+    }
+
+    @Test
+    void rejectsMalformedTokens() {
+        String token = Base64.getUrlEncoder().encodeToString("garbage".getBytes(StandardCharsets.UTF_8));
+        String badNumber = Base64.getUrlEncoder().encodeToString("x|1|a|3".getBytes(StandardCharsets.UTF_8));
+
+        assertThatThrownBy(() -> ChangeCursor.decode(token)).isInstanceOf(InvalidRequestException.class);
+        assertThatThrownBy(() -> ChangeCursor.decode(badNumber)).isInstanceOf(InvalidRequestException.class);
+    }
+
+    @Test
+    void neverExpiresBeforeAnyPrune() {
+        assertThat(ChangeCursor.origin(1L).isExpired(null)).isFalse();
+    }
+
+    @Test
+    void oldKeyWithRecentSyncDoesNotExpire() {
+        ChangeCursor initialSync = new ChangeCursor(1L, 1L, HORIZON);
+
+        assertThat(initialSync.isExpired(HORIZON - 1_000)).isFalse();
+    }
+
+    @Test
+    void expiresWhenKeyAndSyncAreAtOrBeforeWatermark() {
+        long watermark = HORIZON - 1_000;
+
+        assertThat(new ChangeCursor(watermark - 1, 1L, watermark - 1).isExpired(watermark)).isTrue();
+        assertThat(new ChangeCursor(watermark, 1L, watermark).isExpired(watermark)).isTrue();
+        assertThat(new ChangeCursor(watermark + 1, 1L, watermark - 500).isExpired(watermark)).isFalse();
+    }
+}
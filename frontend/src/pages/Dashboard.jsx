@@ -79,6 +79,16 @@ function Dashboard() {
             Mark Complete
           </button>
         );
+      case 'FAILED':
+        return (
+          <button
+            onClick={() => handleStatusChange(report.id, 'UPLOADED')}
+            className="btn btn-primary"
+            style={{ padding: '6px 12px', fontSize: 12 }}
+          >
+            Retry
+          </button>
+        );
       default:
         return null;
     }
@@ -34,6 +34,7 @@ export const getStatusBadgeClass = (status) => {
     UPLOADED: 'status-uploaded',
     PROCESSING: 'status-processing',
     COMPLETED: 'status-completed',
+    FAILED: 'status-failed',
   };
   return statusMap[status] || '';
 };